@@ -0,0 +1,43 @@
+package mcscheduler.benchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.util.RosterGenerator;
+import mcscheduler.model.worker.Address;
+import mcscheduler.model.worker.Name;
+import mcscheduler.model.worker.Pay;
+import mcscheduler.model.worker.Phone;
+import mcscheduler.model.worker.Worker;
+
+/**
+ * Builds McSchedulers of a given size for the benchmarks.
+ */
+public class BenchmarkRosters {
+
+    public static final Role CASHIER = Role.createRole("cashier");
+
+    // Fixed so that every run of a benchmark measures the same McScheduler
+    private static final long SEED = 2103;
+
+    /**
+     * Returns a McScheduler generated by {@link RosterGenerator} with {@code size} workers. Every shift in it has a
+     * gap for at least one more cashier.
+     */
+    public static McScheduler create(int size) {
+        return new RosterGenerator(SEED).generate(size);
+    }
+
+    /**
+     * Returns a cashier numbered {@code id} who is available for every shift and is not in any McScheduler created
+     * by {@link #create(int)}.
+     */
+    public static Worker createWorker(int id) {
+        Set<Role> roles = new HashSet<>();
+        roles.add(CASHIER);
+        return new Worker(new Name("Benchmark Worker " + id), new Phone(String.format("8%07d", id)), new Pay("10"),
+                new Address("Blk " + id + " Benchmark Street"), roles, new HashSet<>());
+    }
+}
@@ -0,0 +1,63 @@
+package mcscheduler.logic.commands;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mcscheduler.benchmark.BenchmarkRosters;
+import mcscheduler.commons.core.index.Index;
+import mcscheduler.logic.commands.exceptions.CommandException;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.assignment.WorkerRolePair;
+import mcscheduler.model.worker.Worker;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssignCommandBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private ModelManager model;
+    private AssignCommand assignCommand;
+    private Assignment newAssignment;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkRosters.create(size), new UserPrefs());
+        Worker newWorker = BenchmarkRosters.createWorker(size);
+        model.addWorker(newWorker);
+        Index newWorkerIndex = Index.fromZeroBased(model.getFilteredWorkerList().indexOf(newWorker));
+        assignCommand = new AssignCommand(Index.fromOneBased(1),
+                Set.of(new WorkerRolePair(newWorkerIndex, BenchmarkRosters.CASHIER)));
+        newAssignment = new Assignment(model.getFilteredShiftList().get(0), newWorker, BenchmarkRosters.CASHIER);
+    }
+
+    /**
+     * Assigns a worker to the first shift, then deletes the assignment again so that every invocation sees the same
+     * model.
+     */
+    @Benchmark
+    public CommandResult execute() throws CommandException {
+        CommandResult commandResult = assignCommand.execute(model);
+        model.deleteAssignment(newAssignment);
+        return commandResult;
+    }
+}
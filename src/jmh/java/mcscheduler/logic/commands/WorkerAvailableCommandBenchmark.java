@@ -0,0 +1,47 @@
+package mcscheduler.logic.commands;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mcscheduler.benchmark.BenchmarkRosters;
+import mcscheduler.commons.core.index.Index;
+import mcscheduler.logic.commands.exceptions.CommandException;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.UserPrefs;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkerAvailableCommandBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private ModelManager model;
+    private WorkerAvailableCommand workerAvailableCommand;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkRosters.create(size), new UserPrefs());
+        workerAvailableCommand = new WorkerAvailableCommand(Index.fromOneBased(1), BenchmarkRosters.CASHIER);
+    }
+
+    @Benchmark
+    public CommandResult execute() throws CommandException {
+        return workerAvailableCommand.execute(model);
+    }
+}
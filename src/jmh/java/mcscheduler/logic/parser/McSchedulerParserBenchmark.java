@@ -0,0 +1,42 @@
+package mcscheduler.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mcscheduler.logic.commands.Command;
+import mcscheduler.logic.parser.exceptions.ParseException;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class McSchedulerParserBenchmark {
+
+    @Param({
+        "worker-list",
+        "worker-avail 1 r/Cashier",
+        "assign s/4 w/1 Cashier w/3 Janitor",
+        "worker-add n/John Doe hp/98765432 a/311, Clementi Ave 2, #02-25 p/10 r/Cashier r/Janitor "
+                + "u/MON AM u/TUE PM"
+    })
+    public String commandText;
+
+    private final McSchedulerParser parser = new McSchedulerParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+}
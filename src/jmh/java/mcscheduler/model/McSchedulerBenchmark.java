@@ -0,0 +1,65 @@
+package mcscheduler.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mcscheduler.benchmark.BenchmarkRosters;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.assignment.UniqueAssignmentList;
+
+/**
+ * Measures loading a McScheduler with {@code size} assignments, which validates that the workers, shifts and
+ * assignments are unique. The time per operation should grow linearly with {@code size}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class McSchedulerBenchmark {
+
+    // A generated McScheduler has about seven assignments per worker, so this leaves enough to take size from
+    private static final int ASSIGNMENTS_PER_WORKER = 5;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private McScheduler source;
+    private List<Assignment> assignments;
+
+    @Setup
+    public void setUp() {
+        McScheduler roster = BenchmarkRosters.create(size / ASSIGNMENTS_PER_WORKER);
+        assignments = List.copyOf(roster.getAssignmentList().subList(0, size));
+        source = new McScheduler();
+        source.setWorkers(roster.getWorkerList());
+        source.setShifts(roster.getShiftList());
+        source.setRoles(roster.getRoleList());
+        source.setAssignments(assignments);
+    }
+
+    @Benchmark
+    public McScheduler load() {
+        return new McScheduler(source);
+    }
+
+    @Benchmark
+    public UniqueAssignmentList setAssignments() {
+        UniqueAssignmentList assignmentList = new UniqueAssignmentList();
+        assignmentList.setAssignments(assignments);
+        return assignmentList;
+    }
+}
@@ -0,0 +1,52 @@
+package mcscheduler.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mcscheduler.benchmark.BenchmarkRosters;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.worker.Worker;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelManagerBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private ModelManager modelManager;
+    private Assignment newAssignment;
+
+    @Setup
+    public void setUp() {
+        modelManager = new ModelManager(BenchmarkRosters.create(size), new UserPrefs());
+        Worker newWorker = BenchmarkRosters.createWorker(size);
+        modelManager.addWorker(newWorker);
+        newAssignment = new Assignment(modelManager.getFilteredShiftList().get(0), newWorker,
+                BenchmarkRosters.CASHIER);
+    }
+
+    /**
+     * Adds an assignment, then deletes it again so that every invocation sees the same model.
+     */
+    @Benchmark
+    public void addAndDeleteAssignment() {
+        modelManager.addAssignment(newAssignment);
+        modelManager.deleteAssignment(newAssignment);
+    }
+}
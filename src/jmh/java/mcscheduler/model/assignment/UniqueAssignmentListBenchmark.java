@@ -0,0 +1,63 @@
+package mcscheduler.model.assignment;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mcscheduler.benchmark.BenchmarkRosters;
+import mcscheduler.model.McScheduler;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniqueAssignmentListBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private UniqueAssignmentList assignments;
+    private Assignment presentAssignment;
+    private Assignment absentAssignment;
+
+    @Setup
+    public void setUp() {
+        McScheduler mcScheduler = BenchmarkRosters.create(size);
+        assignments = new UniqueAssignmentList();
+        assignments.setAssignments(mcScheduler.getAssignmentList());
+        presentAssignment = mcScheduler.getAssignmentList().get(size / 2);
+        absentAssignment = new Assignment(mcScheduler.getShiftList().get(0), BenchmarkRosters.createWorker(size),
+                BenchmarkRosters.CASHIER);
+    }
+
+    /**
+     * Adds an assignment, then removes it again so that every invocation sees the same list.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        assignments.add(absentAssignment);
+        assignments.remove(absentAssignment);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return assignments.contains(presentAssignment);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return assignments.contains(absentAssignment);
+    }
+}
@@ -0,0 +1,68 @@
+package mcscheduler.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mcscheduler.benchmark.BenchmarkRosters;
+import mcscheduler.commons.exceptions.DataConversionException;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.ReadOnlyMcScheduler;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonMcSchedulerStorageBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private Path temporaryFolder;
+    private McScheduler mcScheduler;
+    private JsonMcSchedulerStorage readStorage;
+    private JsonMcSchedulerStorage saveStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        temporaryFolder = Files.createTempDirectory("mcscheduler-benchmark");
+        mcScheduler = BenchmarkRosters.create(size);
+        readStorage = new JsonMcSchedulerStorage(temporaryFolder.resolve("read.json"));
+        readStorage.saveMcScheduler(mcScheduler);
+        saveStorage = new JsonMcSchedulerStorage(temporaryFolder.resolve("save.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (String fileName : new String[] {"read.json", "save.json"}) {
+            Files.deleteIfExists(temporaryFolder.resolve(fileName));
+        }
+        Files.deleteIfExists(temporaryFolder);
+    }
+
+    @Benchmark
+    public ReadOnlyMcScheduler read() throws DataConversionException {
+        return readStorage.readMcScheduler().get();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.saveMcScheduler(mcScheduler);
+    }
+}
@@ -0,0 +1,228 @@
+package mcscheduler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import mcscheduler.commons.core.Config;
+import mcscheduler.commons.core.LogsCenter;
+import mcscheduler.commons.exceptions.DataConversionException;
+import mcscheduler.commons.util.ConfigUtil;
+import mcscheduler.commons.util.StringUtil;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.McSchedulerChange;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.ReadOnlyMcScheduler;
+import mcscheduler.model.ReadOnlyUserPrefs;
+import mcscheduler.model.UserPrefs;
+import mcscheduler.model.util.SampleDataUtil;
+import mcscheduler.storage.BinaryMcSchedulerStorage;
+import mcscheduler.storage.JsonMcSchedulerStorage;
+import mcscheduler.storage.JsonUserPrefsStorage;
+import mcscheduler.storage.McSchedulerStorage;
+import mcscheduler.storage.Storage;
+import mcscheduler.storage.StorageManager;
+import mcscheduler.storage.UserPrefsStorage;
+
+/**
+ * Loads the config, user prefs and McScheduler the application starts with, whether it runs with a GUI or without.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private boolean couldLoad;
+
+    /**
+     * Loads the config file at {@code configFilePath}, or the default config file if it is null, and the user prefs
+     * and McScheduler it points to.
+     */
+    public AppInitializer(Path configFilePath) {
+        config = initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        McSchedulerStorage mcSchedulerStorage = initMcSchedulerStorage(userPrefs);
+        storage = new StorageManager(mcSchedulerStorage, userPrefsStorage);
+
+        initLogging(config);
+
+        model = initModelManager(storage, userPrefs);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    /**
+     * Returns false if the data file could not be read, so the McScheduler starts empty.
+     */
+    public boolean couldLoad() {
+        return couldLoad;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s McScheduler and {@code userPrefs}. <br>
+     * The data from the sample McScheduler will be used instead if {@code storage}'s McScheduler is not found,
+     * or an empty McScheduler will be used instead if errors occur when reading {@code storage}'s McScheduler.
+     * Changes recorded since {@code storage}'s McScheduler was saved are replayed on top of it.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyMcScheduler> mcSchedulerOptional = Optional.empty();
+        ReadOnlyMcScheduler initialData;
+        try {
+            mcSchedulerOptional = storage.readMcScheduler();
+            if (!mcSchedulerOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample McScheduler");
+            }
+            initialData = mcSchedulerOptional.orElseGet(SampleDataUtil::getSampleMcScheduler);
+            couldLoad = true;
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty McScheduler");
+            couldLoad = false;
+            initialData = new McScheduler();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty McScheduler");
+            couldLoad = false;
+            initialData = new McScheduler();
+        }
+
+        ModelManager initialModel = new ModelManager(initialData, userPrefs);
+        if (mcSchedulerOptional.isPresent()) {
+            replayUnsavedChanges(storage, initialModel);
+        }
+        return initialModel;
+    }
+
+    /**
+     * Replays the changes recorded in {@code storage} since its McScheduler was saved on {@code model}, stopping at
+     * the first change that cannot be made.
+     */
+    private void replayUnsavedChanges(Storage storage, ModelManager model) {
+        List<McSchedulerChange> changes;
+        try {
+            changes = storage.readMcSchedulerChanges();
+        } catch (IOException e) {
+            logger.warning("Problem while reading the journal. Changes made since the data file was saved are lost");
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        int replayedChanges = 0;
+        for (McSchedulerChange change : changes) {
+            try {
+                change.applyTo(model);
+            } catch (RuntimeException e) {
+                logger.warning("Could not replay change " + change + ". Later changes are lost: " + e.getMessage());
+                break;
+            }
+            replayedChanges++;
+        }
+        logger.info("Replayed " + replayedChanges + " of " + changes.size() + " changes made since the data file "
+                + "was saved");
+        // Replayed assignments refer to copies of their worker and shift
+        model.resynchronize();
+    }
+
+    /**
+     * Returns a {@code McSchedulerStorage} for the data file in {@code userPrefs}, in the format chosen there.
+     * Either storage reads a data file saved in the other format, so changing the format does not lose any data.
+     */
+    private McSchedulerStorage initMcSchedulerStorage(ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using " + userPrefs.getMcSchedulerFileFormat() + " data file format");
+        switch (userPrefs.getMcSchedulerFileFormat()) {
+        case JSON:
+            return new JsonMcSchedulerStorage(userPrefs.getMcSchedulerFilePath());
+        default:
+            return new BinaryMcSchedulerStorage(userPrefs.getMcSchedulerFilePath());
+        }
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty McScheduler");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
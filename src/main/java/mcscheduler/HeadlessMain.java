@@ -0,0 +1,114 @@
+package mcscheduler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import mcscheduler.commons.core.LogsCenter;
+import mcscheduler.commons.util.FileUtil;
+import mcscheduler.logic.LogicManager;
+import mcscheduler.logic.commands.CommandResult;
+import mcscheduler.logic.commands.RunScriptCommand;
+import mcscheduler.logic.commands.exceptions.CommandException;
+import mcscheduler.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands without a GUI, one per line from a script file or the standard input, and saves the McScheduler
+ * once after the last command. Blank lines and lines starting with {@value RunScriptCommand#COMMENT_PREFIX} are
+ * skipped.
+ *
+ * Unlike {@link Main}, this never starts the JavaFX runtime, so it also runs where there is no display.
+ */
+public class HeadlessMain {
+
+    public static final String CONFIG_OPTION = "--config=";
+    public static final String MESSAGE_USAGE = "Usage: HeadlessMain [" + CONFIG_OPTION + "CONFIG_FILE] "
+            + "[SCRIPT_FILE]\nRuns the commands in SCRIPT_FILE, or the standard input if it is not given or is -, "
+            + "and saves the McScheduler once at the end.";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    /**
+     * Runs the commands given by {@code args} and exits with {@link #EXIT_COMMAND_FAILED} if any failed.
+     */
+    public static void main(String[] args) {
+        Path configFilePath = null;
+        String scriptFile = "-";
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION) && FileUtil.isValidPath(arg.substring(CONFIG_OPTION.length()))) {
+                configFilePath = Paths.get(arg.substring(CONFIG_OPTION.length()));
+            } else if (!arg.startsWith("--") && scriptFile.equals("-")) {
+                scriptFile = arg;
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                System.exit(EXIT_ERROR);
+            }
+        }
+
+        AppInitializer initializer = new AppInitializer(configFilePath);
+        LogicManager logic = new LogicManager(initializer.getModel(), initializer.getStorage());
+        try (BufferedReader commands = scriptFile.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptFile), StandardCharsets.UTF_8)) {
+            System.exit(run(logic, commands, System.out, System.err));
+        } catch (IOException ioe) {
+            System.err.println("Could not read " + scriptFile + ": " + ioe.getMessage());
+            System.exit(EXIT_ERROR);
+        }
+    }
+
+    /**
+     * Executes every command read from {@code commands} with {@code logic} until an {@code exit} command or the end
+     * of the input, then saves the McScheduler. Prints the result of each command to {@code out}, and the commands
+     * that failed to {@code err}, carrying on with the next command.
+     *
+     * @return {@link #EXIT_SUCCESS}, {@link #EXIT_COMMAND_FAILED} if any command failed, or {@link #EXIT_ERROR} if
+     *     the McScheduler could not be saved.
+     * @throws IOException if there was an error reading the commands.
+     */
+    public static int run(LogicManager logic, BufferedReader commands, PrintStream out, PrintStream err)
+            throws IOException {
+        logic.setSaveDeferred(true);
+        int exitStatus = EXIT_SUCCESS;
+        int lineNumber = 0;
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(RunScriptCommand.COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                exitStatus = EXIT_COMMAND_FAILED;
+            }
+        }
+
+        try {
+            logic.flush();
+        } catch (IOException ioe) {
+            logger.severe("Failed to save McScheduler " + ioe.getMessage());
+            err.println(LogicManager.FILE_OPS_ERROR_MESSAGE + ioe.getMessage());
+            return EXIT_ERROR;
+        }
+        return exitStatus;
+    }
+}
@@ -0,0 +1,67 @@
+package mcscheduler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import mcscheduler.model.DataFileFormat;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.util.RosterGenerator;
+import mcscheduler.storage.BinaryMcSchedulerStorage;
+import mcscheduler.storage.JsonMcSchedulerStorage;
+import mcscheduler.storage.McSchedulerStorage;
+
+/**
+ * Writes a data file holding a McScheduler generated by {@link RosterGenerator}, for trying out the application
+ * with a production-sized roster.
+ *
+ * Usage: {@code RosterGeneratorMain WORKER_COUNT OUTPUT_FILE [SEED] [json|binary]}
+ */
+public class RosterGeneratorMain {
+
+    public static final String MESSAGE_USAGE = "Usage: RosterGeneratorMain WORKER_COUNT OUTPUT_FILE [SEED] "
+            + "[json|binary]\nWrites a data file with WORKER_COUNT generated workers. "
+            + "SEED defaults to 0, and the format to json for a .json OUTPUT_FILE and binary otherwise.";
+
+    /**
+     * Generates the McScheduler described by {@code args} and saves it.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            int workerCount = Integer.parseInt(args[0]);
+            Path outputFilePath = Paths.get(args[1]);
+            long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+            DataFileFormat format = args.length > 3
+                    ? DataFileFormat.valueOf(args[3].toUpperCase())
+                    : DataFileFormat.ofFilePath(outputFilePath);
+
+            McScheduler mcScheduler = new RosterGenerator(seed).generate(workerCount);
+            createStorage(format, outputFilePath).saveMcScheduler(mcScheduler);
+            System.out.println("Wrote " + mcScheduler.getWorkerList().size() + " workers, "
+                    + mcScheduler.getShiftList().size() + " shifts and " + mcScheduler.getAssignmentList().size()
+                    + " assignments to " + outputFilePath);
+        } catch (IllegalArgumentException iae) {
+            System.err.println(iae.getMessage() + "\n" + MESSAGE_USAGE);
+            System.exit(1);
+        } catch (IOException ioe) {
+            System.err.println("Could not write " + args[1] + ": " + ioe.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static McSchedulerStorage createStorage(DataFileFormat format, Path filePath) {
+        switch (format) {
+        case JSON:
+            return new JsonMcSchedulerStorage(filePath);
+        case BINARY:
+            return new BinaryMcSchedulerStorage(filePath);
+        default:
+            throw new AssertionError("Unknown data file format: " + format);
+        }
+    }
+}
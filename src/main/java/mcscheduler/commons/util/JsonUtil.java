@@ -3,6 +3,8 @@ package mcscheduler.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -40,6 +45,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Values written one at a time to a generator share its buffer, so the generator is only flushed when done
+    private static final ObjectMapper STREAMING_OBJECT_MAPPER = OBJECT_MAPPER.copy()
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -111,6 +120,34 @@ public class JsonUtil {
         return OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any line breaks.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a single line
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsString(instance);
+    }
+
+    /**
+     * Creates a parser over {@code in} for reading JSON data one token or value at a time.
+     * Values read with {@link JsonParser#readValueAs(Class)} are converted as in {@link #fromJsonString}.
+     * Closing the parser closes {@code in}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return OBJECT_MAPPER.getFactory().createParser(in);
+    }
+
+    /**
+     * Creates a generator over {@code out} for writing pretty printed UTF-8 JSON data one token or value at a time.
+     * Values written with {@link JsonGenerator#writeObject(Object)} are converted as in {@link #toJsonString}.
+     * Closing the generator flushes and closes {@code out}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return STREAMING_OBJECT_MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8).useDefaultPrettyPrinter();
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
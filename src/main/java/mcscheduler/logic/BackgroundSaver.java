@@ -0,0 +1,253 @@
+package mcscheduler.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import mcscheduler.commons.core.LogsCenter;
+import mcscheduler.commons.util.StringUtil;
+import mcscheduler.logic.stats.Histogram;
+import mcscheduler.model.McSchedulerChange;
+import mcscheduler.model.ReadOnlyMcScheduler;
+import mcscheduler.storage.Storage;
+
+/**
+ * Saves snapshots of the McScheduler, and the changes made since, to {@code Storage} away from the thread
+ * requesting the save.
+ *
+ * Requests made while a save is in progress are coalesced: only the latest snapshot is written once the save in
+ * progress completes, followed by all the changes requested since that snapshot, so a burst of commands results in
+ * at most two writes of each.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final Executor executor;
+    private final Object lock = new Object();
+    private final Histogram saveNanos = new Histogram();
+    private volatile long lastSaveNanos;
+
+    // All fields below are guarded by lock
+    private ReadOnlyMcScheduler pendingSnapshot;
+    private final List<McSchedulerChange> pendingChanges = new ArrayList<>();
+    private boolean isSnapshotRequired = true;
+    private boolean isSaveScheduled;
+    private IOException lastFailure;
+    private IOException unreportedFailure;
+    private Consumer<IOException> failureHandler;
+
+    /**
+     * Creates a {@code BackgroundSaver} that saves to {@code storage} on a dedicated daemon thread.
+     */
+    public BackgroundSaver(Storage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "McScheduler saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code BackgroundSaver} that saves to {@code storage} using {@code executor}.
+     */
+    public BackgroundSaver(Storage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved, replacing any snapshot that has not started saving yet.
+     * {@code snapshot} must not be modified afterwards.
+     */
+    public void requestSave(ReadOnlyMcScheduler snapshot) {
+        requireNonNull(snapshot);
+        synchronized (lock) {
+            pendingSnapshot = snapshot;
+            // The snapshot already includes every change requested before it
+            pendingChanges.clear();
+            isSnapshotRequired = false;
+            if (!scheduleSave()) {
+                return;
+            }
+        }
+        executor.execute(this::saveUntilNoneLeft);
+    }
+
+    /**
+     * Schedules {@code changes}, made after the latest requested snapshot, to be appended to the saved snapshot.
+     * Must not be called before {@link #requestSave} has been, or while {@link #isSnapshotRequired()}.
+     */
+    public void requestAppend(List<McSchedulerChange> changes) {
+        requireNonNull(changes);
+        synchronized (lock) {
+            assert !isSnapshotRequired : "Changes can only be appended to a saved snapshot";
+            pendingChanges.addAll(changes);
+            if (!scheduleSave()) {
+                return;
+            }
+        }
+        executor.execute(this::saveUntilNoneLeft);
+    }
+
+    /**
+     * Returns true if the next save must be of a whole snapshot, as no snapshot has been requested yet or the
+     * latest snapshot or changes could not be saved.
+     */
+    public boolean isSnapshotRequired() {
+        synchronized (lock) {
+            return isSnapshotRequired;
+        }
+    }
+
+    /**
+     * Marks a save as scheduled and returns true if none was scheduled yet. Must be called while holding lock.
+     */
+    private boolean scheduleSave() {
+        if (isSaveScheduled) {
+            return false;
+        }
+        isSaveScheduled = true;
+        return true;
+    }
+
+    /**
+     * Sets the handler notified, on the saving thread, of every failed save.
+     * Without a handler, the failure is kept until retrieved with {@link #takeUnreportedFailure()}.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        synchronized (lock) {
+            this.failureHandler = failureHandler;
+        }
+    }
+
+    /**
+     * Returns the latest failed save not passed to a failure handler, if any, and forgets it.
+     */
+    public Optional<IOException> takeUnreportedFailure() {
+        synchronized (lock) {
+            Optional<IOException> failure = Optional.ofNullable(unreportedFailure);
+            unreportedFailure = null;
+            return failure;
+        }
+    }
+
+    /**
+     * Blocks until every requested snapshot and change has been saved.
+     *
+     * @throws IOException if the latest save failed, i.e. the data file is out of date.
+     */
+    public void flush() throws IOException {
+        synchronized (lock) {
+            while (isSaveScheduled) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the McScheduler to be saved");
+                }
+            }
+            if (lastFailure != null) {
+                unreportedFailure = null;
+                throw lastFailure;
+            }
+        }
+    }
+
+    /**
+     * Returns the durations of the successful writes of snapshots and of changes so far.
+     */
+    public Histogram getSaveNanos() {
+        return saveNanos;
+    }
+
+    /**
+     * Returns the duration of the latest successful write of a snapshot or of changes, or 0 if none has completed.
+     */
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    private void saveUntilNoneLeft() {
+        while (true) {
+            ReadOnlyMcScheduler snapshot;
+            List<McSchedulerChange> changes;
+            synchronized (lock) {
+                snapshot = pendingSnapshot;
+                changes = new ArrayList<>(pendingChanges);
+                pendingSnapshot = null;
+                pendingChanges.clear();
+                if (snapshot == null && changes.isEmpty()) {
+                    isSaveScheduled = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+            boolean isSaved = snapshot == null || save(() -> storage.saveMcScheduler(snapshot));
+            if (isSaved && !changes.isEmpty()) {
+                save(() -> storage.appendMcSchedulerChanges(changes));
+            }
+        }
+    }
+
+    /**
+     * Runs {@code saveAction} and returns true if it succeeded.
+     */
+    private boolean save(SaveAction saveAction) {
+        try {
+            long startTime = System.nanoTime();
+            saveAction.run();
+            lastSaveNanos = System.nanoTime() - startTime;
+            saveNanos.record(lastSaveNanos);
+            synchronized (lock) {
+                lastFailure = null;
+            }
+            return true;
+        } catch (IOException ioe) {
+            reportFailure(ioe);
+        } catch (RuntimeException re) {
+            // Keep saving later snapshots rather than leaving the saving thread dead
+            reportFailure(new IOException(re.getMessage(), re));
+        }
+        return false;
+    }
+
+    private void reportFailure(IOException failure) {
+        logger.warning("Failed to save McScheduler " + StringUtil.getDetails(failure));
+        Consumer<IOException> handler;
+        synchronized (lock) {
+            lastFailure = failure;
+            if (pendingSnapshot == null) {
+                // Changes made after an unsaved snapshot or change would leave a gap in the saved changes
+                isSnapshotRequired = true;
+                pendingChanges.clear();
+            }
+            handler = failureHandler;
+            if (handler == null) {
+                unreportedFailure = failure;
+            }
+        }
+        if (handler != null) {
+            handler.accept(failure);
+        }
+    }
+
+    /**
+     * Writes to {@code Storage}.
+     */
+    @FunctionalInterface
+    private interface SaveAction {
+        void run() throws IOException;
+    }
+}
@@ -1,12 +1,16 @@
 package mcscheduler.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import mcscheduler.commons.core.GuiSettings;
 import mcscheduler.logic.commands.CommandResult;
 import mcscheduler.logic.commands.exceptions.CommandException;
 import mcscheduler.logic.parser.exceptions.ParseException;
+import mcscheduler.logic.stats.CommandStatistics;
+import mcscheduler.logic.stats.McSchedulerMonitor;
 import mcscheduler.model.Model;
 import mcscheduler.model.ReadOnlyMcScheduler;
 import mcscheduler.model.assignment.Assignment;
@@ -20,6 +24,7 @@ import mcscheduler.model.worker.Worker;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * Blank {@code commandText} accepts the command proposed by the result of the previous command, if any.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -27,6 +32,29 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Blocks until the McScheduler has been saved after every command executed so far.
+     *
+     * @throws IOException if the latest save failed.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler notified with an error message whenever saving the McScheduler in the background fails.
+     * The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> failureHandler);
+
+    /**
+     * Returns the timings recorded for every command executed so far.
+     */
+    CommandStatistics getCommandStatistics();
+
+    /**
+     * Returns the monitor publishing the size of the McScheduler, its saves and the commands executed.
+     */
+    McSchedulerMonitor getMonitor();
+
     /**
      * Returns the McScheduler.
      *
@@ -2,6 +2,11 @@ package mcscheduler.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,6 +17,11 @@ import mcscheduler.logic.commands.CommandResult;
 import mcscheduler.logic.commands.exceptions.CommandException;
 import mcscheduler.logic.parser.McSchedulerParser;
 import mcscheduler.logic.parser.exceptions.ParseException;
+import mcscheduler.logic.stats.CommandStatistics;
+import mcscheduler.logic.stats.McSchedulerMonitor;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.McSchedulerChange;
+import mcscheduler.model.McSchedulerSnapshot;
 import mcscheduler.model.Model;
 import mcscheduler.model.ReadOnlyMcScheduler;
 import mcscheduler.model.assignment.Assignment;
@@ -25,38 +35,200 @@ import mcscheduler.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    /** Number of changes after which the whole McScheduler is saved again rather than only the changes. */
+    public static final int SNAPSHOT_INTERVAL_CHANGES = 1000;
+    /** Time after which the whole McScheduler is saved again rather than only the changes. */
+    public static final long SNAPSHOT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(5);
+    /** The command word under which the statistics of accepted proposed commands are recorded. */
+    public static final String ACCEPT_PROPOSAL_COMMAND_WORD = "accept";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final BackgroundSaver saver;
     private final McSchedulerParser mcSchedulerParser;
+    private final CommandStatistics commandStatistics = new CommandStatistics();
+    private final McSchedulerMonitor monitor;
+    private final List<McSchedulerChange> unsavedChanges = new ArrayList<>();
+    private long requestedSaveGeneration;
+    private int changesSinceSnapshot;
+    private long lastSnapshotTime;
+    private boolean isSaveDeferred;
+    /** The command proposed by the result of the last command executed, or null if there is none. */
+    private Command proposedCommand;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The McScheduler is saved to {@code storage} in the background.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new BackgroundSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, saving the McScheduler through {@code saver}.
+     */
+    public LogicManager(Model model, BackgroundSaver saver) {
         this.model = model;
-        this.storage = storage;
-        mcSchedulerParser = new McSchedulerParser();
+        this.saver = saver;
+        mcSchedulerParser = new McSchedulerParser(commandStatistics);
+        requestedSaveGeneration = model.getMcSchedulerGeneration();
+        model.addChangeListener(unsavedChanges::add);
+        monitor = new McSchedulerMonitor(commandStatistics, saver.getSaveNanos(), saver::getLastSaveNanos,
+                model.getMcSchedulerFilePath());
+        monitor.updateSizes(model.getMcScheduler());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        long startAllocatedBytes = CommandStatistics.getCurrentThreadAllocatedBytes();
+        long startTime = System.nanoTime();
+        boolean isAcceptingProposal = commandText.isBlank() && proposedCommand != null;
+        Command command = isAcceptingProposal ? proposedCommand : mcSchedulerParser.parseCommand(commandText);
+        String statisticsCommandText = isAcceptingProposal ? ACCEPT_PROPOSAL_COMMAND_WORD : commandText;
+        // A proposal is only offered until the next command runs, as that command may make it outdated
+        proposedCommand = null;
+        long executeStartTime = System.nanoTime();
+        long generationBeforeCommand = model.getMcSchedulerGeneration();
         CommandResult commandResult;
-        Command command = mcSchedulerParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            long saveStartTime = System.nanoTime();
+            long endTime = saveStartTime;
+            // A command that fails partway, such as a script stopping at a failing line, may keep its earlier changes
+            if (model.getMcSchedulerGeneration() != generationBeforeCommand && !isSaveDeferred) {
+                requestSaveIfModified();
+                endTime = System.nanoTime();
+            }
+            recordStatistics(statisticsCommandText, startTime, executeStartTime, saveStartTime, endTime,
+                    startAllocatedBytes);
+            throw e;
+        }
+        proposedCommand = commandResult.getProposedCommand().orElse(null);
+        assert !command.isReadOnly() || model.getMcSchedulerGeneration() == generationBeforeCommand
+                : "A read-only command modified the McScheduler";
 
+        long saveStartTime = System.nanoTime();
         try {
-            storage.saveMcScheduler(model.getMcScheduler());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe.getMessage(), ioe);
+            save(command, commandResult);
+        } finally {
+            recordStatistics(statisticsCommandText, startTime, executeStartTime, saveStartTime, System.nanoTime(),
+                    startAllocatedBytes);
         }
 
         return commandResult;
     }
 
+    /**
+     * Saves the changes made by {@code command}, waiting for the save to complete if the application is exiting.
+     *
+     * @throws CommandException if this or an earlier save failed.
+     */
+    private void save(Command command, CommandResult commandResult) throws CommandException {
+        if (!command.isReadOnly() && !isSaveDeferred) {
+            requestSaveIfModified();
+        }
+        Optional<IOException> saveFailure = saver.takeUnreportedFailure();
+        if (saveFailure.isPresent()) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + saveFailure.get().getMessage(), saveFailure.get());
+        }
+
+        if (commandResult.isExit()) {
+            try {
+                flush();
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe.getMessage(), ioe);
+            }
+        }
+    }
+
+    /**
+     * Records the time taken by each phase of the command entered as {@code commandText}, and the bytes allocated
+     * by it since {@code startAllocatedBytes} was measured.
+     */
+    private void recordStatistics(String commandText, long startTime, long executeStartTime, long saveStartTime,
+            long endTime, long startAllocatedBytes) {
+        long endAllocatedBytes = CommandStatistics.getCurrentThreadAllocatedBytes();
+        long allocatedBytes = startAllocatedBytes == CommandStatistics.UNMEASURED
+                || endAllocatedBytes == CommandStatistics.UNMEASURED
+                ? CommandStatistics.UNMEASURED
+                : endAllocatedBytes - startAllocatedBytes;
+        // The command was parsed, so its first word is a valid command word
+        String commandWord = commandText.trim().split("\\s+", 2)[0].toLowerCase();
+        commandStatistics.record(commandWord, executeStartTime - startTime, saveStartTime - executeStartTime,
+                endTime - saveStartTime, allocatedBytes);
+        monitor.recordCommand();
+    }
+
+    /**
+     * Saves the changes made since the last save, if any.
+     */
+    private void requestSaveIfModified() {
+        if (model.getMcSchedulerGeneration() == requestedSaveGeneration) {
+            return;
+        }
+        requestedSaveGeneration = model.getMcSchedulerGeneration();
+        requestSave();
+        monitor.updateSizes(model.getMcScheduler());
+    }
+
+    /**
+     * Saves the changes made since the last save, as a whole snapshot of the McScheduler if the changes cannot be
+     * replayed or a snapshot is due, or else by appending only the changes.
+     */
+    private void requestSave() {
+        changesSinceSnapshot += unsavedChanges.size();
+        boolean isSnapshotDue = saver.isSnapshotRequired()
+                || changesSinceSnapshot >= SNAPSHOT_INTERVAL_CHANGES
+                || System.nanoTime() - lastSnapshotTime >= SNAPSHOT_INTERVAL_NANOS
+                || unsavedChanges.stream().anyMatch(change -> change.getType() == McSchedulerChange.Type.RESET);
+
+        if (isSnapshotDue) {
+            // The snapshot is copied here as the model may change again while it is being saved
+            saver.requestSave(McSchedulerSnapshot.of(model.getMcScheduler()));
+            changesSinceSnapshot = 0;
+            lastSnapshotTime = System.nanoTime();
+        } else {
+            List<McSchedulerChange> changes = new ArrayList<>(unsavedChanges.size());
+            unsavedChanges.forEach(change -> changes.add(McSchedulerSnapshot.copyOf(change)));
+            saver.requestAppend(changes);
+        }
+        unsavedChanges.clear();
+    }
+
+    /**
+     * Sets whether saving is deferred until {@link #flush()} rather than started after every command that modifies
+     * the McScheduler, for running a batch of commands that only needs to be saved once at the end.
+     */
+    public void setSaveDeferred(boolean isSaveDeferred) {
+        this.isSaveDeferred = isSaveDeferred;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        requestSaveIfModified();
+        saver.flush();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> failureHandler) {
+        saver.setFailureHandler(failureHandler == null
+                ? null
+                : ioe -> failureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe.getMessage()));
+    }
+
+    @Override
+    public CommandStatistics getCommandStatistics() {
+        return commandStatistics;
+    }
+
+    @Override
+    public McSchedulerMonitor getMonitor() {
+        return monitor;
+    }
+
     @Override
     public ReadOnlyMcScheduler getMcScheduler() {
         return model.getMcScheduler();
@@ -0,0 +1,60 @@
+package mcscheduler.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static mcscheduler.model.Model.PREDICATE_SHOW_ALL_SHIFTS;
+import static mcscheduler.model.Model.PREDICATE_SHOW_ALL_WORKERS;
+
+import mcscheduler.logic.commands.exceptions.CommandException;
+import mcscheduler.model.Model;
+import mcscheduler.model.scheduling.RosterDiff;
+
+/**
+ * Makes the changes to the roster shown by an {@link OptimizeCommand}, exactly as they were shown.
+ * The command is not typed by the user, but proposed by the OptimizeCommand that found the changes.
+ */
+public class AcceptOptimizeCommand extends Command {
+
+    public static final String COMMAND_WORD = "accept-optimize";
+
+    public static final String MESSAGE_ROSTER_CHANGED = "The roster has changed since the changes were proposed, "
+            + "so they were not made.";
+
+    private final RosterDiff diff;
+    private final long mcSchedulerGeneration;
+
+    /**
+     * Creates an AcceptOptimizeCommand that makes the changes in {@code diff}, found when the McScheduler was at
+     * {@code mcSchedulerGeneration}.
+     */
+    public AcceptOptimizeCommand(RosterDiff diff, long mcSchedulerGeneration) {
+        requireNonNull(diff);
+        this.diff = diff;
+        this.mcSchedulerGeneration = mcSchedulerGeneration;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (model.getMcSchedulerGeneration() != mcSchedulerGeneration) {
+            throw new CommandException(MESSAGE_ROSTER_CHANGED);
+        }
+        diff.applyTo(model);
+        model.updateFilteredShiftList(PREDICATE_SHOW_ALL_SHIFTS);
+        model.updateFilteredWorkerList(PREDICATE_SHOW_ALL_WORKERS);
+        return new CommandResult(OptimizeCommand.MESSAGE_APPLIED_CHANGES + "\n" + CommandUtil.printRosterDiff(diff));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AcceptOptimizeCommand // instanceof handles nulls
+                && diff.equals(((AcceptOptimizeCommand) other).diff)
+                && mcSchedulerGeneration == ((AcceptOptimizeCommand) other).mcSchedulerGeneration); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return diff.hashCode() * 31 + Long.hashCode(mcSchedulerGeneration);
+    }
+}
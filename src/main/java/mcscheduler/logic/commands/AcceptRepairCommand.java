@@ -0,0 +1,76 @@
+package mcscheduler.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import mcscheduler.logic.commands.exceptions.CommandException;
+import mcscheduler.model.Model;
+import mcscheduler.model.scheduling.RosterDiff;
+
+/**
+ * Makes the changes to the roster proposed to fill the roles given up by workers taking leave.
+ * The command is not typed by the user, but proposed by the command that gave up the roles.
+ */
+public class AcceptRepairCommand extends Command {
+
+    public static final String COMMAND_WORD = "accept-repair";
+
+    public static final String MESSAGE_REPAIR_PROPOSED = "Proposed replacements (press Enter in the empty command box "
+            + "to accept them):";
+    public static final String MESSAGE_NO_REPAIR = "No replacements were found for the roles given up.";
+    public static final String MESSAGE_ACCEPT_REPAIR_SUCCESS = "Replacements made:";
+    public static final String MESSAGE_ROSTER_CHANGED = "The roster has changed since the replacements were "
+            + "proposed, so they were not made.";
+
+    private final RosterDiff diff;
+    private final long mcSchedulerGeneration;
+
+    /**
+     * Creates an AcceptRepairCommand that makes the changes in {@code diff}, found when the McScheduler was at
+     * {@code mcSchedulerGeneration}.
+     */
+    public AcceptRepairCommand(RosterDiff diff, long mcSchedulerGeneration) {
+        requireNonNull(diff);
+        this.diff = diff;
+        this.mcSchedulerGeneration = mcSchedulerGeneration;
+    }
+
+    /**
+     * Returns the result of a command that gave up roles, with {@code feedbackToUser} followed by the replacements
+     * in {@code diff}, proposed as an AcceptRepairCommand. {@code diff} must have been found for the McScheduler at
+     * {@code mcSchedulerGeneration}.
+     */
+    public static CommandResult proposeRepair(String feedbackToUser, RosterDiff diff, long mcSchedulerGeneration) {
+        requireNonNull(feedbackToUser);
+        requireNonNull(diff);
+        if (diff.isEmpty()) {
+            return new CommandResult(feedbackToUser + "\n" + MESSAGE_NO_REPAIR);
+        }
+        return new CommandResult(feedbackToUser + "\n" + MESSAGE_REPAIR_PROPOSED + "\n"
+                + CommandUtil.printRosterDiff(diff), new AcceptRepairCommand(diff, mcSchedulerGeneration));
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Any change since the proposal, whatever its role, may have made the replacements invalid
+        if (model.getMcSchedulerGeneration() != mcSchedulerGeneration) {
+            throw new CommandException(MESSAGE_ROSTER_CHANGED);
+        }
+        diff.applyTo(model);
+        return new CommandResult(MESSAGE_ACCEPT_REPAIR_SUCCESS + "\n" + CommandUtil.printRosterDiff(diff));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AcceptRepairCommand // instanceof handles nulls
+                && diff.equals(((AcceptRepairCommand) other).diff)
+                && mcSchedulerGeneration == ((AcceptRepairCommand) other).mcSchedulerGeneration); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return diff.hashCode() * 31 + Long.hashCode(mcSchedulerGeneration);
+    }
+}
@@ -0,0 +1,86 @@
+package mcscheduler.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static mcscheduler.model.Model.PREDICATE_SHOW_ALL_SHIFTS;
+import static mcscheduler.model.Model.PREDICATE_SHOW_ALL_WORKERS;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import mcscheduler.model.Model;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.scheduling.RosterFiller;
+import mcscheduler.model.shift.RoleRequirement;
+import mcscheduler.model.shift.Shift;
+
+/**
+ * Fills every role requirement of every shift in the McScheduler that is not yet filled, as far as the available
+ * workers allow.
+ */
+public class AutoAssignCommand extends Command {
+
+    public static final String COMMAND_WORD = "auto-assign";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Assigns available workers to every shift until "
+            + "each role requirement is filled or no more workers can fill it.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_AUTO_ASSIGN_SUCCESS = "%1$d new assignment(s) added.";
+    public static final String MESSAGE_ALL_FILLED = "Every role requirement is filled.";
+    public static final String MESSAGE_UNFILLED = "Role requirements that could not be filled:";
+    public static final String MESSAGE_UNFILLED_ROLE = "Shift %1$s: %2$s (Filled: %3$d, Short: %4$d)";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<Shift> shifts = new ArrayList<>(model.getMcScheduler().getShiftList());
+        RosterFiller rosterFiller = new RosterFiller(model);
+        int assignmentCount = 0;
+        model.beginBatch();
+        try {
+            for (Shift shift : shifts) {
+                for (Assignment assignment : rosterFiller.fill(shift)) {
+                    model.addAssignment(assignment);
+                    assignmentCount++;
+                }
+            }
+        } finally {
+            model.commit();
+        }
+        model.updateFilteredShiftList(PREDICATE_SHOW_ALL_SHIFTS);
+        model.updateFilteredWorkerList(PREDICATE_SHOW_ALL_WORKERS);
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_AUTO_ASSIGN_SUCCESS, assignmentCount));
+        List<String> unfilledRoles = getUnfilledRoles(shifts);
+        if (unfilledRoles.isEmpty()) {
+            result.append("\n").append(MESSAGE_ALL_FILLED);
+        } else {
+            result.append("\n").append(MESSAGE_UNFILLED);
+            unfilledRoles.forEach(unfilledRole -> result.append("\n").append(unfilledRole));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    private static List<String> getUnfilledRoles(List<Shift> shifts) {
+        List<String> unfilledRoles = new ArrayList<>();
+        for (Shift shift : shifts) {
+            List<RoleRequirement> roleRequirements = new ArrayList<>(shift.getRoleRequirements());
+            roleRequirements.sort(Comparator.comparing(roleRequirement -> roleRequirement.getRole().getRole()));
+            for (RoleRequirement roleRequirement : roleRequirements) {
+                if (!roleRequirement.isFilled()) {
+                    unfilledRoles.add(String.format(MESSAGE_UNFILLED_ROLE, shift.toCondensedString(), roleRequirement,
+                            roleRequirement.getQuantityFilled(),
+                            roleRequirement.getQuantityRequired() - roleRequirement.getQuantityFilled()));
+                }
+            }
+        }
+        return unfilledRoles;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof AutoAssignCommand;
+    }
+}
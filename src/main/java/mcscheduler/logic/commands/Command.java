@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing the command never modifies the McScheduler data, so it need not be saved
+     * afterwards. Changes to the filtered lists and user prefs do not count as modifications.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -3,6 +3,7 @@ package mcscheduler.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents the result of a command execution.
@@ -17,6 +18,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The command the user is offered to run next with a single key press, or null if there is none. */
+    private final Command proposedCommand;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -24,6 +28,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.proposedCommand = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that offers the user to run
+     * {@code proposedCommand} next.
+     */
+    public CommandResult(String feedbackToUser, Command proposedCommand) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.proposedCommand = requireNonNull(proposedCommand);
     }
 
     /**
@@ -46,6 +62,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<Command> getProposedCommand() {
+        return Optional.ofNullable(proposedCommand);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,12 +80,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(proposedCommand, otherCommandResult.proposedCommand);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, proposedCommand);
     }
 
 }
@@ -3,17 +3,16 @@ package mcscheduler.logic.commands;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 import mcscheduler.commons.core.Messages;
 import mcscheduler.commons.core.index.Index;
 import mcscheduler.model.Model;
 import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.role.Leave;
+import mcscheduler.model.scheduling.RosterDiff;
 import mcscheduler.model.shift.Shift;
 import mcscheduler.model.shift.ShiftDay;
 import mcscheduler.model.shift.ShiftTime;
-import mcscheduler.model.worker.Unavailability;
 import mcscheduler.model.worker.Worker;
 
 /**
@@ -21,19 +20,14 @@ import mcscheduler.model.worker.Worker;
  */
 public class CommandUtil {
 
+    public static final String MESSAGE_ASSIGNMENT_REMOVED = "- %1$s";
+    public static final String MESSAGE_ASSIGNMENT_ADDED = "+ %1$s";
+
     /**
      * Checks if a worker is unavailable at a given shift.
      */
     public static boolean isWorkerUnavailable(Worker workerToAssign, Shift shiftToAssign) {
-        Set<Unavailability> workerUnavailableTimings = workerToAssign.getUnavailableTimings();
-        for (Unavailability unavailability : workerUnavailableTimings) {
-            boolean hasSameDay = unavailability.getDay().equals(shiftToAssign.getShiftDay());
-            boolean hasSameTime = unavailability.getTime().equals(shiftToAssign.getShiftTime());
-            if (hasSameDay && hasSameTime) {
-                return true;
-            }
-        }
-        return false;
+        return workerToAssign.isUnavailable(shiftToAssign);
     }
 
     /**
@@ -112,4 +106,18 @@ public class CommandUtil {
                         + messageUsage);
     }
 
+    /**
+     * Lists the assignments removed by {@code diff}, then those it adds, one per line.
+     */
+    public static String printRosterDiff(RosterDiff diff) {
+        List<String> lines = new ArrayList<>();
+        for (Assignment assignment : diff.getAssignmentsToRemove()) {
+            lines.add(String.format(MESSAGE_ASSIGNMENT_REMOVED, assignment));
+        }
+        for (Assignment assignment : diff.getAssignmentsToAdd()) {
+            lines.add(String.format(MESSAGE_ASSIGNMENT_ADDED, assignment));
+        }
+        return String.join("\n", lines);
+    }
+
 }
@@ -90,7 +90,12 @@ public class MassCancelLeaveCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NO_LEAVE_FOUND, startDay, startTime, endDay, endTime));
         }
 
-        assignmentsToRemove.forEach(model::deleteAssignment);
+        model.beginBatch();
+        try {
+            assignmentsToRemove.forEach(model::deleteAssignment);
+        } finally {
+            model.commit();
+        }
 
         return new CommandResult(String.format(MESSAGE_MASS_CANCEL_LEAVE_SUCCESS,
                 startDay, startTime, endDay, endTime, worker.getName()));
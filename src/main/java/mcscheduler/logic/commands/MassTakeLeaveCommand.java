@@ -18,6 +18,7 @@ import mcscheduler.logic.commands.exceptions.CommandException;
 import mcscheduler.model.Model;
 import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.role.Leave;
+import mcscheduler.model.scheduling.RosterRepairer;
 import mcscheduler.model.shift.Shift;
 import mcscheduler.model.shift.ShiftDay;
 import mcscheduler.model.shift.ShiftTime;
@@ -37,7 +38,9 @@ public class MassTakeLeaveCommand extends Command {
             + PREFIX_SHIFT_DAY + "START_DAY (must be Mon, Tue, Wed, Thu, Fri, Sat or Sun) "
             + PREFIX_SHIFT_TIME + "START_TIME (must be AM or PM) "
             + PREFIX_SHIFT_DAY + "END_DAY "
-            + PREFIX_SHIFT_TIME + "END_TIME\n"
+            + PREFIX_SHIFT_TIME + "END_TIME "
+            + "[" + TakeLeaveCommand.REPAIR_OPTION + "]\n"
+            + "With " + TakeLeaveCommand.REPAIR_OPTION + ", replacements are proposed for the roles given up.\n"
             + "Example: " + COMMAND_WORD
             + " w/2 d/Mon t/PM d/Wed t/AM ";
 
@@ -49,6 +52,7 @@ public class MassTakeLeaveCommand extends Command {
     private final ShiftTime startTime;
     private final ShiftDay endDay;
     private final ShiftTime endTime;
+    private final boolean isRepairing;
 
     /**
      * Creates a MassTakeLeaveCommand to add leave for the specified {@code Worker} between the given dates and times.
@@ -61,6 +65,21 @@ public class MassTakeLeaveCommand extends Command {
      */
     public MassTakeLeaveCommand(Index workerIndex, ShiftDay startDay, ShiftTime startTime,
                                 ShiftDay endDay, ShiftTime endTime) {
+        this(workerIndex, startDay, startTime, endDay, endTime, false);
+    }
+
+    /**
+     * Creates a MassTakeLeaveCommand to add leave for the specified {@code Worker} between the given dates and times.
+     *
+     * @param workerIndex of the worker in the filtered worker list.
+     * @param startDay of the leave.
+     * @param startTime of the leave.
+     * @param endDay of the leave.
+     * @param endTime of the leave.
+     * @param isRepairing whether to propose replacements for the roles the worker gives up.
+     */
+    public MassTakeLeaveCommand(Index workerIndex, ShiftDay startDay, ShiftTime startTime,
+                                ShiftDay endDay, ShiftTime endTime, boolean isRepairing) {
         CollectionUtil.requireAllNonNull(workerIndex, startDay, startTime, endDay, endTime);
 
         this.workerIndex = workerIndex;
@@ -68,6 +87,7 @@ public class MassTakeLeaveCommand extends Command {
         this.startTime = startTime;
         this.endDay = endDay;
         this.endTime = endTime;
+        this.isRepairing = isRepairing;
     }
 
     @Override
@@ -86,21 +106,26 @@ public class MassTakeLeaveCommand extends Command {
 
         List<Assignment> reassignedAssignments = new ArrayList<>();
         ArrayList<Shift> shiftsAlreadyWithLeave = new ArrayList<>();
-        for (Shift shift: shiftsToTakeLeaveFrom) {
-            Assignment toAdd = new Assignment(shift, worker, new Leave());
-            if (hasNonLeaveAssignment(model, toAdd)) {
-                Assignment nonLeaveAssignmentInModel = model.getAssignment(toAdd).get();
-                model.deleteAssignment(nonLeaveAssignmentInModel);
-                model.addAssignment(toAdd);
-                reassignedAssignments.add(nonLeaveAssignmentInModel);
-            } else if (hasLeaveAssignment(model, toAdd) || isWorkerUnavailable(worker, shift)) {
-                shiftsAlreadyWithLeave.add(shift);
-            } else {
-                if (!model.hasShift(shift)) {
-                    model.addShift(shift);
+        model.beginBatch();
+        try {
+            for (Shift shift: shiftsToTakeLeaveFrom) {
+                Assignment toAdd = new Assignment(shift, worker, new Leave());
+                if (hasNonLeaveAssignment(model, toAdd)) {
+                    Assignment nonLeaveAssignmentInModel = model.getAssignment(toAdd).get();
+                    model.deleteAssignment(nonLeaveAssignmentInModel);
+                    model.addAssignment(toAdd);
+                    reassignedAssignments.add(nonLeaveAssignmentInModel);
+                } else if (hasLeaveAssignment(model, toAdd) || isWorkerUnavailable(worker, shift)) {
+                    shiftsAlreadyWithLeave.add(shift);
+                } else {
+                    if (!model.hasShift(shift)) {
+                        model.addShift(shift);
+                    }
+                    model.addAssignment(toAdd);
                 }
-                model.addAssignment(toAdd);
             }
+        } finally {
+            model.commit();
         }
 
         String resultMessage = String.format(MESSAGE_MASS_TAKE_LEAVE_SUCCESS,
@@ -112,9 +137,11 @@ public class MassTakeLeaveCommand extends Command {
                     .reduce("", (str1, str2) -> str1 + "\n" + str2);
             resultMessage += "\n" + String.format(MESSAGE_REASSIGNED, reassignedMessage);
         }
-
-        return new CommandResult(resultMessage);
-
+        if (!isRepairing || reassignedAssignments.isEmpty()) {
+            return new CommandResult(resultMessage);
+        }
+        return AcceptRepairCommand.proposeRepair(resultMessage,
+                new RosterRepairer(model).repair(reassignedAssignments), model.getMcSchedulerGeneration());
 
     }
 
@@ -133,7 +160,8 @@ public class MassTakeLeaveCommand extends Command {
                 && this.startDay.equals(c.startDay)
                 && this.startTime.equals(c.startTime)
                 && this.endDay.equals(c.endDay)
-                && this.endTime.equals(c.endTime);
+                && this.endTime.equals(c.endTime)
+                && this.isRepairing == c.isRepairing;
     }
 
 
@@ -0,0 +1,109 @@
+package mcscheduler.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static mcscheduler.model.Model.PREDICATE_SHOW_ALL_SHIFTS;
+import static mcscheduler.model.Model.PREDICATE_SHOW_ALL_WORKERS;
+
+import java.time.Duration;
+
+import mcscheduler.model.Model;
+import mcscheduler.model.scheduling.OptimizedRoster;
+import mcscheduler.model.scheduling.RosterDiff;
+import mcscheduler.model.scheduling.RosterOptimizer;
+import mcscheduler.model.scheduling.RosterStatistics;
+
+/**
+ * Searches for a roster that fills more role requirements, costs less in pay or spreads the shifts more evenly than
+ * the current one, and makes the changes that lead to it or proposes them as an {@link AcceptOptimizeCommand}.
+ */
+public class OptimizeCommand extends Command {
+
+    public static final String COMMAND_WORD = "optimize";
+    public static final String APPLY_OPTION = "--apply";
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(2);
+    /** The seed of the search, fixed so that the changes shown for a McScheduler can be reproduced. */
+    public static final long DEFAULT_SEED = 0;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches for a roster that fills as many role "
+            + "requirements as possible for the least pay while spreading the shifts evenly among the workers, and "
+            + "shows the changes to the current assignments that lead to it. "
+            + "Press Enter in the empty command box to make the changes shown.\n"
+            + "With " + APPLY_OPTION + ", the changes are made right away.\n"
+            + "Parameters: [" + APPLY_OPTION + "]\n"
+            + "Example: " + COMMAND_WORD + " " + APPLY_OPTION;
+
+    public static final String MESSAGE_NO_CHANGES = "No better roster was found.";
+    public static final String MESSAGE_PROPOSED_CHANGES = "Proposed changes (press Enter in the empty command box "
+            + "to make them):";
+    public static final String MESSAGE_APPLIED_CHANGES = "Changes made:";
+    public static final String MESSAGE_STATISTICS = "Weekly pay: $%1$,.2f -> $%2$,.2f\n"
+            + "Unfilled positions: %3$d -> %4$d\n"
+            + "Shifts per worker: %5$d to %6$d -> %7$d to %8$d";
+
+    private final boolean isApplied;
+    private final Duration timeBudget;
+    private final long seed;
+
+    /**
+     * Creates an OptimizeCommand that searches for {@link #DEFAULT_TIME_BUDGET} from {@link #DEFAULT_SEED}, and
+     * makes the changes it finds if {@code isApplied} is true.
+     */
+    public OptimizeCommand(boolean isApplied) {
+        this(isApplied, DEFAULT_TIME_BUDGET, DEFAULT_SEED);
+    }
+
+    /**
+     * Creates an OptimizeCommand that searches for {@code timeBudget} from {@code seed}, and makes the changes it
+     * finds if {@code isApplied} is true.
+     */
+    public OptimizeCommand(boolean isApplied, Duration timeBudget, long seed) {
+        requireNonNull(timeBudget);
+        this.isApplied = isApplied;
+        this.timeBudget = timeBudget;
+        this.seed = seed;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return !isApplied;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        OptimizedRoster optimizedRoster = new RosterOptimizer(model).optimize(timeBudget, seed);
+        RosterDiff diff = optimizedRoster.getDiff();
+        if (diff.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CHANGES);
+        }
+        if (isApplied) {
+            diff.applyTo(model);
+            model.updateFilteredShiftList(PREDICATE_SHOW_ALL_SHIFTS);
+            model.updateFilteredWorkerList(PREDICATE_SHOW_ALL_WORKERS);
+        }
+
+        StringBuilder result = new StringBuilder(isApplied ? MESSAGE_APPLIED_CHANGES : MESSAGE_PROPOSED_CHANGES);
+        result.append("\n").append(CommandUtil.printRosterDiff(diff));
+        RosterStatistics current = optimizedRoster.getCurrentStatistics();
+        RosterStatistics optimized = optimizedRoster.getOptimizedStatistics();
+        result.append("\n").append(String.format(MESSAGE_STATISTICS, current.getPayCost(), optimized.getPayCost(),
+                current.getUnfilledCount(), optimized.getUnfilledCount(), current.getMinWorkload(),
+                current.getMaxWorkload(), optimized.getMinWorkload(), optimized.getMaxWorkload()));
+        if (!isApplied) {
+            // Accepting makes exactly the changes shown, as long as the McScheduler is left as it is now
+            return new CommandResult(result.toString(),
+                    new AcceptOptimizeCommand(diff, model.getMcSchedulerGeneration()));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OptimizeCommand // instanceof handles nulls
+                && isApplied == ((OptimizeCommand) other).isApplied
+                && timeBudget.equals(((OptimizeCommand) other).timeBudget)
+                && seed == ((OptimizeCommand) other).seed); // state check
+    }
+}
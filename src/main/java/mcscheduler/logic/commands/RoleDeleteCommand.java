@@ -2,9 +2,10 @@ package mcscheduler.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import mcscheduler.commons.core.index.Index;
@@ -51,53 +52,50 @@ public class RoleDeleteCommand extends Command {
         Role roleToDelete = roleList.get(targetIndex.getZeroBased());
         assert !Leave.isLeave(roleToDelete);
 
-        deleteRoleFromAssignments(model, roleToDelete);
-        deleteRoleFromShifts(model, roleToDelete);
-        deleteRoleFromWorkers(model, roleToDelete);
-        model.deleteRole(roleToDelete);
+        model.beginBatch();
+        try {
+            deleteRoleFromAssignments(model, roleToDelete);
+            deleteRoleFromShifts(model, roleToDelete);
+            deleteRoleFromWorkers(model, roleToDelete);
+            model.deleteRole(roleToDelete);
+        } finally {
+            model.commit();
+        }
 
         return new CommandResult(String.format(MESSAGE_DELETE_ROLE_SUCCESS, roleToDelete));
     }
 
     private void deleteRoleFromAssignments(Model model, Role roleToDelete) {
         CollectionUtil.requireAllNonNull(model, roleToDelete);
-        List<Assignment> fullAssignmentList = model.getFullAssignmentList();
-        List<Assignment> assignmentsToDelete = new ArrayList<>();
-
-        for (Assignment assignment : fullAssignmentList) {
-            if (roleToDelete.equals(assignment.getRole())) {
-                assignmentsToDelete.add(assignment);
-            }
-        }
-
-        assignmentsToDelete.forEach(model::deleteAssignment);
+        List<Assignment> assignmentsToDelete = model.getAssignmentsWithRole(roleToDelete);
+        model.deleteAssignments(assignmentsToDelete);
     }
 
     private void deleteRoleFromShifts(Model model, Role roleToDelete) {
         CollectionUtil.requireAllNonNull(model, roleToDelete);
-        List<Shift> fullShiftList = model.getFullShiftList();
+        Map<Shift, Shift> updatedShifts = new LinkedHashMap<>();
 
-        for (Shift shift : fullShiftList) {
+        for (Shift shift : model.getShiftsWithRole(roleToDelete)) {
             Set<RoleRequirement> updatedRoleRequirements = new HashSet<>(shift.getRoleRequirements());
             updatedRoleRequirements.removeIf(roleRequirement -> roleRequirement.getRole().equals(roleToDelete));
 
-            Shift updatedShift = new Shift(shift.getShiftDay(), shift.getShiftTime(), updatedRoleRequirements);
-            model.setShift(shift, updatedShift);
+            updatedShifts.put(shift, new Shift(shift.getShiftDay(), shift.getShiftTime(), updatedRoleRequirements));
         }
+        model.replaceShifts(updatedShifts);
     }
 
     private void deleteRoleFromWorkers(Model model, Role roleToDelete) {
         CollectionUtil.requireAllNonNull(model, roleToDelete);
-        List<Worker> fullWorkerList = model.getFullWorkerList();
+        Map<Worker, Worker> updatedWorkers = new LinkedHashMap<>();
 
-        for (Worker worker : fullWorkerList) {
+        for (Worker worker : model.getWorkersWithRole(roleToDelete)) {
             Set<Role> updatedRoles = new HashSet<>(worker.getRoles());
             updatedRoles.removeIf(role -> role.equals(roleToDelete));
 
-            Worker updatedWorker = new Worker(worker.getName(), worker.getPhone(), worker.getPay(),
-                    worker.getAddress(), updatedRoles, worker.getUnavailableTimings());
-            model.setWorker(worker, updatedWorker);
+            updatedWorkers.put(worker, new Worker(worker.getName(), worker.getPhone(), worker.getPay(),
+                    worker.getAddress(), updatedRoles, worker.getUnavailableTimings()));
         }
+        model.replaceWorkers(updatedWorkers);
     }
 
     @Override
@@ -5,7 +5,9 @@ import static mcscheduler.commons.core.Messages.MESSAGE_DUPLICATE_ROLE;
 import static mcscheduler.commons.core.Messages.MESSAGE_ROLE_NOT_EDITED;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import mcscheduler.commons.core.Messages;
@@ -72,24 +74,29 @@ public class RoleEditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_ROLE);
         }
 
-        editRoleInShifts(model, roleToEdit);
-        editRoleInWorkers(model, roleToEdit);
-        editRoleInAssignments(model, roleToEdit);
-        model.setRole(roleToEdit, editedRole);
+        model.beginBatch();
+        try {
+            editRoleInShifts(model, roleToEdit);
+            editRoleInWorkers(model, roleToEdit);
+            editRoleInAssignments(model, roleToEdit);
+            model.setRole(roleToEdit, editedRole);
+        } finally {
+            model.commit();
+        }
 
         return new CommandResult(String.format(MESSAGE_EDIT_ROLE_SUCCESS, editedRole, roleToEdit));
     }
 
     private void editRoleInShifts(Model model, Role roleToEdit) {
         CollectionUtil.requireAllNonNull(model, roleToEdit);
-        List<Shift> fullShiftList = model.getFullShiftList();
+        Map<Shift, Shift> updatedShifts = new LinkedHashMap<>();
 
-        for (Shift shift : fullShiftList) {
+        for (Shift shift : model.getShiftsWithRole(roleToEdit)) {
             Set<RoleRequirement> updatedRoleRequirements = getEditedRoleRequirements(shift.getRoleRequirements(),
                     roleToEdit);
-            Shift updatedShift = new Shift(shift.getShiftDay(), shift.getShiftTime(), updatedRoleRequirements);
-            model.setShift(shift, updatedShift);
+            updatedShifts.put(shift, new Shift(shift.getShiftDay(), shift.getShiftTime(), updatedRoleRequirements));
         }
+        model.replaceShifts(updatedShifts);
     }
 
     private Set<RoleRequirement> getEditedRoleRequirements(Set<RoleRequirement> roleRequirements, Role roleToEdit) {
@@ -110,15 +117,15 @@ public class RoleEditCommand extends Command {
 
     private void editRoleInWorkers(Model model, Role roleToEdit) {
         CollectionUtil.requireAllNonNull(model, roleToEdit);
-        List<Worker> fullWorkerList = model.getFullWorkerList();
+        Map<Worker, Worker> updatedWorkers = new LinkedHashMap<>();
 
-        for (Worker worker : fullWorkerList) {
+        for (Worker worker : model.getWorkersWithRole(roleToEdit)) {
             Set<Role> updatedRoles = getEditedRoles(worker.getRoles(), roleToEdit);
 
-            Worker updatedWorker = new Worker(worker.getName(), worker.getPhone(), worker.getPay(),
-                    worker.getAddress(), updatedRoles, worker.getUnavailableTimings());
-            model.setWorker(worker, updatedWorker);
+            updatedWorkers.put(worker, new Worker(worker.getName(), worker.getPhone(), worker.getPay(),
+                    worker.getAddress(), updatedRoles, worker.getUnavailableTimings()));
         }
+        model.replaceWorkers(updatedWorkers);
     }
 
     private Set<Role> getEditedRoles(Set<Role> roles, Role roleToEdit) {
@@ -134,15 +141,13 @@ public class RoleEditCommand extends Command {
 
     private void editRoleInAssignments(Model model, Role roleToEdit) {
         CollectionUtil.requireAllNonNull(model, roleToEdit);
-        List<Assignment> fullAssignmentList = model.getFullAssignmentList();
+        Map<Assignment, Assignment> updatedAssignments = new LinkedHashMap<>();
 
-        for (Assignment assignment : fullAssignmentList) {
-            if (roleToEdit.equals(assignment.getRole())) {
-                Assignment updatedAssignment = new Assignment(assignment.getShift(), assignment.getWorker(),
-                        editedRole);
-                model.setAssignment(assignment, updatedAssignment);
-            }
+        for (Assignment assignment : model.getAssignmentsWithRole(roleToEdit)) {
+            updatedAssignments.put(assignment, new Assignment(assignment.getShift(), assignment.getWorker(),
+                    editedRole));
         }
+        model.replaceAssignments(updatedAssignments);
     }
 
     @Override
@@ -0,0 +1,137 @@
+package mcscheduler.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import mcscheduler.logic.commands.exceptions.CommandException;
+import mcscheduler.logic.parser.McSchedulerParser;
+import mcscheduler.logic.parser.exceptions.ParseException;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.Model;
+import mcscheduler.model.ReadOnlyMcScheduler;
+
+/**
+ * Runs the commands in a script file, one per line, as a single command: the McScheduler is saved once after all of
+ * them have run. Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run-script";
+    public static final String ROLLBACK_OPTION = "--rollback";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line, "
+            + "stopping at the first command that fails. "
+            + "With " + ROLLBACK_OPTION + ", the commands run before the failed command are undone too.\n"
+            + "Parameters: FILE [" + ROLLBACK_OPTION + "]\n"
+            + "Example: " + COMMAND_WORD + " weekly-roster.txt " + ROLLBACK_OPTION;
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the script %1$s: %2$s";
+    public static final String MESSAGE_PARSE_ERRORS = "No commands were run, as these lines of %1$s are invalid:";
+    public static final String MESSAGE_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts";
+    public static final String MESSAGE_COMMAND_FAILED = "Stopped at line %1$d of %2$s: %3$s\n";
+    public static final String MESSAGE_COMMANDS_KEPT = "The %1$d commands before it were run.";
+    public static final String MESSAGE_COMMANDS_ROLLED_BACK = "The %1$d commands before it were undone.";
+
+    private final Path scriptFilePath;
+    private final boolean isRollbackOnFailure;
+    private final McSchedulerParser parser;
+
+    /**
+     * Creates a RunScriptCommand to run the commands in the file at {@code scriptFilePath}, parsed with
+     * {@code parser}, undoing all of them if one fails and {@code isRollbackOnFailure}.
+     */
+    public RunScriptCommand(Path scriptFilePath, boolean isRollbackOnFailure, McSchedulerParser parser) {
+        requireNonNull(scriptFilePath);
+        requireNonNull(parser);
+        this.scriptFilePath = scriptFilePath;
+        this.isRollbackOnFailure = isRollbackOnFailure;
+        this.parser = parser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptFilePath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, scriptFilePath, ioe.getMessage()), ioe);
+        }
+
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<Command> commands = parseAll(lines, lineNumbers);
+
+        ReadOnlyMcScheduler mcSchedulerBeforeScript = isRollbackOnFailure ? new McScheduler(model.getMcScheduler())
+                : null;
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                commands.get(i).execute(model);
+            } catch (CommandException ce) {
+                String message = String.format(MESSAGE_COMMAND_FAILED, lineNumbers.get(i), scriptFilePath,
+                        ce.getMessage());
+                if (isRollbackOnFailure) {
+                    model.setMcScheduler(mcSchedulerBeforeScript);
+                    throw new CommandException(message + String.format(MESSAGE_COMMANDS_ROLLED_BACK, i), ce);
+                }
+                throw new CommandException(message + String.format(MESSAGE_COMMANDS_KEPT, i), ce);
+            } catch (RuntimeException re) {
+                // A bug in a command must not leave the McScheduler half-scripted when a rollback was asked for
+                if (isRollbackOnFailure) {
+                    model.setMcScheduler(mcSchedulerBeforeScript);
+                }
+                throw re;
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), scriptFilePath));
+    }
+
+    /**
+     * Parses every command in {@code lines}, adding the line number of each to {@code lineNumbers}.
+     *
+     * @throws CommandException listing every line that could not be parsed, if any.
+     */
+    private List<Command> parseAll(List<String> lines, List<Integer> lineNumbers) throws CommandException {
+        List<Command> commands = new ArrayList<>();
+        StringBuilder parseErrors = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            try {
+                Command command = parser.parseCommand(line);
+                if (command instanceof RunScriptCommand) {
+                    throw new ParseException(MESSAGE_NESTED_SCRIPT);
+                }
+                commands.add(command);
+                lineNumbers.add(lineNumber);
+            } catch (ParseException pe) {
+                parseErrors.append("\n").append(String.format(MESSAGE_LINE, lineNumber, pe.getMessage()));
+            }
+        }
+
+        if (parseErrors.length() > 0) {
+            throw new CommandException(String.format(MESSAGE_PARSE_ERRORS, scriptFilePath) + parseErrors);
+        }
+        return commands;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunScriptCommand // instanceof handles nulls
+                && scriptFilePath.equals(((RunScriptCommand) other).scriptFilePath)
+                && isRollbackOnFailure == ((RunScriptCommand) other).isRollbackOnFailure);
+    }
+}
@@ -43,8 +43,13 @@ public class ShiftDeleteCommand extends Command {
         }
 
         Shift shiftToDelete = lastShownList.get(targetIndex.getZeroBased());
-        deleteShiftFromAssignments(model, shiftToDelete);
-        model.deleteShift(shiftToDelete);
+        model.beginBatch();
+        try {
+            deleteShiftFromAssignments(model, shiftToDelete);
+            model.deleteShift(shiftToDelete);
+        } finally {
+            model.commit();
+        }
 
         return new CommandResult(String.format(MESSAGE_DELETE_SHIFT_SUCCESS, shiftToDelete));
     }
@@ -95,9 +95,14 @@ public class ShiftEditCommand extends Command {
             }
         }
 
-        model.setShift(shiftToEdit, editedShift);
-        editShiftInAssignments(model, shiftToEdit, editedShift);
-        model.updateFilteredShiftList(PREDICATE_SHOW_ALL_SHIFTS);
+        model.beginBatch();
+        try {
+            model.setShift(shiftToEdit, editedShift);
+            editShiftInAssignments(model, shiftToEdit, editedShift);
+            model.updateFilteredShiftList(PREDICATE_SHOW_ALL_SHIFTS);
+        } finally {
+            model.commit();
+        }
 
         return new CommandResult(String.format(MESSAGE_EDIT_SHIFT_SUCCESS, editedShift));
     }
@@ -115,26 +120,24 @@ public class ShiftEditCommand extends Command {
 
     private void editShiftInAssignments(Model model, Shift shiftToEdit, Shift editedShift) throws CommandException {
         CollectionUtil.requireAllNonNull(model, shiftToEdit, editedShift);
-        List<Assignment> fullAssignmentList = model.getFullAssignmentList();
+        List<Assignment> assignmentsOfShift = model.getAssignmentsOfShift(shiftToEdit);
         List<Assignment> assignmentsToDelete = new ArrayList<>();
         List<Assignment> assignmentsToEdit = new ArrayList<>();
         Set<Role> newRoles = editedShift.getRoles();
 
-        for (Assignment assignment : fullAssignmentList) {
-            if (shiftToEdit.isSameShift(assignment.getShift())) {
-                Role assignmentRole = assignment.getRole();
-                if ((!newRoles.contains(assignmentRole) && !Leave.isLeave(assignmentRole))
-                        || assignment.getWorker().isUnavailable(editedShift)) {
-                    // This accounts for the case where the shift no longer has the role specified in the assignment
-                    assignmentsToDelete.add(assignment);
-                } else if (shiftToEdit.countRoleQuantityFilled(model, assignmentRole)
-                        > getQuantityRequiredForRole(editedShift, assignmentRole)) {
-                    // This accounts for the case where the quantity needed for a particular role is less than the
-                    // current quantity filled
-                    throw new CommandException(MESSAGE_UNASSIGN_WORKERS);
-                } else {
-                    assignmentsToEdit.add(assignment);
-                }
+        for (Assignment assignment : assignmentsOfShift) {
+            Role assignmentRole = assignment.getRole();
+            if ((!newRoles.contains(assignmentRole) && !Leave.isLeave(assignmentRole))
+                    || assignment.getWorker().isUnavailable(editedShift)) {
+                // This accounts for the case where the shift no longer has the role specified in the assignment
+                assignmentsToDelete.add(assignment);
+            } else if (shiftToEdit.countRoleQuantityFilled(model, assignmentRole)
+                    > getQuantityRequiredForRole(editedShift, assignmentRole)) {
+                // This accounts for the case where the quantity needed for a particular role is less than the
+                // current quantity filled
+                throw new CommandException(MESSAGE_UNASSIGN_WORKERS);
+            } else {
+                assignmentsToEdit.add(assignment);
             }
         }
 
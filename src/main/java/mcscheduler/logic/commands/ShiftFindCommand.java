@@ -25,6 +25,11 @@ public class ShiftFindCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
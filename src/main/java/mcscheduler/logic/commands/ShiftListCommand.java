@@ -13,6 +13,11 @@ public class ShiftListCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Listed all shifts";
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
@@ -0,0 +1,46 @@
+package mcscheduler.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import mcscheduler.logic.stats.CommandStatistics;
+import mcscheduler.model.Model;
+
+/**
+ * Shows how long each command has taken to parse, execute and save since start-up.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each command has taken to run "
+            + "since McScheduler was started.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandStatistics commandStatistics;
+
+    /**
+     * Creates a StatsCommand to show the timings recorded in {@code commandStatistics}.
+     */
+    public StatsCommand(CommandStatistics commandStatistics) {
+        requireNonNull(commandStatistics);
+        this.commandStatistics = commandStatistics;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(commandStatistics.getReport());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && commandStatistics == ((StatsCommand) other).commandStatistics);
+    }
+}
@@ -16,6 +16,7 @@ import mcscheduler.model.Model;
 import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.assignment.WorkerRolePair;
 import mcscheduler.model.role.Leave;
+import mcscheduler.model.scheduling.RosterRepairer;
 import mcscheduler.model.shift.Shift;
 import mcscheduler.model.worker.Worker;
 
@@ -25,12 +26,15 @@ import mcscheduler.model.worker.Worker;
 public class TakeLeaveCommand extends Command {
 
     public static final String COMMAND_WORD = "take-leave";
+    public static final String REPAIR_OPTION = "--repair";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Assigns the specified worker(s) to take leave "
             + "during the specified shift by the index numbers used in the last worker and shift listings. "
             + "\nParameters: "
             + PREFIX_SHIFT + "SHIFT_INDEX (must be a positive integer) "
-            + PREFIX_WORKER + "WORKER_INDEX (must be a positive integer)...\n"
+            + PREFIX_WORKER + "WORKER_INDEX (must be a positive integer)... "
+            + "[" + REPAIR_OPTION + "]\n"
+            + "With " + REPAIR_OPTION + ", replacements are proposed for the roles given up.\n"
             + "Example: " + COMMAND_WORD
             + " s/4 "
             + "w/1 "
@@ -42,6 +46,7 @@ public class TakeLeaveCommand extends Command {
 
     private final Index shiftIndex;
     private final Set<Index> workerIndexes;
+    private final boolean isRepairing;
 
     /**
      * Creates a TakeLeaveCommand to assign
@@ -49,10 +54,21 @@ public class TakeLeaveCommand extends Command {
      * @param workerIndexes of the worker(s) in the filtered worker list who are taking leave.
      */
     public TakeLeaveCommand(Index shiftIndex, Set<Index> workerIndexes) {
+        this(shiftIndex, workerIndexes, false);
+    }
+
+    /**
+     * Creates a TakeLeaveCommand to assign
+     * @param shiftIndex of the shift in the filtered shift list to assign the leave to.
+     * @param workerIndexes of the worker(s) in the filtered worker list who are taking leave.
+     * @param isRepairing whether to propose replacements for the roles the workers give up.
+     */
+    public TakeLeaveCommand(Index shiftIndex, Set<Index> workerIndexes, boolean isRepairing) {
         CollectionUtil.requireAllNonNull(shiftIndex, workerIndexes);
 
         this.shiftIndex = shiftIndex;
         this.workerIndexes = workerIndexes;
+        this.isRepairing = isRepairing;
     }
 
     @Override
@@ -71,7 +87,13 @@ public class TakeLeaveCommand extends Command {
                     .execute(model);
         }
         List<String> reassignCommandResultMessages = new ArrayList<>();
+        List<Assignment> vacatedAssignments = new ArrayList<>();
+        Shift shift = model.getFilteredShiftList().get(shiftIndex.getZeroBased());
         for (Index workerIndex : workerToReplaceAssignmentIndexes) {
+            if (isRepairing) {
+                Worker worker = model.getFilteredWorkerList().get(workerIndex.getZeroBased());
+                model.getAssignment(new Assignment(shift, worker)).ifPresent(vacatedAssignments::add);
+            }
             reassignCommandResultMessages.add(new ReassignCommand(
                     workerIndex, workerIndex, shiftIndex, shiftIndex, new Leave()).execute(model).getFeedbackToUser());
         }
@@ -79,9 +101,14 @@ public class TakeLeaveCommand extends Command {
                 .stream()
                 .reduce("", (str1, str2) -> str1 + "\n" + str2);
 
-        return new CommandResult(MESSAGE_TAKE_LEAVE_SUCCESS_PREFIX
+        String feedbackToUser = MESSAGE_TAKE_LEAVE_SUCCESS_PREFIX
                 + assignCommandResult.getFeedbackToUser()
-                + compiledReassignMessages);
+                + compiledReassignMessages;
+        if (!isRepairing || vacatedAssignments.isEmpty()) {
+            return new CommandResult(feedbackToUser);
+        }
+        return AcceptRepairCommand.proposeRepair(feedbackToUser,
+                new RosterRepairer(model).repair(vacatedAssignments), model.getMcSchedulerGeneration());
     }
 
     private void separateWorkerIndexes(List<WorkerRolePair> workerToTakeLeavePairs,
@@ -115,20 +142,14 @@ public class TakeLeaveCommand extends Command {
     private void checkWorkerAlreadyOnLeave(Model model, Index shiftIndex) throws CommandException {
         List<Worker> lastShownWorkerList = model.getFilteredWorkerList();
         List<Shift> lastShownShiftList = model.getFilteredShiftList();
-        List<Assignment> assignmentList = model.getFullAssignmentList();
 
         for (Index workerIndex : workerIndexes) {
             Worker worker = lastShownWorkerList.get(workerIndex.getZeroBased());
             Shift shift = lastShownShiftList.get(shiftIndex.getZeroBased());
-            for (Assignment assignment : assignmentList) {
-                if (!assignment.getWorker().isSameWorker(worker) || !assignment.getShift().isSameShift(shift)) {
-                    continue;
-                }
-                if (Leave.isLeave(assignment.getRole())) {
-                    throw new CommandException(
-                            String.format(MESSAGE_WORKER_ALREADY_ON_LEAVE, worker.getName(),
-                                    workerIndex.getOneBased()));
-                }
+            if (CommandUtil.hasLeaveAssignment(model, new Assignment(shift, worker))) {
+                throw new CommandException(
+                        String.format(MESSAGE_WORKER_ALREADY_ON_LEAVE, worker.getName(),
+                                workerIndex.getOneBased()));
             }
         }
     }
@@ -147,7 +168,8 @@ public class TakeLeaveCommand extends Command {
 
         TakeLeaveCommand c = (TakeLeaveCommand) other;
         return shiftIndex.equals(c.shiftIndex)
-                && workerIndexes.equals(c.workerIndexes);
+                && workerIndexes.equals(c.workerIndexes)
+                && isRepairing == c.isRepairing;
     }
 
 }
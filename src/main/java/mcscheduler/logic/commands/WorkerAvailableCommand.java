@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static mcscheduler.logic.parser.CliSyntax.PREFIX_ROLE;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import javafx.util.Pair;
@@ -11,7 +12,6 @@ import mcscheduler.commons.core.Messages;
 import mcscheduler.commons.core.index.Index;
 import mcscheduler.logic.commands.exceptions.CommandException;
 import mcscheduler.model.Model;
-import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.role.Role;
 import mcscheduler.model.shift.Shift;
 import mcscheduler.model.worker.Worker;
@@ -52,6 +52,11 @@ public class WorkerAvailableCommand extends Command {
         this.role = role;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -85,43 +90,34 @@ public class WorkerAvailableCommand extends Command {
                         printableListOfAvailableWorkers));
     }
 
+    /**
+     * Returns the shown workers who can be assigned to {@code selectedShift}, paired with their index in the shown
+     * worker list.
+     */
     private List<Pair<Worker, Index>> findAvailableWorkers(Model model, Shift selectedShift) {
         List<Pair<Worker, Index>> availableWorkers = new ArrayList<>();
-
+        BitSet availablePositions = model.getAvailableWorkers(selectedShift, role);
+        List<Worker> allWorkers = model.getMcScheduler().getWorkerList();
         List<Worker> lastShownWorkerList = model.getFilteredWorkerList();
-        List<Assignment> fullAssignmentList = model.getFullAssignmentList();
-
-        List<Assignment> assignmentsForSelectedShift = new ArrayList<>();
 
-        for (Assignment assignment : fullAssignmentList) {
-            if (selectedShift.equals(assignment.getShift())) {
-                assignmentsForSelectedShift.add(assignment);
+        if (lastShownWorkerList.size() == allWorkers.size()) {
+            // Every worker is shown, so the shown index of each worker is its position in the worker list
+            for (int i = availablePositions.nextSetBit(0); i >= 0; i = availablePositions.nextSetBit(i + 1)) {
+                availableWorkers.add(new Pair<>(lastShownWorkerList.get(i), Index.fromZeroBased(i)));
             }
+            return availableWorkers;
         }
 
-        for (int i = 0; i < lastShownWorkerList.size(); i++) {
-            Worker worker = lastShownWorkerList.get(i);
-            if (checkIfWorkerAlreadyAssigned(assignmentsForSelectedShift, worker) || !worker.isFitForRole(this.role)) {
-                continue;
-            }
-
-            if (!worker.isUnavailable(selectedShift)) {
-                Index currentIndex = Index.fromZeroBased(i);
-                availableWorkers.add(new Pair<>(worker, currentIndex));
+        for (int shownIndex = 0; shownIndex < lastShownWorkerList.size(); shownIndex++) {
+            Worker worker = lastShownWorkerList.get(shownIndex);
+            int position = model.getWorkerPosition(worker);
+            if (position >= 0 && availablePositions.get(position)) {
+                availableWorkers.add(new Pair<>(worker, Index.fromZeroBased(shownIndex)));
             }
         }
         return availableWorkers;
     }
 
-    private boolean checkIfWorkerAlreadyAssigned(List<Assignment> assignmentList, Worker worker) {
-        for (Assignment assignment : assignmentList) {
-            if (worker.equals(assignment.getWorker())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private String printListOfAvailableWorkers(List<Pair<Worker, Index>> availableWorkers) {
         String output = "";
         for (Pair<Worker, Index> pair : availableWorkers) {
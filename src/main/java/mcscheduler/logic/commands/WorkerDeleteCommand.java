@@ -2,7 +2,6 @@ package mcscheduler.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import mcscheduler.commons.core.index.Index;
@@ -43,23 +42,20 @@ public class WorkerDeleteCommand extends Command {
         }
 
         Worker workerToDelete = lastShownList.get(targetIndex.getZeroBased());
-        deleteWorkerFromAssignments(model, workerToDelete);
-        model.deleteWorker(workerToDelete);
+        model.beginBatch();
+        try {
+            deleteWorkerFromAssignments(model, workerToDelete);
+            model.deleteWorker(workerToDelete);
+        } finally {
+            model.commit();
+        }
 
         return new CommandResult(String.format(MESSAGE_DELETE_WORKER_SUCCESS, workerToDelete));
     }
 
     private void deleteWorkerFromAssignments(Model model, Worker workerToDelete) {
         CollectionUtil.requireAllNonNull(model, workerToDelete);
-        List<Assignment> fullAssignmentList = model.getFullAssignmentList();
-        List<Assignment> assignmentsToDelete = new ArrayList<>();
-
-        for (Assignment assignment : fullAssignmentList) {
-            if (workerToDelete.isSameWorker(assignment.getWorker())) {
-                assignmentsToDelete.add(assignment);
-            }
-        }
-
+        List<Assignment> assignmentsToDelete = model.getAssignmentsOfWorker(workerToDelete);
         assignmentsToDelete.forEach(model::deleteAssignment);
     }
 
@@ -94,9 +94,14 @@ public class WorkerEditCommand extends Command {
             }
         }
 
-        editWorkerInAssignments(model, workerToEdit, editedWorker);
-        model.setWorker(workerToEdit, editedWorker);
-        model.updateFilteredWorkerList(PREDICATE_SHOW_ALL_WORKERS);
+        model.beginBatch();
+        try {
+            editWorkerInAssignments(model, workerToEdit, editedWorker);
+            model.setWorker(workerToEdit, editedWorker);
+            model.updateFilteredWorkerList(PREDICATE_SHOW_ALL_WORKERS);
+        } finally {
+            model.commit();
+        }
 
         return new CommandResult(String.format(MESSAGE_EDIT_WORKER_SUCCESS, editedWorker));
     }
@@ -121,18 +126,16 @@ public class WorkerEditCommand extends Command {
 
     private void editWorkerInAssignments(Model model, Worker workerToEdit, Worker editedWorker) {
         CollectionUtil.requireAllNonNull(model, workerToEdit, editedWorker);
-        List<Assignment> fullAssignmentList = model.getFullAssignmentList();
+        List<Assignment> assignmentsOfWorker = model.getAssignmentsOfWorker(workerToEdit);
         List<Assignment> assignmentsToDelete = new ArrayList<>();
         List<Assignment> assignmentsToEdit = new ArrayList<>();
 
-        for (Assignment assignment : fullAssignmentList) {
-            if (workerToEdit.isSameWorker(assignment.getWorker())) {
-                Role assignedRole = assignment.getRole();
-                if (!editedWorker.isFitForRole(assignedRole) || editedWorker.isUnavailable(assignment.getShift())) {
-                    assignmentsToDelete.add(assignment);
-                } else {
-                    assignmentsToEdit.add(assignment);
-                }
+        for (Assignment assignment : assignmentsOfWorker) {
+            Role assignedRole = assignment.getRole();
+            if (!editedWorker.isFitForRole(assignedRole) || editedWorker.isUnavailable(assignment.getShift())) {
+                assignmentsToDelete.add(assignment);
+            } else {
+                assignmentsToEdit.add(assignment);
             }
         }
 
@@ -15,6 +15,11 @@ public class WorkerListCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Listed all workers";
 
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
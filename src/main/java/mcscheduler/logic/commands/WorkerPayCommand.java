@@ -32,6 +32,11 @@ public class WorkerPayCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
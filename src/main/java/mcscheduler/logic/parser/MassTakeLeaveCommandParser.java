@@ -5,10 +5,13 @@ import static mcscheduler.logic.parser.CliSyntax.PREFIX_SHIFT_DAY;
 import static mcscheduler.logic.parser.CliSyntax.PREFIX_SHIFT_TIME;
 import static mcscheduler.logic.parser.CliSyntax.PREFIX_WORKER;
 
+import java.util.Optional;
+
 import mcscheduler.commons.core.Messages;
 import mcscheduler.commons.core.index.Index;
 import mcscheduler.commons.exceptions.IllegalValueException;
 import mcscheduler.logic.commands.MassTakeLeaveCommand;
+import mcscheduler.logic.commands.TakeLeaveCommand;
 import mcscheduler.logic.parser.exceptions.ParseException;
 import mcscheduler.model.shift.ShiftDay;
 import mcscheduler.model.shift.ShiftTime;
@@ -23,7 +26,9 @@ public class MassTakeLeaveCommandParser implements Parser<MassTakeLeaveCommand>
      */
     public MassTakeLeaveCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args,
+        Optional<String> argsWithoutOption = ParserUtil.removeTrailingOption(args, TakeLeaveCommand.REPAIR_OPTION);
+        boolean isRepairing = argsWithoutOption.isPresent();
+        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(argsWithoutOption.orElse(args),
                 PREFIX_WORKER, PREFIX_SHIFT_DAY, PREFIX_SHIFT_TIME);
 
         if (!ParserUtil.arePrefixesPresent(argumentMultimap, PREFIX_WORKER, PREFIX_SHIFT_DAY, PREFIX_SHIFT_TIME)) {
@@ -53,7 +58,7 @@ public class MassTakeLeaveCommandParser implements Parser<MassTakeLeaveCommand>
                     ive.getMessage() + MassTakeLeaveCommand.MESSAGE_USAGE), ive);
         }
 
-        return new MassTakeLeaveCommand(workerIndex, startDay, startTime, endDay, endTime);
+        return new MassTakeLeaveCommand(workerIndex, startDay, startTime, endDay, endTime, isRepairing);
     }
 
 }
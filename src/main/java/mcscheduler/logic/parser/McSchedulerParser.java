@@ -1,10 +1,13 @@
 package mcscheduler.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import mcscheduler.commons.core.Messages;
 import mcscheduler.logic.commands.AssignCommand;
+import mcscheduler.logic.commands.AutoAssignCommand;
 import mcscheduler.logic.commands.CancelLeaveCommand;
 import mcscheduler.logic.commands.ClearCommand;
 import mcscheduler.logic.commands.Command;
@@ -12,15 +15,18 @@ import mcscheduler.logic.commands.ExitCommand;
 import mcscheduler.logic.commands.HelpCommand;
 import mcscheduler.logic.commands.MassCancelLeaveCommand;
 import mcscheduler.logic.commands.MassTakeLeaveCommand;
+import mcscheduler.logic.commands.OptimizeCommand;
 import mcscheduler.logic.commands.ReassignCommand;
 import mcscheduler.logic.commands.RoleAddCommand;
 import mcscheduler.logic.commands.RoleDeleteCommand;
 import mcscheduler.logic.commands.RoleEditCommand;
+import mcscheduler.logic.commands.RunScriptCommand;
 import mcscheduler.logic.commands.ShiftAddCommand;
 import mcscheduler.logic.commands.ShiftDeleteCommand;
 import mcscheduler.logic.commands.ShiftEditCommand;
 import mcscheduler.logic.commands.ShiftFindCommand;
 import mcscheduler.logic.commands.ShiftListCommand;
+import mcscheduler.logic.commands.StatsCommand;
 import mcscheduler.logic.commands.TakeLeaveCommand;
 import mcscheduler.logic.commands.UnassignCommand;
 import mcscheduler.logic.commands.WorkerAddCommand;
@@ -31,6 +37,7 @@ import mcscheduler.logic.commands.WorkerFindCommand;
 import mcscheduler.logic.commands.WorkerListCommand;
 import mcscheduler.logic.commands.WorkerPayCommand;
 import mcscheduler.logic.parser.exceptions.ParseException;
+import mcscheduler.logic.stats.CommandStatistics;
 import mcscheduler.model.shift.ShiftFindCommandParser;
 
 /**
@@ -42,6 +49,24 @@ public class McSchedulerParser {
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+    private final CommandStatistics commandStatistics;
+
+    /**
+     * Creates a parser whose {@code stats} command shows the timings recorded in {@code commandStatistics}.
+     */
+    public McSchedulerParser(CommandStatistics commandStatistics) {
+        requireNonNull(commandStatistics);
+        this.commandStatistics = commandStatistics;
+    }
+
+    /**
+     * Creates a parser whose {@code stats} command shows no timings.
+     */
+    public McSchedulerParser() {
+        this(new CommandStatistics());
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -65,6 +90,16 @@ public class McSchedulerParser {
         case AssignCommand.COMMAND_WORD:
             return new AssignCommandParser().parse(arguments);
 
+        case AutoAssignCommand.COMMAND_WORD:
+            if (!arguments.trim().equals("")) {
+                throw new ParseException(String.format(Messages.MESSAGE_UNEXPECTED_ARGUMENT,
+                        AutoAssignCommand.COMMAND_WORD, arguments.trim()));
+            }
+            return new AutoAssignCommand();
+
+        case OptimizeCommand.COMMAND_WORD:
+            return new OptimizeCommandParser().parse(arguments);
+
         case WorkerEditCommand.COMMAND_WORD:
             return new WorkerEditCommandParser().parse(arguments);
 
@@ -154,6 +189,16 @@ public class McSchedulerParser {
         case WorkerPayCommand.COMMAND_WORD:
             return new WorkerPayCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            if (!arguments.trim().equals("")) {
+                throw new ParseException(String.format(Messages.MESSAGE_UNEXPECTED_ARGUMENT,
+                        StatsCommand.COMMAND_WORD, arguments.trim()));
+            }
+            return new StatsCommand(commandStatistics);
+
+        case RunScriptCommand.COMMAND_WORD:
+            return new RunScriptCommandParser(this).parse(arguments);
+
         default:
             throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,28 @@
+package mcscheduler.logic.parser;
+
+import static mcscheduler.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import mcscheduler.logic.commands.OptimizeCommand;
+import mcscheduler.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new OptimizeCommand object
+ */
+public class OptimizeCommandParser implements Parser<OptimizeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the OptimizeCommand
+     * and returns an OptimizeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public OptimizeCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new OptimizeCommand(false);
+        }
+        if (trimmedArgs.equals(OptimizeCommand.APPLY_OPTION)) {
+            return new OptimizeCommand(true);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, OptimizeCommand.MESSAGE_USAGE));
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -51,6 +52,21 @@ public class ParserUtil {
         return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isEmpty());
     }
 
+    /**
+     * Returns {@code args} without {@code option} if {@code option} is its last whitespace-separated token, or an
+     * empty {@code Optional} if it is not. The rest of {@code args} is returned as it was, leading whitespace included.
+     */
+    public static Optional<String> removeTrailingOption(String args, String option) {
+        requireNonNull(args);
+        requireNonNull(option);
+        String[] tokens = args.trim().split("\\s+");
+        if (!tokens[tokens.length - 1].equals(option)) {
+            return Optional.empty();
+        }
+        String trimmedArgs = args.stripTrailing();
+        return Optional.of(trimmedArgs.substring(0, trimmedArgs.length() - option.length()));
+    }
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
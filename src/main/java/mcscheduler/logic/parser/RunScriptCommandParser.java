@@ -0,0 +1,44 @@
+package mcscheduler.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static mcscheduler.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import mcscheduler.commons.util.FileUtil;
+import mcscheduler.logic.commands.RunScriptCommand;
+import mcscheduler.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunScriptCommand object
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    private final McSchedulerParser mcSchedulerParser;
+
+    /**
+     * Creates a parser of RunScriptCommands whose scripts are parsed with {@code mcSchedulerParser}.
+     */
+    public RunScriptCommandParser(McSchedulerParser mcSchedulerParser) {
+        requireNonNull(mcSchedulerParser);
+        this.mcSchedulerParser = mcSchedulerParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunScriptCommand
+     * and returns a RunScriptCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunScriptCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        Optional<String> argsWithoutOption = ParserUtil.removeTrailingOption(args, RunScriptCommand.ROLLBACK_OPTION);
+        boolean isRollbackOnFailure = argsWithoutOption.isPresent();
+        String trimmedArgs = argsWithoutOption.orElse(args).trim();
+
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+        return new RunScriptCommand(Paths.get(trimmedArgs), isRollbackOnFailure, mcSchedulerParser);
+    }
+}
@@ -5,6 +5,7 @@ import static mcscheduler.logic.parser.CliSyntax.PREFIX_SHIFT;
 import static mcscheduler.logic.parser.CliSyntax.PREFIX_WORKER;
 import static mcscheduler.logic.parser.ParserUtil.arePrefixesPresent;
 
+import java.util.Optional;
 import java.util.Set;
 
 import mcscheduler.commons.core.Messages;
@@ -26,7 +27,9 @@ public class TakeLeaveCommandParser implements Parser<TakeLeaveCommand> {
      */
     public TakeLeaveCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args,
+        Optional<String> argsWithoutOption = ParserUtil.removeTrailingOption(args, TakeLeaveCommand.REPAIR_OPTION);
+        boolean isRepairing = argsWithoutOption.isPresent();
+        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(argsWithoutOption.orElse(args),
                 PREFIX_SHIFT, PREFIX_WORKER);
 
         if (!arePrefixesPresent(argumentMultimap, PREFIX_SHIFT, PREFIX_WORKER)) {
@@ -44,6 +47,6 @@ public class TakeLeaveCommandParser implements Parser<TakeLeaveCommand> {
                     ive.getMessage() + TakeLeaveCommand.MESSAGE_USAGE, ive));
         }
 
-        return new TakeLeaveCommand(shiftIndex, workerIndexes);
+        return new TakeLeaveCommand(shiftIndex, workerIndexes, isRepairing);
     }
 }
@@ -0,0 +1,158 @@
+package mcscheduler.logic.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import mcscheduler.commons.util.FileUtil;
+
+/**
+ * Records how long each command takes to parse, execute and save, and how many bytes it allocates, grouped by the
+ * command word it was entered with. All methods are thread-safe.
+ */
+public class CommandStatistics {
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been executed yet.";
+    public static final String MESSAGE_HEADER = "Command statistics since start-up "
+            + "(p50 / p90 / p99 / max, latencies in microseconds):";
+
+    /** Returned by {@link #getCurrentThreadAllocatedBytes()} when the JVM does not measure allocations. */
+    public static final long UNMEASURED = -1;
+
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99};
+
+    // Guarded by this
+    private final Map<String, CommandTimings> timings = new TreeMap<>();
+
+    /**
+     * Records a run of the command entered with {@code commandWord}. {@code allocatedBytes} may be
+     * {@link #UNMEASURED}.
+     */
+    public void record(String commandWord, long parseNanos, long executeNanos, long saveNanos, long allocatedBytes) {
+        requireNonNull(commandWord);
+        CommandTimings commandTimings;
+        synchronized (this) {
+            commandTimings = timings.computeIfAbsent(commandWord, unused -> new CommandTimings());
+        }
+        commandTimings.parseNanos.record(parseNanos);
+        commandTimings.executeNanos.record(executeNanos);
+        commandTimings.saveNanos.record(saveNanos);
+        if (allocatedBytes != UNMEASURED) {
+            commandTimings.allocatedBytes.record(allocatedBytes);
+        }
+    }
+
+    /**
+     * Returns the timings recorded so far for each command word, sorted by command word.
+     */
+    public synchronized Map<String, CommandTimings> getTimings() {
+        return Collections.unmodifiableMap(new TreeMap<>(timings));
+    }
+
+    /**
+     * Returns the number of commands recorded so far.
+     */
+    public long getCommandCount() {
+        return getTimings().values().stream().mapToLong(commandTimings -> commandTimings.parseNanos.getTotalCount())
+                .sum();
+    }
+
+    /**
+     * Returns a human-readable summary of the timings recorded so far.
+     */
+    public String getReport() {
+        Map<String, CommandTimings> timingsToReport = getTimings();
+        if (timingsToReport.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder report = new StringBuilder(MESSAGE_HEADER);
+        timingsToReport.forEach((commandWord, commandTimings) -> {
+            report.append("\n").append(commandWord)
+                    .append(" (").append(commandTimings.parseNanos.getTotalCount()).append(" runs)")
+                    .append("\n  parse: ").append(formatLatencies(commandTimings.parseNanos))
+                    .append("\n  execute: ").append(formatLatencies(commandTimings.executeNanos))
+                    .append("\n  save: ").append(formatLatencies(commandTimings.saveNanos))
+                    .append("\n  allocated bytes: ");
+            if (commandTimings.allocatedBytes.getTotalCount() == 0) {
+                report.append("not measured");
+            } else {
+                report.append(formatPercentiles(commandTimings.allocatedBytes, 1));
+            }
+        });
+        return report.toString();
+    }
+
+    /**
+     * Writes the report of the timings recorded so far to {@code filePath}, replacing any existing file.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void writeReport(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, getReport() + System.lineSeparator());
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread since it started, or {@link #UNMEASURED} if the
+     * JVM does not measure allocations.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMxBean instanceof com.sun.management.ThreadMXBean)) {
+            return UNMEASURED;
+        }
+        com.sun.management.ThreadMXBean allocationMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+        if (!allocationMxBean.isThreadAllocatedMemorySupported()
+                || !allocationMxBean.isThreadAllocatedMemoryEnabled()) {
+            return UNMEASURED;
+        }
+        return allocationMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static String formatLatencies(Histogram nanos) {
+        return formatPercentiles(nanos, TimeUnit.MICROSECONDS.toNanos(1));
+    }
+
+    private static String formatPercentiles(Histogram histogram, long unit) {
+        StringBuilder formatted = new StringBuilder();
+        for (double percentile : REPORTED_PERCENTILES) {
+            formatted.append(histogram.getValueAtPercentile(percentile) / unit).append(" / ");
+        }
+        return formatted.append(histogram.getMax() / unit).toString();
+    }
+
+    /**
+     * The timings recorded for one command word.
+     */
+    public static class CommandTimings {
+        private final Histogram parseNanos = new Histogram();
+        private final Histogram executeNanos = new Histogram();
+        private final Histogram saveNanos = new Histogram();
+        private final Histogram allocatedBytes = new Histogram();
+
+        public Histogram getParseNanos() {
+            return parseNanos;
+        }
+
+        public Histogram getExecuteNanos() {
+            return executeNanos;
+        }
+
+        public Histogram getSaveNanos() {
+            return saveNanos;
+        }
+
+        public Histogram getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
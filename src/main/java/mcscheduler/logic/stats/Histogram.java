@@ -0,0 +1,118 @@
+package mcscheduler.logic.stats;
+
+import static mcscheduler.commons.util.AppUtil.checkArgument;
+
+/**
+ * Counts recorded values in buckets whose width grows with the values they hold, so that every value is counted to
+ * within {@value #RELATIVE_PRECISION_PERCENT}% using a small fixed amount of memory however many values are recorded.
+ *
+ * Values below {@code 2 * SUB_BUCKET_COUNT} are counted exactly. Every larger power of two is split into
+ * {@code SUB_BUCKET_COUNT} equal buckets, as in an HDR histogram. Values above {@link #HIGHEST_TRACKABLE_VALUE} are
+ * counted as that value. All methods are thread-safe.
+ */
+public class Histogram {
+
+    /** Largest value that can be counted, about 2.4 hours in nanoseconds. */
+    public static final long HIGHEST_TRACKABLE_VALUE = (1L << 43) - 1;
+    public static final int RELATIVE_PRECISION_PERCENT = 4;
+
+    public static final String MESSAGE_NEGATIVE_VALUE = "Histograms can only record values of at least 0";
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAXIMUM_SHIFT = getShift(HIGHEST_TRACKABLE_VALUE);
+
+    private final long[] counts = new long[2 * SUB_BUCKET_COUNT + MAXIMUM_SHIFT * SUB_BUCKET_COUNT];
+    private long totalCount;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Counts {@code value}.
+     */
+    public synchronized void record(long value) {
+        checkArgument(value >= 0, MESSAGE_NEGATIVE_VALUE);
+        long trackedValue = Math.min(value, HIGHEST_TRACKABLE_VALUE);
+        counts[getBucketIndex(trackedValue)]++;
+        totalCount++;
+        total += trackedValue;
+        min = Math.min(min, trackedValue);
+        max = Math.max(max, trackedValue);
+    }
+
+    public synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the sum of all values counted.
+     */
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the smallest value counted, or 0 if no value has been counted.
+     */
+    public synchronized long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the values counted, or 0 if no value has been counted.
+     */
+    public synchronized double getMean() {
+        return totalCount == 0 ? 0 : (double) total / totalCount;
+    }
+
+    /**
+     * Returns the value that {@code percentile}% of the values counted are at most, to within the precision of the
+     * histogram, or 0 if no value has been counted.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentiles must be between 0 and 100");
+        if (totalCount == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= countAtPercentile) {
+                return Math.max(min, Math.min(max, getHighestValueInBucket(i)));
+            }
+        }
+        return max;
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = getShift(value);
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return 2 * SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the number of bits to shift {@code value} right by to leave its leading 1 and the next
+     * {@code SUB_BUCKET_BITS} bits.
+     */
+    private static int getShift(long value) {
+        return 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1;
+    }
+
+    private static long getHighestValueInBucket(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - 2 * SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - 2 * SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,183 @@
+package mcscheduler.logic.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import mcscheduler.model.ReadOnlyMcScheduler;
+
+/**
+ * Publishes the size of the McScheduler, how long it takes to save and how many commands are executed.
+ *
+ * The sizes are copied by {@link #updateSizes(ReadOnlyMcScheduler)} on the thread that modifies the McScheduler,
+ * so that JMX threads never read the McScheduler while it is being modified.
+ *
+ * The command rate is counted in one-second buckets over the last minute, so that it follows the current load
+ * instead of averaging over the whole time McScheduler has been running.
+ */
+public class McSchedulerMonitor implements McSchedulerMonitorMBean {
+
+    public static final String OBJECT_NAME = "mcscheduler:type=McSchedulerMonitor";
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int RATE_WINDOW_SECONDS = 60;
+
+    private final CommandStatistics commandStatistics;
+    private final Histogram saveNanos;
+    private final Supplier<Long> lastSaveNanos;
+    private final Path dataFilePath;
+    private final LongSupplier nanoClock;
+
+    // Guarded by this; bucket s % RATE_WINDOW_SECONDS counts the commands of second s, noted in bucketSeconds
+    private final long[] bucketSeconds = new long[RATE_WINDOW_SECONDS];
+    private final long[] bucketCommandCounts = new long[RATE_WINDOW_SECONDS];
+
+    private volatile int workerCount;
+    private volatile int shiftCount;
+    private volatile int assignmentCount;
+    private volatile int roleCount;
+
+    /**
+     * Creates a monitor publishing the commands recorded in {@code commandStatistics}, the saves recorded in
+     * {@code saveNanos} and {@code lastSaveNanos}, and the size of the data file at {@code dataFilePath}.
+     */
+    public McSchedulerMonitor(CommandStatistics commandStatistics, Histogram saveNanos, Supplier<Long> lastSaveNanos,
+            Path dataFilePath) {
+        this(commandStatistics, saveNanos, lastSaveNanos, dataFilePath, System::nanoTime);
+    }
+
+    /**
+     * Creates a monitor as above, timing the command rate with {@code nanoClock} instead of the system clock.
+     */
+    McSchedulerMonitor(CommandStatistics commandStatistics, Histogram saveNanos, Supplier<Long> lastSaveNanos,
+            Path dataFilePath, LongSupplier nanoClock) {
+        requireNonNull(commandStatistics);
+        requireNonNull(saveNanos);
+        requireNonNull(lastSaveNanos);
+        requireNonNull(dataFilePath);
+        requireNonNull(nanoClock);
+        this.commandStatistics = commandStatistics;
+        this.saveNanos = saveNanos;
+        this.lastSaveNanos = lastSaveNanos;
+        this.dataFilePath = dataFilePath;
+        this.nanoClock = nanoClock;
+        Arrays.fill(bucketSeconds, Long.MIN_VALUE);
+    }
+
+    /**
+     * Registers this monitor with the platform MBean server under {@link #OBJECT_NAME}.
+     *
+     * @throws JMException if a monitor is already registered or the registration failed.
+     */
+    public void register() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * Unregisters this monitor from the platform MBean server.
+     *
+     * @throws JMException if this monitor is not registered or the unregistration failed.
+     */
+    public void unregister() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * Counts a command executed now towards the command rate.
+     */
+    public synchronized void recordCommand() {
+        long second = Math.floorDiv(nanoClock.getAsLong(), NANOS_PER_SECOND);
+        int bucket = (int) Math.floorMod(second, (long) RATE_WINDOW_SECONDS);
+        if (bucketSeconds[bucket] != second) {
+            bucketSeconds[bucket] = second;
+            bucketCommandCounts[bucket] = 0;
+        }
+        bucketCommandCounts[bucket]++;
+    }
+
+    /**
+     * Copies the sizes of {@code mcScheduler} to publish.
+     */
+    public void updateSizes(ReadOnlyMcScheduler mcScheduler) {
+        workerCount = mcScheduler.getWorkerList().size();
+        shiftCount = mcScheduler.getShiftList().size();
+        assignmentCount = mcScheduler.getAssignmentList().size();
+        roleCount = mcScheduler.getRoleList().size();
+    }
+
+    @Override
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    @Override
+    public int getShiftCount() {
+        return shiftCount;
+    }
+
+    @Override
+    public int getAssignmentCount() {
+        return assignmentCount;
+    }
+
+    @Override
+    public int getRoleCount() {
+        return roleCount;
+    }
+
+    @Override
+    public long getSaveCount() {
+        return saveNanos.getTotalCount();
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return lastSaveNanos.get() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getAverageSaveMillis() {
+        return saveNanos.getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxSaveMillis() {
+        return saveNanos.getMax() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getDataFileSize() {
+        try {
+            return Files.size(dataFilePath);
+        } catch (IOException ioe) {
+            return -1;
+        }
+    }
+
+    @Override
+    public long getCommandCount() {
+        return commandStatistics.getCommandCount();
+    }
+
+    @Override
+    public synchronized double getCommandsPerMinute() {
+        long second = Math.floorDiv(nanoClock.getAsLong(), NANOS_PER_SECOND);
+        long commandCount = 0;
+        for (int bucket = 0; bucket < RATE_WINDOW_SECONDS; bucket++) {
+            if (bucketSeconds[bucket] > second - RATE_WINDOW_SECONDS && bucketSeconds[bucket] <= second) {
+                commandCount += bucketCommandCounts[bucket];
+            }
+        }
+        return commandCount;
+    }
+}
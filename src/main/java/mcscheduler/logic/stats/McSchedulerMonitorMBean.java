@@ -0,0 +1,33 @@
+package mcscheduler.logic.stats;
+
+/**
+ * The attributes of a running McScheduler published over JMX, for watching it with jconsole or JFR.
+ */
+public interface McSchedulerMonitorMBean {
+
+    int getWorkerCount();
+
+    int getShiftCount();
+
+    int getAssignmentCount();
+
+    int getRoleCount();
+
+    /** Returns the number of successful writes of the data file or its journal. */
+    long getSaveCount();
+
+    double getLastSaveMillis();
+
+    double getAverageSaveMillis();
+
+    double getMaxSaveMillis();
+
+    /** Returns the size of the data file in bytes, or -1 if it cannot be read. */
+    long getDataFileSize();
+
+    /** Returns the number of commands executed since start-up. */
+    long getCommandCount();
+
+    /** Returns the number of commands executed in the last minute. */
+    double getCommandsPerMinute();
+}
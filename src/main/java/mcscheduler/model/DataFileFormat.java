@@ -0,0 +1,35 @@
+package mcscheduler.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * The formats the McScheduler data file can be saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable, for exporting and debugging. */
+    JSON(".json"),
+    /** Compact and fast to load, for everyday use. */
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    DataFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format a data file at {@code filePath} is saved in when no format is given:
+     * {@code JSON} for a {@code .json} file and {@code BINARY} for anything else.
+     */
+    public static DataFileFormat ofFilePath(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().toLowerCase().endsWith(JSON.fileExtension) ? JSON : BINARY;
+    }
+}
@@ -2,18 +2,25 @@ package mcscheduler.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.assignment.AssignmentIndex;
 import mcscheduler.model.assignment.UniqueAssignmentList;
 import mcscheduler.model.role.Role;
+import mcscheduler.model.role.RoleIndex;
 import mcscheduler.model.role.UniqueRoleList;
 import mcscheduler.model.shift.Shift;
 import mcscheduler.model.shift.UniqueShiftList;
 import mcscheduler.model.worker.UniqueWorkerList;
 import mcscheduler.model.worker.Worker;
+import mcscheduler.model.worker.WorkerAvailabilityIndex;
 
 /**
  * Wraps all data at the McScheduler level
@@ -25,6 +32,9 @@ public class McScheduler implements ReadOnlyMcScheduler {
     private final UniqueShiftList shifts;
     private final UniqueAssignmentList assignments;
     private final UniqueRoleList validRoles;
+    private final AssignmentIndex assignmentIndex;
+    private final RoleIndex roleIndex;
+    private final WorkerAvailabilityIndex workerAvailabilityIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -38,6 +48,9 @@ public class McScheduler implements ReadOnlyMcScheduler {
         shifts = new UniqueShiftList();
         assignments = new UniqueAssignmentList();
         validRoles = new UniqueRoleList();
+        assignmentIndex = new AssignmentIndex();
+        roleIndex = new RoleIndex();
+        workerAvailabilityIndex = new WorkerAvailabilityIndex();
     }
 
     public McScheduler() {}
@@ -58,6 +71,8 @@ public class McScheduler implements ReadOnlyMcScheduler {
      */
     public void setWorkers(List<Worker> workers) {
         this.workers.setWorkers(workers);
+        roleIndex.resetWorkers(this.workers);
+        workerAvailabilityIndex.reset(this.workers);
     }
 
     /**
@@ -66,6 +81,7 @@ public class McScheduler implements ReadOnlyMcScheduler {
      */
     public void setShifts(List<Shift> shifts) {
         this.shifts.setShifts(shifts);
+        roleIndex.resetShifts(this.shifts);
     }
 
     /**
@@ -74,6 +90,7 @@ public class McScheduler implements ReadOnlyMcScheduler {
      */
     public void setAssignments(List<Assignment> assignments) {
         this.assignments.setAssignments(assignments);
+        assignmentIndex.reset(this.assignments);
     }
 
     /**
@@ -96,6 +113,27 @@ public class McScheduler implements ReadOnlyMcScheduler {
         setRoles(newData.getRoleList());
     }
 
+    /**
+     * Holds back the change events of every list until the matching {@link #endBatch()}. Batches may be nested.
+     */
+    public void beginBatch() {
+        workers.beginBatch();
+        shifts.beginBatch();
+        assignments.beginBatch();
+        validRoles.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the last {@link #beginBatch()}. If this ends the outermost batch, each list that was
+     * modified during the batch publishes its modifications as one change.
+     */
+    public void endBatch() {
+        workers.endBatch();
+        shifts.endBatch();
+        assignments.endBatch();
+        validRoles.endBatch();
+    }
+
     // worker-level operations
 
     /**
@@ -112,6 +150,8 @@ public class McScheduler implements ReadOnlyMcScheduler {
      */
     public void addWorker(Worker p) {
         workers.add(p);
+        roleIndex.addWorker(p);
+        workerAvailabilityIndex.add(p);
     }
 
     /**
@@ -123,6 +163,19 @@ public class McScheduler implements ReadOnlyMcScheduler {
         requireNonNull(editedWorker);
 
         workers.setWorker(target, editedWorker);
+        roleIndex.setWorker(target, editedWorker);
+        workerAvailabilityIndex.set(target, editedWorker);
+    }
+
+    /**
+     * Replaces each worker in the McScheduler that is a key of {@code editedWorkers} with the worker it maps to.
+     * Every key must exist in the McScheduler.
+     * The worker identity of each edited worker must not be the same as another existing worker in the McScheduler.
+     */
+    public void replaceWorkers(Map<Worker, Worker> editedWorkers) {
+        workers.replaceAll(editedWorkers);
+        editedWorkers.forEach(roleIndex::setWorker);
+        editedWorkers.forEach(workerAvailabilityIndex::set);
     }
 
     /**
@@ -131,6 +184,15 @@ public class McScheduler implements ReadOnlyMcScheduler {
      */
     public void removeWorker(Worker key) {
         workers.remove(key);
+        roleIndex.removeWorker(key);
+        workerAvailabilityIndex.remove(key);
+    }
+
+    /**
+     * Returns the workers that can fill a role equal to {@code role}.
+     */
+    public List<Worker> getWorkersWithRole(Role role) {
+        return roleIndex.getWorkersWithRole(role);
     }
 
     // shift-level methods
@@ -157,6 +219,7 @@ public class McScheduler implements ReadOnlyMcScheduler {
      */
     public void addShift(Shift shift) {
         shifts.add(shift);
+        roleIndex.addShift(shift);
     }
 
     /**
@@ -167,6 +230,17 @@ public class McScheduler implements ReadOnlyMcScheduler {
     public void setShift(Shift target, Shift editedShift) {
         requireNonNull(editedShift);
         shifts.setShift(target, editedShift);
+        roleIndex.setShift(target, editedShift);
+    }
+
+    /**
+     * Replaces each shift in the App that is a key of {@code editedShifts} with the shift it maps to.
+     * Every key must exist in the App.
+     * The shift identity of each edited shift must not be the same as another existing shift in the App.
+     */
+    public void replaceShifts(Map<Shift, Shift> editedShifts) {
+        shifts.replaceAll(editedShifts);
+        editedShifts.forEach(roleIndex::setShift);
     }
 
     /**
@@ -175,6 +249,14 @@ public class McScheduler implements ReadOnlyMcScheduler {
      */
     public void removeShift(Shift key) {
         shifts.remove(key);
+        roleIndex.removeShift(key);
+    }
+
+    /**
+     * Returns the shifts that require a role equal to {@code role}.
+     */
+    public List<Shift> getShiftsWithRole(Role role) {
+        return roleIndex.getShiftsWithRole(role);
     }
 
     // assignment-level operations
@@ -193,6 +275,7 @@ public class McScheduler implements ReadOnlyMcScheduler {
      */
     public void addAssignment(Assignment p) {
         assignments.add(p);
+        assignmentIndex.add(p);
     }
 
     /**
@@ -204,7 +287,26 @@ public class McScheduler implements ReadOnlyMcScheduler {
     public void setAssignment(Assignment target, Assignment editedAssignment) {
         requireNonNull(editedAssignment);
 
+        Optional<Assignment> storedTarget = assignments.getAssignment(target);
         assignments.setAssignment(target, editedAssignment);
+        assignmentIndex.set(storedTarget.get(), editedAssignment);
+    }
+
+    /**
+     * Replaces each assignment in the McScheduler that is a key of {@code editedAssignments} with the assignment it
+     * maps to.
+     * Every key must exist in the McScheduler.
+     * The assignment identity of each edited assignment must not be the same as another existing assignment in the
+     * McScheduler, nor as another edited assignment.
+     */
+    public void replaceAssignments(Map<Assignment, Assignment> editedAssignments) {
+        requireNonNull(editedAssignments);
+
+        List<Assignment> storedTargets = new ArrayList<>(editedAssignments.size());
+        editedAssignments.keySet().forEach(target -> assignments.getAssignment(target).ifPresent(storedTargets::add));
+        assignments.replaceAll(editedAssignments);
+        storedTargets.forEach(assignmentIndex::remove);
+        editedAssignments.values().forEach(assignmentIndex::add);
     }
 
     /**
@@ -212,7 +314,22 @@ public class McScheduler implements ReadOnlyMcScheduler {
      * {@code key} must exist in the McScheduler.
      */
     public void removeAssignment(Assignment key) {
+        Optional<Assignment> storedKey = assignments.getAssignment(key);
         assignments.remove(key);
+        assignmentIndex.remove(storedKey.get());
+    }
+
+    /**
+     * Removes every assignment in {@code keys} from this {@code McScheduler}.
+     * Every key must exist in the McScheduler.
+     */
+    public void removeAssignments(Collection<Assignment> keys) {
+        requireNonNull(keys);
+
+        List<Assignment> storedKeys = new ArrayList<>(keys.size());
+        keys.forEach(key -> assignments.getAssignment(key).ifPresent(storedKeys::add));
+        assignments.removeAll(keys);
+        storedKeys.forEach(assignmentIndex::remove);
     }
 
     /**
@@ -224,6 +341,52 @@ public class McScheduler implements ReadOnlyMcScheduler {
         return assignments.getAssignment(toGet);
     }
 
+    /**
+     * Returns the assignments of the worker with the same identity as {@code worker}.
+     */
+    public List<Assignment> getAssignmentsOfWorker(Worker worker) {
+        return assignmentIndex.getAssignmentsOfWorker(worker);
+    }
+
+    /**
+     * Returns the assignments of the shift with the same identity as {@code shift}.
+     */
+    public List<Assignment> getAssignmentsOfShift(Shift shift) {
+        return assignmentIndex.getAssignmentsOfShift(shift);
+    }
+
+    /**
+     * Returns the assignments with a role equal to {@code role}.
+     */
+    public List<Assignment> getAssignmentsWithRole(Role role) {
+        return assignmentIndex.getAssignmentsWithRole(role);
+    }
+
+    /**
+     * Returns the position in the worker list of the worker with the same identity as {@code worker}, or -1 if
+     * there is no such worker.
+     */
+    public int getWorkerPosition(Worker worker) {
+        return workerAvailabilityIndex.indexOf(worker);
+    }
+
+    /**
+     * Returns the positions in the worker list of the workers who can be assigned to {@code shift} as {@code role}:
+     * those fit for the role and available at the time of the shift, who are not yet assigned to the shift.
+     */
+    public BitSet getAvailableWorkers(Shift shift, Role role) {
+        BitSet availableWorkers = workerAvailabilityIndex.getAvailableWorkers(role, shift.getSlot());
+        BitSet assignedWorkers = new BitSet();
+        for (Assignment assignment : assignmentIndex.getAssignmentsOfShift(shift)) {
+            int position = workerAvailabilityIndex.indexOf(assignment.getWorker());
+            if (position >= 0) {
+                assignedWorkers.set(position);
+            }
+        }
+        availableWorkers.andNot(assignedWorkers);
+        return availableWorkers;
+    }
+
     // role-level operations
 
     /**
@@ -0,0 +1,180 @@
+package mcscheduler.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.worker.Worker;
+
+/**
+ * Represents a single modification of the McScheduler data made through the {@code Model}: adding, editing or
+ * removing one worker, shift, assignment or role, or replacing all of the data at once.
+ * Guarantees: immutable; entities are all of the same supported type.
+ */
+public class McSchedulerChange {
+
+    /**
+     * The kinds of modification.
+     */
+    public enum Type {
+        ADD, EDIT, REMOVE, RESET
+    }
+
+    private final Type type;
+    private final Object target;
+    private final Object editedTarget;
+
+    private McSchedulerChange(Type type, Object target, Object editedTarget) {
+        this.type = type;
+        this.target = target;
+        this.editedTarget = editedTarget;
+    }
+
+    /**
+     * Returns a change adding {@code entity}, which must be a worker, shift, assignment or role.
+     */
+    public static McSchedulerChange add(Object entity) {
+        requireSupportedEntity(entity);
+        return new McSchedulerChange(Type.ADD, entity, null);
+    }
+
+    /**
+     * Returns a change replacing {@code target} with {@code editedTarget}, which must be of the same supported type.
+     */
+    public static McSchedulerChange edit(Object target, Object editedTarget) {
+        requireSupportedEntity(target);
+        requireSupportedEntity(editedTarget);
+        assert target.getClass().equals(editedTarget.getClass())
+                || (target instanceof Role && editedTarget instanceof Role);
+        return new McSchedulerChange(Type.EDIT, target, editedTarget);
+    }
+
+    /**
+     * Returns a change removing {@code entity}, which must be a worker, shift, assignment or role.
+     */
+    public static McSchedulerChange remove(Object entity) {
+        requireSupportedEntity(entity);
+        return new McSchedulerChange(Type.REMOVE, entity, null);
+    }
+
+    /**
+     * Returns a change replacing all of the McScheduler data.
+     */
+    public static McSchedulerChange reset() {
+        return new McSchedulerChange(Type.RESET, null, null);
+    }
+
+    /**
+     * Returns true if {@code entity} is a worker, shift, assignment or role.
+     */
+    public static boolean isSupportedEntity(Object entity) {
+        return entity instanceof Worker || entity instanceof Shift || entity instanceof Assignment
+                || entity instanceof Role;
+    }
+
+    private static void requireSupportedEntity(Object entity) {
+        requireNonNull(entity);
+        if (!isSupportedEntity(entity)) {
+            throw new IllegalArgumentException("Unsupported McScheduler entity: " + entity.getClass().getName());
+        }
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the entity added, removed or edited, or null for a {@code RESET}.
+     */
+    public Object getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the entity replacing the target of an {@code EDIT}, or null for any other type of change.
+     */
+    public Object getEditedTarget() {
+        return editedTarget;
+    }
+
+    /**
+     * Makes the same modification to {@code model}.
+     * A {@code RESET} cannot be applied as it does not carry the new data.
+     *
+     * @throws UnsupportedOperationException if this is a {@code RESET}.
+     */
+    public void applyTo(Model model) {
+        requireNonNull(model);
+        switch (type) {
+        case ADD:
+            applyAdd(model);
+            break;
+        case EDIT:
+            applyEdit(model);
+            break;
+        case REMOVE:
+            applyRemove(model);
+            break;
+        default:
+            throw new UnsupportedOperationException("A reset of the McScheduler data cannot be replayed");
+        }
+    }
+
+    private void applyAdd(Model model) {
+        if (target instanceof Worker) {
+            model.addWorker((Worker) target);
+        } else if (target instanceof Shift) {
+            model.addShift((Shift) target);
+        } else if (target instanceof Assignment) {
+            model.addAssignment((Assignment) target);
+        } else {
+            model.addRole((Role) target);
+        }
+    }
+
+    private void applyEdit(Model model) {
+        if (target instanceof Worker) {
+            model.setWorker((Worker) target, (Worker) editedTarget);
+        } else if (target instanceof Shift) {
+            model.setShift((Shift) target, (Shift) editedTarget);
+        } else if (target instanceof Assignment) {
+            model.setAssignment((Assignment) target, (Assignment) editedTarget);
+        } else {
+            model.setRole((Role) target, (Role) editedTarget);
+        }
+    }
+
+    private void applyRemove(Model model) {
+        if (target instanceof Worker) {
+            model.deleteWorker((Worker) target);
+        } else if (target instanceof Shift) {
+            model.deleteShift((Shift) target);
+        } else if (target instanceof Assignment) {
+            model.deleteAssignment((Assignment) target);
+        } else {
+            model.deleteRole((Role) target);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof McSchedulerChange // instanceof handles nulls
+                && type == ((McSchedulerChange) other).type
+                && Objects.equals(target, ((McSchedulerChange) other).target)
+                && Objects.equals(editedTarget, ((McSchedulerChange) other).editedTarget));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, editedTarget);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + target + (editedTarget == null ? "" : " -> " + editedTarget);
+    }
+}
@@ -0,0 +1,109 @@
+package mcscheduler.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.worker.Worker;
+
+/**
+ * Immutable copy of the data of a McScheduler, taken so that it can be saved on another thread while the
+ * McScheduler keeps changing.
+ *
+ * Unlike a copied {@code McScheduler}, a snapshot builds no indices. Workers, assignments and roles are immutable
+ * and only their lists are copied; shifts are copied with {@link Shift#copy()}, as the quantities filled of their
+ * role requirements are updated in place.
+ */
+public class McSchedulerSnapshot implements ReadOnlyMcScheduler {
+
+    private final ObservableList<Worker> workers;
+    private final ObservableList<Shift> shifts;
+    private final ObservableList<Assignment> assignments;
+    private final ObservableList<Role> roles;
+
+    private McSchedulerSnapshot(List<Worker> workers, List<Shift> shifts, List<Assignment> assignments,
+            List<Role> roles) {
+        this.workers = FXCollections.unmodifiableObservableList(FXCollections.observableList(workers));
+        this.shifts = FXCollections.unmodifiableObservableList(FXCollections.observableList(shifts));
+        this.assignments = FXCollections.unmodifiableObservableList(FXCollections.observableList(assignments));
+        this.roles = FXCollections.unmodifiableObservableList(FXCollections.observableList(roles));
+    }
+
+    /**
+     * Returns a snapshot of the current data of {@code mcScheduler}.
+     * The assignments keep referring to the shifts of {@code mcScheduler}, of which only the identity fields may be
+     * read.
+     */
+    public static McSchedulerSnapshot of(ReadOnlyMcScheduler mcScheduler) {
+        requireNonNull(mcScheduler);
+        List<Shift> shifts = new ArrayList<>(mcScheduler.getShiftList().size());
+        for (Shift shift : mcScheduler.getShiftList()) {
+            shifts.add(shift.copy());
+        }
+        return new McSchedulerSnapshot(List.copyOf(mcScheduler.getWorkerList()), List.copyOf(shifts),
+                List.copyOf(mcScheduler.getAssignmentList()), List.copyOf(mcScheduler.getRoleList()));
+    }
+
+    /**
+     * Returns a copy of {@code change} whose shifts, including those of its assignments, are copied with
+     * {@link Shift#copy()}, so that the change can be saved on another thread.
+     */
+    public static McSchedulerChange copyOf(McSchedulerChange change) {
+        requireNonNull(change);
+        switch (change.getType()) {
+        case ADD:
+            return McSchedulerChange.add(copyEntity(change.getTarget()));
+        case EDIT:
+            return McSchedulerChange.edit(copyEntity(change.getTarget()), copyEntity(change.getEditedTarget()));
+        case REMOVE:
+            return McSchedulerChange.remove(copyEntity(change.getTarget()));
+        default:
+            return change;
+        }
+    }
+
+    private static Object copyEntity(Object entity) {
+        if (entity instanceof Shift) {
+            return ((Shift) entity).copy();
+        }
+        if (entity instanceof Assignment) {
+            Assignment assignment = (Assignment) entity;
+            return assignment.getRole() == null
+                    ? new Assignment(assignment.getShift().copy(), assignment.getWorker())
+                    : new Assignment(assignment.getShift().copy(), assignment.getWorker(), assignment.getRole());
+        }
+        return entity;
+    }
+
+    @Override
+    public ObservableList<Worker> getWorkerList() {
+        return workers;
+    }
+
+    @Override
+    public ObservableList<Shift> getShiftList() {
+        return shifts;
+    }
+
+    @Override
+    public ObservableList<Assignment> getAssignmentList() {
+        return assignments;
+    }
+
+    @Override
+    public ObservableList<Role> getRoleList() {
+        return roles;
+    }
+
+    @Override
+    public String toString() {
+        return workers.size() + " workers, " + shifts.size() + " shifts, " + assignments.size() + " assignments, "
+                + roles.size() + " roles";
+    }
+}
@@ -1,7 +1,12 @@
 package mcscheduler.model;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -60,6 +65,38 @@ public interface Model {
     /** Returns the McScheduler */
     ReadOnlyMcScheduler getMcScheduler();
 
+    /**
+     * Returns the generation of the McScheduler data, which increases every time the data is modified through
+     * this model. Equal generations mean the data has not been modified in between.
+     */
+    long getMcSchedulerGeneration();
+
+    /**
+     * Registers {@code listener} to be notified of every modification of the McScheduler data made through this
+     * model, in the order they are made.
+     */
+    void addChangeListener(Consumer<McSchedulerChange> listener);
+
+    /**
+     * Starts a batch of modifications, for commands that modify many workers, shifts, assignments or roles at once.
+     * Until the matching {@link #commit()}, the modifications are made as usual but change listeners and the
+     * observable lists are not notified, and updates of the filtered list predicates are held back.
+     * Batches may be nested, in which case only the outermost {@code commit()} publishes the changes.
+     *
+     * The filtered lists cannot be obtained during a batch, as they only reflect its modifications once committed.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch started by the last {@link #beginBatch()}. If this ends the outermost batch, every list
+     * modified during the batch is updated with one change, change listeners are notified of each modification
+     * in the order they were made, and the last predicate set for each filtered list is applied.
+     * Must be called even if a modification fails, e.g. in a {@code finally} block.
+     *
+     * @throws IllegalStateException if no batch has been started.
+     */
+    void commit();
+
     // worker-level operations
 
     /**
@@ -86,13 +123,28 @@ public interface Model {
      */
     void setWorker(Worker target, Worker editedWorker);
 
+    /**
+     * Replaces each worker that is a key of {@code editedWorkers} with the worker it maps to, updating the worker
+     * list once. Change listeners are notified of each replacement in the iteration order of {@code editedWorkers}.
+     * Every key must exist in the McScheduler.
+     * The worker identity of each edited worker must not be the same as another existing worker in the McScheduler.
+     */
+    void replaceWorkers(Map<Worker, Worker> editedWorkers);
+
+    /** Returns the workers that can fill a role equal to {@code role} */
+    List<Worker> getWorkersWithRole(Role role);
+
     /** Returns the pay earned by a worker as float value */
     int calculateWorkerShiftsAssigned(Worker worker);
 
     /** Returns an unmodifiable view of the full worker list */
     ObservableList<Worker> getFullWorkerList();
 
-    /** Returns an unmodifiable view of the filtered worker list */
+    /**
+     * Returns an unmodifiable view of the filtered worker list
+     *
+     * @throws IllegalStateException if called during a batch.
+     */
     ObservableList<Worker> getFilteredWorkerList();
 
     /**
@@ -127,6 +179,17 @@ public interface Model {
      */
     void setShift(Shift target, Shift editedShift);
 
+    /**
+     * Replaces each shift that is a key of {@code editedShifts} with the shift it maps to, updating the shift list
+     * once. Change listeners are notified of each replacement in the iteration order of {@code editedShifts}.
+     * Every key must exist in the App.
+     * There must be no shift with the same identity as an edited shift that exists in the App.
+     */
+    void replaceShifts(Map<Shift, Shift> editedShifts);
+
+    /** Returns the shifts that require a role equal to {@code role} */
+    List<Shift> getShiftsWithRole(Role role);
+
     /**
      * Updates the filter of the filtered shift list to filter by the given {@code predicate}
      * @throws NullPointerException if {@code predicate} is null.
@@ -140,6 +203,8 @@ public interface Model {
 
     /**
      * Returns an unmodifiable view of the filtered shift list
+     *
+     * @throws IllegalStateException if called during a batch.
      */
     ObservableList<Shift> getFilteredShiftList();
 
@@ -157,6 +222,13 @@ public interface Model {
      */
     void deleteAssignment(Assignment target);
 
+    /**
+     * Deletes the given assignments, updating the assignment list once. Change listeners are notified of each
+     * deletion in the iteration order of {@code targets}.
+     * Every assignment must exist in the McScheduler.
+     */
+    void deleteAssignments(Collection<Assignment> targets);
+
     /**
      * Adds the given assignment.
      * {@code assignment} must not already exist in the McScheduler.
@@ -171,6 +243,16 @@ public interface Model {
      */
     void setAssignment(Assignment target, Assignment editedAssignment);
 
+    /**
+     * Replaces each assignment that is a key of {@code editedAssignments} with the assignment it maps to, updating the
+     * assignment list once. Change listeners are notified of each replacement in the iteration order of
+     * {@code editedAssignments}.
+     * Every key must exist in the McScheduler.
+     * The assignment identity of each edited assignment must not be the same as another existing assignment in the
+     * McScheduler, nor as another edited assignment.
+     */
+    void replaceAssignments(Map<Assignment, Assignment> editedAssignments);
+
     /**
      * Returns an {@code Optional} containing assignment with same identity as query.
      * If no assignment matching query found, an empty Optional is returned.
@@ -180,6 +262,28 @@ public interface Model {
     /** Returns an unmodifiable view of the full assignment list */
     ObservableList<Assignment> getFullAssignmentList();
 
+    /** Returns the assignments of the worker with the same identity as {@code worker} */
+    List<Assignment> getAssignmentsOfWorker(Worker worker);
+
+    /** Returns the assignments of the shift with the same identity as {@code shift} */
+    List<Assignment> getAssignmentsOfShift(Shift shift);
+
+    /**
+     * Returns the positions in the worker list of the McScheduler of the workers who can be assigned to
+     * {@code shift} as {@code role}: those fit for the role and available at the time of the shift, who are not yet
+     * assigned to the shift.
+     */
+    BitSet getAvailableWorkers(Shift shift, Role role);
+
+    /**
+     * Returns the position in the worker list of the McScheduler of the worker with the same identity as
+     * {@code worker}, or -1 if there is no such worker.
+     */
+    int getWorkerPosition(Worker worker);
+
+    /** Returns the assignments with a role equal to {@code role} */
+    List<Assignment> getAssignmentsWithRole(Role role);
+
     // role-level operations
 
     /**
@@ -207,7 +311,11 @@ public interface Model {
      */
     void setRole(Role target, Role editedRole);
 
-    /** Returns an unmodifiable view of the filtered role list */
+    /**
+     * Returns an unmodifiable view of the filtered role list
+     *
+     * @throws IllegalStateException if called during a batch.
+     */
     ObservableList<Role> getFilteredRoleList();
 
     /**
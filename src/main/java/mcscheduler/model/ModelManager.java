@@ -4,7 +4,14 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -16,13 +23,24 @@ import mcscheduler.commons.util.CollectionUtil;
 import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.role.Leave;
 import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.RoleFillCounter;
 import mcscheduler.model.shift.Shift;
+import mcscheduler.model.shift.ShiftKey;
 import mcscheduler.model.worker.Worker;
+import mcscheduler.model.worker.WorkerKey;
 
 /**
  * Represents the in-memory model of the McScheduler data.
  */
 public class ModelManager implements Model {
+    /** System property that turns on the full recount verification of role fill counts, e.g. for debugging. */
+    public static final String VERIFY_ROLE_FILL_COUNTS_PROPERTY = "mcscheduler.verifyRoleFillCounts";
+    public static final String MESSAGE_ROLE_FILL_COUNTS_INCONSISTENT =
+            "Role fill counts do not match a full recount of the assignments";
+    public static final String MESSAGE_NO_BATCH = "No batch of changes has been started";
+    public static final String MESSAGE_FILTERED_LIST_IN_BATCH =
+            "The filtered lists cannot be read during a batch of changes, as they are only updated by its commit";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final McScheduler mcScheduler;
@@ -30,6 +48,16 @@ public class ModelManager implements Model {
     private final FilteredList<Worker> filteredWorkers;
     private final FilteredList<Shift> filteredShifts;
     private final FilteredList<Role> filteredRoles;
+    private final RoleFillCounter roleFillCounter = new RoleFillCounter();
+    private final List<Consumer<McSchedulerChange>> changeListeners = new ArrayList<>();
+    private final List<McSchedulerChange> batchedChanges = new ArrayList<>();
+    private int batchDepth;
+    // Predicates set during a batch, to be applied when it is committed, or null if none were set
+    private Predicate<Worker> batchedWorkerPredicate;
+    private Predicate<Shift> batchedShiftPredicate;
+    private Predicate<Role> batchedRolePredicate;
+    private long mcSchedulerGeneration;
+    private boolean isRoleFillVerificationEnabled = Boolean.getBoolean(VERIFY_ROLE_FILL_COUNTS_PROPERTY);
 
     /**
      * Initializes a ModelManager with the given mcScheduler and userPrefs.
@@ -45,9 +73,13 @@ public class ModelManager implements Model {
         filteredWorkers = new FilteredList<>(this.mcScheduler.getWorkerList());
         filteredShifts = new FilteredList<>(this.mcScheduler.getShiftList());
         filteredRoles = new FilteredList<>(this.mcScheduler.getRoleList());
-        getFullWorkerList().forEach(this::synchronizeWorkerInAssignment);
-        getFullShiftList().forEach(this::synchronizeShiftInAssignment);
 
+        long startTime = System.nanoTime();
+        synchronizeAssignments();
+        recountRoleFills();
+        logger.info(String.format("Synchronized %d assignments with %d workers and %d shifts in %d ms",
+                getFullAssignmentList().size(), getFullWorkerList().size(), getFullShiftList().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
     }
 
     public ModelManager() {
@@ -56,20 +88,60 @@ public class ModelManager implements Model {
 
     //=========== initialization synchronization ==================================
 
-    private void synchronizeWorkerInAssignment(Worker worker) {
-        new ArrayList<>(getFullAssignmentList())
-                .stream()
-                .filter(assignment -> assignment.getWorker().isSameWorker(worker))
-                .forEach(assignment -> setAssignment(assignment,
-                        new Assignment(assignment.getShift(), worker, assignment.getRole())));
+    /**
+     * Rebinds every assignment to the worker and shift instances in the worker and shift lists with the same
+     * identity, joining on hashed identity fields in a single pass over the assignments.
+     */
+    private void synchronizeAssignments() {
+        Map<WorkerKey, Worker> workersByIdentity = new HashMap<>();
+        getFullWorkerList().forEach(worker -> workersByIdentity.put(worker.getIdentityKey(), worker));
+        Map<ShiftKey, Shift> shiftsByIdentity = new HashMap<>();
+        getFullShiftList().forEach(shift -> shiftsByIdentity.put(shift.getIdentityKey(), shift));
+
+        List<Assignment> synchronizedAssignments = new ArrayList<>(getFullAssignmentList().size());
+        for (Assignment assignment : getFullAssignmentList()) {
+            Worker worker = assignment.getWorker();
+            Shift shift = assignment.getShift();
+            worker = workersByIdentity.getOrDefault(worker.getIdentityKey(), worker);
+            shift = shiftsByIdentity.getOrDefault(shift.getIdentityKey(), shift);
+            synchronizedAssignments.add(new Assignment(shift, worker, assignment.getRole()));
+        }
+        mcScheduler.setAssignments(synchronizedAssignments);
+    }
+
+    /**
+     * Rebinds every assignment to the worker and shift instances in the McScheduler and recounts the role fills of
+     * every shift, as when this model was created. Needed after replaying changes made to another copy of the
+     * McScheduler, whose assignments refer to copies of their worker and shift.
+     */
+    public void resynchronize() {
+        synchronizeAssignments();
+        recountRoleFills();
+    }
+
+    //=========== Role fill counts ===========================================================================
+
+    /**
+     * Recounts the role fills of every shift from the full assignment list.
+     */
+    private void recountRoleFills() {
+        roleFillCounter.reset(getFullAssignmentList());
+        getFullShiftList().forEach(roleFillCounter::applyTo);
+    }
+
+    /**
+     * Enables or disables checking the incrementally kept role fill counts against a full recount after every
+     * assignment change. Meant for debugging as it makes every change linear in the number of assignments.
+     */
+    public void setRoleFillVerificationEnabled(boolean isEnabled) {
+        isRoleFillVerificationEnabled = isEnabled;
     }
 
-    private void synchronizeShiftInAssignment(Shift shift) {
-        new ArrayList<>(getFullAssignmentList())
-                .stream()
-                .filter(assignment -> assignment.getShift().isSameShift(shift))
-                .forEach(assignment -> setAssignment(assignment,
-                        new Assignment(shift, assignment.getWorker(), assignment.getRole())));
+    private void verifyRoleFillCounts() {
+        if (isRoleFillVerificationEnabled && !roleFillCounter.isConsistentWith(getFullAssignmentList())) {
+            logger.severe(MESSAGE_ROLE_FILL_COUNTS_INCONSISTENT);
+            throw new IllegalStateException(MESSAGE_ROLE_FILL_COUNTS_INCONSISTENT);
+        }
     }
 
     //=========== UserPrefs ==================================================================================
@@ -112,6 +184,8 @@ public class ModelManager implements Model {
     @Override
     public void setMcScheduler(ReadOnlyMcScheduler mcScheduler) {
         this.mcScheduler.resetData(mcScheduler);
+        recountRoleFills();
+        recordChange(McSchedulerChange.reset());
     }
 
     @Override
@@ -119,6 +193,76 @@ public class ModelManager implements Model {
         return mcScheduler;
     }
 
+    @Override
+    public long getMcSchedulerGeneration() {
+        return mcSchedulerGeneration;
+    }
+
+    @Override
+    public void addChangeListener(Consumer<McSchedulerChange> listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
+    }
+
+    private void recordChange(McSchedulerChange change) {
+        mcSchedulerGeneration++;
+        if (isInBatch()) {
+            batchedChanges.add(change);
+        } else {
+            changeListeners.forEach(listener -> listener.accept(change));
+        }
+    }
+
+    @Override
+    public void beginBatch() {
+        if (!isInBatch()) {
+            mcScheduler.beginBatch();
+        }
+        batchDepth++;
+    }
+
+    /**
+     * Throws an {@code IllegalStateException} during a batch, where the filtered lists are not yet updated.
+     */
+    private void requireNotInBatch() {
+        if (isInBatch()) {
+            throw new IllegalStateException(MESSAGE_FILTERED_LIST_IN_BATCH);
+        }
+    }
+
+    @Override
+    public void commit() {
+        if (!isInBatch()) {
+            throw new IllegalStateException(MESSAGE_NO_BATCH);
+        }
+        batchDepth--;
+        if (isInBatch()) {
+            return;
+        }
+
+        mcScheduler.endBatch();
+        List<McSchedulerChange> changes = new ArrayList<>(batchedChanges);
+        batchedChanges.clear();
+        changes.forEach(change -> changeListeners.forEach(listener -> listener.accept(change)));
+
+        if (batchedWorkerPredicate != null) {
+            filteredWorkers.setPredicate(batchedWorkerPredicate);
+            batchedWorkerPredicate = null;
+        }
+        if (batchedShiftPredicate != null) {
+            filteredShifts.setPredicate(batchedShiftPredicate);
+            batchedShiftPredicate = null;
+        }
+        if (batchedRolePredicate != null) {
+            filteredRoles.setPredicate(batchedRolePredicate);
+            batchedRolePredicate = null;
+        }
+    }
+
+    private boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
     // Worker related methods
     @Override
     public boolean hasWorker(Worker worker) {
@@ -129,11 +273,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteWorker(Worker target) {
         mcScheduler.removeWorker(target);
+        recordChange(McSchedulerChange.remove(target));
     }
 
     @Override
     public void addWorker(Worker worker) {
         mcScheduler.addWorker(worker);
+        recordChange(McSchedulerChange.add(worker));
         updateFilteredWorkerList(PREDICATE_SHOW_ALL_WORKERS);
     }
 
@@ -142,11 +288,27 @@ public class ModelManager implements Model {
         CollectionUtil.requireAllNonNull(target, editedWorker);
 
         mcScheduler.setWorker(target, editedWorker);
+        recordChange(McSchedulerChange.edit(target, editedWorker));
     }
+
+    @Override
+    public void replaceWorkers(Map<Worker, Worker> editedWorkers) {
+        requireNonNull(editedWorkers);
+
+        mcScheduler.replaceWorkers(editedWorkers);
+        editedWorkers.forEach((target, editedWorker) -> recordChange(McSchedulerChange.edit(target, editedWorker)));
+    }
+
+    @Override
+    public List<Worker> getWorkersWithRole(Role role) {
+        requireNonNull(role);
+        return mcScheduler.getWorkersWithRole(role);
+    }
+
     @Override
     public int calculateWorkerShiftsAssigned(Worker worker) {
         Integer numberOfShiftsAssigned = 0;
-        ObservableList<Assignment> assignments = getFullAssignmentList();
+        List<Assignment> assignments = getAssignmentsOfWorker(worker);
         for (Assignment assignment : assignments) {
             if (Leave.isLeave(assignment.getRole())) {
                 continue;
@@ -176,11 +338,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteShift(Shift target) {
         mcScheduler.removeShift(target);
+        recordChange(McSchedulerChange.remove(target));
     }
 
     @Override
     public void addShift(Shift shift) {
         mcScheduler.addShift(shift);
+        recordChange(McSchedulerChange.add(shift));
         updateFilteredShiftList(PREDICATE_SHOW_ALL_SHIFTS);
     }
 
@@ -188,6 +352,21 @@ public class ModelManager implements Model {
     public void setShift(Shift target, Shift editedShift) {
         CollectionUtil.requireAllNonNull(target, editedShift);
         mcScheduler.setShift(target, editedShift);
+        recordChange(McSchedulerChange.edit(target, editedShift));
+    }
+
+    @Override
+    public void replaceShifts(Map<Shift, Shift> editedShifts) {
+        requireNonNull(editedShifts);
+
+        mcScheduler.replaceShifts(editedShifts);
+        editedShifts.forEach((target, editedShift) -> recordChange(McSchedulerChange.edit(target, editedShift)));
+    }
+
+    @Override
+    public List<Shift> getShiftsWithRole(Role role) {
+        requireNonNull(role);
+        return mcScheduler.getShiftsWithRole(role);
     }
 
     @Override
@@ -204,23 +383,67 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteAssignment(Assignment target) {
+        Assignment storedTarget = mcScheduler.getAssignment(target).orElse(target);
         mcScheduler.removeAssignment(target);
-        target.getShift().updateRoleRequirements(getFullAssignmentList());
+        recordChange(McSchedulerChange.remove(target));
+        roleFillCounter.decrement(storedTarget);
+        roleFillCounter.applyTo(target.getShift());
+        verifyRoleFillCounts();
+    }
+
+    @Override
+    public void deleteAssignments(Collection<Assignment> targets) {
+        requireNonNull(targets);
+
+        List<Assignment> storedTargets = new ArrayList<>(targets.size());
+        targets.forEach(target -> storedTargets.add(mcScheduler.getAssignment(target).orElse(target)));
+        mcScheduler.removeAssignments(targets);
+        targets.forEach(target -> recordChange(McSchedulerChange.remove(target)));
+        storedTargets.forEach(roleFillCounter::decrement);
+        targets.forEach(target -> roleFillCounter.applyTo(target.getShift()));
+        verifyRoleFillCounts();
     }
 
     @Override
     public void addAssignment(Assignment assignment) {
         mcScheduler.addAssignment(assignment);
-        assignment.getShift().updateRoleRequirements(getFullAssignmentList());
+        recordChange(McSchedulerChange.add(assignment));
+        roleFillCounter.increment(assignment);
+        roleFillCounter.applyTo(assignment.getShift());
+        verifyRoleFillCounts();
     }
 
     @Override
     public void setAssignment(Assignment target, Assignment editedAssignment) {
         CollectionUtil.requireAllNonNull(target, editedAssignment);
 
+        Assignment storedTarget = mcScheduler.getAssignment(target).orElse(target);
         mcScheduler.setAssignment(target, editedAssignment);
-        target.getShift().updateRoleRequirements(getFullAssignmentList());
-        editedAssignment.getShift().updateRoleRequirements(getFullAssignmentList());
+        recordChange(McSchedulerChange.edit(target, editedAssignment));
+        roleFillCounter.decrement(storedTarget);
+        roleFillCounter.increment(editedAssignment);
+        roleFillCounter.applyTo(target.getShift());
+        roleFillCounter.applyTo(editedAssignment.getShift());
+        verifyRoleFillCounts();
+    }
+
+    @Override
+    public void replaceAssignments(Map<Assignment, Assignment> editedAssignments) {
+        requireNonNull(editedAssignments);
+
+        List<Assignment> storedTargets = new ArrayList<>(editedAssignments.size());
+        editedAssignments.keySet().forEach(target ->
+                storedTargets.add(mcScheduler.getAssignment(target).orElse(target)));
+        mcScheduler.replaceAssignments(editedAssignments);
+        editedAssignments.forEach((target, editedAssignment) ->
+                recordChange(McSchedulerChange.edit(target, editedAssignment)));
+        storedTargets.forEach(roleFillCounter::decrement);
+        editedAssignments.values().forEach(roleFillCounter::increment);
+        editedAssignments.forEach((target, editedAssignment) -> {
+            roleFillCounter.applyTo(target.getShift());
+            roleFillCounter.applyTo(editedAssignment.getShift());
+        });
+        verifyRoleFillCounts();
     }
 
     @Override
@@ -234,6 +457,36 @@ public class ModelManager implements Model {
         return mcScheduler.getAssignmentList();
     }
 
+    @Override
+    public List<Assignment> getAssignmentsOfWorker(Worker worker) {
+        requireNonNull(worker);
+        return mcScheduler.getAssignmentsOfWorker(worker);
+    }
+
+    @Override
+    public List<Assignment> getAssignmentsOfShift(Shift shift) {
+        requireNonNull(shift);
+        return mcScheduler.getAssignmentsOfShift(shift);
+    }
+
+    @Override
+    public BitSet getAvailableWorkers(Shift shift, Role role) {
+        CollectionUtil.requireAllNonNull(shift, role);
+        return mcScheduler.getAvailableWorkers(shift, role);
+    }
+
+    @Override
+    public int getWorkerPosition(Worker worker) {
+        requireNonNull(worker);
+        return mcScheduler.getWorkerPosition(worker);
+    }
+
+    @Override
+    public List<Assignment> getAssignmentsWithRole(Role role) {
+        requireNonNull(role);
+        return mcScheduler.getAssignmentsWithRole(role);
+    }
+
     // Role related methods
     @Override
     public boolean hasRole(Role role) {
@@ -247,11 +500,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteRole(Role target) {
         mcScheduler.removeRole(target);
+        recordChange(McSchedulerChange.remove(target));
     }
 
     @Override
     public void addRole(Role role) {
         mcScheduler.addRole(role);
+        recordChange(McSchedulerChange.add(role));
     }
 
     @Override
@@ -259,6 +514,7 @@ public class ModelManager implements Model {
         CollectionUtil.requireAllNonNull(target, editedRole);
 
         mcScheduler.setRole(target, editedRole);
+        recordChange(McSchedulerChange.edit(target, editedRole));
     }
 
     /**
@@ -267,13 +523,18 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Role> getFilteredRoleList() {
+        requireNotInBatch();
         return filteredRoles;
     }
 
     @Override
     public void updateFilteredRoleList(Predicate<Role> predicate) {
         requireNonNull(predicate);
-        filteredRoles.setPredicate(predicate);
+        if (isInBatch()) {
+            batchedRolePredicate = predicate;
+        } else {
+            filteredRoles.setPredicate(predicate);
+        }
     }
 
     //=========== Filtered Worker List Accessors =============================================================
@@ -284,26 +545,36 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Worker> getFilteredWorkerList() {
+        requireNotInBatch();
         return filteredWorkers;
     }
 
     @Override
     public void updateFilteredWorkerList(Predicate<Worker> predicate) {
         requireNonNull(predicate);
-        filteredWorkers.setPredicate(predicate);
+        if (isInBatch()) {
+            batchedWorkerPredicate = predicate;
+        } else {
+            filteredWorkers.setPredicate(predicate);
+        }
     }
 
     //============ Filtered Shift List Accessors ==============================================================
 
     @Override
     public ObservableList<Shift> getFilteredShiftList() {
+        requireNotInBatch();
         return filteredShifts;
     }
 
     @Override
     public void updateFilteredShiftList(Predicate<Shift> predicate) {
         requireNonNull(predicate);
-        filteredShifts.setPredicate(predicate);
+        if (isInBatch()) {
+            batchedShiftPredicate = predicate;
+        } else {
+            filteredShifts.setPredicate(predicate);
+        }
     }
 
     @Override
@@ -14,7 +14,9 @@ import mcscheduler.commons.core.GuiSettings;
 public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
-    private Path mcSchedulerFilePath = Paths.get("data" , "mcscheduler.json");
+    private Path mcSchedulerFilePath = Paths.get("data" , "mcscheduler" + DataFileFormat.BINARY.getFileExtension());
+    /** Null until set, so that a prefs file without a format follows the extension of its data file path. */
+    private DataFileFormat mcSchedulerFileFormat;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setMcSchedulerFilePath(newUserPrefs.getMcSchedulerFilePath());
+        setMcSchedulerFileFormat(newUserPrefs.getMcSchedulerFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +59,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.mcSchedulerFilePath = mcSchedulerFilePath;
     }
 
+    /**
+     * Returns the format set by {@link #setMcSchedulerFileFormat}, or the format matching the extension of the data
+     * file path if none was set.
+     */
+    public DataFileFormat getMcSchedulerFileFormat() {
+        return mcSchedulerFileFormat != null
+                ? mcSchedulerFileFormat
+                : DataFileFormat.ofFilePath(mcSchedulerFilePath);
+    }
+
+    public void setMcSchedulerFileFormat(DataFileFormat mcSchedulerFileFormat) {
+        requireNonNull(mcSchedulerFileFormat);
+        this.mcSchedulerFileFormat = mcSchedulerFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +86,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && mcSchedulerFilePath.equals(o.mcSchedulerFilePath);
+                && mcSchedulerFilePath.equals(o.mcSchedulerFilePath)
+                && getMcSchedulerFileFormat() == o.getMcSchedulerFileFormat();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, mcSchedulerFilePath);
+        return Objects.hash(guiSettings, mcSchedulerFilePath, getMcSchedulerFileFormat());
     }
 
     @Override
@@ -81,6 +100,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + mcSchedulerFilePath);
+        sb.append("\nLocal data file format : " + getMcSchedulerFileFormat());
         return sb.toString();
     }
 
@@ -54,6 +54,13 @@ public class Assignment {
         return role;
     }
 
+    /**
+     * Returns the key made up of the identity fields of this assignment.
+     */
+    public AssignmentKey getIdentityKey() {
+        return new AssignmentKey(shift.getIdentityKey(), worker.getIdentityKey());
+    }
+
     /**
      * Returns true if both assignments involve the same shift and worker.
      */
@@ -0,0 +1,132 @@
+package mcscheduler.model.assignment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.shift.ShiftKey;
+import mcscheduler.model.worker.Worker;
+import mcscheduler.model.worker.WorkerKey;
+
+/**
+ * Secondary indices over the assignments in the McScheduler, grouping them by worker, by shift and by role.
+ * Workers and shifts are grouped by their identity keys, i.e. {@code Worker#getIdentityKey()} and
+ * {@code Shift#getIdentityKey()}.
+ *
+ * Each group is kept in the order its assignments were added, keyed by {@code Assignment#getIdentityKey()} so that
+ * an assignment is removed from it in constant time.
+ *
+ * The index does not observe the assignment list; its owner must report every addition and removal.
+ */
+public class AssignmentIndex {
+
+    private final Map<WorkerKey, Map<AssignmentKey, Assignment>> assignmentsByWorker = new HashMap<>();
+    private final Map<ShiftKey, Map<AssignmentKey, Assignment>> assignmentsByShift = new HashMap<>();
+    private final Map<Role, Map<AssignmentKey, Assignment>> assignmentsByRole = new HashMap<>();
+
+    /**
+     * Records {@code toAdd} in every index.
+     */
+    public void add(Assignment toAdd) {
+        requireNonNull(toAdd);
+        addTo(assignmentsByWorker, toAdd.getWorker().getIdentityKey(), toAdd);
+        addTo(assignmentsByShift, toAdd.getShift().getIdentityKey(), toAdd);
+        if (toAdd.getRole() != null) {
+            addTo(assignmentsByRole, toAdd.getRole(), toAdd);
+        }
+    }
+
+    /**
+     * Removes the assignment with the same identity as {@code toRemove} from every index.
+     * It is removed from the group of the role it was recorded with, even if {@code toRemove} has a different role.
+     */
+    public void remove(Assignment toRemove) {
+        requireNonNull(toRemove);
+        Assignment removed = removeFrom(assignmentsByWorker, toRemove.getWorker().getIdentityKey(), toRemove);
+        if (removed == null) {
+            return;
+        }
+        removeFrom(assignmentsByShift, toRemove.getShift().getIdentityKey(), toRemove);
+        if (removed.getRole() != null) {
+            removeFrom(assignmentsByRole, removed.getRole(), toRemove);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedAssignment} in every index.
+     */
+    public void set(Assignment target, Assignment editedAssignment) {
+        remove(target);
+        add(editedAssignment);
+    }
+
+    /**
+     * Rebuilds every index from {@code assignments}.
+     */
+    public void reset(Iterable<Assignment> assignments) {
+        requireNonNull(assignments);
+        assignmentsByWorker.clear();
+        assignmentsByShift.clear();
+        assignmentsByRole.clear();
+        assignments.forEach(this::add);
+    }
+
+    /**
+     * Returns the assignments of the worker with the same identity as {@code worker}.
+     * The returned list is a snapshot and may be modified by the caller.
+     */
+    public List<Assignment> getAssignmentsOfWorker(Worker worker) {
+        requireNonNull(worker);
+        return snapshot(assignmentsByWorker.get(worker.getIdentityKey()));
+    }
+
+    /**
+     * Returns the assignments of the shift with the same identity as {@code shift}.
+     * The returned list is a snapshot and may be modified by the caller.
+     */
+    public List<Assignment> getAssignmentsOfShift(Shift shift) {
+        requireNonNull(shift);
+        return snapshot(assignmentsByShift.get(shift.getIdentityKey()));
+    }
+
+    /**
+     * Returns the assignments with a role equal to {@code role}.
+     * The returned list is a snapshot and may be modified by the caller.
+     */
+    public List<Assignment> getAssignmentsWithRole(Role role) {
+        requireNonNull(role);
+        return snapshot(assignmentsByRole.get(role));
+    }
+
+    private static <K> void addTo(Map<K, Map<AssignmentKey, Assignment>> index, K key, Assignment toAdd) {
+        index.computeIfAbsent(key, unused -> new LinkedHashMap<>()).put(toAdd.getIdentityKey(), toAdd);
+    }
+
+    /**
+     * Removes the assignment with the same identity as {@code toRemove} from the group of {@code key}.
+     *
+     * @return the assignment removed, or null if there was none.
+     */
+    private static <K> Assignment removeFrom(Map<K, Map<AssignmentKey, Assignment>> index, K key,
+            Assignment toRemove) {
+        Map<AssignmentKey, Assignment> bucket = index.get(key);
+        if (bucket == null) {
+            return null;
+        }
+        Assignment removed = bucket.remove(toRemove.getIdentityKey());
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+        return removed;
+    }
+
+    private static List<Assignment> snapshot(Map<AssignmentKey, Assignment> bucket) {
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket.values());
+    }
+}
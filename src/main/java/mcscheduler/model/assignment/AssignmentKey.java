@@ -0,0 +1,45 @@
+package mcscheduler.model.assignment;
+
+import static mcscheduler.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import mcscheduler.model.shift.ShiftKey;
+import mcscheduler.model.worker.WorkerKey;
+
+/**
+ * Hash key made up of the identity fields of an {@code Assignment}.
+ * Two assignments have equal keys if and only if {@code Assignment#isSameAssignment(Assignment)} holds.
+ */
+public final class AssignmentKey {
+
+    private final ShiftKey shiftKey;
+    private final WorkerKey workerKey;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public AssignmentKey(ShiftKey shiftKey, WorkerKey workerKey) {
+        requireAllNonNull(shiftKey, workerKey);
+        this.shiftKey = shiftKey;
+        this.workerKey = workerKey;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AssignmentKey // instanceof handles nulls
+                && shiftKey.equals(((AssignmentKey) other).shiftKey)
+                && workerKey.equals(((AssignmentKey) other).workerKey)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(shiftKey, workerKey);
+    }
+
+    @Override
+    public String toString() {
+        return shiftKey + " - " + workerKey;
+    }
+}
@@ -2,34 +2,43 @@ package mcscheduler.model.assignment;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import mcscheduler.commons.util.CollectionUtil;
 import mcscheduler.model.assignment.exceptions.AssignmentNotFoundException;
 import mcscheduler.model.assignment.exceptions.DuplicateAssignmentException;
+import mcscheduler.model.util.BatchableList;
 
 /**
  * A list of assignments that enforces uniqueness between its elements and does not allow nulls.
  * An assignment is considered unique by comparing using {@code Assignment#isSameAssignment(Assignment)}.
  *
+ * Assignments are additionally indexed by their identity fields (shift day and time, worker name and phone) so that
+ * lookups do not need to scan the list. The index is kept in step with the backing {@code ObservableList}, which
+ * remains the source of ordering for the UI.
+ *
  * Supports a minimal set of list operations.
  */
 public class UniqueAssignmentList implements Iterable<Assignment> {
 
-    private final ObservableList<Assignment> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Assignment> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final BatchableList<Assignment> internalList = new BatchableList<>();
+    private final Map<AssignmentKey, Assignment> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent assignment as the given argument.
      */
     public boolean contains(Assignment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAssignment);
+        return identityIndex.containsKey(toCheck.getIdentityKey());
     }
 
     /**
@@ -37,11 +46,7 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
      */
     public Optional<Assignment> getAssignment(Assignment toGet) {
         requireNonNull(toGet);
-
-        return internalList
-                .stream()
-                .filter(assignment -> assignment.isSameAssignment(toGet))
-                .findFirst();
+        return Optional.ofNullable(identityIndex.get(toGet.getIdentityKey()));
     }
 
     /**
@@ -53,6 +58,7 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
         if (contains(toAdd)) {
             throw new DuplicateAssignmentException();
         }
+        identityIndex.put(toAdd.getIdentityKey(), toAdd);
         internalList.add(toAdd);
     }
 
@@ -65,8 +71,8 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
     public void setAssignment(Assignment target, Assignment editedAssignment) {
         CollectionUtil.requireAllNonNull(target, editedAssignment);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Assignment existingTarget = findEqual(target);
+        if (existingTarget == null) {
             throw new AssignmentNotFoundException();
         }
 
@@ -74,22 +80,103 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
             throw new DuplicateAssignmentException();
         }
 
+        int index = internalList.indexOf(existingTarget);
+        identityIndex.remove(existingTarget.getIdentityKey());
+        identityIndex.put(editedAssignment.getIdentityKey(), editedAssignment);
         internalList.set(index, editedAssignment);
     }
 
+    /**
+     * Replaces each assignment in the list that is a key of {@code replacements} with the assignment it maps to, in a
+     * single pass over the list that is published as one change.
+     * Every key must exist in the list. The identity of each replacement assignment must not be the same as another
+     * existing assignment in the list that is not replaced, nor as another replacement assignment, and no two keys
+     * may share the same identity.
+     */
+    public void replaceAll(Map<Assignment, Assignment> replacements) {
+        requireNonNull(replacements);
+        CollectionUtil.requireAllNonNull(replacements.keySet());
+        CollectionUtil.requireAllNonNull(replacements.values());
+
+        // Replacements are looked up by identity, as equal assignments may differ in the role their hash includes
+        Map<AssignmentKey, Assignment> replacementsByKey = new HashMap<>();
+        for (Map.Entry<Assignment, Assignment> replacement : replacements.entrySet()) {
+            if (findEqual(replacement.getKey()) == null) {
+                throw new AssignmentNotFoundException();
+            }
+            if (replacementsByKey.putIfAbsent(replacement.getKey().getIdentityKey(), replacement.getValue()) != null) {
+                throw new DuplicateAssignmentException();
+            }
+        }
+        Set<AssignmentKey> replacedKeys = replacementsByKey.keySet();
+        Set<AssignmentKey> editedKeys = new HashSet<>();
+        for (Assignment editedAssignment : replacements.values()) {
+            AssignmentKey editedKey = editedAssignment.getIdentityKey();
+            if (!editedKeys.add(editedKey)
+                    || (identityIndex.containsKey(editedKey) && !replacedKeys.contains(editedKey))) {
+                throw new DuplicateAssignmentException();
+            }
+        }
+
+        replacedKeys.forEach(identityIndex::remove);
+        replacements.values().forEach(assignment -> identityIndex.put(assignment.getIdentityKey(), assignment));
+        internalList.beginBatch();
+        try {
+            for (int i = 0; i < internalList.size(); i++) {
+                Assignment editedAssignment = replacementsByKey.get(internalList.get(i).getIdentityKey());
+                if (editedAssignment != null) {
+                    internalList.set(i, editedAssignment);
+                }
+            }
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
     /**
      * Removes the equivalent assignment from the list.
      * The assignment must exist in the list.
      */
     public void remove(Assignment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Assignment existing = findEqual(toRemove);
+        if (existing == null) {
             throw new AssignmentNotFoundException();
         }
+        identityIndex.remove(existing.getIdentityKey());
+        internalList.remove(existing);
+    }
+
+    /**
+     * Removes the equivalent of each assignment in {@code toRemove} from the list, in a single pass over the list that
+     * is published as one change.
+     * Every assignment must exist in the list.
+     */
+    public void removeAll(Collection<Assignment> toRemove) {
+        CollectionUtil.requireAllNonNull(toRemove);
+        Set<Assignment> existingToRemove = new HashSet<>();
+        for (Assignment assignment : toRemove) {
+            Assignment existing = findEqual(assignment);
+            if (existing == null) {
+                throw new AssignmentNotFoundException();
+            }
+            existingToRemove.add(existing);
+        }
+
+        existingToRemove.forEach(assignment -> identityIndex.remove(assignment.getIdentityKey()));
+        List<Assignment> remaining = new ArrayList<>(internalList.size());
+        for (Assignment assignment : internalList) {
+            if (!existingToRemove.contains(assignment)) {
+                remaining.add(assignment);
+            }
+        }
+        internalList.setAll(remaining);
     }
 
     public void setAssignments(UniqueAssignmentList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
         internalList.setAll(replacement.internalList);
     }
 
@@ -103,19 +190,39 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
             throw new DuplicateAssignmentException();
         }
 
+        identityIndex.clear();
+        assignments.forEach(assignment -> identityIndex.put(assignment.getIdentityKey(), assignment));
         internalList.setAll(assignments);
     }
 
+    /**
+     * Holds back the change events of the list until the matching {@link #endBatch()}.
+     *
+     * @see BatchableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Publishes the modifications held back since the outermost {@link #beginBatch()} as one change, if this ends
+     * the outermost batch.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Assignment> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList.asUnmodifiableObservableList();
     }
 
     @Override
     public Iterator<Assignment> iterator() {
-        return internalList.iterator();
+        // Iterate over the unmodifiable view so that removals cannot bypass the identity index
+        return internalList.asUnmodifiableObservableList().iterator();
     }
 
     @Override
@@ -130,15 +237,23 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the assignment in the list that is equal to {@code toFind}, or null if there is none.
+     * As equal assignments share the same identity, only the indexed assignment needs to be checked.
+     */
+    private Assignment findEqual(Assignment toFind) {
+        Assignment candidate = identityIndex.get(toFind.getIdentityKey());
+        return toFind.equals(candidate) ? candidate : null;
+    }
+
     /**
      * Returns true if {@code assignments} contains only unique assignments.
      */
     private boolean assignmentsAreUnique(List<Assignment> assignments) {
-        for (int i = 0; i < assignments.size() - 1; i++) {
-            for (int j = i + 1; j < assignments.size(); j++) {
-                if (assignments.get(i).isSameAssignment(assignments.get(j))) {
-                    return false;
-                }
+        Set<AssignmentKey> identities = new HashSet<>();
+        for (Assignment assignment : assignments) {
+            if (!identities.add(assignment.getIdentityKey())) {
+                return false;
             }
         }
         return true;
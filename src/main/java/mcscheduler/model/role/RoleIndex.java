@@ -0,0 +1,133 @@
+package mcscheduler.model.role;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import mcscheduler.model.shift.RoleRequirement;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.worker.Worker;
+
+/**
+ * Secondary indices over the workers and shifts in the McScheduler, grouping the workers by the roles they can fill
+ * and the shifts by the roles they require, so that editing or deleting a role only needs to visit the workers and
+ * shifts that refer to it.
+ *
+ * The index does not observe the worker and shift lists; its owner must report every addition and removal.
+ */
+public class RoleIndex {
+
+    private final Map<Role, Set<Worker>> workersByRole = new HashMap<>();
+    private final Map<Role, Set<Shift>> shiftsByRole = new HashMap<>();
+
+    /**
+     * Records {@code toAdd} under each of its roles.
+     */
+    public void addWorker(Worker toAdd) {
+        requireNonNull(toAdd);
+        toAdd.getRoles().forEach(role -> workersByRole.computeIfAbsent(role, unused -> new LinkedHashSet<>())
+                .add(toAdd));
+    }
+
+    /**
+     * Removes {@code toRemove} from the index.
+     * Workers are matched using {@code Worker#equals(Object)}.
+     */
+    public void removeWorker(Worker toRemove) {
+        requireNonNull(toRemove);
+        toRemove.getRoles().forEach(role -> removeFrom(workersByRole, role, toRemove));
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedWorker} in the index.
+     */
+    public void setWorker(Worker target, Worker editedWorker) {
+        removeWorker(target);
+        addWorker(editedWorker);
+    }
+
+    /**
+     * Rebuilds the index of workers from {@code workers}.
+     */
+    public void resetWorkers(Iterable<Worker> workers) {
+        requireNonNull(workers);
+        workersByRole.clear();
+        workers.forEach(this::addWorker);
+    }
+
+    /**
+     * Records {@code toAdd} under each role it requires.
+     */
+    public void addShift(Shift toAdd) {
+        requireNonNull(toAdd);
+        for (RoleRequirement requirement : toAdd.getRoleRequirements()) {
+            shiftsByRole.computeIfAbsent(requirement.getRole(), unused -> new LinkedHashSet<>()).add(toAdd);
+        }
+    }
+
+    /**
+     * Removes {@code toRemove} from the index.
+     * Shifts are matched using {@code Shift#equals(Object)}.
+     */
+    public void removeShift(Shift toRemove) {
+        requireNonNull(toRemove);
+        for (RoleRequirement requirement : toRemove.getRoleRequirements()) {
+            removeFrom(shiftsByRole, requirement.getRole(), toRemove);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedShift} in the index.
+     */
+    public void setShift(Shift target, Shift editedShift) {
+        removeShift(target);
+        addShift(editedShift);
+    }
+
+    /**
+     * Rebuilds the index of shifts from {@code shifts}.
+     */
+    public void resetShifts(Iterable<Shift> shifts) {
+        requireNonNull(shifts);
+        shiftsByRole.clear();
+        shifts.forEach(this::addShift);
+    }
+
+    /**
+     * Returns the workers that can fill a role equal to {@code role}, in the order they were added.
+     * The returned list is a snapshot and may be modified by the caller.
+     */
+    public List<Worker> getWorkersWithRole(Role role) {
+        requireNonNull(role);
+        return snapshot(workersByRole.get(role));
+    }
+
+    /**
+     * Returns the shifts that require a role equal to {@code role}, in the order they were added.
+     * The returned list is a snapshot and may be modified by the caller.
+     */
+    public List<Shift> getShiftsWithRole(Role role) {
+        requireNonNull(role);
+        return snapshot(shiftsByRole.get(role));
+    }
+
+    private static <T> void removeFrom(Map<Role, Set<T>> index, Role role, T toRemove) {
+        Set<T> bucket = index.get(role);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(toRemove);
+        if (bucket.isEmpty()) {
+            index.remove(role);
+        }
+    }
+
+    private static <T> List<T> snapshot(Set<T> bucket) {
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+    }
+}
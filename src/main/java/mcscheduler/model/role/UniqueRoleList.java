@@ -2,14 +2,16 @@ package mcscheduler.model.role;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import mcscheduler.commons.util.CollectionUtil;
 import mcscheduler.model.role.exceptions.DuplicateRoleException;
 import mcscheduler.model.role.exceptions.RoleNotFoundException;
+import mcscheduler.model.util.BatchableList;
 
 /**
  * A list of roles that enforces uniqueness between its elements and does not allow nulls.
@@ -19,9 +21,7 @@ import mcscheduler.model.role.exceptions.RoleNotFoundException;
  */
 public class UniqueRoleList implements Iterable<Role> {
 
-    private final ObservableList<Role> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Role> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final BatchableList<Role> internalList = new BatchableList<>();
 
     /**
      * Returns true if the list contains an equivalent role as the given argument.
@@ -93,11 +93,28 @@ public class UniqueRoleList implements Iterable<Role> {
         internalList.setAll(roles);
     }
 
+    /**
+     * Holds back the change events of the list until the matching {@link #endBatch()}.
+     *
+     * @see BatchableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Publishes the modifications held back since the outermost {@link #beginBatch()} as one change, if this ends
+     * the outermost batch.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Role> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList.asUnmodifiableObservableList();
     }
 
     @Override
@@ -121,11 +138,10 @@ public class UniqueRoleList implements Iterable<Role> {
      * Returns true if {@code roles} contains only unique roles.
      */
     private boolean rolesAreUnique(List<Role> roles) {
-        for (int i = 0; i < roles.size() - 1; i++) {
-            for (int j = i + 1; j < roles.size(); j++) {
-                if (roles.get(i).equals(roles.get(j))) {
-                    return false;
-                }
+        Set<Role> identities = new HashSet<>();
+        for (Role role : roles) {
+            if (!identities.add(role)) {
+                return false;
             }
         }
         return true;
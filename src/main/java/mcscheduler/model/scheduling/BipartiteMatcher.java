@@ -0,0 +1,121 @@
+package mcscheduler.model.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Finds a maximum matching of a bipartite graph with the Hopcroft-Karp algorithm, in O(E sqrt(V)) time.
+ *
+ * The vertices on the left are numbered from 0 to {@code leftCount - 1} and those on the right from 0 to
+ * {@code rightCount - 1}. Among the edges of a vertex on the left, the ones added first are tried first.
+ */
+public class BipartiteMatcher {
+
+    public static final int UNMATCHED = -1;
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int rightCount;
+    private final List<List<Integer>> edges = new ArrayList<>();
+
+    private int[] leftMatches;
+    private int[] rightMatches;
+    private int[] distances;
+
+    /**
+     * Creates a matcher for a graph with {@code leftCount} vertices on the left, {@code rightCount} vertices on the
+     * right and no edges.
+     */
+    public BipartiteMatcher(int leftCount, int rightCount) {
+        if (leftCount < 0 || rightCount < 0) {
+            throw new IllegalArgumentException("Vertex counts must not be negative");
+        }
+        this.rightCount = rightCount;
+        for (int left = 0; left < leftCount; left++) {
+            edges.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Adds an edge between the vertex {@code left} on the left and the vertex {@code right} on the right.
+     */
+    public void addEdge(int left, int right) {
+        if (left < 0 || left >= edges.size() || right < 0 || right >= rightCount) {
+            throw new IndexOutOfBoundsException("No such vertex: " + left + ", " + right);
+        }
+        edges.get(left).add(right);
+    }
+
+    /**
+     * Returns a maximum matching, as the vertex on the right matched to each vertex on the left, or
+     * {@link #UNMATCHED} for the vertices on the left that are not matched.
+     */
+    public int[] match() {
+        leftMatches = new int[edges.size()];
+        rightMatches = new int[rightCount];
+        distances = new int[edges.size()];
+        Arrays.fill(leftMatches, UNMATCHED);
+        Arrays.fill(rightMatches, UNMATCHED);
+
+        while (layerFromFreeVertices()) {
+            for (int left = 0; left < edges.size(); left++) {
+                if (leftMatches[left] == UNMATCHED) {
+                    augmentFrom(left);
+                }
+            }
+        }
+        return leftMatches;
+    }
+
+    /**
+     * Labels each vertex on the left with the length of the shortest alternating path to it from a free vertex on
+     * the left. Returns true if some augmenting path exists.
+     */
+    private boolean layerFromFreeVertices() {
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int left = 0; left < edges.size(); left++) {
+            if (leftMatches[left] == UNMATCHED) {
+                distances[left] = 0;
+                queue.add(left);
+            } else {
+                distances[left] = UNREACHABLE;
+            }
+        }
+
+        boolean hasAugmentingPath = false;
+        while (!queue.isEmpty()) {
+            int left = queue.remove();
+            for (int right : edges.get(left)) {
+                int nextLeft = rightMatches[right];
+                if (nextLeft == UNMATCHED) {
+                    hasAugmentingPath = true;
+                } else if (distances[nextLeft] == UNREACHABLE) {
+                    distances[nextLeft] = distances[left] + 1;
+                    queue.add(nextLeft);
+                }
+            }
+        }
+        return hasAugmentingPath;
+    }
+
+    /**
+     * Looks for a shortest augmenting path from {@code left} along the layers, and flips the path if one is found.
+     */
+    private boolean augmentFrom(int left) {
+        for (int right : edges.get(left)) {
+            int nextLeft = rightMatches[right];
+            if (nextLeft == UNMATCHED
+                    || (distances[nextLeft] == distances[left] + 1 && augmentFrom(nextLeft))) {
+                leftMatches[left] = right;
+                rightMatches[right] = left;
+                return true;
+            }
+        }
+        // No augmenting path goes through this vertex in the current phase
+        distances[left] = UNREACHABLE;
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+package mcscheduler.model.scheduling;
+
+import static mcscheduler.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * The best roster found by a {@link RosterOptimizer}, as the changes to make to the current roster, together with
+ * the statistics of both rosters.
+ * Guarantees: immutable.
+ */
+public class OptimizedRoster {
+
+    private final RosterStatistics currentStatistics;
+    private final RosterStatistics optimizedStatistics;
+    private final RosterDiff diff;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public OptimizedRoster(RosterStatistics currentStatistics, RosterStatistics optimizedStatistics, RosterDiff diff) {
+        requireAllNonNull(currentStatistics, optimizedStatistics, diff);
+        this.currentStatistics = currentStatistics;
+        this.optimizedStatistics = optimizedStatistics;
+        this.diff = diff;
+    }
+
+    public RosterStatistics getCurrentStatistics() {
+        return currentStatistics;
+    }
+
+    public RosterStatistics getOptimizedStatistics() {
+        return optimizedStatistics;
+    }
+
+    public RosterDiff getDiff() {
+        return diff;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OptimizedRoster // instanceof handles nulls
+                && currentStatistics.equals(((OptimizedRoster) other).currentStatistics)
+                && optimizedStatistics.equals(((OptimizedRoster) other).optimizedStatistics)
+                && diff.equals(((OptimizedRoster) other).diff)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(currentStatistics, optimizedStatistics, diff);
+    }
+}
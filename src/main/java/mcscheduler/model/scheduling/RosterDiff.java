@@ -0,0 +1,110 @@
+package mcscheduler.model.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import mcscheduler.model.Model;
+import mcscheduler.model.assignment.Assignment;
+
+/**
+ * The assignments to remove from and add to the McScheduler to change its roster into another one.
+ * Guarantees: immutable.
+ */
+public class RosterDiff {
+
+    private final List<Assignment> assignmentsToRemove;
+    private final List<Assignment> assignmentsToAdd;
+
+    /**
+     * Creates a diff removing {@code assignmentsToRemove} and then adding {@code assignmentsToAdd}.
+     */
+    public RosterDiff(List<Assignment> assignmentsToRemove, List<Assignment> assignmentsToAdd) {
+        requireNonNull(assignmentsToRemove);
+        requireNonNull(assignmentsToAdd);
+        this.assignmentsToRemove = Collections.unmodifiableList(new ArrayList<>(assignmentsToRemove));
+        this.assignmentsToAdd = Collections.unmodifiableList(new ArrayList<>(assignmentsToAdd));
+    }
+
+    public List<Assignment> getAssignmentsToRemove() {
+        return assignmentsToRemove;
+    }
+
+    public List<Assignment> getAssignmentsToAdd() {
+        return assignmentsToAdd;
+    }
+
+    /**
+     * Returns true if the diff changes nothing.
+     */
+    public boolean isEmpty() {
+        return assignmentsToRemove.isEmpty() && assignmentsToAdd.isEmpty();
+    }
+
+    /**
+     * Makes the changes of this diff to {@code model} as one batch.
+     * Every assignment to remove must exist in the model, and none of the assignments to add may exist once they
+     * have been removed.
+     */
+    public void applyTo(Model model) {
+        requireNonNull(model);
+        model.beginBatch();
+        try {
+            if (!assignmentsToRemove.isEmpty()) {
+                model.deleteAssignments(assignmentsToRemove);
+            }
+            assignmentsToAdd.forEach(model::addAssignment);
+        } finally {
+            model.commit();
+        }
+    }
+
+    /**
+     * Returns true if both lists hold assignments of the same shifts, workers and roles, in the same order.
+     * {@link Assignment#equals} ignores roles, so they are compared here.
+     */
+    private static boolean haveSameAssignments(List<Assignment> assignments, List<Assignment> otherAssignments) {
+        if (assignments.size() != otherAssignments.size()) {
+            return false;
+        }
+        for (int i = 0; i < assignments.size(); i++) {
+            Assignment assignment = assignments.get(i);
+            Assignment otherAssignment = otherAssignments.get(i);
+            if (!assignment.getShift().equals(otherAssignment.getShift())
+                    || !assignment.getWorker().equals(otherAssignment.getWorker())
+                    || !Objects.equals(assignment.getRole(), otherAssignment.getRole())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hashAssignments(List<Assignment> assignments) {
+        int hash = 1;
+        for (Assignment assignment : assignments) {
+            hash = hash * 31 + Objects.hash(assignment.getShift(), assignment.getWorker(), assignment.getRole());
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RosterDiff // instanceof handles nulls
+                && haveSameAssignments(assignmentsToRemove, ((RosterDiff) other).assignmentsToRemove)
+                && haveSameAssignments(assignmentsToAdd, ((RosterDiff) other).assignmentsToAdd)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return hashAssignments(assignmentsToRemove) * 31 + hashAssignments(assignmentsToAdd);
+    }
+
+    @Override
+    public String toString() {
+        return "Remove: " + assignmentsToRemove + " Add: " + assignmentsToAdd;
+    }
+}
@@ -0,0 +1,116 @@
+package mcscheduler.model.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import mcscheduler.model.Model;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.RoleRequirement;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.worker.Worker;
+
+/**
+ * Fills the vacancies of shifts, i.e. the role requirements not yet filled, with the workers who can take them.
+ *
+ * The vacancies of a shift and the workers of the McScheduler form a bipartite graph, with an edge between each
+ * vacancy and every worker fit for its role and available at the time of the shift who is not yet assigned to the
+ * shift, whether to a role or on leave. A maximum matching of the graph fills as many vacancies as possible while
+ * assigning each worker at most once to the shift. Where the matching allows, workers with fewer assignments are
+ * preferred so that the work is spread out.
+ */
+public class RosterFiller {
+
+    private static final int UNKNOWN_WORKLOAD = -1;
+
+    private final Model model;
+    private final List<Worker> workers;
+    /** The number of non-leave assignments of each worker, by position in the worker list. */
+    private final int[] workloads;
+
+    /**
+     * Creates a filler for the shifts of {@code model}. The worker list of the model must not change while the
+     * filler is in use.
+     */
+    public RosterFiller(Model model) {
+        requireNonNull(model);
+        this.model = model;
+        workers = model.getMcScheduler().getWorkerList();
+        workloads = new int[workers.size()];
+        Arrays.fill(workloads, UNKNOWN_WORKLOAD);
+    }
+
+    /**
+     * Returns assignments filling as many vacancies of {@code shift} as possible. The assignments are not added to
+     * the model; they must be added before the next call so that the workloads of the workers stay up to date.
+     */
+    public List<Assignment> fill(Shift shift) {
+        requireNonNull(shift);
+        List<Role> vacancies = new ArrayList<>();
+        Map<Role, BitSet> candidatesByRole = new HashMap<>();
+        BitSet candidates = new BitSet();
+
+        List<RoleRequirement> roleRequirements = new ArrayList<>(shift.getRoleRequirements());
+        roleRequirements.sort(Comparator.comparing(roleRequirement -> roleRequirement.getRole().getRole()));
+        for (RoleRequirement roleRequirement : roleRequirements) {
+            int vacancyCount = roleRequirement.getQuantityRequired() - roleRequirement.getQuantityFilled();
+            if (vacancyCount <= 0) {
+                continue;
+            }
+            Role role = roleRequirement.getRole();
+            BitSet roleCandidates = model.getAvailableWorkers(shift, role);
+            candidatesByRole.put(role, roleCandidates);
+            candidates.or(roleCandidates);
+            for (int i = 0; i < vacancyCount; i++) {
+                vacancies.add(role);
+            }
+        }
+        if (vacancies.isEmpty() || candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Edges to the least loaded workers are added first, so they are tried first
+        List<Integer> candidatePositions = candidates.stream().boxed()
+                .sorted(Comparator.comparingInt(this::getWorkload))
+                .collect(Collectors.toList());
+        BipartiteMatcher matcher = new BipartiteMatcher(vacancies.size(), candidatePositions.size());
+        for (int vacancy = 0; vacancy < vacancies.size(); vacancy++) {
+            BitSet roleCandidates = candidatesByRole.get(vacancies.get(vacancy));
+            for (int candidate = 0; candidate < candidatePositions.size(); candidate++) {
+                if (roleCandidates.get(candidatePositions.get(candidate))) {
+                    matcher.addEdge(vacancy, candidate);
+                }
+            }
+        }
+
+        int[] matches = matcher.match();
+        List<Assignment> assignments = new ArrayList<>();
+        for (int vacancy = 0; vacancy < vacancies.size(); vacancy++) {
+            if (matches[vacancy] == BipartiteMatcher.UNMATCHED) {
+                continue;
+            }
+            int workerPosition = candidatePositions.get(matches[vacancy]);
+            assignments.add(new Assignment(shift, workers.get(workerPosition), vacancies.get(vacancy)));
+            workloads[workerPosition]++;
+        }
+        return assignments;
+    }
+
+    private int getWorkload(int workerPosition) {
+        if (workloads[workerPosition] == UNKNOWN_WORKLOAD) {
+            workloads[workerPosition] = (int) model.getAssignmentsOfWorker(workers.get(workerPosition)).stream()
+                    .filter(assignment -> !Leave.isLeave(assignment.getRole()))
+                    .count();
+        }
+        return workloads[workerPosition];
+    }
+}
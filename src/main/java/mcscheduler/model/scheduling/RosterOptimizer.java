@@ -0,0 +1,496 @@
+package mcscheduler.model.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import mcscheduler.model.Model;
+import mcscheduler.model.ReadOnlyMcScheduler;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.assignment.AssignmentKey;
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.RoleRequirement;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.shift.ShiftKey;
+import mcscheduler.model.worker.Worker;
+import mcscheduler.model.worker.WorkerKey;
+
+/**
+ * Looks for the roster of the McScheduler that fills the most role requirements at the lowest cost.
+ *
+ * Each role requirement of each shift is split into positions, one per worker required. A roster gives each position
+ * a worker fit for its role, available at the time of the shift and not on leave, or leaves it unfilled, and assigns
+ * each worker at most once per shift. The cost of a roster, in cents, is the sum of
+ * <ul>
+ *     <li>a penalty for each unfilled position, higher than anything saved by leaving a position unfilled,</li>
+ *     <li>the pay of every assignment,</li>
+ *     <li>{@link #FAIRNESS_WEIGHT} times the sum of the squared workloads of the workers, so that shifts are spread
+ *     evenly, and</li>
+ *     <li>{@link #CHANGE_PENALTY} for every worker whose role in a shift differs from the current roster, so that
+ *     the current assignments are kept unless changing them is worth it.</li>
+ * </ul>
+ * Assignments that do not fit any position, such as leave, are kept as they are.
+ *
+ * The optimizer runs {@link #SEARCH_COUNT} local searches in parallel until the time budget runs out. One search
+ * starts from the current roster and the others from randomized greedy rosters, and each search starts over from a
+ * new greedy roster whenever it stops improving. A search that stops improving once every position with an eligible
+ * worker is filled ends early instead, so that small rosters are optimized without waiting out the time budget.
+ *
+ * The searches are seeded from the seed given by the caller, and their number does not depend on the machine, so the
+ * wall-clock deadline is the only nondeterministic input: a search that ends early, as it does on small rosters,
+ * reaches the same roster for the same McScheduler and seed on every run.
+ */
+public class RosterOptimizer {
+
+    public static final long FAIRNESS_WEIGHT = 500;
+    public static final long CHANGE_PENALTY = 100;
+    /** The number of searches run, whatever the number of processors, so that the result does not depend on it. */
+    public static final int SEARCH_COUNT = 4;
+
+    /** Marks unfilled positions, and workers not assigned to a shift. */
+    private static final int NONE = -1;
+    /** Marks workers who are on leave or keep an assignment that does not fit any position in a shift. */
+    private static final int FIXED = -2;
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int MOVES_PER_DEADLINE_CHECK = 1024;
+    private static final int STALLED_MOVES_PER_POSITION = 200;
+
+    private final List<Worker> workers;
+    private final List<Shift> shifts;
+    private final List<Role> roles = new ArrayList<>();
+    /** The pay of each worker for one shift, in cents. */
+    private final long[] payCosts;
+    /** The number of assignments of each worker that do not fit any position. */
+    private final int[] fixedWorkloads;
+    private long fixedPayCost;
+
+    /** The positions of shift {@code s} are numbered from {@code shiftStarts[s]} to {@code shiftStarts[s + 1] - 1}. */
+    private final int[] shiftStarts;
+    private final int[] positionShifts;
+    private final int[] positionRoles;
+    private final int[][] eligibleWorkers;
+    private final BitSet[] eligibility;
+    /** The number of positions that no worker is eligible for, which every roster leaves unfilled. */
+    private final int unfillableCount;
+
+    /** The role of each worker in each shift in the current roster, or {@link #NONE} or {@link #FIXED}. */
+    private final int[][] currentRoles;
+    /** The worker of each position in the current roster, or {@link #NONE}. */
+    private final int[] currentWorkers;
+    private final long unfilledPenalty;
+
+    /**
+     * Creates an optimizer for the roster of {@code model} as it is now.
+     */
+    public RosterOptimizer(Model model) {
+        requireNonNull(model);
+        ReadOnlyMcScheduler mcScheduler = model.getMcScheduler();
+        workers = new ArrayList<>(mcScheduler.getWorkerList());
+        shifts = new ArrayList<>(mcScheduler.getShiftList());
+        Map<WorkerKey, Integer> workerIndexes = new HashMap<>();
+        for (int w = 0; w < workers.size(); w++) {
+            workerIndexes.put(workers.get(w).getIdentityKey(), w);
+        }
+        Map<ShiftKey, Integer> shiftIndexes = new HashMap<>();
+        for (int s = 0; s < shifts.size(); s++) {
+            shiftIndexes.put(shifts.get(s).getIdentityKey(), s);
+        }
+
+        payCosts = new long[workers.size()];
+        long maxPayCost = 0;
+        for (int w = 0; w < workers.size(); w++) {
+            long hourlyPay = Math.round(workers.get(w).getPay().getValue() * CENTS_PER_DOLLAR);
+            payCosts[w] = hourlyPay * Shift.HOURS_PER_SHIFT;
+            maxPayCost = Math.max(maxPayCost, payCosts[w]);
+        }
+
+        currentRoles = new int[shifts.size()][workers.size()];
+        for (int[] shiftRoles : currentRoles) {
+            Arrays.fill(shiftRoles, NONE);
+        }
+        List<Assignment> assignments = mcScheduler.getAssignmentList();
+        for (Assignment assignment : assignments) {
+            if (Leave.isLeave(assignment.getRole())) {
+                currentRoles[shiftIndexes.get(assignment.getShift().getIdentityKey())]
+                        [workerIndexes.get(assignment.getWorker().getIdentityKey())] = FIXED;
+            }
+        }
+
+        Map<Role, Integer> roleIndexes = new HashMap<>();
+        List<Integer> shiftsOfPositions = new ArrayList<>();
+        List<Integer> rolesOfPositions = new ArrayList<>();
+        List<int[]> workersOfPositions = new ArrayList<>();
+        List<BitSet> eligibilityOfPositions = new ArrayList<>();
+        shiftStarts = new int[shifts.size() + 1];
+        for (int s = 0; s < shifts.size(); s++) {
+            shiftStarts[s] = shiftsOfPositions.size();
+            List<RoleRequirement> roleRequirements = new ArrayList<>(shifts.get(s).getRoleRequirements());
+            roleRequirements.sort(Comparator.comparing(roleRequirement -> roleRequirement.getRole().getRole()));
+            for (RoleRequirement roleRequirement : roleRequirements) {
+                Role role = roleRequirement.getRole();
+                if (!roleIndexes.containsKey(role)) {
+                    roleIndexes.put(role, roles.size());
+                    roles.add(role);
+                }
+                BitSet roleEligibility = new BitSet(workers.size());
+                for (int w = 0; w < workers.size(); w++) {
+                    Worker worker = workers.get(w);
+                    roleEligibility.set(w, currentRoles[s][w] != FIXED && worker.isFitForRole(role)
+                            && !worker.isUnavailable(shifts.get(s)));
+                }
+                int[] roleWorkers = roleEligibility.stream().toArray();
+                for (int i = 0; i < roleRequirement.getQuantityRequired(); i++) {
+                    shiftsOfPositions.add(s);
+                    rolesOfPositions.add(roleIndexes.get(role));
+                    workersOfPositions.add(roleWorkers);
+                    eligibilityOfPositions.add(roleEligibility);
+                }
+            }
+        }
+        shiftStarts[shifts.size()] = shiftsOfPositions.size();
+        positionShifts = shiftsOfPositions.stream().mapToInt(Integer::intValue).toArray();
+        positionRoles = rolesOfPositions.stream().mapToInt(Integer::intValue).toArray();
+        eligibleWorkers = workersOfPositions.toArray(new int[0][]);
+        eligibility = eligibilityOfPositions.toArray(new BitSet[0]);
+        unfillableCount = (int) Arrays.stream(eligibleWorkers).filter(positionWorkers -> positionWorkers.length == 0)
+                .count();
+
+        currentWorkers = new int[positionShifts.length];
+        Arrays.fill(currentWorkers, NONE);
+        fixedWorkloads = new int[workers.size()];
+        for (Assignment assignment : assignments) {
+            if (Leave.isLeave(assignment.getRole())) {
+                continue;
+            }
+            int s = shiftIndexes.get(assignment.getShift().getIdentityKey());
+            int w = workerIndexes.get(assignment.getWorker().getIdentityKey());
+            int position = findVacantPosition(s, roleIndexes.getOrDefault(assignment.getRole(), NONE), w);
+            if (position == NONE) {
+                currentRoles[s][w] = FIXED;
+                fixedWorkloads[w]++;
+                fixedPayCost += payCosts[w];
+            } else {
+                currentWorkers[position] = w;
+                currentRoles[s][w] = positionRoles[position];
+            }
+        }
+
+        // A worker has at most one assignment per shift, so filling a position raises the other costs by less
+        unfilledPenalty = maxPayCost + FAIRNESS_WEIGHT * (2L * shifts.size() + 1) + 2 * CHANGE_PENALTY + 1;
+    }
+
+    private int findVacantPosition(int s, int role, int w) {
+        for (int position = shiftStarts[s]; position < shiftStarts[s + 1]; position++) {
+            if (positionRoles[position] == role && currentWorkers[position] == NONE
+                    && eligibility[position].get(w)) {
+                return position;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Searches for the best roster for {@code timeBudget} and returns it.
+     * Search {@code i} draws its random moves from {@code new Random(seed + i)}.
+     */
+    public OptimizedRoster optimize(Duration timeBudget, long seed) {
+        requireNonNull(timeBudget);
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        Roster currentRoster = new Roster(currentWorkers);
+        if (positionShifts.length == 0 || workers.isEmpty()) {
+            return toOptimizedRoster(currentRoster, currentRoster);
+        }
+
+        // The number of threads only decides how many searches run at once, not which searches are run
+        ForkJoinPool pool = new ForkJoinPool(Math.min(SEARCH_COUNT, Runtime.getRuntime().availableProcessors()));
+        Roster bestRoster = currentRoster;
+        try {
+            List<ForkJoinTask<Roster>> searches = new ArrayList<>();
+            for (int i = 0; i < SEARCH_COUNT; i++) {
+                boolean isFromCurrentRoster = i == 0;
+                Random random = new Random(seed + i);
+                searches.add(pool.submit(() -> search(isFromCurrentRoster, random, deadline)));
+            }
+            for (ForkJoinTask<Roster> search : searches) {
+                Roster roster = search.join();
+                if (roster.cost < bestRoster.cost) {
+                    bestRoster = roster;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return toOptimizedRoster(currentRoster, bestRoster);
+    }
+
+    /**
+     * Improves a roster one random move at a time until {@code deadline}, or until it stalls with every position that
+     * can be filled filled, and returns the best roster it reached.
+     */
+    private Roster search(boolean isFromCurrentRoster, Random random, long deadline) {
+        Roster roster = isFromCurrentRoster ? new Roster(currentWorkers) : createGreedyRoster(random);
+        Roster bestRoster = new Roster(roster.positionWorkers);
+        int stallLimit = STALLED_MOVES_PER_POSITION * positionShifts.length;
+        int stalledMoves = 0;
+        for (long moves = 0; moves % MOVES_PER_DEADLINE_CHECK != 0 || System.nanoTime() < deadline; moves++) {
+            long previousCost = roster.cost;
+            roster.moveRandomly(random);
+            if (roster.cost < previousCost) {
+                stalledMoves = 0;
+            } else if (++stalledMoves >= stallLimit) {
+                if (bestRoster.getUnfilledCount() == unfillableCount) {
+                    return bestRoster;
+                }
+                roster = createGreedyRoster(random);
+                stalledMoves = 0;
+            }
+            if (roster.cost < bestRoster.cost) {
+                bestRoster = new Roster(roster.positionWorkers);
+            }
+        }
+        return bestRoster;
+    }
+
+    /**
+     * Fills the positions in random order, each with the worker that raises the cost the least, give or take a
+     * random amount.
+     */
+    private Roster createGreedyRoster(Random random) {
+        int[] noWorkers = new int[positionShifts.length];
+        Arrays.fill(noWorkers, NONE);
+        Roster roster = new Roster(noWorkers);
+        List<Integer> positions = new ArrayList<>();
+        for (int position = 0; position < positionShifts.length; position++) {
+            positions.add(position);
+        }
+        Collections.shuffle(positions, random);
+        for (int position : positions) {
+            int bestWorker = NONE;
+            long bestDelta = Long.MAX_VALUE;
+            for (int w : eligibleWorkers[position]) {
+                if (roster.shiftPositions[positionShifts[position]][w] != NONE) {
+                    continue;
+                }
+                long delta = roster.getAssignDelta(position, w) + (long) random.nextInt((int) FAIRNESS_WEIGHT);
+                if (delta < bestDelta) {
+                    bestWorker = w;
+                    bestDelta = delta;
+                }
+            }
+            if (bestWorker != NONE) {
+                roster.assign(position, bestWorker);
+            }
+        }
+        return roster;
+    }
+
+    private OptimizedRoster toOptimizedRoster(Roster currentRoster, Roster optimizedRoster) {
+        Map<AssignmentKey, Assignment> currentAssignments = currentRoster.getAssignments();
+        Map<AssignmentKey, Assignment> optimizedAssignments = optimizedRoster.getAssignments();
+        List<Assignment> assignmentsToRemove = getAssignmentsNotIn(currentAssignments, optimizedAssignments);
+        List<Assignment> assignmentsToAdd = getAssignmentsNotIn(optimizedAssignments, currentAssignments);
+        return new OptimizedRoster(currentRoster.getStatistics(), optimizedRoster.getStatistics(),
+                new RosterDiff(assignmentsToRemove, assignmentsToAdd));
+    }
+
+    /**
+     * Returns the assignments in {@code assignments} that {@code otherAssignments} does not have with the same role.
+     */
+    private static List<Assignment> getAssignmentsNotIn(Map<AssignmentKey, Assignment> assignments,
+            Map<AssignmentKey, Assignment> otherAssignments) {
+        List<Assignment> assignmentsNotIn = new ArrayList<>();
+        assignments.forEach((key, assignment) -> {
+            Assignment otherAssignment = otherAssignments.get(key);
+            if (otherAssignment == null || !otherAssignment.getRole().equals(assignment.getRole())) {
+                assignmentsNotIn.add(assignment);
+            }
+        });
+        return assignmentsNotIn;
+    }
+
+    /**
+     * A roster under search, with its cost kept up to date as it changes.
+     */
+    private class Roster {
+
+        private final int[] positionWorkers;
+        /** The position of each worker in each shift, or {@link #NONE} or {@link #FIXED}. */
+        private final int[][] shiftPositions;
+        private final int[] workloads;
+        private long cost;
+
+        Roster(int[] workersOfPositions) {
+            positionWorkers = workersOfPositions.clone();
+            shiftPositions = new int[shifts.size()][];
+            for (int s = 0; s < shifts.size(); s++) {
+                shiftPositions[s] = new int[payCosts.length];
+                for (int w = 0; w < payCosts.length; w++) {
+                    shiftPositions[s][w] = currentRoles[s][w] == FIXED ? FIXED : NONE;
+                }
+            }
+            workloads = fixedWorkloads.clone();
+            cost = fixedPayCost;
+            for (int position = 0; position < positionWorkers.length; position++) {
+                int w = positionWorkers[position];
+                if (w == NONE) {
+                    cost += unfilledPenalty;
+                    continue;
+                }
+                shiftPositions[positionShifts[position]][w] = position;
+                workloads[w]++;
+                cost += payCosts[w];
+            }
+            for (int s = 0; s < shifts.size(); s++) {
+                for (int w = 0; w < payCosts.length; w++) {
+                    cost += getChangeCost(s, w, getRole(s, w));
+                }
+            }
+            for (int workload : workloads) {
+                cost += FAIRNESS_WEIGHT * workload * workload;
+            }
+        }
+
+        private int getRole(int s, int w) {
+            int position = shiftPositions[s][w];
+            return position >= 0 ? positionRoles[position] : position;
+        }
+
+        private long getChangeCost(int s, int w, int role) {
+            return role == currentRoles[s][w] ? 0 : CHANGE_PENALTY;
+        }
+
+        /**
+         * Returns the change in cost from giving {@code position} to worker {@code w}, who is free in its shift.
+         */
+        long getAssignDelta(int position, int w) {
+            int s = positionShifts[position];
+            int role = positionRoles[position];
+            long delta = payCosts[w] + FAIRNESS_WEIGHT * (2L * workloads[w] + 1)
+                    + getChangeCost(s, w, role) - getChangeCost(s, w, NONE);
+            int previousWorker = positionWorkers[position];
+            if (previousWorker == NONE) {
+                return delta - unfilledPenalty;
+            }
+            return delta - payCosts[previousWorker] - FAIRNESS_WEIGHT * (2L * workloads[previousWorker] - 1)
+                    + getChangeCost(s, previousWorker, NONE) - getChangeCost(s, previousWorker, role);
+        }
+
+        /**
+         * Gives {@code position} to worker {@code w}, who is free in its shift.
+         */
+        void assign(int position, int w) {
+            cost += getAssignDelta(position, w);
+            int s = positionShifts[position];
+            int previousWorker = positionWorkers[position];
+            if (previousWorker != NONE) {
+                shiftPositions[s][previousWorker] = NONE;
+                workloads[previousWorker]--;
+            }
+            positionWorkers[position] = w;
+            shiftPositions[s][w] = position;
+            workloads[w]++;
+        }
+
+        /**
+         * Returns the change in cost from swapping the workers of two positions of the same shift.
+         * Only the roles of the workers change, so only the change penalties do.
+         */
+        private long getSwapDelta(int position, int otherPosition) {
+            int s = positionShifts[position];
+            int role = positionRoles[position];
+            int otherRole = positionRoles[otherPosition];
+            long delta = 0;
+            for (int w : new int[] {positionWorkers[position], positionWorkers[otherPosition]}) {
+                if (w != NONE) {
+                    delta -= getChangeCost(s, w, getRole(s, w));
+                    delta += getChangeCost(s, w, getRole(s, w) == role ? otherRole : role);
+                }
+            }
+            return delta;
+        }
+
+        private void swap(int position, int otherPosition) {
+            cost += getSwapDelta(position, otherPosition);
+            int s = positionShifts[position];
+            int w = positionWorkers[position];
+            int otherWorker = positionWorkers[otherPosition];
+            positionWorkers[position] = otherWorker;
+            positionWorkers[otherPosition] = w;
+            if (otherWorker != NONE) {
+                shiftPositions[s][otherWorker] = position;
+            }
+            if (w != NONE) {
+                shiftPositions[s][w] = otherPosition;
+            }
+        }
+
+        /**
+         * Gives a random position to a random worker eligible for it if that does not raise the cost. If the worker
+         * already holds another position of the shift, the workers of the two positions are swapped instead.
+         */
+        void moveRandomly(Random random) {
+            int position = random.nextInt(positionWorkers.length);
+            int[] candidates = eligibleWorkers[position];
+            if (candidates.length == 0) {
+                return;
+            }
+            int w = candidates[random.nextInt(candidates.length)];
+            int otherPosition = shiftPositions[positionShifts[position]][w];
+            if (otherPosition == NONE) {
+                if (getAssignDelta(position, w) <= 0) {
+                    assign(position, w);
+                }
+            } else if (otherPosition >= 0 && otherPosition != position
+                    && (positionWorkers[position] == NONE
+                            || eligibility[otherPosition].get(positionWorkers[position]))
+                    && getSwapDelta(position, otherPosition) <= 0) {
+                swap(position, otherPosition);
+            }
+        }
+
+        /**
+         * Returns the assignments of the roster by their identity, in the order of their positions.
+         */
+        Map<AssignmentKey, Assignment> getAssignments() {
+            Map<AssignmentKey, Assignment> assignments = new LinkedHashMap<>();
+            for (int position = 0; position < positionWorkers.length; position++) {
+                if (positionWorkers[position] != NONE) {
+                    Assignment assignment = new Assignment(shifts.get(positionShifts[position]),
+                            workers.get(positionWorkers[position]), roles.get(positionRoles[position]));
+                    assignments.put(assignment.getIdentityKey(), assignment);
+                }
+            }
+            return assignments;
+        }
+
+        int getUnfilledCount() {
+            return (int) Arrays.stream(positionWorkers).filter(w -> w == NONE).count();
+        }
+
+        RosterStatistics getStatistics() {
+            long payCost = fixedPayCost;
+            for (int w : positionWorkers) {
+                if (w != NONE) {
+                    payCost += payCosts[w];
+                }
+            }
+            int unfilledCount = getUnfilledCount();
+            int minWorkload = Arrays.stream(workloads).min().orElse(0);
+            int maxWorkload = Arrays.stream(workloads).max().orElse(0);
+            return new RosterStatistics((float) payCost / CENTS_PER_DOLLAR, unfilledCount, minWorkload, maxWorkload);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package mcscheduler.model.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import mcscheduler.model.Model;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.RoleRequirement;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.shift.ShiftKey;
+import mcscheduler.model.worker.Worker;
+
+/**
+ * Proposes how to fill the role requirements left short when workers give up their assignments, such as when they
+ * take leave, changing only the shifts of those assignments.
+ *
+ * Each role given up is filled by the lowest paid worker who is free for the shift, either directly or at the end of
+ * a chain of at most {@link #MAX_MOVES} workers of the shift who each move to the role the one before them leaves
+ * open. Moving workers within a shift costs nothing, so of two chains ending with equally paid workers, the shorter
+ * one is preferred.
+ */
+public class RosterRepairer {
+
+    public static final int MAX_MOVES = 2;
+
+    private final Model model;
+    private final List<Worker> workers;
+
+    /**
+     * Creates a repairer for the roster of {@code model}.
+     */
+    public RosterRepairer(Model model) {
+        requireNonNull(model);
+        this.model = model;
+        workers = model.getMcScheduler().getWorkerList();
+    }
+
+    /**
+     * Returns the changes filling as many of the roles given up in {@code vacatedAssignments} as possible.
+     * The assignments must no longer be in the model. Roles that are not short of workers are left alone.
+     */
+    public RosterDiff repair(List<Assignment> vacatedAssignments) {
+        requireNonNull(vacatedAssignments);
+        Map<ShiftKey, ShiftRepair> shiftRepairs = new LinkedHashMap<>();
+        for (Assignment vacatedAssignment : vacatedAssignments) {
+            Optional<Shift> shift = findShift(vacatedAssignment.getShift());
+            if (Leave.isLeave(vacatedAssignment.getRole()) || shift.isEmpty()) {
+                continue;
+            }
+            shiftRepairs.computeIfAbsent(shift.get().getIdentityKey(), unused -> new ShiftRepair(shift.get()))
+                    .fill(vacatedAssignment.getRole());
+        }
+
+        List<Assignment> assignmentsToRemove = new ArrayList<>();
+        List<Assignment> assignmentsToAdd = new ArrayList<>();
+        for (ShiftRepair shiftRepair : shiftRepairs.values()) {
+            shiftRepair.addChanges(assignmentsToRemove, assignmentsToAdd);
+        }
+        return new RosterDiff(assignmentsToRemove, assignmentsToAdd);
+    }
+
+    private Optional<Shift> findShift(Shift shift) {
+        return model.getMcScheduler().getShiftList().stream()
+                .filter(shift::isSameShift)
+                .findFirst();
+    }
+
+    /**
+     * The workers moving to fill a role, each to the role the one before them leaves open, and the worker who
+     * joins the shift to fill the last role left open.
+     */
+    private static class Chain {
+
+        private final List<Worker> movers;
+        private final Worker newcomer;
+
+        Chain(List<Worker> movers, Worker newcomer) {
+            this.movers = movers;
+            this.newcomer = newcomer;
+        }
+
+        boolean isBetterThan(Chain other) {
+            int payComparison = Float.compare(newcomer.getPay().getValue(), other.newcomer.getPay().getValue());
+            return payComparison < 0 || (payComparison == 0 && movers.size() < other.movers.size());
+        }
+    }
+
+    /**
+     * The repairs to one shift, planned on a copy of the roles of its workers.
+     */
+    private class ShiftRepair {
+
+        private final Shift shift;
+        private final Map<Worker, Role> initialRoles = new LinkedHashMap<>();
+        private final Map<Worker, Role> roles;
+        private final Set<Worker> newcomers = new HashSet<>();
+
+        ShiftRepair(Shift shift) {
+            this.shift = shift;
+            for (Assignment assignment : model.getAssignmentsOfShift(shift)) {
+                if (!Leave.isLeave(assignment.getRole())) {
+                    initialRoles.put(assignment.getWorker(), assignment.getRole());
+                }
+            }
+            roles = new LinkedHashMap<>(initialRoles);
+        }
+
+        /**
+         * Fills {@code role} with the best chain found, if the role is short of workers and a chain exists.
+         */
+        void fill(Role role) {
+            int quantityRequired = shift.getRoleRequirements().stream()
+                    .filter(roleRequirement -> roleRequirement.getRole().equals(role))
+                    .mapToInt(RoleRequirement::getQuantityRequired)
+                    .sum();
+            long quantityFilled = roles.values().stream().filter(role::equals).count();
+            if (quantityFilled >= quantityRequired) {
+                return;
+            }
+
+            Chain chain = findBestChain(role, new ArrayList<>());
+            if (chain == null) {
+                return;
+            }
+            Role openRole = role;
+            for (Worker mover : chain.movers) {
+                openRole = roles.put(mover, openRole);
+            }
+            roles.put(chain.newcomer, openRole);
+            newcomers.add(chain.newcomer);
+        }
+
+        /**
+         * Returns the best chain filling {@code openRole} after {@code movers} have moved, or null if there is none.
+         */
+        private Chain findBestChain(Role openRole, List<Worker> movers) {
+            Chain bestChain = null;
+            Worker newcomer = findLowestPaidFreeWorker(openRole);
+            if (newcomer != null) {
+                bestChain = new Chain(movers, newcomer);
+            }
+            if (movers.size() == MAX_MOVES) {
+                return bestChain;
+            }
+
+            for (Map.Entry<Worker, Role> workerRole : roles.entrySet()) {
+                Worker mover = workerRole.getKey();
+                if (movers.contains(mover) || workerRole.getValue().equals(openRole) || !mover.isFitForRole(openRole)) {
+                    continue;
+                }
+                List<Worker> longerMovers = new ArrayList<>(movers);
+                longerMovers.add(mover);
+                Chain chain = findBestChain(workerRole.getValue(), longerMovers);
+                if (chain != null && (bestChain == null || chain.isBetterThan(bestChain))) {
+                    bestChain = chain;
+                }
+            }
+            return bestChain;
+        }
+
+        private Worker findLowestPaidFreeWorker(Role role) {
+            BitSet candidates = model.getAvailableWorkers(shift, role);
+            Worker lowestPaidWorker = null;
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                Worker candidate = workers.get(i);
+                if (!newcomers.contains(candidate) && (lowestPaidWorker == null
+                        || candidate.getPay().getValue() < lowestPaidWorker.getPay().getValue())) {
+                    lowestPaidWorker = candidate;
+                }
+            }
+            return lowestPaidWorker;
+        }
+
+        void addChanges(List<Assignment> assignmentsToRemove, List<Assignment> assignmentsToAdd) {
+            initialRoles.forEach((worker, role) -> {
+                if (!role.equals(roles.get(worker))) {
+                    assignmentsToRemove.add(new Assignment(shift, worker, role));
+                }
+            });
+            roles.forEach((worker, role) -> {
+                if (!role.equals(initialRoles.get(worker))) {
+                    assignmentsToAdd.add(new Assignment(shift, worker, role));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package mcscheduler.model.scheduling;
+
+import java.util.Objects;
+
+/**
+ * The weekly pay, number of unfilled positions and spread of workloads of a roster.
+ * Guarantees: immutable.
+ */
+public class RosterStatistics {
+
+    private final float payCost;
+    private final int unfilledCount;
+    private final int minWorkload;
+    private final int maxWorkload;
+
+    /**
+     * Creates the statistics of a roster paying {@code payCost} per week, leaving {@code unfilledCount} positions
+     * unfilled and giving each worker between {@code minWorkload} and {@code maxWorkload} shifts.
+     */
+    public RosterStatistics(float payCost, int unfilledCount, int minWorkload, int maxWorkload) {
+        this.payCost = payCost;
+        this.unfilledCount = unfilledCount;
+        this.minWorkload = minWorkload;
+        this.maxWorkload = maxWorkload;
+    }
+
+    public float getPayCost() {
+        return payCost;
+    }
+
+    public int getUnfilledCount() {
+        return unfilledCount;
+    }
+
+    public int getMinWorkload() {
+        return minWorkload;
+    }
+
+    public int getMaxWorkload() {
+        return maxWorkload;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RosterStatistics)) {
+            return false;
+        }
+        RosterStatistics otherStatistics = (RosterStatistics) other;
+        return Float.compare(payCost, otherStatistics.payCost) == 0
+                && unfilledCount == otherStatistics.unfilledCount
+                && minWorkload == otherStatistics.minWorkload
+                && maxWorkload == otherStatistics.maxWorkload;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(payCost, unfilledCount, minWorkload, maxWorkload);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Pay: $%1$,.2f Unfilled: %2$d Workload: %3$d-%4$d",
+                payCost, unfilledCount, minWorkload, maxWorkload);
+    }
+}
@@ -0,0 +1,96 @@
+package mcscheduler.model.shift;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+
+/**
+ * Keeps the number of assignments filling each role of each shift in the McScheduler.
+ * Shifts are grouped by their identity keys, i.e. {@code Shift#getIdentityKey()}.
+ *
+ * Counts are kept incrementally: the owner must report every assignment added and removed, after which
+ * {@link #applyTo(Shift)} writes the counts into the role requirements of a shift without rescanning the
+ * assignment list. {@link #isConsistentWith(Iterable)} recounts from scratch and is meant for debugging.
+ */
+public class RoleFillCounter {
+
+    private final Map<ShiftKey, Map<Role, Integer>> counts = new HashMap<>();
+
+    /**
+     * Counts {@code assignment} as filling its role in its shift.
+     */
+    public void increment(Assignment assignment) {
+        requireNonNull(assignment);
+        if (assignment.getRole() == null) {
+            return;
+        }
+        counts.computeIfAbsent(assignment.getShift().getIdentityKey(), unused -> new HashMap<>())
+                .merge(assignment.getRole(), 1, Integer::sum);
+    }
+
+    /**
+     * Stops counting {@code assignment} as filling its role in its shift.
+     */
+    public void decrement(Assignment assignment) {
+        requireNonNull(assignment);
+        if (assignment.getRole() == null) {
+            return;
+        }
+        ShiftKey shiftKey = assignment.getShift().getIdentityKey();
+        Map<Role, Integer> shiftCounts = counts.get(shiftKey);
+        Integer count = shiftCounts == null ? null : shiftCounts.get(assignment.getRole());
+        assert count != null && count > 0 : "Removing an assignment that was never counted";
+        if (count != null && count > 1) {
+            shiftCounts.put(assignment.getRole(), count - 1);
+            return;
+        }
+        if (shiftCounts != null) {
+            shiftCounts.remove(assignment.getRole());
+            if (shiftCounts.isEmpty()) {
+                counts.remove(shiftKey);
+            }
+        }
+    }
+
+    /**
+     * Recounts every role of every shift from {@code assignments}.
+     */
+    public void reset(Iterable<Assignment> assignments) {
+        requireNonNull(assignments);
+        counts.clear();
+        assignments.forEach(this::increment);
+    }
+
+    /**
+     * Returns the number of assignments filling {@code role} in the shift with the same identity as {@code shift}.
+     */
+    public int getQuantityFilled(Shift shift, Role role) {
+        requireNonNull(shift);
+        requireNonNull(role);
+        Map<Role, Integer> shiftCounts = counts.get(shift.getIdentityKey());
+        return shiftCounts == null ? 0 : shiftCounts.getOrDefault(role, 0);
+    }
+
+    /**
+     * Updates the quantity filled of every role requirement of {@code shift} with the current counts.
+     */
+    public void applyTo(Shift shift) {
+        requireNonNull(shift);
+        for (RoleRequirement roleRequirement : shift.getRoleRequirements()) {
+            roleRequirement.setQuantityFilled(getQuantityFilled(shift, roleRequirement.getRole()));
+        }
+    }
+
+    /**
+     * Returns true if the current counts match a full recount of {@code assignments}.
+     */
+    public boolean isConsistentWith(Iterable<Assignment> assignments) {
+        RoleFillCounter recount = new RoleFillCounter();
+        recount.reset(assignments);
+        return counts.equals(recount.counts);
+    }
+}
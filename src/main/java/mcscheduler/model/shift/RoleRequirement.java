@@ -3,11 +3,9 @@ package mcscheduler.model.shift;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
-import java.util.stream.Stream;
 
 import mcscheduler.commons.util.AppUtil;
 import mcscheduler.commons.util.CollectionUtil;
-import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.role.Role;
 
 /**
@@ -102,15 +100,12 @@ public class RoleRequirement {
     }
 
     /**
-     * Updates {@code quantityFilled} based on pre-filtered assignments passed to the role (i.e. no knowledge of the
-     * shift is required by {@code RoleRequirement}).
-     * Ensure that assignments passed through are already filtered by shift or the count will be wrong.
-     *
-     * @param assignmentStream of filtered assignments from model that are relevant to this role requirement.
+     * Sets {@code quantityFilled} to the number of assignments filling this role, as counted by the owner of the
+     * shift (see {@code RoleFillCounter}).
      */
-    public void updateQuantityFilled(Stream<Assignment> assignmentStream) {
-        this.quantityFilled = (int) assignmentStream
-                .filter(assignment -> assignment.getRole().equals(getRole())).count();
+    public void setQuantityFilled(int quantityFilled) {
+        assert quantityFilled >= 0 : "Quantity filled cannot be negative";
+        this.quantityFilled = quantityFilled;
     }
 
     /**
@@ -25,6 +25,7 @@ public class Shift {
     // Identity fields
     private final ShiftDay shiftDay;
     private final ShiftTime shiftTime;
+    private final int slot;
 
     // Data fields
     private final Set<RoleRequirement> roleRequirements = new HashSet<>();
@@ -36,6 +37,7 @@ public class Shift {
         CollectionUtil.requireAllNonNull(shiftDay, shiftTime, roleRequirements);
         this.shiftDay = shiftDay;
         this.shiftTime = shiftTime;
+        this.slot = ShiftSlot.ordinal(shiftDay, shiftTime);
         this.roleRequirements.addAll(roleRequirements);
     }
 
@@ -47,6 +49,20 @@ public class Shift {
         return shiftTime;
     }
 
+    /**
+     * Returns the ordinal of the slot of the week this shift is in, as encoded by {@link ShiftSlot}.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Returns the mask with only the bit of the slot of the week this shift is in set.
+     */
+    public int getSlotMask() {
+        return 1 << slot;
+    }
+
     /**
      * Returns an immutable role requirements set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -55,6 +71,19 @@ public class Shift {
         return Collections.unmodifiableSet(roleRequirements);
     }
 
+    /**
+     * Returns a copy of this shift with copies of its role requirements, whose quantities filled do not change as
+     * those of this shift are updated.
+     */
+    public Shift copy() {
+        Set<RoleRequirement> copiedRoleRequirements = new HashSet<>();
+        for (RoleRequirement roleRequirement : roleRequirements) {
+            copiedRoleRequirements.add(new RoleRequirement(roleRequirement.getRole(),
+                    roleRequirement.getQuantityRequired(), roleRequirement.getQuantityFilled()));
+        }
+        return new Shift(shiftDay, shiftTime, copiedRoleRequirements);
+    }
+
     /**
      * Returns an immutable role set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -93,21 +122,6 @@ public class Shift {
         return false;
     }
 
-    /**
-     * Updates the quantity filled field of each role requirement within the shift.
-     * Takes a list of assignments, such as from {@code Model#getFullAssignmentList}.
-     *
-     * @param assignments to be counted from for updating quantity filled of each role.
-     */
-    public void updateRoleRequirements(List<Assignment> assignments) {
-        for (RoleRequirement rr : roleRequirements) {
-            rr.updateQuantityFilled(assignments.stream()
-                    .filter(assignment -> assignment.getShift().isSameShift(this)));
-        }
-    }
-
-
-
     /**
      * Counts the quantity filled of the specified {@code role} in the specified {@code shift}.
      *
@@ -115,11 +129,11 @@ public class Shift {
      * @param role whose quantity filled needs to be calculated.
      */
     public int countRoleQuantityFilled(Model model, Role role) {
-        List<Assignment> assignmentList = model.getFullAssignmentList();
+        List<Assignment> assignmentList = model.getAssignmentsOfShift(this);
         int quantityFilled = 0;
 
         for (Assignment assignment : assignmentList) {
-            if (isSameShift(assignment.getShift()) && assignment.getRole().equals(role)) {
+            if (assignment.getRole().equals(role)) {
                 quantityFilled++;
             }
         }
@@ -127,6 +141,13 @@ public class Shift {
         return quantityFilled;
     }
 
+    /**
+     * Returns the key made up of the identity fields of this shift.
+     */
+    public ShiftKey getIdentityKey() {
+        return new ShiftKey(shiftDay, shiftTime);
+    }
+
     /**
      * Returns true if both shifts have the same identity fields.
      * This defines a weaker notion of equality between two shifts.
@@ -0,0 +1,42 @@
+package mcscheduler.model.shift;
+
+import static mcscheduler.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Hash key made up of the identity fields of a {@code Shift}.
+ * Two shifts have equal keys if and only if {@code Shift#isSameShift(Shift)} holds.
+ */
+public final class ShiftKey {
+
+    private final ShiftDay shiftDay;
+    private final ShiftTime shiftTime;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ShiftKey(ShiftDay shiftDay, ShiftTime shiftTime) {
+        requireAllNonNull(shiftDay, shiftTime);
+        this.shiftDay = shiftDay;
+        this.shiftTime = shiftTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShiftKey // instanceof handles nulls
+                && shiftDay.equals(((ShiftKey) other).shiftDay)
+                && shiftTime.equals(((ShiftKey) other).shiftTime)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(shiftDay, shiftTime);
+    }
+
+    @Override
+    public String toString() {
+        return shiftDay + " " + shiftTime;
+    }
+}
@@ -0,0 +1,28 @@
+package mcscheduler.model.shift;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Encodes the slots of the week, one for each {@code ShiftDayValue} and {@code ShiftTimeValue}, as ordinals from 0
+ * to {@link #SLOT_COUNT} - 1 so that a set of slots fits in the bits of an {@code int}.
+ */
+public class ShiftSlot {
+
+    public static final int SLOT_COUNT = ShiftDayValue.values().length * ShiftTimeValue.values().length;
+
+    /**
+     * Returns the ordinal of the slot at {@code day} and {@code time}. Slots are ordered by day, then by time.
+     */
+    public static int ordinal(ShiftDay day, ShiftTime time) {
+        requireNonNull(day);
+        requireNonNull(time);
+        return day.day.ordinal() * ShiftTimeValue.values().length + time.time.ordinal();
+    }
+
+    /**
+     * Returns the mask with only the bit of the slot at {@code day} and {@code time} set.
+     */
+    public static int mask(ShiftDay day, ShiftTime time) {
+        return 1 << ordinal(day, time);
+    }
+}
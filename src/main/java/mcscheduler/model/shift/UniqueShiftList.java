@@ -2,14 +2,18 @@ package mcscheduler.model.shift;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import mcscheduler.commons.util.CollectionUtil;
 import mcscheduler.model.shift.exceptions.DuplicateShiftException;
 import mcscheduler.model.shift.exceptions.ShiftNotFoundException;
+import mcscheduler.model.util.BatchableList;
 
 /**
  * A list of shifts that enforces uniqueness between its elements.
@@ -19,9 +23,7 @@ import mcscheduler.model.shift.exceptions.ShiftNotFoundException;
  */
 public class UniqueShiftList implements Iterable<Shift> {
 
-    private final ObservableList<Shift> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Shift> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final BatchableList<Shift> internalList = new BatchableList<>();
 
     /**
      * Returns true if the list contains an equivalent shift as {@code toCheck}.
@@ -71,6 +73,42 @@ public class UniqueShiftList implements Iterable<Shift> {
         internalList.set(index, editedShift);
     }
 
+    /**
+     * Replaces each shift in the list that is a key of {@code replacements} with the shift it maps to, in a single
+     * pass over the list that is published as one change.
+     * Every key must exist in the list. The identity of each replacement shift must not be the same as another
+     * shift in the list once the replacements are made.
+     */
+    public void replaceAll(Map<Shift, Shift> replacements) {
+        requireNonNull(replacements);
+        CollectionUtil.requireAllNonNull(replacements.keySet());
+        CollectionUtil.requireAllNonNull(replacements.values());
+
+        // The identities of the list once replaced are checked in the same pass that finds the shifts to replace
+        List<Integer> indexesToReplace = new ArrayList<>(replacements.size());
+        Set<ShiftKey> identitiesAfterReplacement = new HashSet<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            Shift editedShift = replacements.get(internalList.get(i));
+            if (editedShift != null) {
+                indexesToReplace.add(i);
+            }
+            Shift shiftAfterReplacement = editedShift != null ? editedShift : internalList.get(i);
+            if (!identitiesAfterReplacement.add(shiftAfterReplacement.getIdentityKey())) {
+                throw new DuplicateShiftException();
+            }
+        }
+        if (indexesToReplace.size() != replacements.size()) {
+            throw new ShiftNotFoundException();
+        }
+
+        internalList.beginBatch();
+        try {
+            indexesToReplace.forEach(index -> internalList.set(index, replacements.get(internalList.get(index))));
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
     /**
      * Removes the equivalent shift from the list.
      * The shift must exist in the list.
@@ -97,8 +135,25 @@ public class UniqueShiftList implements Iterable<Shift> {
         internalList.setAll(shifts);
     }
 
+    /**
+     * Holds back the change events of the list until the matching {@link #endBatch()}.
+     *
+     * @see BatchableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Publishes the modifications held back since the outermost {@link #beginBatch()} as one change, if this ends
+     * the outermost batch.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     public ObservableList<Shift> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList.asUnmodifiableObservableList();
     }
 
     @Override
@@ -118,12 +173,14 @@ public class UniqueShiftList implements Iterable<Shift> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns true if {@code shifts} contains only unique shifts.
+     */
     private boolean shiftsAreUnique(List<Shift> shifts) {
-        for (int i = 0; i < shifts.size() - 1; i++) {
-            for (int j = i + 1; j < shifts.size(); j++) {
-                if (shifts.get(i).isSameShift(shifts.get(j))) {
-                    return false;
-                }
+        Set<ShiftKey> identities = new HashSet<>();
+        for (Shift shift : shifts) {
+            if (!identities.add(shift.getIdentityKey())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,165 @@
+package mcscheduler.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+
+/**
+ * A list that backs an {@code ObservableList}, whose change events can be held back while a batch of modifications
+ * is made. When the outermost batch ends, the modifications are published as a single compound change listing each
+ * element added, removed or replaced, so listeners such as {@code FilteredList}s and list views update only the
+ * elements that were modified, once, rather than once per modification.
+ *
+ * Reads always see the current contents, including from the observable list. Lists derived from the observable list
+ * only see the modifications of a batch once it ends, so they must not be read or refiltered during a batch.
+ */
+public class BatchableList<E> extends AbstractList<E> {
+
+    private final BatchObservableList<E> observableList = new BatchObservableList<>();
+    private final ObservableList<E> unmodifiableObservableList =
+            FXCollections.unmodifiableObservableList(observableList);
+    private int batchDepth;
+
+    /**
+     * Starts holding back change events until the matching {@link #endBatch()}. Batches may be nested.
+     */
+    public void beginBatch() {
+        if (batchDepth == 0) {
+            observableList.beginBatch();
+        }
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch started by the last {@link #beginBatch()}, publishing every modification made since the
+     * outermost batch started as one change if this ends the outermost batch.
+     *
+     * @throws IllegalStateException if no batch has been started.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch has been started");
+        }
+        batchDepth--;
+        if (batchDepth == 0) {
+            observableList.endBatch();
+        }
+    }
+
+    public boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    /**
+     * Returns the list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<E> asUnmodifiableObservableList() {
+        return unmodifiableObservableList;
+    }
+
+    /**
+     * Replaces the contents of the list with {@code replacement}, as one change replacing every element.
+     */
+    public void setAll(Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        // Copied first in case the replacement is a view of this list
+        List<E> newContents = new ArrayList<>(replacement);
+        modCount++;
+        observableList.replaceContents(newContents);
+    }
+
+    @Override
+    public E get(int index) {
+        return observableList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return observableList.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return observableList.set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        modCount++;
+        observableList.add(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        modCount++;
+        return observableList.remove(index);
+    }
+
+    /**
+     * An observable list over an {@code ArrayList} whose modifications between {@link #beginBatch()} and
+     * {@link #endBatch()} are collected into one change, fired by {@code endBatch()}.
+     */
+    private static class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+        private final List<E> backingList = new ArrayList<>();
+
+        void beginBatch() {
+            beginChange();
+        }
+
+        void endBatch() {
+            endChange();
+        }
+
+        /**
+         * Replaces every element with {@code newContents} in one step, rather than removing the old elements one by
+         * one as {@code setAll} does.
+         */
+        void replaceContents(List<E> newContents) {
+            if (backingList.isEmpty() && newContents.isEmpty()) {
+                return;
+            }
+            beginChange();
+            try {
+                List<E> removed = new ArrayList<>(backingList);
+                backingList.clear();
+                backingList.addAll(newContents);
+                nextReplace(0, newContents.size(), removed);
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public E get(int index) {
+            return backingList.get(index);
+        }
+
+        @Override
+        public int size() {
+            return backingList.size();
+        }
+
+        @Override
+        protected void doAdd(int index, E element) {
+            backingList.add(index, element);
+        }
+
+        @Override
+        protected E doSet(int index, E element) {
+            return backingList.set(index, element);
+        }
+
+        @Override
+        protected E doRemove(int index) {
+            return backingList.remove(index);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package mcscheduler.model.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.RoleRequirement;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.shift.ShiftDay;
+import mcscheduler.model.shift.ShiftTime;
+import mcscheduler.model.worker.Address;
+import mcscheduler.model.worker.Name;
+import mcscheduler.model.worker.Pay;
+import mcscheduler.model.worker.Phone;
+import mcscheduler.model.worker.Unavailability;
+import mcscheduler.model.worker.Worker;
+
+/**
+ * Generates realistic McSchedulers of any size, for reproducing production-sized loads locally.
+ *
+ * Every McScheduler has a shift in each of the 14 slots of the week, each requiring every role. Workers are fit for
+ * one to three roles and unavailable for up to three slots. Some workers are on leave for a shift, and the rest are
+ * assigned to the roles they are fit for until about {@link #FILL_RATIO} of every role requirement is filled, so that
+ * every requirement is left with at least one gap.
+ *
+ * The same seed and size always generate the same McScheduler.
+ */
+public class RosterGenerator {
+
+    public static final List<Role> ROLES = List.of(Role.createRole("cashier"), Role.createRole("chef"),
+            Role.createRole("janitor"), Role.createRole("barista"), Role.createRole("delivery"));
+
+    /** Fraction of the workers fit for a role that a shift requires for it. */
+    public static final double DEMAND_RATIO = 0.3;
+    /** Fraction of every role requirement that is filled. */
+    public static final double FILL_RATIO = 0.8;
+    /** Fraction of the workers on leave for each shift. */
+    public static final double LEAVE_RATIO = 0.02;
+
+    // Relative number of workers fit for each role in ROLES
+    private static final int[] ROLE_WEIGHTS = {5, 3, 2, 2, 1};
+
+    private static final List<String> DAYS = List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN");
+    private static final List<String> TIMES = List.of("AM", "PM");
+    private static final List<String> FIRST_NAMES = List.of("Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy",
+            "Siti", "Wei Ming", "Priya", "Hui Min", "Ahmad", "Rachel", "Kumar", "Jia Hui", "Marcus", "Nurul");
+    private static final List<String> LAST_NAMES = List.of("Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim",
+            "Balakrishnan", "Tan", "Lim", "Lee", "Ng", "Wong", "Rahman", "Pillai", "Goh", "Chua", "Teo");
+    private static final List<String> STREETS = List.of("Geylang Street", "Serangoon Gardens", "Ang Mo Kio Street",
+            "Tampines Street", "Aljunied Street", "Clementi Ave", "Jurong West Street", "Bedok North Road");
+
+    // Phone numbers are 8 followed by 7 digits, spread out by a multiplier coprime with 10^7 to stay unique
+    private static final int PHONE_NUMBER_RANGE = 10_000_000;
+    private static final int PHONE_NUMBER_MULTIPLIER = 7_919_981;
+    private static final int MAXIMUM_UNAVAILABILITIES = 3;
+    private static final int MAXIMUM_ROLES = 3;
+
+    private final long seed;
+
+    public RosterGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns a new McScheduler with {@code workerCount} workers.
+     */
+    public McScheduler generate(int workerCount) {
+        if (workerCount < 0 || workerCount > PHONE_NUMBER_RANGE) {
+            throw new IllegalArgumentException("Worker count must be between 0 and " + PHONE_NUMBER_RANGE);
+        }
+        Random random = new Random(seed);
+        McScheduler mcScheduler = new McScheduler();
+        ROLES.forEach(mcScheduler::addRole);
+
+        List<Worker> workers = new ArrayList<>(workerCount);
+        int[] fitWorkerCounts = new int[ROLES.size()];
+        for (int i = 0; i < workerCount; i++) {
+            Worker worker = generateWorker(i, random);
+            workers.add(worker);
+            for (int role = 0; role < ROLES.size(); role++) {
+                if (worker.isFitForRole(ROLES.get(role))) {
+                    fitWorkerCounts[role]++;
+                }
+            }
+        }
+        mcScheduler.setWorkers(workers);
+
+        List<Shift> shifts = new ArrayList<>();
+        for (String day : DAYS) {
+            for (String time : TIMES) {
+                shifts.add(generateShift(day, time, fitWorkerCounts, random));
+            }
+        }
+        mcScheduler.setShifts(shifts);
+
+        List<Assignment> assignments = new ArrayList<>();
+        for (Shift shift : shifts) {
+            generateAssignments(shift, workers, random, assignments);
+        }
+        // The assignments are unique by construction, so they are added one by one through the assignment index
+        assignments.forEach(mcScheduler::addAssignment);
+        return mcScheduler;
+    }
+
+    private Worker generateWorker(int id, Random random) {
+        String name = FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size())) + " "
+                + LAST_NAMES.get(random.nextInt(LAST_NAMES.size())) + " " + id;
+        String phone = "8" + String.format("%07d",
+                (int) ((long) id * PHONE_NUMBER_MULTIPLIER % PHONE_NUMBER_RANGE));
+        String pay = String.format("%d.%02d", 8 + random.nextInt(12), random.nextInt(100));
+        String address = "Blk " + (1 + random.nextInt(999)) + " " + STREETS.get(random.nextInt(STREETS.size()))
+                + " " + (1 + random.nextInt(99)) + ", #" + String.format("%02d-%02d", 1 + random.nextInt(20),
+                1 + random.nextInt(50));
+
+        Set<Role> roles = new HashSet<>();
+        int roleCount = 1 + random.nextInt(MAXIMUM_ROLES);
+        while (roles.size() < roleCount) {
+            roles.add(pickWeightedRole(random));
+        }
+
+        Set<Unavailability> unavailabilities = new HashSet<>();
+        int unavailabilityCount = random.nextInt(MAXIMUM_UNAVAILABILITIES + 1);
+        for (int i = 0; i < unavailabilityCount; i++) {
+            unavailabilities.add(new Unavailability(DAYS.get(random.nextInt(DAYS.size())) + " "
+                    + TIMES.get(random.nextInt(TIMES.size()))));
+        }
+
+        return new Worker(new Name(name), new Phone(phone), new Pay(pay), new Address(address), roles,
+                unavailabilities);
+    }
+
+    private static Role pickWeightedRole(Random random) {
+        int totalWeight = 0;
+        for (int weight : ROLE_WEIGHTS) {
+            totalWeight += weight;
+        }
+        int pick = random.nextInt(totalWeight);
+        for (int role = 0; role < ROLE_WEIGHTS.length; role++) {
+            pick -= ROLE_WEIGHTS[role];
+            if (pick < 0) {
+                return ROLES.get(role);
+            }
+        }
+        throw new AssertionError("Role weights are all positive");
+    }
+
+    private static Shift generateShift(String day, String time, int[] fitWorkerCounts, Random random) {
+        Set<RoleRequirement> roleRequirements = new HashSet<>();
+        for (int role = 0; role < ROLES.size(); role++) {
+            // Demand varies by up to 25% either way between shifts
+            double variation = 0.75 + random.nextDouble() / 2;
+            int quantityRequired = Math.max(1, (int) (fitWorkerCounts[role] * DEMAND_RATIO * variation));
+            roleRequirements.add(new RoleRequirement(ROLES.get(role), quantityRequired));
+        }
+        return new Shift(new ShiftDay(day), new ShiftTime(time), roleRequirements);
+    }
+
+    /**
+     * Adds the leave and role assignments of {@code shift} to {@code assignments}, considering the workers in a
+     * random order.
+     */
+    private static void generateAssignments(Shift shift, List<Worker> workers, Random random,
+            List<Assignment> assignments) {
+        int[] gaps = new int[ROLES.size()];
+        for (RoleRequirement requirement : shift.getRoleRequirements()) {
+            int quantityToFill = Math.min(requirement.getQuantityRequired() - 1,
+                    (int) (requirement.getQuantityRequired() * FILL_RATIO));
+            gaps[ROLES.indexOf(requirement.getRole())] = quantityToFill;
+        }
+        int leaveToTake = (int) (workers.size() * LEAVE_RATIO);
+
+        int start = workers.isEmpty() ? 0 : random.nextInt(workers.size());
+        for (int i = 0; i < workers.size(); i++) {
+            Worker worker = workers.get((start + i) % workers.size());
+            if (leaveToTake > 0 && random.nextDouble() < LEAVE_RATIO * 2) {
+                assignments.add(new Assignment(shift, worker, new Leave()));
+                leaveToTake--;
+                continue;
+            }
+            if (worker.isUnavailable(shift)) {
+                continue;
+            }
+            for (int role = 0; role < ROLES.size(); role++) {
+                if (gaps[role] > 0 && worker.isFitForRole(ROLES.get(role))) {
+                    assignments.add(new Assignment(shift, worker, ROLES.get(role)));
+                    gaps[role]--;
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Objects;
 import mcscheduler.commons.util.AppUtil;
 import mcscheduler.model.shift.ShiftDay;
 import mcscheduler.model.shift.ShiftDayValue;
+import mcscheduler.model.shift.ShiftSlot;
 import mcscheduler.model.shift.ShiftTime;
 import mcscheduler.model.shift.ShiftTimeValue;
 
@@ -92,6 +93,13 @@ public class Unavailability {
         return unavailabilityString;
     }
 
+    /**
+     * Returns the mask with only the bit of the slot of the week this unavailability is for set.
+     */
+    public int getSlotMask() {
+        return ShiftSlot.mask(day, time);
+    }
+
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
@@ -112,8 +120,8 @@ public class Unavailability {
 
         // state check
         Unavailability u = (Unavailability) other;
-        return u.getDay().toString().equals(day.toString())
-                && u.getTime().toString().equals(time.toString());
+        return u.getDay().equals(day)
+                && u.getTime().equals(time);
     }
 
     @Override
@@ -2,12 +2,16 @@ package mcscheduler.model.worker;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import mcscheduler.commons.util.CollectionUtil;
+import mcscheduler.model.util.BatchableList;
 import mcscheduler.model.worker.exceptions.DuplicateWorkerException;
 import mcscheduler.model.worker.exceptions.WorkerNotFoundException;
 
@@ -24,9 +28,7 @@ import mcscheduler.model.worker.exceptions.WorkerNotFoundException;
  */
 public class UniqueWorkerList implements Iterable<Worker> {
 
-    private final ObservableList<Worker> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Worker> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final BatchableList<Worker> internalList = new BatchableList<>();
 
     /**
      * Returns true if the list contains an equivalent worker as the given argument.
@@ -68,6 +70,40 @@ public class UniqueWorkerList implements Iterable<Worker> {
         internalList.set(index, editedWorker);
     }
 
+    /**
+     * Replaces each worker in the list that is a key of {@code replacements} with the worker it maps to, in a single
+     * pass over the list that is published as one change.
+     * Every key must exist in the list. The identity of each replacement worker must not be the same as another
+     * existing worker in the list.
+     */
+    public void replaceAll(Map<Worker, Worker> replacements) {
+        requireNonNull(replacements);
+        CollectionUtil.requireAllNonNull(replacements.keySet());
+        CollectionUtil.requireAllNonNull(replacements.values());
+        for (Map.Entry<Worker, Worker> replacement : replacements.entrySet()) {
+            if (!replacement.getKey().isSameWorker(replacement.getValue()) && contains(replacement.getValue())) {
+                throw new DuplicateWorkerException();
+            }
+        }
+
+        List<Integer> indexesToReplace = new ArrayList<>(replacements.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            if (replacements.containsKey(internalList.get(i))) {
+                indexesToReplace.add(i);
+            }
+        }
+        if (indexesToReplace.size() != replacements.size()) {
+            throw new WorkerNotFoundException();
+        }
+
+        internalList.beginBatch();
+        try {
+            indexesToReplace.forEach(index -> internalList.set(index, replacements.get(internalList.get(index))));
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
     /**
      * Removes the equivalent worker from the list.
      * The worker must exist in the list.
@@ -97,11 +133,28 @@ public class UniqueWorkerList implements Iterable<Worker> {
         internalList.setAll(workers);
     }
 
+    /**
+     * Holds back the change events of the list until the matching {@link #endBatch()}.
+     *
+     * @see BatchableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Publishes the modifications held back since the outermost {@link #beginBatch()} as one change, if this ends
+     * the outermost batch.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Worker> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList.asUnmodifiableObservableList();
     }
 
     @Override
@@ -125,11 +178,10 @@ public class UniqueWorkerList implements Iterable<Worker> {
      * Returns true if {@code workers} contains only unique workers.
      */
     private boolean workersAreUnique(List<Worker> workers) {
-        for (int i = 0; i < workers.size() - 1; i++) {
-            for (int j = i + 1; j < workers.size(); j++) {
-                if (workers.get(i).isSameWorker(workers.get(j))) {
-                    return false;
-                }
+        Set<WorkerKey> identities = new HashSet<>();
+        for (Worker worker : workers) {
+            if (!identities.add(worker.getIdentityKey())) {
+                return false;
             }
         }
         return true;
@@ -25,6 +25,8 @@ public class Worker {
     private final Address address;
     private final Set<Role> roles = new HashSet<>();
     private final Set<Unavailability> unavailableTimings = new HashSet<>();
+    /** The slots of the week the worker is unavailable for, with the bits encoded by {@code ShiftSlot}. */
+    private final int unavailableSlots;
 
     /**
      * Standard constructor, start with empty {@code shifts}. Every field must be present and not null.
@@ -38,6 +40,11 @@ public class Worker {
         this.address = address;
         this.roles.addAll(roles);
         this.unavailableTimings.addAll(unavailableTimings);
+        int slots = 0;
+        for (Unavailability unavailability : unavailableTimings) {
+            slots |= unavailability.getSlotMask();
+        }
+        this.unavailableSlots = slots;
     }
 
     public Name getName() {
@@ -73,6 +80,14 @@ public class Worker {
         return Collections.unmodifiableSet(unavailableTimings);
     }
 
+    /**
+     * Returns the mask of the slots of the week the worker is unavailable for, with the bits encoded by
+     * {@code ShiftSlot}.
+     */
+    public int getUnavailableSlots() {
+        return unavailableSlots;
+    }
+
     /**
      * Returns true if the worker's role set contains the specified role.
      */
@@ -87,15 +102,14 @@ public class Worker {
      * Returns true if the worker is unavailable for the specified shift.
      */
     public boolean isUnavailable(Shift shiftToAssign) {
-        Set<Unavailability> workerUnavailableTimings = getUnavailableTimings();
-        for (Unavailability unavailability : workerUnavailableTimings) {
-            boolean hasSameDay = unavailability.getDay().equals(shiftToAssign.getShiftDay());
-            boolean hasSameTime = unavailability.getTime().equals(shiftToAssign.getShiftTime());
-            if (hasSameDay && hasSameTime) {
-                return true;
-            }
-        }
-        return false;
+        return (unavailableSlots & shiftToAssign.getSlotMask()) != 0;
+    }
+
+    /**
+     * Returns the key made up of the identity fields of this worker.
+     */
+    public WorkerKey getIdentityKey() {
+        return new WorkerKey(name, phone);
     }
 
     /**
@@ -0,0 +1,163 @@
+package mcscheduler.model.worker;
+
+import static java.util.Objects.requireNonNull;
+import static mcscheduler.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.ShiftSlot;
+
+/**
+ * Secondary index over the workers in the McScheduler, grouping them by the roles they can fill and the slots of the
+ * week they are available for, so that the workers who could fill a role in a shift are found with a few bitwise
+ * operations instead of by checking every worker.
+ *
+ * Each worker is represented by the bit at its position in the worker list. The index does not observe the worker
+ * list; its owner must report every change, in the order the changes are made to the list.
+ */
+public class WorkerAvailabilityIndex {
+
+    private final List<Worker> workers = new ArrayList<>();
+    private final Map<WorkerKey, Integer> positions = new HashMap<>();
+    /** The workers available for each slot, whatever their roles. */
+    private final BitSet[] availableWorkers = newSlotBitSets();
+    private final Map<Role, BitSet[]> availableWorkersByRole = new HashMap<>();
+
+    /**
+     * Records {@code toAdd} at the end of the worker list.
+     */
+    public void add(Worker toAdd) {
+        requireNonNull(toAdd);
+        int position = workers.size();
+        workers.add(toAdd);
+        positions.put(toAdd.getIdentityKey(), position);
+        setBits(toAdd, position);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedWorker}, at the same position in the worker list.
+     * {@code target} must be in the index.
+     */
+    public void set(Worker target, Worker editedWorker) {
+        requireAllNonNull(target, editedWorker);
+        int position = positions.remove(target.getIdentityKey());
+        clearBits(target, position);
+        workers.set(position, editedWorker);
+        positions.put(editedWorker.getIdentityKey(), position);
+        setBits(editedWorker, position);
+    }
+
+    /**
+     * Removes {@code toRemove}, moving every worker after it one position forward.
+     * {@code toRemove} must be in the index.
+     *
+     * This takes time linear in the number of workers, as the positions and bits of every later worker are shifted.
+     * Giving workers stable slots that are reused after removal would make this constant, but every lookup would
+     * then have to map slots back to positions in the worker list. Removals are single user commands, while lookups
+     * run for every shift and role whenever a roster is filled or repaired, so the lookups are kept cheap instead.
+     */
+    public void remove(Worker toRemove) {
+        requireNonNull(toRemove);
+        int position = positions.remove(toRemove.getIdentityKey());
+        workers.remove(position);
+        for (int i = position; i < workers.size(); i++) {
+            positions.put(workers.get(i).getIdentityKey(), i);
+        }
+        removeBit(availableWorkers, position);
+        availableWorkersByRole.values().forEach(slotBitSets -> removeBit(slotBitSets, position));
+    }
+
+    /**
+     * Rebuilds the index from {@code workers}, in the order of the worker list.
+     */
+    public void reset(Iterable<Worker> workers) {
+        requireNonNull(workers);
+        this.workers.clear();
+        positions.clear();
+        for (BitSet bitSet : availableWorkers) {
+            bitSet.clear();
+        }
+        availableWorkersByRole.clear();
+        workers.forEach(this::add);
+    }
+
+    /**
+     * Returns the position in the worker list of the worker with the same identity as {@code worker}, or -1 if
+     * there is no such worker.
+     */
+    public int indexOf(Worker worker) {
+        requireNonNull(worker);
+        return positions.getOrDefault(worker.getIdentityKey(), -1);
+    }
+
+    /**
+     * Returns the positions in the worker list of the workers who are fit for {@code role} and available for the
+     * slot with the ordinal {@code slot}. The returned set is a snapshot and may be modified by the caller.
+     */
+    public BitSet getAvailableWorkers(Role role, int slot) {
+        requireNonNull(role);
+        if (Leave.isLeave(role)) {
+            // Every worker is fit to take leave
+            return (BitSet) availableWorkers[slot].clone();
+        }
+        BitSet[] slotBitSets = availableWorkersByRole.get(role);
+        return slotBitSets == null ? new BitSet() : (BitSet) slotBitSets[slot].clone();
+    }
+
+    private void setBits(Worker worker, int position) {
+        int unavailableSlots = worker.getUnavailableSlots();
+        for (int slot = 0; slot < ShiftSlot.SLOT_COUNT; slot++) {
+            if ((unavailableSlots & (1 << slot)) != 0) {
+                continue;
+            }
+            availableWorkers[slot].set(position);
+            for (Role role : worker.getRoles()) {
+                availableWorkersByRole.computeIfAbsent(role, unused -> newSlotBitSets())[slot].set(position);
+            }
+        }
+    }
+
+    private void clearBits(Worker worker, int position) {
+        for (BitSet bitSet : availableWorkers) {
+            bitSet.clear(position);
+        }
+        for (Role role : worker.getRoles()) {
+            BitSet[] slotBitSets = availableWorkersByRole.get(role);
+            if (slotBitSets == null) {
+                continue;
+            }
+            for (BitSet bitSet : slotBitSets) {
+                bitSet.clear(position);
+            }
+        }
+    }
+
+    /**
+     * Removes the bit at {@code position} from each of {@code slotBitSets}, moving every bit after it one position
+     * forward.
+     */
+    private static void removeBit(BitSet[] slotBitSets, int position) {
+        for (BitSet bitSet : slotBitSets) {
+            if (bitSet.length() <= position) {
+                continue;
+            }
+            BitSet bitsAfter = bitSet.get(position + 1, bitSet.length());
+            bitSet.clear(position, bitSet.length());
+            bitsAfter.stream().forEach(offset -> bitSet.set(position + offset));
+        }
+    }
+
+    private static BitSet[] newSlotBitSets() {
+        BitSet[] slotBitSets = new BitSet[ShiftSlot.SLOT_COUNT];
+        for (int slot = 0; slot < ShiftSlot.SLOT_COUNT; slot++) {
+            slotBitSets[slot] = new BitSet();
+        }
+        return slotBitSets;
+    }
+}
@@ -0,0 +1,42 @@
+package mcscheduler.model.worker;
+
+import static mcscheduler.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Hash key made up of the identity fields of a {@code Worker}.
+ * Two workers have equal keys if and only if {@code Worker#isSameWorker(Worker)} holds.
+ */
+public final class WorkerKey {
+
+    private final Name name;
+    private final Phone phone;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public WorkerKey(Name name, Phone phone) {
+        requireAllNonNull(name, phone);
+        this.name = name;
+        this.phone = phone;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WorkerKey // instanceof handles nulls
+                && name.equals(((WorkerKey) other).name)
+                && phone.equals(((WorkerKey) other).phone)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone);
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + phone;
+    }
+}
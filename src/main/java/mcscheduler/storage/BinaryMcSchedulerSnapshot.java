@@ -0,0 +1,471 @@
+package mcscheduler.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import mcscheduler.commons.exceptions.IllegalValueException;
+import mcscheduler.commons.util.FileUtil;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.ReadOnlyMcScheduler;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.RoleRequirement;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.shift.ShiftKey;
+import mcscheduler.model.worker.Unavailability;
+import mcscheduler.model.worker.Worker;
+import mcscheduler.model.worker.WorkerKey;
+
+/**
+ * Reads and writes the McScheduler data file as a compact binary snapshot.
+ *
+ * The snapshot consists of, in order:
+ * <ol>
+ *     <li>a header: the magic number {@code MCSB} and the format version;</li>
+ *     <li>a string table holding every name, phone, address, role, day, time and unavailability once;</li>
+ *     <li>fixed-width worker, role requirement, shift and assignment records, which refer to strings by their index
+ *     in the string table, to the roles and unavailabilities of a worker as a run of string indices, to the role
+ *     requirements of a shift as a run of role requirement records, and to the worker and shift of an assignment by
+ *     their index in the worker and shift records;</li>
+ *     <li>the valid roles, as string indices;</li>
+ *     <li>the CRC32 checksum of everything before it.</li>
+ * </ol>
+ * Every record is converted through the same Jackson-friendly classes as the json data file, so the data constraints
+ * checked when reading are the same in both formats.
+ */
+class BinaryMcSchedulerSnapshot {
+
+    static final int MAGIC_NUMBER = 0x4D435342; // "MCSB"
+    static final int FORMAT_VERSION = 1;
+
+    static final String MESSAGE_NOT_A_SNAPSHOT = "Not a binary McScheduler snapshot";
+    static final String MESSAGE_UNSUPPORTED_FORMAT_VERSION =
+            "Binary McScheduler snapshot version %d is newer than the latest supported version %d";
+    static final String MESSAGE_CHECKSUM_MISMATCH = "Binary McScheduler snapshot is corrupted: checksum mismatch";
+    static final String MESSAGE_TRUNCATED = "Binary McScheduler snapshot is corrupted: unexpected end of data";
+    static final String MESSAGE_INVALID_REFERENCE = "Binary McScheduler snapshot is corrupted: invalid %s reference";
+    static final String MESSAGE_TOO_LARGE = "Binary McScheduler snapshot is too large to be read";
+    static final String MESSAGE_TRAILING_DATA = "Binary McScheduler snapshot is corrupted: unexpected trailing data";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CHECKSUM_SIZE = Long.BYTES;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private BinaryMcSchedulerSnapshot() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary snapshot.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    static boolean isSnapshot(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = in.readNBytes(Integer.BYTES);
+            return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC_NUMBER;
+        }
+    }
+
+    /**
+     * Reads the McScheduler in the snapshot at {@code filePath}, updating {@code crc}, which must be new, with
+     * every byte of the file.
+     * The file is read into a heap buffer rather than mapped into memory, as a mapped file cannot be replaced on
+     * some platforms until the mapping is garbage collected, which would make the next save fail.
+     *
+     * @throws IOException if the file cannot be read or is not a valid snapshot.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static McScheduler read(Path filePath, CRC32 crc) throws IOException, IllegalValueException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_TOO_LARGE);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException(MESSAGE_TRUNCATED);
+                }
+            }
+            buffer.flip();
+        }
+
+        try {
+            verifyChecksum(buffer, crc);
+            return new Reader(buffer).read();
+        } catch (BufferUnderflowException bue) {
+            throw new IOException(MESSAGE_TRUNCATED, bue);
+        }
+    }
+
+    /**
+     * Checks the checksum at the end of {@code buffer} against the data before it, computed with {@code crc}, which
+     * is then updated with the checksum itself so that it covers the whole file.
+     */
+    private static void verifyChecksum(ByteBuffer buffer, CRC32 crc) throws IOException {
+        if (buffer.limit() < Integer.BYTES * 2 + CHECKSUM_SIZE) {
+            throw new IOException(MESSAGE_TRUNCATED);
+        }
+        int checksumPosition = buffer.limit() - CHECKSUM_SIZE;
+        crc.update(buffer.duplicate().position(0).limit(checksumPosition));
+        if (crc.getValue() != buffer.getLong(checksumPosition)) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        crc.update(buffer.duplicate().position(checksumPosition));
+    }
+
+    /**
+     * Writes {@code mcScheduler} to {@code filePath} as a binary snapshot.
+     * The snapshot is written to a temporary file first, which then replaces {@code filePath}, so that a failed
+     * save leaves the previous data file intact.
+     *
+     * @return the CRC32 checksum of the whole file written.
+     * @throws IOException if there was an error writing to the file, or an assignment refers to a worker or shift
+     *     that is not in the McScheduler.
+     */
+    static long write(ReadOnlyMcScheduler mcScheduler, Path filePath) throws IOException {
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(temporaryFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), crc));
+            new Writer(mcScheduler, out).write();
+            // The checksum is written past the checked stream, as it does not cover itself
+            out.flush();
+            ByteBuffer checksum = ByteBuffer.allocate(CHECKSUM_SIZE).putLong(0, crc.getValue());
+            crc.update(checksum.duplicate());
+            while (checksum.hasRemaining()) {
+                channel.write(checksum);
+            }
+        } catch (IOException ioe) {
+            Files.deleteIfExists(temporaryFilePath);
+            throw ioe;
+        }
+        FileUtil.moveReplacingExisting(temporaryFilePath, filePath);
+        return crc.getValue();
+    }
+
+    /**
+     * Writes one snapshot, collecting the string table before writing any record.
+     */
+    private static class Writer {
+        private final ReadOnlyMcScheduler mcScheduler;
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        Writer(ReadOnlyMcScheduler mcScheduler, DataOutputStream out) {
+            this.mcScheduler = mcScheduler;
+            this.out = out;
+        }
+
+        void write() throws IOException {
+            collectStrings();
+
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            writeWorkers();
+            writeShifts();
+            writeAssignments(indexByKey(mcScheduler.getWorkerList(), Worker::getIdentityKey),
+                    indexByKey(mcScheduler.getShiftList(), Shift::getIdentityKey));
+
+            out.writeInt(mcScheduler.getRoleList().size());
+            for (Role role : mcScheduler.getRoleList()) {
+                out.writeInt(indexOf(role.roleName));
+            }
+        }
+
+        private void collectStrings() {
+            for (Worker worker : mcScheduler.getWorkerList()) {
+                add(worker.getName().fullName);
+                add(worker.getPhone().value);
+                add(worker.getAddress().value);
+                worker.getRoles().forEach(role -> add(role.roleName));
+                worker.getUnavailableTimings().forEach(unavailability -> add(unavailability.getString()));
+            }
+            for (Shift shift : mcScheduler.getShiftList()) {
+                add(shift.getShiftDay().toString());
+                add(shift.getShiftTime().toString());
+                shift.getRoleRequirements().forEach(requirement -> add(requirement.getRole().roleName));
+            }
+            mcScheduler.getAssignmentList().forEach(assignment -> add(assignment.getRole().roleName));
+            mcScheduler.getRoleList().forEach(role -> add(role.roleName));
+        }
+
+        private void add(String string) {
+            stringIndices.computeIfAbsent(string, unused -> {
+                strings.add(string);
+                return strings.size() - 1;
+            });
+        }
+
+        private int indexOf(String string) {
+            return stringIndices.get(string);
+        }
+
+        private void writeWorkers() throws IOException {
+            List<Worker> workers = mcScheduler.getWorkerList();
+            out.writeInt(workers.size());
+            int roleRunStart = 0;
+            int unavailabilityRunStart = 0;
+            for (Worker worker : workers) {
+                out.writeInt(indexOf(worker.getName().fullName));
+                out.writeInt(indexOf(worker.getPhone().value));
+                out.writeFloat(worker.getPay().getValue());
+                out.writeInt(indexOf(worker.getAddress().value));
+                out.writeInt(roleRunStart);
+                out.writeInt(worker.getRoles().size());
+                out.writeInt(unavailabilityRunStart);
+                out.writeInt(worker.getUnavailableTimings().size());
+                roleRunStart += worker.getRoles().size();
+                unavailabilityRunStart += worker.getUnavailableTimings().size();
+            }
+
+            out.writeInt(roleRunStart);
+            for (Worker worker : workers) {
+                for (Role role : worker.getRoles()) {
+                    out.writeInt(indexOf(role.roleName));
+                }
+            }
+            out.writeInt(unavailabilityRunStart);
+            for (Worker worker : workers) {
+                for (Unavailability unavailability : worker.getUnavailableTimings()) {
+                    out.writeInt(indexOf(unavailability.getString()));
+                }
+            }
+        }
+
+        private void writeShifts() throws IOException {
+            List<Shift> shifts = mcScheduler.getShiftList();
+            int requirementCount = shifts.stream().mapToInt(shift -> shift.getRoleRequirements().size()).sum();
+            out.writeInt(requirementCount);
+            for (Shift shift : shifts) {
+                for (RoleRequirement requirement : shift.getRoleRequirements()) {
+                    out.writeInt(indexOf(requirement.getRole().roleName));
+                    out.writeInt(requirement.getQuantityRequired());
+                    out.writeInt(requirement.getQuantityFilled());
+                }
+            }
+
+            out.writeInt(shifts.size());
+            int requirementRunStart = 0;
+            for (Shift shift : shifts) {
+                out.writeInt(indexOf(shift.getShiftDay().toString()));
+                out.writeInt(indexOf(shift.getShiftTime().toString()));
+                out.writeInt(requirementRunStart);
+                out.writeInt(shift.getRoleRequirements().size());
+                requirementRunStart += shift.getRoleRequirements().size();
+            }
+        }
+
+        private void writeAssignments(Map<WorkerKey, Integer> workerIndices, Map<ShiftKey, Integer> shiftIndices)
+                throws IOException {
+            List<Assignment> assignments = mcScheduler.getAssignmentList();
+            out.writeInt(assignments.size());
+            for (Assignment assignment : assignments) {
+                Integer workerIndex = workerIndices.get(assignment.getWorker().getIdentityKey());
+                if (workerIndex == null) {
+                    throw new IOException(JsonAdaptedAssignment.MESSAGE_UNKNOWN_WORKER);
+                }
+                Integer shiftIndex = shiftIndices.get(assignment.getShift().getIdentityKey());
+                if (shiftIndex == null) {
+                    throw new IOException(JsonAdaptedAssignment.MESSAGE_UNKNOWN_SHIFT);
+                }
+                out.writeInt(workerIndex);
+                out.writeInt(shiftIndex);
+                out.writeInt(indexOf(assignment.getRole().roleName));
+            }
+        }
+
+        private static <T, K> Map<K, Integer> indexByKey(List<T> entities, Function<T, K> keyOf) {
+            Map<K, Integer> indices = new HashMap<>();
+            for (int i = 0; i < entities.size(); i++) {
+                indices.put(keyOf.apply(entities.get(i)), i);
+            }
+            return indices;
+        }
+    }
+
+    /**
+     * Reads one snapshot from a buffer whose checksum was verified.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private final McSchedulerAssembler assembler = new McSchedulerAssembler();
+        private String[] strings;
+        // Identities of the workers and shifts read, as (name, phone) and (day, time), for assignments to refer to
+        private String[][] workerIdentities;
+        private String[][] shiftIdentities;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer.duplicate().limit(buffer.limit() - CHECKSUM_SIZE);
+        }
+
+        McScheduler read() throws IOException, IllegalValueException {
+            if (buffer.getInt() != MAGIC_NUMBER) {
+                throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int version = buffer.getInt();
+            if (version > FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_FORMAT_VERSION, version, FORMAT_VERSION));
+            }
+
+            readStrings();
+            readWorkers();
+            readShifts();
+            readAssignments();
+            int roleCount = readCount();
+            for (int i = 0; i < roleCount; i++) {
+                assembler.addRole(new JsonAdaptedRole(readString()));
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException(MESSAGE_TRAILING_DATA);
+            }
+            return assembler.getMcScheduler();
+        }
+
+        private void readStrings() throws IOException {
+            strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+
+        private void readWorkers() throws IOException, IllegalValueException {
+            int workerCount = readCount();
+            int[] workerRecords = new int[workerCount * 8];
+            for (int i = 0; i < workerCount; i++) {
+                int record = i * 8;
+                workerRecords[record] = buffer.getInt();
+                workerRecords[record + 1] = buffer.getInt();
+                workerRecords[record + 2] = Float.floatToRawIntBits(buffer.getFloat());
+                for (int field = 3; field < 8; field++) {
+                    workerRecords[record + field] = buffer.getInt();
+                }
+            }
+            String[] roleRuns = readStringRun();
+            String[] unavailabilityRuns = readStringRun();
+
+            workerIdentities = new String[workerCount][];
+            for (int i = 0; i < workerCount; i++) {
+                int record = i * 8;
+                List<JsonAdaptedRole> roles = new ArrayList<>();
+                for (String roleName : slice(roleRuns, workerRecords[record + 4], workerRecords[record + 5])) {
+                    roles.add(new JsonAdaptedRole(roleName));
+                }
+                List<JsonAdaptedUnavailability> unavailabilities = new ArrayList<>();
+                for (String unavailability : slice(unavailabilityRuns, workerRecords[record + 6],
+                        workerRecords[record + 7])) {
+                    unavailabilities.add(new JsonAdaptedUnavailability(unavailability));
+                }
+                String name = string(workerRecords[record]);
+                String phone = string(workerRecords[record + 1]);
+                assembler.addWorker(new JsonAdaptedWorker(name, phone,
+                        String.valueOf(Float.intBitsToFloat(workerRecords[record + 2])),
+                        string(workerRecords[record + 3]), roles, unavailabilities));
+                workerIdentities[i] = new String[] {name, phone};
+            }
+        }
+
+        private void readShifts() throws IOException, IllegalValueException {
+            JsonAdaptedRoleRequirement[] requirements = new JsonAdaptedRoleRequirement[readCount()];
+            for (int i = 0; i < requirements.length; i++) {
+                requirements[i] = new JsonAdaptedRoleRequirement(new JsonAdaptedRole(readString()),
+                        buffer.getInt(), buffer.getInt());
+            }
+
+            shiftIdentities = new String[readCount()][];
+            for (int i = 0; i < shiftIdentities.length; i++) {
+                String day = readString();
+                String time = readString();
+                assembler.addShift(new JsonAdaptedShift(day, time,
+                        List.of(slice(requirements, buffer.getInt(), buffer.getInt()))));
+                shiftIdentities[i] = new String[] {day, time};
+            }
+        }
+
+        private void readAssignments() throws IOException, IllegalValueException {
+            int assignmentCount = readCount();
+            for (int i = 0; i < assignmentCount; i++) {
+                int workerIndex = buffer.getInt();
+                int shiftIndex = buffer.getInt();
+                if (workerIndex < 0 || workerIndex >= workerIdentities.length) {
+                    throw new IOException(String.format(MESSAGE_INVALID_REFERENCE, "worker"));
+                }
+                if (shiftIndex < 0 || shiftIndex >= shiftIdentities.length) {
+                    throw new IOException(String.format(MESSAGE_INVALID_REFERENCE, "shift"));
+                }
+                String[] worker = workerIdentities[workerIndex];
+                String[] shift = shiftIdentities[shiftIndex];
+                assembler.addAssignment(new JsonAdaptedAssignment(worker[0], worker[1], shift[0], shift[1],
+                        new JsonAdaptedRole(readString()), null, null));
+            }
+        }
+
+        private String[] readStringRun() throws IOException {
+            String[] run = new String[readCount()];
+            for (int i = 0; i < run.length; i++) {
+                run[i] = readString();
+            }
+            return run;
+        }
+
+        private String readString() throws IOException {
+            return string(buffer.getInt());
+        }
+
+        private String string(int index) throws IOException {
+            if (index < 0 || index >= strings.length) {
+                throw new IOException(String.format(MESSAGE_INVALID_REFERENCE, "string"));
+            }
+            return strings[index];
+        }
+
+        /**
+         * Reads a count, checking that it is not negative or larger than the data left could possibly hold.
+         */
+        private int readCount() throws IOException {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IOException(MESSAGE_TRUNCATED);
+            }
+            return count;
+        }
+
+        private static <T> T[] slice(T[] run, int start, int length) throws IOException {
+            if (start < 0 || length < 0 || start > run.length - length) {
+                throw new IOException(String.format(MESSAGE_INVALID_REFERENCE, "run"));
+            }
+            return Arrays.copyOfRange(run, start, start + length);
+        }
+    }
+}
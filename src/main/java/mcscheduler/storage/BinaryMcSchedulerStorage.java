@@ -0,0 +1,80 @@
+package mcscheduler.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import mcscheduler.commons.exceptions.DataConversionException;
+import mcscheduler.commons.util.FileUtil;
+import mcscheduler.model.ReadOnlyMcScheduler;
+
+/**
+ * A class to access McScheduler data stored as a binary snapshot on the hard disk.
+ * Loads faster and takes less space than {@link JsonMcSchedulerStorage}, which is kept for exporting and debugging.
+ */
+public class BinaryMcSchedulerStorage implements McSchedulerStorage {
+
+    private final Path filePath;
+    private final Map<Path, Long> checksums = new ConcurrentHashMap<>();
+
+    public BinaryMcSchedulerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getMcSchedulerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyMcScheduler> readMcScheduler() throws DataConversionException {
+        return readMcScheduler(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMcScheduler()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyMcScheduler> readMcScheduler(Path filePath) throws DataConversionException {
+        // A data file saved as json is still read, and saved as a binary snapshot from then on
+        CRC32 crc = new CRC32();
+        Optional<ReadOnlyMcScheduler> mcScheduler = McSchedulerDataFile.read(filePath, crc);
+        if (mcScheduler.isPresent()) {
+            checksums.put(filePath, crc.getValue());
+        }
+        return mcScheduler;
+    }
+
+    @Override
+    public void saveMcScheduler(ReadOnlyMcScheduler mcScheduler) throws IOException {
+        saveMcScheduler(mcScheduler, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMcScheduler(ReadOnlyMcScheduler)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveMcScheduler(ReadOnlyMcScheduler mcScheduler, Path filePath) throws IOException {
+        requireNonNull(mcScheduler);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        checksums.put(filePath, BinaryMcSchedulerSnapshot.write(mcScheduler, filePath));
+    }
+
+    @Override
+    public OptionalLong getChecksum(Path filePath) {
+        requireNonNull(filePath);
+        Long checksum = checksums.get(filePath);
+        return checksum == null ? OptionalLong.empty() : OptionalLong.of(checksum);
+    }
+
+}
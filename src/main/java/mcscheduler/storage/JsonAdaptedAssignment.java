@@ -1,46 +1,173 @@
 package mcscheduler.storage;
 
+import java.util.Map;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import mcscheduler.commons.exceptions.IllegalValueException;
 import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.shift.ShiftDay;
+import mcscheduler.model.shift.ShiftKey;
+import mcscheduler.model.shift.ShiftTime;
+import mcscheduler.model.worker.Name;
+import mcscheduler.model.worker.Phone;
+import mcscheduler.model.worker.Worker;
+import mcscheduler.model.worker.WorkerKey;
 
 /**
  * Jackson-friendly version of {@link Assignment}.
+ *
+ * Assignments refer to their worker by (name, phone) and to their shift by (day, time), which must match a worker
+ * and a shift in the workers and shifts lists. Assignments saved before schema version 2 embed their whole worker
+ * and shift instead, and are still accepted when reading.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonAdaptedAssignment {
 
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Assignment's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_WORKER =
+            "Assignment refers to a worker that is not in the workers list.";
+    public static final String MESSAGE_UNKNOWN_SHIFT = "Assignment refers to a shift that is not in the shifts list.";
+
+    private final String workerName;
+    private final String workerPhone;
+    private final String shiftDay;
+    private final String shiftTime;
+    private final JsonAdaptedRole role;
+
+    // Schema version 1 fields, only ever read
     private final JsonAdaptedShift shift;
     private final JsonAdaptedWorker worker;
-    private final JsonAdaptedRole role;
 
     /**
      * Constructs a {@code JsonAdaptedAssignment} with the given assignment details.
      */
     @JsonCreator
-    public JsonAdaptedAssignment(@JsonProperty("shift") JsonAdaptedShift shift,
-            @JsonProperty("worker") JsonAdaptedWorker worker, @JsonProperty("role") JsonAdaptedRole role) {
+    public JsonAdaptedAssignment(@JsonProperty("workerName") String workerName,
+            @JsonProperty("workerPhone") String workerPhone, @JsonProperty("shiftDay") String shiftDay,
+            @JsonProperty("shiftTime") String shiftTime, @JsonProperty("role") JsonAdaptedRole role,
+            @JsonProperty("shift") JsonAdaptedShift shift, @JsonProperty("worker") JsonAdaptedWorker worker) {
+        this.workerName = workerName;
+        this.workerPhone = workerPhone;
+        this.shiftDay = shiftDay;
+        this.shiftTime = shiftTime;
+        this.role = role;
         this.shift = shift;
         this.worker = worker;
-        this.role = role;
     }
 
     /**
      * Converts a given {@code Assignment} into this class for Jackson use.
      */
     public JsonAdaptedAssignment(Assignment source) {
-        shift = new JsonAdaptedShift(source.getShift());
-        worker = new JsonAdaptedWorker(source.getWorker());
+        workerName = source.getWorker().getName().fullName;
+        workerPhone = source.getWorker().getPhone().value;
+        shiftDay = source.getShift().getShiftDay().toString();
+        shiftTime = source.getShift().getShiftTime().toString();
         role = new JsonAdaptedRole(source.getRole());
+        shift = null;
+        worker = null;
     }
 
     /**
-     * Converts this Jackson-friendly adapted assignment object into the model's {@code Assignment} object.
+     * Returns true if this assignment embeds its worker and shift, as saved before schema version 2.
+     */
+    public boolean isLegacyFormat() {
+        return shift != null || worker != null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted assignment object into the model's {@code Assignment} object, using
+     * the workers and shifts with the same identity in {@code workers} and {@code shifts}.
      *
+     * @param workers workers of the McScheduler, keyed by {@link Worker#getIdentityKey()}.
+     * @param shifts shifts of the McScheduler, keyed by {@link Shift#getIdentityKey()}.
      * @throws IllegalValueException if there were any data constraints violated in the adapted assignment.
      */
-    public Assignment toModelType() throws IllegalValueException {
-        return new Assignment(shift.toModelType(), worker.toModelType(), role.toModelType());
+    public Assignment toModelType(Map<WorkerKey, Worker> workers, Map<ShiftKey, Shift> shifts)
+            throws IllegalValueException {
+        if (role == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Role.class.getSimpleName()));
+        }
+        final Role modelRole = role.toModelType();
+
+        if (isLegacyFormat()) {
+            return toModelTypeFromLegacyFormat(workers, shifts, modelRole);
+        }
+
+        Worker modelWorker = workers.get(new WorkerKey(toModelName(), toModelPhone()));
+        if (modelWorker == null) {
+            throw new IllegalValueException(MESSAGE_UNKNOWN_WORKER);
+        }
+        Shift modelShift = shifts.get(new ShiftKey(toModelShiftDay(), toModelShiftTime()));
+        if (modelShift == null) {
+            throw new IllegalValueException(MESSAGE_UNKNOWN_SHIFT);
+        }
+        return new Assignment(modelShift, modelWorker, modelRole);
+    }
+
+    /**
+     * Converts an assignment saved before schema version 2. The embedded worker and shift are replaced by the ones
+     * with the same identity in the workers and shifts lists where they exist, as the file may predate later edits.
+     */
+    private Assignment toModelTypeFromLegacyFormat(Map<WorkerKey, Worker> workers,
+            Map<ShiftKey, Shift> shifts, Role modelRole) throws IllegalValueException {
+        if (worker == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Worker.class.getSimpleName()));
+        }
+        if (shift == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Shift.class.getSimpleName()));
+        }
+        Worker embeddedWorker = worker.toModelType();
+        Shift embeddedShift = shift.toModelType();
+        return new Assignment(shifts.getOrDefault(embeddedShift.getIdentityKey(), embeddedShift),
+                workers.getOrDefault(embeddedWorker.getIdentityKey(), embeddedWorker), modelRole);
+    }
+
+    private Name toModelName() throws IllegalValueException {
+        if (workerName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(workerName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(workerName);
+    }
+
+    private Phone toModelPhone() throws IllegalValueException {
+        if (workerPhone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
+        }
+        if (!Phone.isValidPhone(workerPhone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        return new Phone(workerPhone);
+    }
+
+    private ShiftDay toModelShiftDay() throws IllegalValueException {
+        if (shiftDay == null) {
+            throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, ShiftDay.class.getSimpleName()));
+        }
+        if (!ShiftDay.isValidDay(shiftDay)) {
+            throw new IllegalValueException(ShiftDay.MESSAGE_CONSTRAINTS);
+        }
+        return new ShiftDay(shiftDay);
+    }
+
+    private ShiftTime toModelShiftTime() throws IllegalValueException {
+        if (shiftTime == null) {
+            throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, ShiftTime.class.getSimpleName()));
+        }
+        if (!ShiftTime.isValidTime(shiftTime)) {
+            throw new IllegalValueException(ShiftTime.MESSAGE_CONSTRAINTS);
+        }
+        return new ShiftTime(shiftTime);
     }
 }
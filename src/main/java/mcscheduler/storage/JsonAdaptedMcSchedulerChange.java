@@ -0,0 +1,154 @@
+package mcscheduler.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import mcscheduler.commons.exceptions.IllegalValueException;
+import mcscheduler.model.McSchedulerChange;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.worker.Worker;
+
+/**
+ * Jackson-friendly version of {@link McSchedulerChange}, as written to the McScheduler journal.
+ *
+ * Assignments embed their whole worker and shift, as a change must be replayable without the workers and shifts
+ * lists it was made against.
+ */
+class JsonAdaptedMcSchedulerChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Change's type must be one of ADD, EDIT or REMOVE.";
+
+    private final String type;
+    private final JsonAdaptedEntity target;
+    private final JsonAdaptedEntity editedTarget;
+
+    /**
+     * Constructs a {@code JsonAdaptedMcSchedulerChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedMcSchedulerChange(@JsonProperty("type") String type,
+            @JsonProperty("target") JsonAdaptedEntity target,
+            @JsonProperty("editedTarget") JsonAdaptedEntity editedTarget) {
+        this.type = type;
+        this.target = target;
+        this.editedTarget = editedTarget;
+    }
+
+    /**
+     * Converts a given {@code McSchedulerChange} into this class for Jackson use.
+     * {@code source} must not be a {@code RESET}, which does not carry the new data.
+     */
+    public JsonAdaptedMcSchedulerChange(McSchedulerChange source) {
+        assert source.getType() != McSchedulerChange.Type.RESET;
+        type = source.getType().name();
+        target = new JsonAdaptedEntity(source.getTarget());
+        editedTarget = source.getEditedTarget() == null ? null : new JsonAdaptedEntity(source.getEditedTarget());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code McSchedulerChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public McSchedulerChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+
+        switch (type) {
+        case "ADD":
+            return McSchedulerChange.add(target.toModelType());
+        case "REMOVE":
+            return McSchedulerChange.remove(target.toModelType());
+        case "EDIT":
+            if (editedTarget == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "editedTarget"));
+            }
+            Object modelTarget = target.toModelType();
+            Object modelEditedTarget = editedTarget.toModelType();
+            if (!isSameEntityType(modelTarget, modelEditedTarget)) {
+                throw new IllegalValueException("Change's target and editedTarget must be of the same type.");
+            }
+            return McSchedulerChange.edit(modelTarget, modelEditedTarget);
+        default:
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+    }
+
+    private static boolean isSameEntityType(Object first, Object second) {
+        return (first instanceof Role && second instanceof Role)
+                || first.getClass().equals(second.getClass());
+    }
+
+    /**
+     * Jackson-friendly version of the worker, shift, assignment or role a change is made to.
+     * Exactly one of the fields is present.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static class JsonAdaptedEntity {
+
+        private final JsonAdaptedWorker worker;
+        private final JsonAdaptedShift shift;
+        private final JsonAdaptedAssignment assignment;
+        private final JsonAdaptedRole role;
+
+        /**
+         * Constructs a {@code JsonAdaptedEntity} with the given entity.
+         */
+        @JsonCreator
+        public JsonAdaptedEntity(@JsonProperty("worker") JsonAdaptedWorker worker,
+                @JsonProperty("shift") JsonAdaptedShift shift,
+                @JsonProperty("assignment") JsonAdaptedAssignment assignment,
+                @JsonProperty("role") JsonAdaptedRole role) {
+            this.worker = worker;
+            this.shift = shift;
+            this.assignment = assignment;
+            this.role = role;
+        }
+
+        /**
+         * Converts a given worker, shift, assignment or role into this class for Jackson use.
+         */
+        public JsonAdaptedEntity(Object source) {
+            worker = source instanceof Worker ? new JsonAdaptedWorker((Worker) source) : null;
+            shift = source instanceof Shift ? new JsonAdaptedShift((Shift) source) : null;
+            assignment = source instanceof Assignment ? toLegacyFormat((Assignment) source) : null;
+            role = source instanceof Role ? new JsonAdaptedRole((Role) source) : null;
+        }
+
+        private static JsonAdaptedAssignment toLegacyFormat(Assignment source) {
+            return new JsonAdaptedAssignment(null, null, null, null, new JsonAdaptedRole(source.getRole()),
+                    new JsonAdaptedShift(source.getShift()), new JsonAdaptedWorker(source.getWorker()));
+        }
+
+        /**
+         * Converts this Jackson-friendly adapted entity into the model's worker, shift, assignment or role.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the adapted entity.
+         */
+        public Object toModelType() throws IllegalValueException {
+            if (worker != null) {
+                return worker.toModelType();
+            } else if (shift != null) {
+                return shift.toModelType();
+            } else if (assignment != null) {
+                if (!assignment.isLegacyFormat()) {
+                    throw new IllegalValueException("Change's assignment must embed its worker and shift.");
+                }
+                return assignment.toModelType(Map.of(), Map.of());
+            } else if (role != null) {
+                return role.toModelType();
+            }
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "entity"));
+        }
+    }
+}
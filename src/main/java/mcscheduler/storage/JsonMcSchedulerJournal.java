@@ -0,0 +1,199 @@
+package mcscheduler.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import mcscheduler.commons.core.LogsCenter;
+import mcscheduler.commons.exceptions.IllegalValueException;
+import mcscheduler.commons.util.JsonUtil;
+import mcscheduler.model.McSchedulerChange;
+
+/**
+ * An append-only journal of the changes made to the McScheduler since its data file was last saved, stored as one
+ * json object per line next to the data file.
+ *
+ * The first line records the checksum of the data file the changes were made against, so that a journal left
+ * behind by a data file that has since been replaced is never replayed on top of it.
+ *
+ * The journal is not a write-ahead log: changes are appended by the background saver after the commands making them
+ * have returned. Each append is forced to the disk before the next save starts, so a crash loses at most the changes
+ * still waiting to be saved, and the data file and journal that remain always replay to a state the McScheduler was
+ * in.
+ */
+public class JsonMcSchedulerJournal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonMcSchedulerJournal.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MISSING_FILE_CHECKSUM = -1;
+
+    private final Path journalFilePath;
+
+    public JsonMcSchedulerJournal(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+        this.journalFilePath = journalFilePath;
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code dataFilePath}.
+     */
+    public static Path getJournalFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Empties the journal, recording that the changes appended from now on are made against the data file whose
+     * CRC32 checksum is {@code dataFileChecksum}.
+     *
+     * @throws IOException if there was an error writing to the journal.
+     */
+    public void reset(long dataFileChecksum) throws IOException {
+        String header = JsonUtil.toSingleLineJsonString(new Header(dataFileChecksum)) + "\n";
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal and forces them to the disk.
+     * {@code changes} must not contain a {@code RESET}, which can only be recorded by saving the whole data file
+     * and resetting the journal.
+     *
+     * @throws IOException if the journal was never reset or there was an error writing to it.
+     */
+    public void append(List<McSchedulerChange> changes) throws IOException {
+        requireNonNull(changes);
+        StringBuilder lines = new StringBuilder();
+        for (McSchedulerChange change : changes) {
+            lines.append(JsonUtil.toSingleLineJsonString(new JsonAdaptedMcSchedulerChange(change))).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeFully(channel, lines.toString());
+            channel.force(false);
+        } catch (NoSuchFileException nsfe) {
+            throw new IOException("The journal " + journalFilePath + " has no data file to record changes against",
+                    nsfe);
+        }
+    }
+
+    /**
+     * Returns the changes recorded against the data file at {@code dataFilePath} as it is now, in the order they
+     * were made. Returns no changes if there is no journal or it was recorded against another data file.
+     * Reading stops at the first change that cannot be read, as the journal may have been cut short while writing.
+     *
+     * @throws IOException if there was an error reading the journal or the data file.
+     */
+    public List<McSchedulerChange> read(Path dataFilePath) throws IOException {
+        requireNonNull(dataFilePath);
+        if (!Files.exists(journalFilePath) || !Files.exists(dataFilePath)) {
+            return new ArrayList<>();
+        }
+        return read(computeChecksum(dataFilePath));
+    }
+
+    /**
+     * Returns the changes recorded against the data file whose CRC32 checksum is {@code dataFileChecksum}, like
+     * {@link #read(Path)}, for a caller that already knows the checksum of the data file.
+     *
+     * @throws IOException if there was an error reading the journal.
+     */
+    public List<McSchedulerChange> read(long dataFileChecksum) throws IOException {
+        List<McSchedulerChange> changes = new ArrayList<>();
+        if (!Files.exists(journalFilePath)) {
+            return changes;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || readHeader(headerLine) != dataFileChecksum) {
+                logger.info("Journal " + journalFilePath + " does not belong to the data file and is ignored");
+                return changes;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    changes.add(JsonUtil.fromJsonString(line, JsonAdaptedMcSchedulerChange.class).toModelType());
+                } catch (IOException | IllegalValueException e) {
+                    logger.warning("Ignoring the rest of journal " + journalFilePath + " from change "
+                            + (changes.size() + 1) + ": " + e.getMessage());
+                    break;
+                }
+            }
+        }
+        return changes;
+    }
+
+    private long readHeader(String headerLine) {
+        try {
+            return JsonUtil.fromJsonString(headerLine, Header.class).dataFileChecksum;
+        } catch (IOException ioe) {
+            return MISSING_FILE_CHECKSUM;
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the data file at {@code dataFilePath}, reading it whole.
+     *
+     * @throws IOException if there was an error reading the data file.
+     */
+    public static long computeChecksum(Path dataFilePath) throws IOException {
+        if (!Files.exists(dataFilePath)) {
+            return MISSING_FILE_CHECKSUM;
+        }
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(dataFilePath), BUFFER_SIZE), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return crc.getValue();
+    }
+
+    private static void writeFully(FileChannel channel, String text) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * The first line of the journal.
+     */
+    private static class Header {
+        private final long dataFileChecksum;
+
+        @JsonCreator
+        Header(@JsonProperty("dataFileChecksum") long dataFileChecksum) {
+            this.dataFileChecksum = dataFileChecksum;
+        }
+    }
+}
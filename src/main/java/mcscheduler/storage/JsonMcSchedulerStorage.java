@@ -4,14 +4,14 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
-import java.util.logging.Logger;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
 
-import mcscheduler.commons.core.LogsCenter;
 import mcscheduler.commons.exceptions.DataConversionException;
-import mcscheduler.commons.exceptions.IllegalValueException;
 import mcscheduler.commons.util.FileUtil;
-import mcscheduler.commons.util.JsonUtil;
 import mcscheduler.model.ReadOnlyMcScheduler;
 
 /**
@@ -19,9 +19,8 @@ import mcscheduler.model.ReadOnlyMcScheduler;
  */
 public class JsonMcSchedulerStorage implements McSchedulerStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonMcSchedulerStorage.class);
-
     private final Path filePath;
+    private final Map<Path, Long> checksums = new ConcurrentHashMap<>();
 
     public JsonMcSchedulerStorage(Path filePath) {
         this.filePath = filePath;
@@ -43,20 +42,13 @@ public class JsonMcSchedulerStorage implements McSchedulerStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyMcScheduler> readMcScheduler(Path filePath) throws DataConversionException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableMcScheduler> jsonMcScheduler = JsonUtil.readJsonFile(
-                filePath, JsonSerializableMcScheduler.class);
-        if (!jsonMcScheduler.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonMcScheduler.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+        // A data file saved as a binary snapshot is still read, and saved as json from then on
+        CRC32 crc = new CRC32();
+        Optional<ReadOnlyMcScheduler> mcScheduler = McSchedulerDataFile.read(filePath, crc);
+        if (mcScheduler.isPresent()) {
+            checksums.put(filePath, crc.getValue());
         }
+        return mcScheduler;
     }
 
     @Override
@@ -74,7 +66,14 @@ public class JsonMcSchedulerStorage implements McSchedulerStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableMcScheduler(mcScheduler), filePath);
+        checksums.put(filePath, StreamingJsonMcScheduler.write(mcScheduler, filePath));
+    }
+
+    @Override
+    public OptionalLong getChecksum(Path filePath) {
+        requireNonNull(filePath);
+        Long checksum = checksums.get(filePath);
+        return checksum == null ? OptionalLong.empty() : OptionalLong.of(checksum);
     }
 
 }
@@ -11,10 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import mcscheduler.commons.exceptions.IllegalValueException;
 import mcscheduler.model.McScheduler;
 import mcscheduler.model.ReadOnlyMcScheduler;
-import mcscheduler.model.assignment.Assignment;
-import mcscheduler.model.role.Role;
-import mcscheduler.model.shift.Shift;
-import mcscheduler.model.worker.Worker;
 
 /**
  * An Immutable McScheduler that is serializable to JSON format.
@@ -26,6 +22,17 @@ class JsonSerializableMcScheduler {
     public static final String MESSAGE_DUPLICATE_SHIFT = "Shifts list contains duplicate shift(s).";
     public static final String MESSAGE_DUPLICATE_ASSIGNMENT = "Assignments list contains duplicate assignment(s).";
     public static final String MESSAGE_DUPLICATE_ROLE = "Roles list contains duplicate role(s).";
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA_VERSION =
+            "Data file schema version %d is newer than the supported version %d.";
+
+    /**
+     * Version of the data file format written by this class.
+     * Version 1 embeds the whole worker and shift in each assignment, version 2 refers to them by identity.
+     */
+    public static final int CURRENT_SCHEMA_VERSION = 2;
+    static final int LEGACY_SCHEMA_VERSION = 1;
+
+    private final int schemaVersion;
 
     private final List<JsonAdaptedWorker> workers = new ArrayList<>();
     private final List<JsonAdaptedShift> shifts = new ArrayList<>();
@@ -36,10 +43,12 @@ class JsonSerializableMcScheduler {
      * Constructs a {@code JsonSerializableMcScheduler} with the given workers, shifts, assignments and valid roles.
      */
     @JsonCreator
-    public JsonSerializableMcScheduler(@JsonProperty("workers") List<JsonAdaptedWorker> workers,
+    public JsonSerializableMcScheduler(@JsonProperty("schemaVersion") Integer schemaVersion,
+            @JsonProperty("workers") List<JsonAdaptedWorker> workers,
             @JsonProperty("shifts") List<JsonAdaptedShift> shifts,
             @JsonProperty("assignments") List<JsonAdaptedAssignment> assignments,
             @JsonProperty("validRoles") List<JsonAdaptedRole> validRoles) {
+        this.schemaVersion = schemaVersion == null ? LEGACY_SCHEMA_VERSION : schemaVersion;
         this.workers.addAll(workers);
         this.shifts.addAll(shifts);
         this.assignments.addAll(assignments);
@@ -52,6 +61,7 @@ class JsonSerializableMcScheduler {
      * @param source future changes to this will not affect the created {@code JsonSerializableMcScheduler}.
      */
     public JsonSerializableMcScheduler(ReadOnlyMcScheduler source) {
+        schemaVersion = CURRENT_SCHEMA_VERSION;
         workers.addAll(source.getWorkerList().stream().map(JsonAdaptedWorker::new).collect(Collectors.toList()));
         shifts.addAll(source.getShiftList().stream().map(JsonAdaptedShift::new).collect(Collectors.toList()));
         assignments.addAll(source.getAssignmentList().stream().map(JsonAdaptedAssignment::new)
@@ -59,46 +69,40 @@ class JsonSerializableMcScheduler {
         validRoles.addAll(source.getRoleList().stream().map(JsonAdaptedRole::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if this was read from a data file written before the current schema version, which will be
+     * migrated to the current schema the next time the McScheduler is saved.
+     */
+    public boolean isLegacySchema() {
+        return schemaVersion < CURRENT_SCHEMA_VERSION
+                || assignments.stream().anyMatch(JsonAdaptedAssignment::isLegacyFormat);
+    }
+
     /**
      * Converts this McScheduler into the model's {@code McScheduler} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public McScheduler toModelType() throws IllegalValueException {
-        McScheduler mcScheduler = new McScheduler();
-        for (JsonAdaptedWorker jsonAdaptedWorker : workers) {
-            Worker worker = jsonAdaptedWorker.toModelType();
-            if (mcScheduler.hasWorker(worker)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_WORKER);
-            }
-            mcScheduler.addWorker(worker);
+        if (schemaVersion > CURRENT_SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA_VERSION, schemaVersion,
+                    CURRENT_SCHEMA_VERSION));
         }
 
+        McSchedulerAssembler assembler = new McSchedulerAssembler();
+        for (JsonAdaptedWorker jsonAdaptedWorker : workers) {
+            assembler.addWorker(jsonAdaptedWorker);
+        }
         for (JsonAdaptedShift jsonAdaptedShift : shifts) {
-            Shift shift = jsonAdaptedShift.toModelType();
-            if (mcScheduler.hasShift(shift)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SHIFT);
-            }
-            mcScheduler.addShift(shift);
+            assembler.addShift(jsonAdaptedShift);
         }
-
         for (JsonAdaptedAssignment jsonAdaptedAssignment : assignments) {
-            Assignment assignment = jsonAdaptedAssignment.toModelType();
-            if (mcScheduler.hasAssignment(assignment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ASSIGNMENT);
-            }
-            mcScheduler.addAssignment(assignment);
+            assembler.addAssignment(jsonAdaptedAssignment);
         }
-
         for (JsonAdaptedRole jsonAdaptedRole : validRoles) {
-            Role role = jsonAdaptedRole.toModelType();
-            if (mcScheduler.hasRole(role)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ROLE);
-            }
-            mcScheduler.addRole(role);
+            assembler.addRole(jsonAdaptedRole);
         }
-
-        return mcScheduler;
+        return assembler.getMcScheduler();
     }
 
 }
@@ -0,0 +1,110 @@
+package mcscheduler.storage;
+
+import static mcscheduler.storage.JsonSerializableMcScheduler.MESSAGE_DUPLICATE_ASSIGNMENT;
+import static mcscheduler.storage.JsonSerializableMcScheduler.MESSAGE_DUPLICATE_ROLE;
+import static mcscheduler.storage.JsonSerializableMcScheduler.MESSAGE_DUPLICATE_SHIFT;
+import static mcscheduler.storage.JsonSerializableMcScheduler.MESSAGE_DUPLICATE_WORKER;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import mcscheduler.commons.exceptions.IllegalValueException;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.assignment.AssignmentKey;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.shift.ShiftKey;
+import mcscheduler.model.worker.Worker;
+import mcscheduler.model.worker.WorkerKey;
+
+/**
+ * Builds the model's {@code McScheduler} one Jackson-friendly entity at a time, checking the data constraints of
+ * the McScheduler as a whole as each entity is added.
+ *
+ * Duplicates are found by looking up the identity of each entity in a hash table, and each list of the McScheduler
+ * is only filled once every entity has been added, so that assembling takes time linear in the number of entities.
+ *
+ * Assignments refer to workers and shifts by identity, so every worker and shift must be added before the
+ * assignments referring to them.
+ */
+class McSchedulerAssembler {
+
+    private final List<Worker> workers = new ArrayList<>();
+    private final List<Shift> shifts = new ArrayList<>();
+    private final List<Assignment> assignments = new ArrayList<>();
+    private final List<Role> roles = new ArrayList<>();
+    private final Map<WorkerKey, Worker> workersByKey = new HashMap<>();
+    private final Map<ShiftKey, Shift> shiftsByKey = new HashMap<>();
+    private final Set<AssignmentKey> assignmentKeys = new HashSet<>();
+    private final Set<Role> roleSet = new HashSet<>();
+
+    /**
+     * Adds the worker represented by {@code jsonAdaptedWorker}.
+     *
+     * @throws IllegalValueException if the worker is invalid or a worker with the same identity was already added.
+     */
+    public void addWorker(JsonAdaptedWorker jsonAdaptedWorker) throws IllegalValueException {
+        Worker worker = jsonAdaptedWorker.toModelType();
+        if (workersByKey.putIfAbsent(worker.getIdentityKey(), worker) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_WORKER);
+        }
+        workers.add(worker);
+    }
+
+    /**
+     * Adds the shift represented by {@code jsonAdaptedShift}.
+     *
+     * @throws IllegalValueException if the shift is invalid or a shift with the same identity was already added.
+     */
+    public void addShift(JsonAdaptedShift jsonAdaptedShift) throws IllegalValueException {
+        Shift shift = jsonAdaptedShift.toModelType();
+        if (shiftsByKey.putIfAbsent(shift.getIdentityKey(), shift) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SHIFT);
+        }
+        shifts.add(shift);
+    }
+
+    /**
+     * Adds the assignment represented by {@code jsonAdaptedAssignment}.
+     *
+     * @throws IllegalValueException if the assignment is invalid, refers to a worker or shift that was not added,
+     *     or an assignment with the same identity was already added.
+     */
+    public void addAssignment(JsonAdaptedAssignment jsonAdaptedAssignment) throws IllegalValueException {
+        Assignment assignment = jsonAdaptedAssignment.toModelType(workersByKey, shiftsByKey);
+        if (!assignmentKeys.add(assignment.getIdentityKey())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ASSIGNMENT);
+        }
+        assignments.add(assignment);
+    }
+
+    /**
+     * Adds the role represented by {@code jsonAdaptedRole} to the valid roles.
+     *
+     * @throws IllegalValueException if the role is invalid or was already added.
+     */
+    public void addRole(JsonAdaptedRole jsonAdaptedRole) throws IllegalValueException {
+        Role role = jsonAdaptedRole.toModelType();
+        if (!roleSet.add(role)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ROLE);
+        }
+        roles.add(role);
+    }
+
+    /**
+     * Returns a new {@code McScheduler} holding every entity added so far, in the order they were added.
+     */
+    public McScheduler getMcScheduler() {
+        McScheduler mcScheduler = new McScheduler();
+        mcScheduler.setWorkers(workers);
+        mcScheduler.setShifts(shifts);
+        mcScheduler.setAssignments(assignments);
+        mcScheduler.setRoles(roles);
+        return mcScheduler;
+    }
+}
@@ -0,0 +1,55 @@
+package mcscheduler.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import mcscheduler.commons.core.LogsCenter;
+import mcscheduler.commons.exceptions.DataConversionException;
+import mcscheduler.commons.exceptions.IllegalValueException;
+import mcscheduler.model.ReadOnlyMcScheduler;
+
+/**
+ * Reads a McScheduler data file in whichever format it was saved in.
+ * Shared by the storages of every format, so that switching formats keeps the existing data file readable.
+ */
+class McSchedulerDataFile {
+
+    private static final Logger logger = LogsCenter.getLogger(McSchedulerDataFile.class);
+
+    private McSchedulerDataFile() {}
+
+    /**
+     * Returns the McScheduler in the data file at {@code filePath}, or an empty {@code Optional} if there is no file.
+     * {@code crc}, which must be new, is updated with every byte of the file read, so that its checksum is known
+     * without reading the file again.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    static Optional<ReadOnlyMcScheduler> read(Path filePath, CRC32 crc) throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(crc);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryMcSchedulerSnapshot.isSnapshot(filePath)
+                    ? BinaryMcSchedulerSnapshot.read(filePath, crc)
+                    : StreamingJsonMcScheduler.read(filePath, crc));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+}
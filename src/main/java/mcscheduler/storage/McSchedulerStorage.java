@@ -3,6 +3,7 @@ package mcscheduler.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import mcscheduler.commons.exceptions.DataConversionException;
 import mcscheduler.model.McScheduler;
@@ -43,4 +44,11 @@ public interface McSchedulerStorage {
      */
     void saveMcScheduler(ReadOnlyMcScheduler mcScheduler, Path filePath) throws IOException;
 
+    /**
+     * Returns the CRC32 checksum of the data file at {@code filePath} as this storage last read or saved it, computed
+     * while it was read or written so that the file need not be read again.
+     * Returns an empty {@code OptionalLong} if this storage has neither read nor saved {@code filePath}.
+     */
+    OptionalLong getChecksum(Path filePath);
+
 }
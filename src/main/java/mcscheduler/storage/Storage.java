@@ -2,9 +2,11 @@ package mcscheduler.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import mcscheduler.commons.exceptions.DataConversionException;
+import mcscheduler.model.McSchedulerChange;
 import mcscheduler.model.ReadOnlyMcScheduler;
 import mcscheduler.model.ReadOnlyUserPrefs;
 import mcscheduler.model.UserPrefs;
@@ -29,4 +31,20 @@ public interface Storage extends McSchedulerStorage, UserPrefsStorage {
     @Override
     void saveMcScheduler(ReadOnlyMcScheduler mcScheduler) throws IOException;
 
+    /**
+     * Records {@code changes}, made since the McScheduler was last saved with {@link #saveMcScheduler}, without
+     * saving the whole McScheduler.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendMcSchedulerChanges(List<McSchedulerChange> changes) throws IOException;
+
+    /**
+     * Returns the changes recorded with {@link #appendMcSchedulerChanges} since the McScheduler returned by
+     * {@link #readMcScheduler()} was saved, in the order they were made.
+     *
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<McSchedulerChange> readMcSchedulerChanges() throws IOException;
+
 }
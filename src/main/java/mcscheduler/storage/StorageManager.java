@@ -2,11 +2,14 @@ package mcscheduler.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.logging.Logger;
 
 import mcscheduler.commons.core.LogsCenter;
 import mcscheduler.commons.exceptions.DataConversionException;
+import mcscheduler.model.McSchedulerChange;
 import mcscheduler.model.ReadOnlyMcScheduler;
 import mcscheduler.model.ReadOnlyUserPrefs;
 import mcscheduler.model.UserPrefs;
@@ -19,6 +22,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private final McSchedulerStorage mcSchedulerStorage;
     private final UserPrefsStorage userPrefsStorage;
+    private final JsonMcSchedulerJournal journal;
 
     /**
      * Creates a {@code StorageManager} with the given {@code McSchedulerStorage} and {@code UserPrefStorage}.
@@ -27,6 +31,8 @@ public class StorageManager implements Storage {
         super();
         this.mcSchedulerStorage = mcSchedulerStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.journal = new JsonMcSchedulerJournal(
+                JsonMcSchedulerJournal.getJournalFilePath(mcSchedulerStorage.getMcSchedulerFilePath()));
     }
 
     // ================ UserPrefs methods ==============================
@@ -65,9 +71,17 @@ public class StorageManager implements Storage {
         return mcSchedulerStorage.readMcScheduler(filePath);
     }
 
+    /**
+     * Saves {@code mcScheduler} to the data file and empties the journal of changes made before it.
+     */
     @Override
     public void saveMcScheduler(ReadOnlyMcScheduler mcScheduler) throws IOException {
-        saveMcScheduler(mcScheduler, mcSchedulerStorage.getMcSchedulerFilePath());
+        Path filePath = mcSchedulerStorage.getMcSchedulerFilePath();
+        saveMcScheduler(mcScheduler, filePath);
+        OptionalLong savedChecksum = mcSchedulerStorage.getChecksum(filePath);
+        journal.reset(savedChecksum.isPresent()
+                ? savedChecksum.getAsLong()
+                : JsonMcSchedulerJournal.computeChecksum(filePath));
     }
 
     @Override
@@ -76,4 +90,28 @@ public class StorageManager implements Storage {
         mcSchedulerStorage.saveMcScheduler(mcScheduler, filePath);
     }
 
+    @Override
+    public OptionalLong getChecksum(Path filePath) {
+        return mcSchedulerStorage.getChecksum(filePath);
+    }
+
+    @Override
+    public void appendMcSchedulerChanges(List<McSchedulerChange> changes) throws IOException {
+        logger.fine("Attempting to append " + changes.size() + " changes to journal: "
+                + journal.getJournalFilePath());
+        journal.append(changes);
+    }
+
+    /**
+     * Returns the changes in the journal, checked against the checksum of the data file computed when it was last
+     * read or saved, so that the data file is not read again.
+     */
+    @Override
+    public List<McSchedulerChange> readMcSchedulerChanges() throws IOException {
+        logger.fine("Attempting to read changes from journal: " + journal.getJournalFilePath());
+        Path filePath = mcSchedulerStorage.getMcSchedulerFilePath();
+        OptionalLong checksum = mcSchedulerStorage.getChecksum(filePath);
+        return checksum.isPresent() ? journal.read(checksum.getAsLong()) : journal.read(filePath);
+    }
+
 }
@@ -0,0 +1,213 @@
+package mcscheduler.storage;
+
+import static mcscheduler.storage.JsonSerializableMcScheduler.CURRENT_SCHEMA_VERSION;
+import static mcscheduler.storage.JsonSerializableMcScheduler.LEGACY_SCHEMA_VERSION;
+import static mcscheduler.storage.JsonSerializableMcScheduler.MESSAGE_UNSUPPORTED_SCHEMA_VERSION;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import mcscheduler.commons.core.LogsCenter;
+import mcscheduler.commons.exceptions.IllegalValueException;
+import mcscheduler.commons.util.FileUtil;
+import mcscheduler.commons.util.JsonUtil;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.ReadOnlyMcScheduler;
+
+/**
+ * Reads and writes the McScheduler data file one entity at a time, in the same format as
+ * {@link JsonSerializableMcScheduler}, without holding the whole document in memory.
+ */
+class StreamingJsonMcScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(StreamingJsonMcScheduler.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final String FIELD_SCHEMA_VERSION = "schemaVersion";
+    private static final String FIELD_WORKERS = "workers";
+    private static final String FIELD_SHIFTS = "shifts";
+    private static final String FIELD_ASSIGNMENTS = "assignments";
+    private static final String FIELD_VALID_ROLES = "validRoles";
+
+    private StreamingJsonMcScheduler() {}
+
+    /**
+     * Reads the McScheduler in {@code filePath}, converting each entity into the model as soon as it is parsed, and
+     * updating {@code crc} with every byte of the file.
+     * Assignments found before the workers and shifts they refer to are held back until the end of the file.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static McScheduler read(Path filePath, CRC32 crc) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+             BufferedInputStream in = new BufferedInputStream(
+                     new CheckedInputStream(Channels.newInputStream(channel), crc), BUFFER_SIZE);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the McScheduler data to be a JSON object");
+            }
+
+            McSchedulerAssembler assembler = new McSchedulerAssembler();
+            List<JsonAdaptedAssignment> pendingAssignments = new ArrayList<>();
+            int schemaVersion = LEGACY_SCHEMA_VERSION;
+            boolean hasReadWorkers = false;
+            boolean hasReadShifts = false;
+            boolean hasLegacyAssignments = false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case FIELD_SCHEMA_VERSION:
+                    schemaVersion = parser.getValueAsInt(LEGACY_SCHEMA_VERSION);
+                    if (schemaVersion > CURRENT_SCHEMA_VERSION) {
+                        throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA_VERSION,
+                                schemaVersion, CURRENT_SCHEMA_VERSION));
+                    }
+                    break;
+                case FIELD_WORKERS:
+                    readArray(parser, JsonAdaptedWorker.class, assembler::addWorker);
+                    hasReadWorkers = true;
+                    break;
+                case FIELD_SHIFTS:
+                    readArray(parser, JsonAdaptedShift.class, assembler::addShift);
+                    hasReadShifts = true;
+                    break;
+                case FIELD_ASSIGNMENTS:
+                    // Only assignments found before the workers and shifts they refer to are held back
+                    EntityConsumer<JsonAdaptedAssignment> assignmentConsumer = hasReadWorkers && hasReadShifts
+                            ? assembler::addAssignment
+                            : pendingAssignments::add;
+                    boolean hasLegacyAssignmentsInArray = readAssignments(parser, assignmentConsumer);
+                    hasLegacyAssignments = hasLegacyAssignments || hasLegacyAssignmentsInArray;
+                    break;
+                case FIELD_VALID_ROLES:
+                    readArray(parser, JsonAdaptedRole.class, assembler::addRole);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Expected the end of the McScheduler data");
+            }
+            // Whatever follows the data, such as a final newline, is read so that the checksum covers the whole file
+            in.transferTo(OutputStream.nullOutputStream());
+            for (JsonAdaptedAssignment jsonAdaptedAssignment : pendingAssignments) {
+                assembler.addAssignment(jsonAdaptedAssignment);
+            }
+
+            if (schemaVersion < CURRENT_SCHEMA_VERSION || hasLegacyAssignments) {
+                logger.info("Data file " + filePath + " uses an older schema and will be migrated to schema version "
+                        + CURRENT_SCHEMA_VERSION + " when next saved");
+            }
+            return assembler.getMcScheduler();
+        }
+    }
+
+    /**
+     * Writes {@code mcScheduler} to {@code filePath}, converting each entity only as it is written.
+     * The data is written to a temporary file first, which then replaces {@code filePath}, so that a failed save
+     * leaves the previous data file intact.
+     *
+     * @return the CRC32 checksum of the whole file written.
+     * @throws IOException if there was an error writing to the file.
+     */
+    static long write(ReadOnlyMcScheduler mcScheduler, Path filePath) throws IOException {
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(temporaryFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             JsonGenerator generator = JsonUtil.createGenerator(new BufferedOutputStream(
+                     new CheckedOutputStream(Channels.newOutputStream(channel), crc), BUFFER_SIZE))) {
+            generator.writeStartObject();
+            generator.writeNumberField(FIELD_SCHEMA_VERSION, CURRENT_SCHEMA_VERSION);
+            writeArray(generator, FIELD_WORKERS, mcScheduler.getWorkerList(), JsonAdaptedWorker::new);
+            writeArray(generator, FIELD_SHIFTS, mcScheduler.getShiftList(), JsonAdaptedShift::new);
+            writeArray(generator, FIELD_ASSIGNMENTS, mcScheduler.getAssignmentList(), JsonAdaptedAssignment::new);
+            writeArray(generator, FIELD_VALID_ROLES, mcScheduler.getRoleList(), JsonAdaptedRole::new);
+            generator.writeEndObject();
+        } catch (IOException ioe) {
+            Files.deleteIfExists(temporaryFilePath);
+            throw ioe;
+        }
+        FileUtil.moveReplacingExisting(temporaryFilePath, filePath);
+        return crc.getValue();
+    }
+
+    /**
+     * Reads the array of assignments at the current token of {@code parser} like {@link #readArray}, checking the
+     * format of each assignment as it is parsed.
+     *
+     * @return true if any of the assignments is in the legacy format.
+     */
+    private static boolean readAssignments(JsonParser parser, EntityConsumer<JsonAdaptedAssignment> consumer)
+            throws IOException, IllegalValueException {
+        requireArrayStart(parser, JsonAdaptedAssignment.class);
+        boolean hasLegacyAssignments = false;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedAssignment jsonAdaptedAssignment = parser.readValueAs(JsonAdaptedAssignment.class);
+            hasLegacyAssignments = hasLegacyAssignments || jsonAdaptedAssignment.isLegacyFormat();
+            consumer.accept(jsonAdaptedAssignment);
+        }
+        return hasLegacyAssignments;
+    }
+
+    /**
+     * Reads the array at the current token of {@code parser} and passes each element to {@code consumer} as soon
+     * as it is parsed. A null array is rejected, as it is by {@link JsonSerializableMcScheduler}.
+     */
+    private static <T> void readArray(JsonParser parser, Class<T> elementType, EntityConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        requireArrayStart(parser, elementType);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            consumer.accept(parser.readValueAs(elementType));
+        }
+    }
+
+    private static void requireArrayStart(JsonParser parser, Class<?> elementType) throws JsonParseException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + elementType.getSimpleName());
+        }
+    }
+
+    private static <T> void writeArray(JsonGenerator generator, String fieldName, List<T> entities,
+            Function<T, ?> toJsonAdapted) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T entity : entities) {
+            generator.writeObject(toJsonAdapted.apply(entity));
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Accepts a Jackson-friendly entity as soon as it is parsed.
+     */
+    @FunctionalInterface
+    private interface EntityConsumer<T> {
+        void accept(T entity) throws IllegalValueException;
+    }
+}
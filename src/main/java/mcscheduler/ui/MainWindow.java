@@ -2,6 +2,7 @@ package mcscheduler.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -133,6 +134,7 @@ public class MainWindow extends UiPart<Stage> {
         if (!couldLoad) {
             resultDisplay.setFeedbackToUser(Messages.MESSAGE_UNABLE_TO_LOAD_SAVE);
         }
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getMcSchedulerFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -0,0 +1,126 @@
+package mcscheduler;
+
+import static mcscheduler.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static mcscheduler.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static mcscheduler.logic.commands.CommandTestUtil.PAY_DESC_AMY;
+import static mcscheduler.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static mcscheduler.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mcscheduler.commons.core.Messages;
+import mcscheduler.logic.LogicManager;
+import mcscheduler.logic.commands.ExitCommand;
+import mcscheduler.logic.commands.RoleAddCommand;
+import mcscheduler.logic.commands.WorkerAddCommand;
+import mcscheduler.logic.commands.WorkerDeleteCommand;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.ReadOnlyMcScheduler;
+import mcscheduler.storage.JsonMcSchedulerStorage;
+import mcscheduler.storage.JsonUserPrefsStorage;
+import mcscheduler.storage.StorageManager;
+
+public class HeadlessMainTest {
+
+    private static final String WORKER_ADD_AMY = WorkerAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + PAY_DESC_AMY + ADDRESS_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private SaveCountingStorage mcSchedulerStorage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        mcSchedulerStorage = new SaveCountingStorage(temporaryFolder.resolve("mcScheduler.json"));
+        StorageManager storage = new StorageManager(mcSchedulerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    private int run(String script) throws IOException {
+        return HeadlessMain.run(logic, new BufferedReader(new StringReader(script)), new PrintStream(out, true),
+                new PrintStream(err, true));
+    }
+
+    @Test
+    public void run_validScript_savesOnceAtEnd() throws Exception {
+        String script = "# add a role and a worker\n"
+                + RoleAddCommand.COMMAND_WORD + " Cashier\n"
+                + "\n"
+                + WORKER_ADD_AMY + "\n"
+                + WorkerAddCommand.COMMAND_WORD + " n/Bob" + PHONE_DESC_BOB + PAY_DESC_AMY + ADDRESS_DESC_AMY + "\n";
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run(script));
+        assertEquals(1, mcSchedulerStorage.saveCount);
+        assertEquals(3, out.toString().lines().count());
+        assertEquals("", err.toString());
+        assertEquals(new McScheduler(model.getMcScheduler()),
+                new McScheduler(mcSchedulerStorage.readMcScheduler().get()));
+    }
+
+    @Test
+    public void run_failingCommands_reportsLinesAndCarriesOn() throws Exception {
+        String script = "unknown-command\n"
+                + WorkerDeleteCommand.COMMAND_WORD + " 1\n"
+                + WORKER_ADD_AMY + "\n";
+
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED, run(script));
+        assertEquals(1, model.getMcScheduler().getWorkerList().size());
+        assertEquals(1, mcSchedulerStorage.saveCount);
+        String errors = err.toString();
+        assertTrue(errors.contains(String.format(HeadlessMain.MESSAGE_COMMAND_FAILED, 1,
+                Messages.MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(errors.contains("Line 2: "));
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run(WORKER_ADD_AMY + "\n" + ExitCommand.COMMAND_WORD + "\n"
+                + WorkerDeleteCommand.COMMAND_WORD + " 1\n"));
+        assertEquals(1, model.getMcScheduler().getWorkerList().size());
+        assertEquals(1, mcSchedulerStorage.saveCount);
+    }
+
+    @Test
+    public void run_readOnlyScript_doesNotSave() throws Exception {
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run("worker-list\n"));
+        assertEquals(0, mcSchedulerStorage.saveCount);
+        assertFalse(mcSchedulerStorage.readMcScheduler().isPresent());
+    }
+
+    /**
+     * Counts the McSchedulers saved.
+     */
+    private static class SaveCountingStorage extends JsonMcSchedulerStorage {
+        private int saveCount;
+
+        private SaveCountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveMcScheduler(ReadOnlyMcScheduler mcScheduler, Path filePath) throws IOException {
+            saveCount++;
+            super.saveMcScheduler(mcScheduler, filePath);
+        }
+    }
+}
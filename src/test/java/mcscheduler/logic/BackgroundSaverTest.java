@@ -0,0 +1,164 @@
+package mcscheduler.logic;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static mcscheduler.testutil.McSchedulerBuilder.getTypicalMcScheduler;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.McSchedulerChange;
+import mcscheduler.model.ReadOnlyMcScheduler;
+import mcscheduler.storage.JsonMcSchedulerStorage;
+import mcscheduler.storage.JsonUserPrefsStorage;
+import mcscheduler.storage.StorageManager;
+
+public class BackgroundSaverTest {
+
+    private final List<Runnable> scheduledTasks = new ArrayList<>();
+    private final StorageStub storage = new StorageStub();
+    private final BackgroundSaver saver = new BackgroundSaver(storage, scheduledTasks::add);
+
+    @Test
+    public void requestSave_burstOfRequests_savesLatestSnapshotOnce() {
+        McScheduler latestSnapshot = getTypicalMcScheduler();
+        saver.requestSave(new McScheduler());
+        saver.requestSave(new McScheduler());
+        saver.requestSave(latestSnapshot);
+
+        assertEquals(1, scheduledTasks.size());
+        scheduledTasks.get(0).run();
+        assertEquals(1, storage.savedSnapshots.size());
+        assertSame(latestSnapshot, storage.savedSnapshots.get(0));
+    }
+
+    @Test
+    public void getSaveNanos_successfulAndFailedSaves_recordsSuccessfulSavesOnly() {
+        assertEquals(0, saver.getLastSaveNanos());
+        saver.requestSave(new McScheduler());
+        scheduledTasks.get(0).run();
+        storage.failure = new IOException("disk full");
+        saver.requestSave(new McScheduler());
+        scheduledTasks.get(1).run();
+
+        assertEquals(1, saver.getSaveNanos().getTotalCount());
+        assertEquals(saver.getSaveNanos().getMax(), saver.getLastSaveNanos());
+    }
+
+    @Test
+    public void takeUnreportedFailure_saveFailed_returnsFailureOnce() {
+        storage.failure = new IOException("disk full");
+        saver.requestSave(new McScheduler());
+        scheduledTasks.get(0).run();
+
+        assertSame(storage.failure, saver.takeUnreportedFailure().get());
+        assertFalse(saver.takeUnreportedFailure().isPresent());
+    }
+
+    @Test
+    public void requestSave_failureHandlerSet_reportsToHandler() {
+        List<IOException> reportedFailures = new ArrayList<>();
+        saver.setFailureHandler(reportedFailures::add);
+        storage.failure = new IOException("disk full");
+        saver.requestSave(new McScheduler());
+        scheduledTasks.get(0).run();
+
+        assertEquals(1, reportedFailures.size());
+        assertFalse(saver.takeUnreportedFailure().isPresent());
+    }
+
+    @Test
+    public void flush_latestSaveFailed_throwsIoException() {
+        BackgroundSaver directSaver = new BackgroundSaver(storage, Runnable::run);
+        storage.failure = new IOException("disk full");
+        directSaver.requestSave(new McScheduler());
+        assertThrows(IOException.class, "disk full", directSaver::flush);
+
+        storage.failure = null;
+        directSaver.requestSave(new McScheduler());
+        assertEquals(1, storage.savedSnapshots.size());
+    }
+
+    @Test
+    public void requestAppend_afterSnapshot_appendsChangesAfterSnapshot() {
+        saver.requestSave(new McScheduler());
+        saver.requestAppend(List.of(McSchedulerChange.add(ALICE)));
+        saver.requestAppend(List.of(McSchedulerChange.add(BOB)));
+
+        assertEquals(1, scheduledTasks.size());
+        scheduledTasks.get(0).run();
+        assertEquals(1, storage.savedSnapshots.size());
+        assertEquals(List.of(McSchedulerChange.add(ALICE), McSchedulerChange.add(BOB)), storage.appendedChanges);
+    }
+
+    @Test
+    public void requestSave_afterChangesRequested_discardsChangesIncludedInSnapshot() {
+        saver.requestSave(new McScheduler());
+        saver.requestAppend(List.of(McSchedulerChange.add(ALICE)));
+        saver.requestSave(getTypicalMcScheduler());
+        scheduledTasks.get(0).run();
+
+        assertEquals(1, storage.savedSnapshots.size());
+        assertTrue(storage.appendedChanges.isEmpty());
+    }
+
+    @Test
+    public void isSnapshotRequired() {
+        BackgroundSaver directSaver = new BackgroundSaver(storage, Runnable::run);
+        // no snapshot saved yet
+        assertTrue(directSaver.isSnapshotRequired());
+
+        directSaver.requestSave(new McScheduler());
+        assertFalse(directSaver.isSnapshotRequired());
+
+        // changes could not be appended
+        storage.failure = new IOException("disk full");
+        directSaver.requestAppend(List.of(McSchedulerChange.add(ALICE)));
+        assertTrue(directSaver.isSnapshotRequired());
+    }
+
+    /**
+     * A storage that records the snapshots saved instead of writing them.
+     */
+    private static class StorageStub extends StorageManager {
+        private final List<ReadOnlyMcScheduler> savedSnapshots = new ArrayList<>();
+        private final List<McSchedulerChange> appendedChanges = new ArrayList<>();
+        private IOException failure;
+
+        private StorageStub() {
+            super(new JsonMcSchedulerStorage(Paths.get("unused.json")), new JsonUserPrefsStorage(Paths.get("unused")));
+        }
+
+        @Override
+        public void saveMcScheduler(ReadOnlyMcScheduler mcScheduler, Path filePath) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            savedSnapshots.add(mcScheduler);
+        }
+
+        @Override
+        public void saveMcScheduler(ReadOnlyMcScheduler mcScheduler) throws IOException {
+            saveMcScheduler(mcScheduler, null);
+        }
+
+        @Override
+        public void appendMcSchedulerChanges(List<McSchedulerChange> changes) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            appendedChanges.addAll(changes);
+        }
+    }
+}
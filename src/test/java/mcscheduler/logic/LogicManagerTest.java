@@ -8,11 +8,19 @@ import static mcscheduler.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static mcscheduler.logic.commands.CommandTestUtil.ROLE_DESC_CASHIER;
 import static mcscheduler.logic.commands.CommandTestUtil.VALID_ROLE_CASHIER;
 import static mcscheduler.testutil.Assert.assertThrows;
+import static mcscheduler.testutil.TypicalShifts.SHIFT_A;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
 import static mcscheduler.testutil.TypicalWorkers.AMY;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,16 +28,23 @@ import org.junit.jupiter.api.io.TempDir;
 
 import mcscheduler.commons.core.Messages;
 import mcscheduler.commons.core.index.Index;
+import mcscheduler.logic.commands.AcceptRepairCommand;
 import mcscheduler.logic.commands.CommandResult;
+import mcscheduler.logic.commands.ExitCommand;
+import mcscheduler.logic.commands.RunScriptCommand;
+import mcscheduler.logic.commands.StatsCommand;
+import mcscheduler.logic.commands.TakeLeaveCommand;
 import mcscheduler.logic.commands.WorkerAddCommand;
 import mcscheduler.logic.commands.WorkerDeleteCommand;
 import mcscheduler.logic.commands.WorkerListCommand;
 import mcscheduler.logic.commands.exceptions.CommandException;
 import mcscheduler.logic.parser.exceptions.ParseException;
+import mcscheduler.logic.stats.CommandStatistics;
 import mcscheduler.model.Model;
 import mcscheduler.model.ModelManager;
 import mcscheduler.model.ReadOnlyMcScheduler;
 import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.role.Role;
 import mcscheduler.model.worker.Worker;
 import mcscheduler.storage.JsonMcSchedulerStorage;
@@ -53,7 +68,7 @@ public class LogicManagerTest {
                 temporaryFolder.resolve("mcScheduler.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(mcSchedulerStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, new BackgroundSaver(storage, Runnable::run));
     }
 
     @Test
@@ -84,7 +99,7 @@ public class LogicManagerTest {
                 temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(mcSchedulerStorage, userPrefsStorage);
         model.addRole(Role.createRole(VALID_ROLE_CASHIER));
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, new BackgroundSaver(storage, Runnable::run));
 
         // Execute add command
         String addCommand = WorkerAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + PAY_DESC_AMY
@@ -97,6 +112,110 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic.execute(WorkerListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("mcScheduler.json")));
+    }
+
+    @Test
+    public void execute_commandModifyingModel_saves() throws Exception {
+        model.addRole(Role.createRole(VALID_ROLE_CASHIER));
+        logic.execute(WorkerAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + PAY_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_DESC_CASHIER);
+        assertTrue(Files.exists(temporaryFolder.resolve("mcScheduler.json")));
+        assertEquals(1, logic.getMonitor().getWorkerCount());
+        assertEquals(1, logic.getMonitor().getSaveCount());
+    }
+
+    @Test
+    public void execute_secondCommandModifyingModel_appendsChangesToJournal() throws Exception {
+        model.addRole(Role.createRole(VALID_ROLE_CASHIER));
+        logic.execute(WorkerAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + PAY_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_DESC_CASHIER);
+        String savedData = Files.readString(temporaryFolder.resolve("mcScheduler.json"));
+
+        logic.execute(WorkerDeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(savedData, Files.readString(temporaryFolder.resolve("mcScheduler.json")));
+        assertEquals(2, Files.readAllLines(temporaryFolder.resolve("mcScheduler.json.journal")).size());
+    }
+
+    @Test
+    public void execute_runScriptCommand_savesOnce() throws Exception {
+        Path scriptFilePath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptFilePath, "role-add barista\nrole-add delivery\nrole-add cleaner\n");
+        logic.execute(RunScriptCommand.COMMAND_WORD + " " + scriptFilePath);
+
+        Path mcSchedulerFilePath = temporaryFolder.resolve("mcScheduler.json");
+        assertEquals(model.getMcScheduler(), new JsonMcSchedulerStorage(mcSchedulerFilePath).readMcScheduler().get());
+        assertEquals(1, logic.getMonitor().getSaveCount());
+    }
+
+    @Test
+    public void execute_failingScriptWithoutRollback_savesCommandsRun() throws Exception {
+        Path scriptFilePath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptFilePath, "role-add barista\nrole-add delivery\nworker-delete 9\n");
+        assertThrows(CommandException.class, () -> logic.execute(RunScriptCommand.COMMAND_WORD + " "
+                + scriptFilePath));
+        assertTrue(model.hasRole(Role.createRole("delivery")));
+        logic.flush();
+
+        Path mcSchedulerFilePath = temporaryFolder.resolve("mcScheduler.json");
+        assertEquals(model.getMcScheduler(), new JsonMcSchedulerStorage(mcSchedulerFilePath).readMcScheduler().get());
+        assertEquals(1, logic.getMonitor().getSaveCount());
+    }
+
+    @Test
+    public void execute_exitCommand_flushesBeforeReturning() throws Exception {
+        Path mcSchedulerFilePath = temporaryFolder.resolve("backgroundMcScheduler.json");
+        StorageManager storage = new StorageManager(new JsonMcSchedulerStorage(mcSchedulerFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("backgroundUserPrefs.json")));
+        logic = new LogicManager(model, storage);
+        model.addRole(Role.createRole(VALID_ROLE_CASHIER));
+
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertTrue(Files.exists(mcSchedulerFilePath));
+    }
+
+    @Test
+    public void execute_parsedCommands_recordsStatistics() throws Exception {
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+        logic.execute(WorkerListCommand.COMMAND_WORD);
+        logic.execute("  WORKER-LIST  ");
+        assertThrows(CommandException.class, () -> logic.execute("worker-delete 9"));
+
+        Map<String, CommandStatistics.CommandTimings> timings = logic.getCommandStatistics().getTimings();
+        assertEquals(Set.of(WorkerListCommand.COMMAND_WORD, WorkerDeleteCommand.COMMAND_WORD), timings.keySet());
+        assertEquals(2, timings.get(WorkerListCommand.COMMAND_WORD).getExecuteNanos().getTotalCount());
+        assertEquals(1, timings.get(WorkerDeleteCommand.COMMAND_WORD).getSaveNanos().getTotalCount());
+        assertEquals(0, timings.get(WorkerDeleteCommand.COMMAND_WORD).getSaveNanos().getMax());
+
+        assertTrue(logic.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser().contains(
+                WorkerListCommand.COMMAND_WORD + " (2 runs)"));
+    }
+
+    @Test
+    public void execute_blankCommandAfterProposal_acceptsProposal() throws Exception {
+        Role cashier = Role.createRole(VALID_ROLE_CASHIER);
+        model.addRole(cashier);
+        model.addWorker(ALICE);
+        model.addWorker(CARL);
+        model.addShift(SHIFT_A);
+        model.addAssignment(new Assignment(SHIFT_A, CARL, cashier));
+
+        CommandResult result = logic.execute(TakeLeaveCommand.COMMAND_WORD + " s/1 w/2 "
+                + TakeLeaveCommand.REPAIR_OPTION);
+        assertTrue(result.getProposedCommand().isPresent());
+
+        result = logic.execute("");
+        assertTrue(result.getFeedbackToUser().startsWith(AcceptRepairCommand.MESSAGE_ACCEPT_REPAIR_SUCCESS));
+        assertTrue(model.hasAssignment(new Assignment(SHIFT_A, ALICE, cashier)));
+        assertTrue(logic.getCommandStatistics().getTimings().containsKey(LogicManager.ACCEPT_PROPOSAL_COMMAND_WORD));
+
+        // proposal is only accepted once
+        assertThrows(ParseException.class, () -> logic.execute(""));
+    }
+
     @Test
     public void getFilteredWorkerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredWorkerList().remove(0));
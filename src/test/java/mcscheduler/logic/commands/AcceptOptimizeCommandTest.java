@@ -0,0 +1,75 @@
+package mcscheduler.logic.commands;
+
+import static mcscheduler.logic.commands.CommandTestUtil.VALID_ROLE_CASHIER;
+import static mcscheduler.logic.commands.CommandTestUtil.assertCommandFailure;
+import static mcscheduler.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.scheduling.RosterDiff;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.testutil.McSchedulerBuilder;
+import mcscheduler.testutil.ShiftBuilder;
+
+public class AcceptOptimizeCommandTest {
+
+    private static final Role CASHIER = Role.createRole(VALID_ROLE_CASHIER);
+    private static final Shift SHIFT = new ShiftBuilder().withShiftDay("MON").withShiftTime("PM")
+            .withRoleRequirements("cashier 1 0").build();
+    private static final RosterDiff DIFF = new RosterDiff(List.of(new Assignment(SHIFT, CARL, CASHIER)),
+            List.of(new Assignment(SHIFT, ALICE, CASHIER)));
+
+    @Test
+    public void execute_rosterUnchanged_changesMade() {
+        Model model = createModel();
+        Model expectedModel = createModel();
+        expectedModel.deleteAssignment(new Assignment(SHIFT, CARL, CASHIER));
+        expectedModel.addAssignment(new Assignment(SHIFT, ALICE, CASHIER));
+
+        String expectedMessage = OptimizeCommand.MESSAGE_APPLIED_CHANGES + "\n" + CommandUtil.printRosterDiff(DIFF);
+        assertCommandSuccess(new AcceptOptimizeCommand(DIFF, model.getMcSchedulerGeneration()), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rosterChanged_throwsCommandException() {
+        Model model = createModel();
+        long generation = model.getMcSchedulerGeneration();
+        model.deleteAssignment(new Assignment(SHIFT, CARL, CASHIER));
+        model.addAssignment(new Assignment(SHIFT, CARL, CASHIER));
+        assertCommandFailure(new AcceptOptimizeCommand(DIFF, generation), model,
+                AcceptOptimizeCommand.MESSAGE_ROSTER_CHANGED);
+    }
+
+    @Test
+    public void equals() {
+        AcceptOptimizeCommand acceptOptimizeCommand = new AcceptOptimizeCommand(DIFF, 1);
+        assertEquals(acceptOptimizeCommand, new AcceptOptimizeCommand(DIFF, 1));
+        assertNotEquals(acceptOptimizeCommand, null);
+        assertNotEquals(acceptOptimizeCommand, new AcceptOptimizeCommand(DIFF, 2));
+        assertNotEquals(acceptOptimizeCommand, new AcceptOptimizeCommand(new RosterDiff(List.of(), List.of()), 1));
+    }
+
+    /**
+     * Returns a model with Alice and Carl, who can both be cashiers, and a shift needing one cashier, filled by Carl.
+     */
+    private static Model createModel() {
+        McScheduler mcScheduler = new McSchedulerBuilder().withWorker(ALICE).withWorker(CARL).withShift(SHIFT).build();
+        mcScheduler.addRole(CASHIER);
+        Model model = new ModelManager(mcScheduler, new UserPrefs());
+        model.addAssignment(new Assignment(SHIFT, CARL, CASHIER));
+        return model;
+    }
+}
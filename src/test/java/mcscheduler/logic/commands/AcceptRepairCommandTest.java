@@ -0,0 +1,94 @@
+package mcscheduler.logic.commands;
+
+import static mcscheduler.logic.commands.CommandTestUtil.VALID_ROLE_CASHIER;
+import static mcscheduler.logic.commands.CommandTestUtil.assertCommandFailure;
+import static mcscheduler.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.scheduling.RosterDiff;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.testutil.McSchedulerBuilder;
+import mcscheduler.testutil.ShiftBuilder;
+
+public class AcceptRepairCommandTest {
+
+    private static final Role CASHIER = Role.createRole(VALID_ROLE_CASHIER);
+    private static final Role CHEF = Role.createRole("chef");
+    private static final Shift SHIFT = new ShiftBuilder().withShiftDay("MON").withShiftTime("PM")
+            .withRoleRequirements("cashier 1 0").build();
+    private static final RosterDiff REPAIR = new RosterDiff(List.of(), List.of(new Assignment(SHIFT, ALICE, CASHIER)));
+
+    @Test
+    public void execute_rosterUnchanged_replacementsMade() {
+        Model model = createModel();
+        Model expectedModel = createModel();
+        expectedModel.addAssignment(new Assignment(SHIFT, ALICE, CASHIER));
+
+        String expectedMessage = AcceptRepairCommand.MESSAGE_ACCEPT_REPAIR_SUCCESS + "\n"
+                + String.format(CommandUtil.MESSAGE_ASSIGNMENT_ADDED, new Assignment(SHIFT, ALICE, CASHIER));
+        assertCommandSuccess(new AcceptRepairCommand(REPAIR, model.getMcSchedulerGeneration()), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rosterChanged_throwsCommandException() {
+        Model model = createModel();
+        long generation = model.getMcSchedulerGeneration();
+        model.addAssignment(new Assignment(SHIFT, ALICE, new Leave()));
+        assertCommandFailure(new AcceptRepairCommand(REPAIR, generation), model,
+                AcceptRepairCommand.MESSAGE_ROSTER_CHANGED);
+
+        // A change keeping every assignment of the repair valid, such as giving Carl another role, is refused too
+        Model otherModel = createModel();
+        otherModel.addAssignment(new Assignment(SHIFT, CARL, CASHIER));
+        long otherGeneration = otherModel.getMcSchedulerGeneration();
+        otherModel.setAssignment(new Assignment(SHIFT, CARL, CASHIER), new Assignment(SHIFT, CARL, CHEF));
+        assertCommandFailure(new AcceptRepairCommand(REPAIR, otherGeneration), otherModel,
+                AcceptRepairCommand.MESSAGE_ROSTER_CHANGED);
+    }
+
+    @Test
+    public void proposeRepair() {
+        CommandResult result = AcceptRepairCommand.proposeRepair("Leave taken", REPAIR, 1);
+        assertEquals("Leave taken\n" + AcceptRepairCommand.MESSAGE_REPAIR_PROPOSED + "\n"
+                + String.format(CommandUtil.MESSAGE_ASSIGNMENT_ADDED, new Assignment(SHIFT, ALICE, CASHIER)),
+                result.getFeedbackToUser());
+        assertEquals(Optional.of(new AcceptRepairCommand(REPAIR, 1)), result.getProposedCommand());
+
+        assertEquals(new CommandResult("Leave taken\n" + AcceptRepairCommand.MESSAGE_NO_REPAIR),
+                AcceptRepairCommand.proposeRepair("Leave taken", new RosterDiff(List.of(), List.of()), 1));
+    }
+
+    @Test
+    public void equals() {
+        AcceptRepairCommand acceptRepairCommand = new AcceptRepairCommand(REPAIR, 1);
+        assertEquals(acceptRepairCommand, new AcceptRepairCommand(REPAIR, 1));
+        assertNotEquals(acceptRepairCommand, null);
+        assertNotEquals(acceptRepairCommand, new AcceptRepairCommand(REPAIR, 2));
+        assertNotEquals(acceptRepairCommand, new AcceptRepairCommand(new RosterDiff(List.of(), List.of()), 1));
+    }
+
+    /**
+     * Returns a model with Alice and Carl, who can both be cashiers, and a shift needing one cashier.
+     */
+    private static Model createModel() {
+        McScheduler mcScheduler = new McSchedulerBuilder().withWorker(ALICE).withWorker(CARL).withShift(SHIFT).build();
+        mcScheduler.addRole(CASHIER);
+        return new ModelManager(mcScheduler, new UserPrefs());
+    }
+}
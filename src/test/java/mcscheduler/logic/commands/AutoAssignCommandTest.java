@@ -0,0 +1,108 @@
+package mcscheduler.logic.commands;
+
+import static mcscheduler.logic.commands.CommandTestUtil.VALID_ROLE_CASHIER;
+import static mcscheduler.logic.commands.CommandTestUtil.VALID_ROLE_CHEF;
+import static mcscheduler.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static mcscheduler.testutil.TypicalWorkers.BENSON;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.testutil.McSchedulerBuilder;
+import mcscheduler.testutil.ShiftBuilder;
+
+public class AutoAssignCommandTest {
+
+    private static final Role CASHIER = Role.createRole(VALID_ROLE_CASHIER);
+    private static final Role CHEF = Role.createRole(VALID_ROLE_CHEF);
+
+    @Test
+    public void execute_workerFitForSeveralRoles_fillsEveryRole() {
+        // Assigning Benson as the cashier would leave no chef, so Benson must be the chef instead
+        Model model = createModel();
+        Model expectedModel = createModel();
+        Shift expectedShift = expectedModel.getFilteredShiftList().get(0);
+        expectedModel.addAssignment(new Assignment(expectedShift, CARL, CASHIER));
+        expectedModel.addAssignment(new Assignment(expectedShift, BENSON, CHEF));
+
+        String expectedMessage = String.format(AutoAssignCommand.MESSAGE_AUTO_ASSIGN_SUCCESS, 2) + "\n"
+                + AutoAssignCommand.MESSAGE_ALL_FILLED;
+        assertCommandSuccess(new AutoAssignCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_workerOnLeave_notAssignedAndGapReported() {
+        Model model = createModel();
+        model.addAssignment(new Assignment(model.getFilteredShiftList().get(0), BENSON, new Leave()));
+        Model expectedModel = createModel();
+        Shift expectedShift = expectedModel.getFilteredShiftList().get(0);
+        expectedModel.addAssignment(new Assignment(expectedShift, BENSON, new Leave()));
+        expectedModel.addAssignment(new Assignment(expectedShift, CARL, CASHIER));
+
+        String expectedMessage = String.format(AutoAssignCommand.MESSAGE_AUTO_ASSIGN_SUCCESS, 1) + "\n"
+                + AutoAssignCommand.MESSAGE_UNFILLED + "\n"
+                + String.format(AutoAssignCommand.MESSAGE_UNFILLED_ROLE, "MON PM", "Chef x 1", 0, 1);
+        assertCommandSuccess(new AutoAssignCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_typicalMcScheduler_fillsAsManyRolesAsPossible() {
+        Model model = new ModelManager(McSchedulerBuilder.getTypicalMcScheduler(), new UserPrefs());
+
+        CommandResult result = new AutoAssignCommand().execute(model);
+
+        // Nobody is a janitor, and Alice cannot work on Tuesday mornings
+        String expectedMessage = String.format(AutoAssignCommand.MESSAGE_AUTO_ASSIGN_SUCCESS, 12) + "\n"
+                + AutoAssignCommand.MESSAGE_UNFILLED + "\n"
+                + String.format(AutoAssignCommand.MESSAGE_UNFILLED_ROLE, "TUE AM", "Cashier x 3", 2, 1) + "\n"
+                + String.format(AutoAssignCommand.MESSAGE_UNFILLED_ROLE, "TUE AM", "Janitor x 4", 0, 4) + "\n"
+                + String.format(AutoAssignCommand.MESSAGE_UNFILLED_ROLE, "TUE PM", "Janitor x 2", 0, 2);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(12, model.getFullAssignmentList().size());
+        for (Assignment assignment : model.getFullAssignmentList()) {
+            assertTrue(assignment.getWorker().isFitForRole(assignment.getRole()));
+            assertFalse(assignment.getWorker().isUnavailable(assignment.getShift()));
+        }
+    }
+
+    @Test
+    public void execute_noVacancies_nothingAssigned() {
+        Model model = new ModelManager();
+        String expectedMessage = String.format(AutoAssignCommand.MESSAGE_AUTO_ASSIGN_SUCCESS, 0) + "\n"
+                + AutoAssignCommand.MESSAGE_ALL_FILLED;
+        assertCommandSuccess(new AutoAssignCommand(), model, expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        AutoAssignCommand autoAssignCommand = new AutoAssignCommand();
+        assertEquals(autoAssignCommand, new AutoAssignCommand());
+        assertNotEquals(autoAssignCommand, null);
+        assertNotEquals(autoAssignCommand, new ClearCommand());
+    }
+
+    /**
+     * Returns a model with Benson, who can be a chef or a cashier, Carl, who can only be a cashier, and a shift
+     * needing one of each.
+     */
+    private static Model createModel() {
+        Shift shift = new ShiftBuilder().withShiftDay("MON").withShiftTime("PM")
+                .withRoleRequirements("cashier 1 0", "chef 1 0").build();
+        McScheduler mcScheduler = new McSchedulerBuilder().withWorker(BENSON).withWorker(CARL).withShift(shift).build();
+        mcScheduler.addRole(CASHIER);
+        mcScheduler.addRole(CHEF);
+        return new ModelManager(mcScheduler, new UserPrefs());
+    }
+}
@@ -32,6 +32,11 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertNotEquals(new CommandResult("feedback", false, true), commandResult);
+
+        // different proposedCommand value -> returns false
+        assertNotEquals(new CommandResult("feedback", new AutoAssignCommand()), commandResult);
+        assertEquals(new CommandResult("feedback", new AutoAssignCommand()),
+                new CommandResult("feedback", new AutoAssignCommand()));
     }
 
     @Test
@@ -9,11 +9,13 @@ import static mcscheduler.testutil.TypicalIndexes.INDEX_SECOND_WORKER;
 import static mcscheduler.testutil.TypicalShifts.SHIFT_A;
 import static mcscheduler.testutil.TypicalWorkers.ALICE;
 import static mcscheduler.testutil.TypicalWorkers.BENSON;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +29,7 @@ import mcscheduler.model.UserPrefs;
 import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.role.Leave;
 import mcscheduler.model.role.Role;
+import mcscheduler.model.scheduling.RosterDiff;
 import mcscheduler.model.shift.Shift;
 import mcscheduler.model.shift.ShiftDay;
 import mcscheduler.model.shift.ShiftTime;
@@ -112,6 +115,24 @@ public class MassTakeLeaveCommandTest {
 
     }
 
+    @Test
+    public void execute_repair_proposesReplacement() throws Exception {
+        Role cashier = Role.createRole(VALID_ROLE_CASHIER);
+        model.addWorker(ALICE);
+        model.addWorker(CARL);
+        model.addShift(SHIFT_A);
+        model.addAssignment(new Assignment(SHIFT_A, CARL, cashier));
+
+        CommandResult commandResult =
+                new MassTakeLeaveCommand(INDEX_SECOND_WORKER, mon, am, mon, am, true).execute(model);
+
+        RosterDiff expectedRepair = new RosterDiff(List.of(), List.of(new Assignment(SHIFT_A, ALICE, cashier)));
+        assertEquals(Optional.of(new AcceptRepairCommand(expectedRepair, model.getMcSchedulerGeneration())),
+                commandResult.getProposedCommand());
+        assertTrue(commandResult.getFeedbackToUser().endsWith(AcceptRepairCommand.MESSAGE_REPAIR_PROPOSED + "\n"
+                + CommandUtil.printRosterDiff(expectedRepair)));
+    }
+
     @Test
     public void equals() {
         MassTakeLeaveCommand massTakeLeaveCommand1 =
@@ -134,6 +155,8 @@ public class MassTakeLeaveCommandTest {
         assertEquals(massTakeLeaveCommand1, massTakeLeaveCommand1AnotherCopy); // not same object this time
         assertNotEquals(massTakeLeaveCommand1,
             new MassTakeLeaveCommand(INDEX_SECOND_WORKER, mon, am, tue, pm));
+        assertNotEquals(massTakeLeaveCommand1,
+            new MassTakeLeaveCommand(INDEX_FIRST_WORKER, mon, am, tue, pm, true));
         assertNotEquals(massTakeLeaveCommand1,
             new MassTakeLeaveCommand(INDEX_FIRST_WORKER, tue, am, tue, pm));
         assertNotEquals(massTakeLeaveCommand1,
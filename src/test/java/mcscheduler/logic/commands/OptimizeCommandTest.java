@@ -0,0 +1,111 @@
+package mcscheduler.logic.commands;
+
+import static mcscheduler.logic.commands.CommandTestUtil.VALID_ROLE_CASHIER;
+import static mcscheduler.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.scheduling.RosterDiff;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.testutil.McSchedulerBuilder;
+import mcscheduler.testutil.ShiftBuilder;
+
+public class OptimizeCommandTest {
+
+    private static final Duration TIME_BUDGET = Duration.ofMillis(100);
+    private static final long SEED = OptimizeCommand.DEFAULT_SEED;
+    private static final Role CASHIER = Role.createRole(VALID_ROLE_CASHIER);
+
+    @Test
+    public void execute_withoutApply_showsAndProposesChanges() {
+        Model model = createModel();
+        Model expectedModel = createModel();
+        Shift shift = model.getFilteredShiftList().get(0);
+        RosterDiff expectedDiff = new RosterDiff(List.of(new Assignment(shift, CARL, CASHIER)),
+                List.of(new Assignment(shift, ALICE, CASHIER)));
+        CommandResult expectedResult = new CommandResult(
+                OptimizeCommand.MESSAGE_PROPOSED_CHANGES + "\n" + getExpectedChanges(model),
+                new AcceptOptimizeCommand(expectedDiff, model.getMcSchedulerGeneration()));
+        assertCommandSuccess(new OptimizeCommand(false, TIME_BUDGET, SEED), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_longTimeBudgetSmallRoster_endsEarly() {
+        long startTime = System.nanoTime();
+        new OptimizeCommand(false, Duration.ofMinutes(1), SEED).execute(createModel());
+        assertTrue(Duration.ofNanos(System.nanoTime() - startTime).compareTo(Duration.ofSeconds(30)) < 0);
+    }
+
+    @Test
+    public void execute_withApply_makesChanges() {
+        Model model = createModel();
+        Model expectedModel = createModel();
+        Shift expectedShift = expectedModel.getFilteredShiftList().get(0);
+        expectedModel.deleteAssignment(new Assignment(expectedShift, CARL, CASHIER));
+        expectedModel.addAssignment(new Assignment(expectedShift, ALICE, CASHIER));
+
+        String expectedMessage = OptimizeCommand.MESSAGE_APPLIED_CHANGES + "\n" + getExpectedChanges(model);
+        assertCommandSuccess(new OptimizeCommand(true, TIME_BUDGET, SEED), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noBetterRoster_noChanges() {
+        assertCommandSuccess(new OptimizeCommand(true, TIME_BUDGET, SEED), new ModelManager(),
+                OptimizeCommand.MESSAGE_NO_CHANGES, new ModelManager());
+    }
+
+    @Test
+    public void isReadOnly() {
+        assertTrue(new OptimizeCommand(false).isReadOnly());
+        assertFalse(new OptimizeCommand(true).isReadOnly());
+    }
+
+    @Test
+    public void equals() {
+        OptimizeCommand optimizeCommand = new OptimizeCommand(false);
+        assertEquals(optimizeCommand, new OptimizeCommand(false, OptimizeCommand.DEFAULT_TIME_BUDGET, SEED));
+        assertNotEquals(optimizeCommand, null);
+        assertNotEquals(optimizeCommand, new OptimizeCommand(true));
+        assertNotEquals(optimizeCommand, new OptimizeCommand(false, TIME_BUDGET, SEED));
+        assertNotEquals(optimizeCommand, new OptimizeCommand(false, OptimizeCommand.DEFAULT_TIME_BUDGET, SEED + 1));
+        assertNotEquals(optimizeCommand, new ClearCommand());
+    }
+
+    /**
+     * Returns the changes expected for the model from {@link #createModel()}: Alice, who is paid less, replaces Carl.
+     */
+    private static String getExpectedChanges(Model model) {
+        Shift shift = model.getFilteredShiftList().get(0);
+        return String.format(CommandUtil.MESSAGE_ASSIGNMENT_REMOVED, new Assignment(shift, CARL, CASHIER)) + "\n"
+                + String.format(CommandUtil.MESSAGE_ASSIGNMENT_ADDED, new Assignment(shift, ALICE, CASHIER)) + "\n"
+                + String.format(OptimizeCommand.MESSAGE_STATISTICS, 120.08f, 78f, 0, 0, 0, 1, 0, 1);
+    }
+
+    /**
+     * Returns a model with Alice and Carl, who can both be cashiers, and a shift needing one cashier, filled by Carl.
+     */
+    private static Model createModel() {
+        Shift shift = new ShiftBuilder().withShiftDay("MON").withShiftTime("PM")
+                .withRoleRequirements("cashier 1 0").build();
+        McScheduler mcScheduler = new McSchedulerBuilder().withWorker(ALICE).withWorker(CARL).withShift(shift).build();
+        mcScheduler.addRole(CASHIER);
+        Model model = new ModelManager(mcScheduler, new UserPrefs());
+        model.addAssignment(new Assignment(model.getFilteredShiftList().get(0), CARL, CASHIER));
+        return model;
+    }
+}
@@ -0,0 +1,138 @@
+package mcscheduler.logic.commands;
+
+import static mcscheduler.logic.commands.CommandTestUtil.assertCommandFailure;
+import static mcscheduler.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static mcscheduler.testutil.Assert.assertThrows;
+import static mcscheduler.testutil.McSchedulerBuilder.getTypicalMcScheduler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mcscheduler.commons.core.Messages;
+import mcscheduler.logic.commands.exceptions.CommandException;
+import mcscheduler.logic.parser.McSchedulerParser;
+import mcscheduler.logic.parser.exceptions.ParseException;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.UserPrefs;
+import mcscheduler.model.role.Role;
+
+public class RunScriptCommandTest {
+
+    private static final String SCRIPT = "# roles for the new outlet\n"
+            + RoleAddCommand.COMMAND_WORD + " barista\n"
+            + "\n"
+            + RoleAddCommand.COMMAND_WORD + " delivery\n";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final McSchedulerParser parser = new McSchedulerParser();
+    private final Model model = new ModelManager(getTypicalMcScheduler(), new UserPrefs());
+
+    private Path writeScript(String script) throws Exception {
+        Path scriptFilePath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptFilePath, script);
+        return scriptFilePath;
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunScriptCommand(null, false, parser));
+        assertThrows(NullPointerException.class, () -> new RunScriptCommand(Paths.get("script.txt"), false, null));
+    }
+
+    @Test
+    public void execute_validScript_runsAllCommands() throws Exception {
+        Path scriptFilePath = writeScript(SCRIPT);
+        Model expectedModel = new ModelManager(model.getMcScheduler(), new UserPrefs());
+        expectedModel.addRole(Role.createRole("barista"));
+        expectedModel.addRole(Role.createRole("delivery"));
+
+        assertCommandSuccess(new RunScriptCommand(scriptFilePath, false, parser), model,
+                String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, scriptFilePath), expectedModel);
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path scriptFilePath = temporaryFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, () -> new RunScriptCommand(scriptFilePath, false, parser).execute(model));
+    }
+
+    @Test
+    public void execute_invalidLines_reportsAllAndRunsNothing() throws Exception {
+        Path scriptFilePath = writeScript(SCRIPT + "unknown-command\n" + "role-add barista\n"
+                + RunScriptCommand.COMMAND_WORD + " other.txt\n");
+
+        String expectedMessage = String.format(RunScriptCommand.MESSAGE_PARSE_ERRORS, scriptFilePath)
+                + "\n" + String.format(RunScriptCommand.MESSAGE_LINE, 5, Messages.MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunScriptCommand.MESSAGE_LINE, 7, RunScriptCommand.MESSAGE_NESTED_SCRIPT);
+        assertCommandFailure(new RunScriptCommand(scriptFilePath, false, parser), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_failingCommandWithoutRollback_keepsEarlierCommands() throws Exception {
+        Path scriptFilePath = writeScript(SCRIPT + RoleAddCommand.COMMAND_WORD + " barista\n");
+        String expectedMessage = String.format(RunScriptCommand.MESSAGE_COMMAND_FAILED, 5, scriptFilePath,
+                Messages.MESSAGE_DUPLICATE_ROLE) + String.format(RunScriptCommand.MESSAGE_COMMANDS_KEPT, 2);
+        assertThrows(CommandException.class, expectedMessage, () ->
+                new RunScriptCommand(scriptFilePath, false, parser).execute(model));
+        assertTrue(model.hasRole(Role.createRole("delivery")));
+    }
+
+    @Test
+    public void execute_failingCommandWithRollback_undoesEarlierCommands() throws Exception {
+        Path scriptFilePath = writeScript(SCRIPT + RoleAddCommand.COMMAND_WORD + " barista\n");
+        McScheduler mcSchedulerBeforeScript = new McScheduler(model.getMcScheduler());
+        String expectedMessage = String.format(RunScriptCommand.MESSAGE_COMMAND_FAILED, 5, scriptFilePath,
+                Messages.MESSAGE_DUPLICATE_ROLE) + String.format(RunScriptCommand.MESSAGE_COMMANDS_ROLLED_BACK, 2);
+        assertThrows(CommandException.class, expectedMessage, () ->
+                new RunScriptCommand(scriptFilePath, true, parser).execute(model));
+
+        assertFalse(model.hasRole(Role.createRole("delivery")));
+        assertEquals(mcSchedulerBeforeScript, model.getMcScheduler());
+    }
+
+    @Test
+    public void execute_commandThrowsRuntimeExceptionWithRollback_undoesEarlierCommands() throws Exception {
+        Path scriptFilePath = writeScript(SCRIPT + "crash\n");
+        McScheduler mcSchedulerBeforeScript = new McScheduler(model.getMcScheduler());
+        McSchedulerParser crashingParser = new McSchedulerParser() {
+            @Override
+            public Command parseCommand(String userInput) throws ParseException {
+                if (!userInput.equals("crash")) {
+                    return super.parseCommand(userInput);
+                }
+                return new Command() {
+                    @Override
+                    public CommandResult execute(Model model) {
+                        throw new IllegalStateException("crash");
+                    }
+                };
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () ->
+                new RunScriptCommand(scriptFilePath, true, crashingParser).execute(model));
+        assertEquals(mcSchedulerBeforeScript, model.getMcScheduler());
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand runScriptCommand = new RunScriptCommand(Paths.get("a.txt"), false, parser);
+
+        assertTrue(runScriptCommand.equals(runScriptCommand));
+        assertTrue(runScriptCommand.equals(new RunScriptCommand(Paths.get("a.txt"), false, new McSchedulerParser())));
+        assertFalse(runScriptCommand.equals(null));
+        assertFalse(runScriptCommand.equals(new RunScriptCommand(Paths.get("b.txt"), false, parser)));
+        assertFalse(runScriptCommand.equals(new RunScriptCommand(Paths.get("a.txt"), true, parser)));
+    }
+}
@@ -7,7 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +22,7 @@ import mcscheduler.commons.core.GuiSettings;
 import mcscheduler.commons.core.Messages;
 import mcscheduler.logic.commands.exceptions.CommandException;
 import mcscheduler.model.McScheduler;
+import mcscheduler.model.McSchedulerChange;
 import mcscheduler.model.Model;
 import mcscheduler.model.ReadOnlyMcScheduler;
 import mcscheduler.model.ReadOnlyUserPrefs;
@@ -142,6 +148,26 @@ public class ShiftAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getMcSchedulerGeneration() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addChangeListener(Consumer<McSchedulerChange> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commit() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasWorker(Worker worker) {
             throw new AssertionError("This method should not be called.");
@@ -157,6 +183,16 @@ public class ShiftAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceWorkers(Map<Worker, Worker> editedWorkers) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Worker> getWorkersWithRole(Role role) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public int calculateWorkerShiftsAssigned(Worker worker) {
             throw new AssertionError("This method should not be called.");
@@ -197,6 +233,16 @@ public class ShiftAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceShifts(Map<Shift, Shift> editedShifts) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Shift> getShiftsWithRole(Role role) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredShiftList(Predicate<Shift> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -223,6 +269,11 @@ public class ShiftAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteAssignments(Collection<Assignment> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addAssignment(Assignment assignment) {
             throw new AssertionError("This method should not be called.");
@@ -233,6 +284,11 @@ public class ShiftAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceAssignments(Map<Assignment, Assignment> editedAssignments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Assignment> getAssignment(Assignment toGet) {
             throw new AssertionError("This method should not be called.");
@@ -243,6 +299,31 @@ public class ShiftAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Assignment> getAssignmentsOfWorker(Worker worker) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Assignment> getAssignmentsOfShift(Shift shift) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public BitSet getAvailableWorkers(Shift shift, Role role) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getWorkerPosition(Worker worker) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Assignment> getAssignmentsWithRole(Role role) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasRole(Role role) {
             throw new AssertionError("This method should not be called.");
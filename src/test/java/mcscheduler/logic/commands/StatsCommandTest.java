@@ -0,0 +1,45 @@
+package mcscheduler.logic.commands;
+
+import static mcscheduler.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static mcscheduler.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.logic.stats.CommandStatistics;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+
+public class StatsCommandTest {
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void constructor_nullCommandStatistics_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatsCommand(null));
+    }
+
+    @Test
+    public void execute_stats_showsReport() {
+        CommandStatistics commandStatistics = new CommandStatistics();
+        assertCommandSuccess(new StatsCommand(commandStatistics), model, CommandStatistics.MESSAGE_NO_COMMANDS,
+                expectedModel);
+
+        commandStatistics.record(WorkerListCommand.COMMAND_WORD, 1_000, 2_000, 0, 100);
+        assertCommandSuccess(new StatsCommand(commandStatistics), model, commandStatistics.getReport(),
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandStatistics commandStatistics = new CommandStatistics();
+        StatsCommand statsCommand = new StatsCommand(commandStatistics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(commandStatistics)));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new HelpCommand()));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandStatistics())));
+    }
+}
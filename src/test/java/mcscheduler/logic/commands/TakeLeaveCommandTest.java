@@ -2,6 +2,7 @@ package mcscheduler.logic.commands;
 
 import static mcscheduler.testutil.TypicalShifts.SHIFT_A;
 import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
 import static mcscheduler.testutil.TypicalWorkers.DANIEL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -22,6 +23,7 @@ import mcscheduler.model.ModelManager;
 import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.role.Leave;
 import mcscheduler.model.role.Role;
+import mcscheduler.model.scheduling.RosterDiff;
 import mcscheduler.model.shift.Shift;
 import mcscheduler.model.worker.Worker;
 import mcscheduler.testutil.Assert;
@@ -80,6 +82,26 @@ public class TakeLeaveCommandTest {
         assertEquals(Arrays.asList(assignment), model.assignments);
     }
 
+    @Test
+    public void execute_repair_proposesReplacement() throws Exception {
+        Role cashier = Role.createRole(CommandTestUtil.VALID_ROLE_CASHIER);
+        ModelManager model = new ModelManager();
+        model.addWorker(ALICE);
+        model.addWorker(CARL);
+        model.addShift(SHIFT_A);
+        model.addAssignment(new Assignment(SHIFT_A, CARL, cashier));
+
+        Set<Index> validIndex = new HashSet<>();
+        validIndex.add(TypicalIndexes.INDEX_SECOND_WORKER);
+        CommandResult result = new TakeLeaveCommand(TypicalIndexes.INDEX_FIRST_SHIFT, validIndex, true).execute(model);
+
+        RosterDiff expectedRepair = new RosterDiff(List.of(), List.of(new Assignment(SHIFT_A, ALICE, cashier)));
+        assertEquals(Optional.of(new AcceptRepairCommand(expectedRepair, model.getMcSchedulerGeneration())),
+                result.getProposedCommand());
+        assertTrue(result.getFeedbackToUser().endsWith(AcceptRepairCommand.MESSAGE_REPAIR_PROPOSED + "\n"
+                + CommandUtil.printRosterDiff(expectedRepair)));
+    }
+
     @Test
     public void execute_workerNotAvailable_throwsCommandException() {
         List<Worker> workers = Arrays.asList(TypicalWorkers.BENSON);
@@ -134,6 +156,8 @@ public class TakeLeaveCommandTest {
         assertFalse(firstIndexes.equals(secondIndexes)); // different values
         assertFalse(firstIndexes.equals(firstShiftSecondWorker)); // different worker
         assertFalse(secondIndexes.equals(firstShiftSecondWorker)); // different shift
+        assertFalse(firstIndexes.equals(
+            new TakeLeaveCommand(TypicalIndexes.INDEX_FIRST_SHIFT, validIndex, true))); // different repair mode
     }
 
     /**
@@ -4,7 +4,12 @@ import static mcscheduler.logic.commands.CommandTestUtil.NOT_FOUND_ROLE;
 import static mcscheduler.logic.commands.CommandTestUtil.VALID_ROLE_CASHIER;
 import static mcscheduler.logic.commands.CommandTestUtil.VALID_ROLE_CHEF;
 import static mcscheduler.logic.commands.CommandTestUtil.assertCommandFailure;
+import static mcscheduler.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static mcscheduler.logic.commands.CommandTestUtil.showShiftAtIndex;
+import static mcscheduler.logic.commands.CommandTestUtil.showWorkerAtIndex;
+import static mcscheduler.testutil.TypicalShifts.SHIFT_B;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,10 +21,12 @@ import mcscheduler.commons.core.index.Index;
 import mcscheduler.model.Model;
 import mcscheduler.model.ModelManager;
 import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.role.Role;
 import mcscheduler.testutil.McSchedulerBuilder;
 import mcscheduler.testutil.TestUtil;
 import mcscheduler.testutil.TypicalIndexes;
+import mcscheduler.testutil.WorkerBuilder;
 
 //@@author plosslaw
 /**
@@ -57,6 +64,35 @@ public class WorkerAvailableCommandTest {
                 CommandUtil.printOutOfBoundsShiftIndexError(outOfBoundIndex, WorkerAvailableCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void execute_unfilteredList_listsFitAvailableUnassignedWorkers() {
+        Role role = Role.createRole(VALID_ROLE_CASHIER);
+        model.setWorker(ALICE, new WorkerBuilder(ALICE).withUnavailableTimings("FRI PM").build());
+        model.addAssignment(new Assignment(SHIFT_B, CARL, role));
+        Model expectedModel = new ModelManager(model.getMcScheduler(), new UserPrefs());
+        WorkerAvailableCommand workerAvailableCommand =
+            new WorkerAvailableCommand(TypicalIndexes.INDEX_SECOND_SHIFT, role);
+
+        // Alice is unavailable for the shift and Carl is already assigned to it
+        String expectedMessage = String.format(WorkerAvailableCommand.MESSAGE_HAS_AVAIL_WORKERS_SUCCESS, 2,
+            role.getRole(), "2\tBenson Meier\n");
+        assertCommandSuccess(workerAvailableCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_filteredList_listsShownWorkersWithShownIndexes() {
+        showWorkerAtIndex(model, TypicalIndexes.INDEX_SECOND_WORKER);
+        Model expectedModel = new ModelManager(model.getMcScheduler(), new UserPrefs());
+        showWorkerAtIndex(expectedModel, TypicalIndexes.INDEX_SECOND_WORKER);
+        Role role = Role.createRole(VALID_ROLE_CASHIER);
+        WorkerAvailableCommand workerAvailableCommand =
+            new WorkerAvailableCommand(TypicalIndexes.INDEX_SECOND_SHIFT, role);
+
+        String expectedMessage = String.format(WorkerAvailableCommand.MESSAGE_HAS_AVAIL_WORKERS_SUCCESS, 2,
+            role.getRole(), "1\tBenson Meier\n");
+        assertCommandSuccess(workerAvailableCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_roleNotFound_throwsCommandException() {
         WorkerAvailableCommand workerAvailableCommand = new WorkerAvailableCommand(TypicalIndexes.INDEX_FIRST_SHIFT,
@@ -7,12 +7,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import mcscheduler.commons.core.index.Index;
+import mcscheduler.model.McSchedulerChange;
 import mcscheduler.model.Model;
 import mcscheduler.model.ModelManager;
 import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
 import mcscheduler.model.worker.Worker;
 import mcscheduler.testutil.McSchedulerBuilder;
 import mcscheduler.testutil.TestUtil;
@@ -40,6 +46,28 @@ public class WorkerDeleteCommandTest {
         assertCommandSuccess(workerDeleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_workerWithAssignments_eachListChangedOnce() throws Exception {
+        Model model = new ModelManager(McSchedulerBuilder.getTypicalMcSchedulerWithAssignments(), new UserPrefs());
+        Worker workerToDelete = TestUtil.getWorker(model, TypicalIndexes.INDEX_FIRST_WORKER);
+        int assignmentCount = model.getAssignmentsOfWorker(workerToDelete).size();
+        assertTrue(assignmentCount > 0);
+        int[] workerListChangeCount = {0};
+        int[] assignmentListChangeCount = {0};
+        model.getFullWorkerList().addListener((ListChangeListener<Worker>) change -> workerListChangeCount[0]++);
+        model.getFullAssignmentList().addListener((ListChangeListener<Assignment>) change ->
+                assignmentListChangeCount[0]++);
+        List<McSchedulerChange> changes = new ArrayList<>();
+        model.addChangeListener(changes::add);
+
+        new WorkerDeleteCommand(TypicalIndexes.INDEX_FIRST_WORKER).execute(model);
+
+        assertEquals(1, workerListChangeCount[0]);
+        assertEquals(1, assignmentListChangeCount[0]);
+        assertEquals(assignmentCount + 1, changes.size());
+        assertEquals(McSchedulerChange.remove(workerToDelete), changes.get(assignmentCount));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = TestUtil.getOutOfBoundWorkerIndex(model);
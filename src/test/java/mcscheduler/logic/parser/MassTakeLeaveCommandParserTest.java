@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import mcscheduler.commons.core.Messages;
 import mcscheduler.logic.commands.MassTakeLeaveCommand;
+import mcscheduler.logic.commands.TakeLeaveCommand;
 import mcscheduler.model.shift.ShiftDay;
 import mcscheduler.model.shift.ShiftTime;
 import mcscheduler.testutil.TypicalIndexes;
@@ -39,6 +40,15 @@ public class MassTakeLeaveCommandParserTest {
                 + TIME_DESC_AM + DAY_DESC_TUE + TIME_DESC_PM,
             new MassTakeLeaveCommand(TypicalIndexes.INDEX_FIRST_WORKER, mon, am, tue, pm));
 
+        // repair option
+        assertParseSuccess(parser, VALID_WORKER_INDEX_1 + DAY_DESC_MON + TIME_DESC_AM + DAY_DESC_TUE + TIME_DESC_PM
+                + " " + TakeLeaveCommand.REPAIR_OPTION,
+            new MassTakeLeaveCommand(TypicalIndexes.INDEX_FIRST_WORKER, mon, am, tue, pm, true));
+
+        // repair option after a tab
+        assertParseSuccess(parser, VALID_WORKER_INDEX_1 + DAY_DESC_MON + TIME_DESC_AM + DAY_DESC_TUE + TIME_DESC_PM
+                + "\t" + TakeLeaveCommand.REPAIR_OPTION,
+            new MassTakeLeaveCommand(TypicalIndexes.INDEX_FIRST_WORKER, mon, am, tue, pm, true));
 
         // change order should result in a different MassTakeLeaveCommand
         assertParseSuccess(parser, TIME_DESC_PM + DAY_DESC_MON + DAY_DESC_TUE + VALID_WORKER_INDEX_1
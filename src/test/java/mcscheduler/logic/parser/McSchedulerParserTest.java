@@ -13,10 +13,13 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import mcscheduler.commons.core.Messages;
+import mcscheduler.logic.commands.AutoAssignCommand;
 import mcscheduler.logic.commands.ClearCommand;
 import mcscheduler.logic.commands.ExitCommand;
 import mcscheduler.logic.commands.HelpCommand;
+import mcscheduler.logic.commands.OptimizeCommand;
 import mcscheduler.logic.commands.ShiftListCommand;
+import mcscheduler.logic.commands.StatsCommand;
 import mcscheduler.logic.commands.WorkerAddCommand;
 import mcscheduler.logic.commands.WorkerDeleteCommand;
 import mcscheduler.logic.commands.WorkerEditCommand;
@@ -24,6 +27,7 @@ import mcscheduler.logic.commands.WorkerEditCommand.EditWorkerDescriptor;
 import mcscheduler.logic.commands.WorkerFindCommand;
 import mcscheduler.logic.commands.WorkerListCommand;
 import mcscheduler.logic.parser.exceptions.ParseException;
+import mcscheduler.logic.stats.CommandStatistics;
 import mcscheduler.model.worker.NameContainsKeywordsPredicate;
 import mcscheduler.model.worker.Worker;
 import mcscheduler.testutil.Assert;
@@ -43,6 +47,20 @@ public class McSchedulerParserTest {
         assertEquals(new WorkerAddCommand(worker), command);
     }
 
+    @Test
+    public void parseCommand_autoAssign() throws Exception {
+        assertTrue(parser.parseCommand(AutoAssignCommand.COMMAND_WORD) instanceof AutoAssignCommand);
+        assertParseCommandFailure(parser, AutoAssignCommand.COMMAND_WORD + " 3",
+                String.format(Messages.MESSAGE_UNEXPECTED_ARGUMENT, AutoAssignCommand.COMMAND_WORD, "3"));
+    }
+
+    @Test
+    public void parseCommand_optimize() throws Exception {
+        assertEquals(new OptimizeCommand(false), parser.parseCommand(OptimizeCommand.COMMAND_WORD));
+        assertEquals(new OptimizeCommand(true),
+                parser.parseCommand(OptimizeCommand.COMMAND_WORD + " " + OptimizeCommand.APPLY_OPTION));
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -89,6 +107,15 @@ public class McSchedulerParserTest {
                 String.format(Messages.MESSAGE_UNEXPECTED_ARGUMENT, HelpCommand.COMMAND_WORD, "3"));
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandStatistics commandStatistics = new CommandStatistics();
+        assertEquals(new StatsCommand(commandStatistics),
+                new McSchedulerParser(commandStatistics).parseCommand(StatsCommand.COMMAND_WORD));
+        assertParseCommandFailure(parser, StatsCommand.COMMAND_WORD + " 3",
+                String.format(Messages.MESSAGE_UNEXPECTED_ARGUMENT, StatsCommand.COMMAND_WORD, "3"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(WorkerListCommand.COMMAND_WORD) instanceof WorkerListCommand);
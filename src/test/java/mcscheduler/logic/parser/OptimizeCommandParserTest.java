@@ -0,0 +1,28 @@
+package mcscheduler.logic.parser;
+
+import static mcscheduler.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static mcscheduler.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static mcscheduler.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.logic.commands.OptimizeCommand;
+
+public class OptimizeCommandParserTest {
+
+    private final OptimizeCommandParser parser = new OptimizeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsOptimizeCommand() {
+        assertParseSuccess(parser, "", new OptimizeCommand(false));
+        assertParseSuccess(parser, "  ", new OptimizeCommand(false));
+        assertParseSuccess(parser, " " + OptimizeCommand.APPLY_OPTION + " ", new OptimizeCommand(true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, OptimizeCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 3", expectedMessage);
+        assertParseFailure(parser, " " + OptimizeCommand.APPLY_OPTION + " 3", expectedMessage);
+    }
+}
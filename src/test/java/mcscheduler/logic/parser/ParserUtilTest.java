@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,21 @@ public class ParserUtilTest {
 
     private static final String WHITESPACE = " \t\r\n";
 
+    @Test
+    public void removeTrailingOption_lastToken_removed() {
+        assertEquals(Optional.of(" s/1 w/2 "), ParserUtil.removeTrailingOption(" s/1 w/2 --repair", "--repair"));
+        assertEquals(Optional.of(" s/1\t"), ParserUtil.removeTrailingOption(" s/1\t--repair \n", "--repair"));
+        assertEquals(Optional.of(" "), ParserUtil.removeTrailingOption(" --repair", "--repair"));
+    }
+
+    @Test
+    public void removeTrailingOption_notLastToken_empty() {
+        assertEquals(Optional.empty(), ParserUtil.removeTrailingOption(" s/1 w/2", "--repair"));
+        assertEquals(Optional.empty(), ParserUtil.removeTrailingOption(" s/1 w/2--repair", "--repair"));
+        assertEquals(Optional.empty(), ParserUtil.removeTrailingOption(" --repair s/1", "--repair"));
+        assertEquals(Optional.empty(), ParserUtil.removeTrailingOption("", "--repair"));
+    }
+
     @Test
     public void parseIndex_invalidInput_throwsParseException() {
         Assert.assertThrows(ParseException.class, () -> ParserUtil.parseIndex("10 a"));
@@ -0,0 +1,43 @@
+package mcscheduler.logic.parser;
+
+import static mcscheduler.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static mcscheduler.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static mcscheduler.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.logic.commands.RunScriptCommand;
+
+public class RunScriptCommandParserTest {
+
+    private final McSchedulerParser mcSchedulerParser = new McSchedulerParser();
+    private final RunScriptCommandParser parser = new RunScriptCommandParser(mcSchedulerParser);
+
+    @Test
+    public void parse_validArgs_returnsRunScriptCommand() {
+        assertParseSuccess(parser, " roster.txt ",
+                new RunScriptCommand(Paths.get("roster.txt"), false, mcSchedulerParser));
+        assertParseSuccess(parser, " scripts/weekly roster.txt",
+                new RunScriptCommand(Paths.get("scripts/weekly roster.txt"), false, mcSchedulerParser));
+        assertParseSuccess(parser, " roster.txt  " + RunScriptCommand.ROLLBACK_OPTION,
+                new RunScriptCommand(Paths.get("roster.txt"), true, mcSchedulerParser));
+        assertParseSuccess(parser, " roster.txt\t" + RunScriptCommand.ROLLBACK_OPTION + " ",
+                new RunScriptCommand(Paths.get("roster.txt"), true, mcSchedulerParser));
+    }
+
+    @Test
+    public void parse_optionNotSeparateToken_partOfFile() {
+        assertParseSuccess(parser, " roster.txt" + RunScriptCommand.ROLLBACK_OPTION,
+                new RunScriptCommand(Paths.get("roster.txt" + RunScriptCommand.ROLLBACK_OPTION), false,
+                        mcSchedulerParser));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " " + RunScriptCommand.ROLLBACK_OPTION, expectedMessage);
+    }
+}
@@ -34,6 +34,18 @@ public class TakeLeaveCommandParserTest {
         CommandParserTestUtil
             .assertParseSuccess(parser, PREAMBLE_WHITESPACE + VALID_SHIFT_INDEX_1 + VALID_WORKER_INDEX_1,
                 new TakeLeaveCommand(TypicalIndexes.INDEX_FIRST_SHIFT, validIndex));
+
+        // repair option
+        CommandParserTestUtil
+            .assertParseSuccess(parser, VALID_SHIFT_INDEX_1 + VALID_WORKER_INDEX_1 + " "
+                + TakeLeaveCommand.REPAIR_OPTION + " ",
+                new TakeLeaveCommand(TypicalIndexes.INDEX_FIRST_SHIFT, validIndex, true));
+
+        // repair option after a tab
+        CommandParserTestUtil
+            .assertParseSuccess(parser, VALID_SHIFT_INDEX_1 + VALID_WORKER_INDEX_1 + "\t"
+                + TakeLeaveCommand.REPAIR_OPTION,
+                new TakeLeaveCommand(TypicalIndexes.INDEX_FIRST_SHIFT, validIndex, true));
     }
 
     @Test
@@ -0,0 +1,65 @@
+package mcscheduler.logic.stats;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CommandStatisticsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final CommandStatistics commandStatistics = new CommandStatistics();
+
+    @Test
+    public void record_nullCommandWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> commandStatistics.record(null, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void getReport_noCommands_noCommandsMessage() {
+        assertEquals(CommandStatistics.MESSAGE_NO_COMMANDS, commandStatistics.getReport());
+    }
+
+    @Test
+    public void getReport_recordedCommands_sortedByCommandWord() {
+        commandStatistics.record("worker-list", 2_000, 5_000, 0, CommandStatistics.UNMEASURED);
+        commandStatistics.record("assign", 1_000, 3_000, 40_000, 512);
+        commandStatistics.record("assign", 1_000, 3_000, 40_000, 512);
+
+        String expectedReport = CommandStatistics.MESSAGE_HEADER
+                + "\nassign (2 runs)"
+                + "\n  parse: 1 / 1 / 1 / 1"
+                + "\n  execute: 3 / 3 / 3 / 3"
+                + "\n  save: 40 / 40 / 40 / 40"
+                + "\n  allocated bytes: 512 / 512 / 512 / 512"
+                + "\nworker-list (1 runs)"
+                + "\n  parse: 2 / 2 / 2 / 2"
+                + "\n  execute: 5 / 5 / 5 / 5"
+                + "\n  save: 0 / 0 / 0 / 0"
+                + "\n  allocated bytes: not measured";
+        assertEquals(expectedReport, commandStatistics.getReport());
+    }
+
+    @Test
+    public void writeReport_recordedCommands_reportWritten() throws Exception {
+        commandStatistics.record("assign", 1_000, 3_000, 40_000, 512);
+        Path filePath = testFolder.resolve("stats").resolve("commandstats.txt");
+        commandStatistics.writeReport(filePath);
+        assertEquals(commandStatistics.getReport() + System.lineSeparator(), Files.readString(filePath));
+    }
+
+    @Test
+    public void getCurrentThreadAllocatedBytes_allocation_increases() {
+        long before = CommandStatistics.getCurrentThreadAllocatedBytes();
+        byte[] allocated = new byte[1 << 20];
+        long after = CommandStatistics.getCurrentThreadAllocatedBytes();
+        assertTrue(before == CommandStatistics.UNMEASURED || after - before >= allocated.length);
+    }
+}
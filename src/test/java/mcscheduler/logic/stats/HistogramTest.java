@@ -0,0 +1,67 @@
+package mcscheduler.logic.stats;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Histogram.MESSAGE_NEGATIVE_VALUE, () ->
+                new Histogram().record(-1));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getValueAtPercentile(100.5));
+    }
+
+    @Test
+    public void getters_noValues_zero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 50; value++) {
+            histogram.record(value);
+        }
+        assertEquals(50, histogram.getTotalCount());
+        assertEquals(1275, histogram.getTotal());
+        assertEquals(25.5, histogram.getMean());
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(25, histogram.getValueAtPercentile(50));
+        assertEquals(45, histogram.getValueAtPercentile(90));
+        assertEquals(50, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinPrecision() {
+        Histogram histogram = new Histogram();
+        for (long value = 1000; value <= 1_000_000_000; value *= 10) {
+            histogram.record(value);
+        }
+        assertEquals(1000, histogram.getMin());
+        assertEquals(1_000_000_000, histogram.getMax());
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 1_000_000 && median <= 1_000_000 * (100 + Histogram.RELATIVE_PRECISION_PERCENT) / 100);
+        assertEquals(1_000_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_valueAboveHighestTrackableValue_countedAsHighestTrackableValue() {
+        Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Histogram.HIGHEST_TRACKABLE_VALUE, histogram.getMax());
+        assertEquals(Histogram.HIGHEST_TRACKABLE_VALUE, histogram.getValueAtPercentile(50));
+    }
+}
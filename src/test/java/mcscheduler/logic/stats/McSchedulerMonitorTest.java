@@ -0,0 +1,113 @@
+package mcscheduler.logic.stats;
+
+import static mcscheduler.testutil.McSchedulerBuilder.getTypicalMcScheduler;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_A;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mcscheduler.model.McScheduler;
+
+public class McSchedulerMonitorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final CommandStatistics commandStatistics = new CommandStatistics();
+    private final Histogram saveNanos = new Histogram();
+
+    private McSchedulerMonitor createMonitor(Path dataFilePath) {
+        return new McSchedulerMonitor(commandStatistics, saveNanos, saveNanos::getMax, dataFilePath);
+    }
+
+    @Test
+    public void updateSizes_mcScheduler_sizesPublished() {
+        McScheduler mcScheduler = getTypicalMcScheduler();
+        mcScheduler.addAssignment(ASSIGNMENT_A);
+        McSchedulerMonitor monitor = createMonitor(testFolder.resolve("data.json"));
+        assertEquals(0, monitor.getWorkerCount());
+
+        monitor.updateSizes(mcScheduler);
+        assertEquals(mcScheduler.getWorkerList().size(), monitor.getWorkerCount());
+        assertEquals(mcScheduler.getShiftList().size(), monitor.getShiftCount());
+        assertEquals(1, monitor.getAssignmentCount());
+        assertEquals(mcScheduler.getRoleList().size(), monitor.getRoleCount());
+    }
+
+    @Test
+    public void getters_savesAndCommandsRecorded_statisticsPublished() {
+        McSchedulerMonitor monitor = createMonitor(testFolder.resolve("data.json"));
+        saveNanos.record(TimeUnit.MILLISECONDS.toNanos(2));
+        saveNanos.record(TimeUnit.MILLISECONDS.toNanos(4));
+        commandStatistics.record("worker-list", 1, 1, 1, 1);
+        commandStatistics.record("worker-list", 1, 1, 1, 1);
+        commandStatistics.record("assign", 1, 1, 1, 1);
+        monitor.recordCommand();
+
+        assertEquals(2, monitor.getSaveCount());
+        assertEquals(3, monitor.getAverageSaveMillis());
+        assertEquals(4, monitor.getMaxSaveMillis());
+        assertEquals(4, monitor.getLastSaveMillis());
+        assertEquals(3, monitor.getCommandCount());
+        assertEquals(1, monitor.getCommandsPerMinute());
+    }
+
+    @Test
+    public void getCommandsPerMinute_commandsOverTime_countsLastMinuteOnly() {
+        long[] nanoTime = {TimeUnit.HOURS.toNanos(1)};
+        McSchedulerMonitor monitor = new McSchedulerMonitor(commandStatistics, saveNanos, saveNanos::getMax,
+                testFolder.resolve("data.json"), () -> nanoTime[0]);
+        assertEquals(0, monitor.getCommandsPerMinute());
+
+        monitor.recordCommand();
+        monitor.recordCommand();
+        nanoTime[0] += TimeUnit.SECONDS.toNanos(30);
+        monitor.recordCommand();
+        assertEquals(3, monitor.getCommandsPerMinute());
+
+        // The first two commands leave the window, and the bucket they were in is reused
+        nanoTime[0] += TimeUnit.SECONDS.toNanos(30);
+        assertEquals(1, monitor.getCommandsPerMinute());
+        monitor.recordCommand();
+        assertEquals(2, monitor.getCommandsPerMinute());
+
+        nanoTime[0] += TimeUnit.MINUTES.toNanos(5);
+        assertEquals(0, monitor.getCommandsPerMinute());
+    }
+
+    @Test
+    public void getDataFileSize_existingAndMissingFile() throws Exception {
+        Path dataFilePath = testFolder.resolve("data.json");
+        McSchedulerMonitor monitor = createMonitor(dataFilePath);
+        assertEquals(-1, monitor.getDataFileSize());
+
+        Files.writeString(dataFilePath, "{}");
+        assertEquals(2, monitor.getDataFileSize());
+    }
+
+    @Test
+    public void register_platformMBeanServer_attributesReadable() throws Exception {
+        McSchedulerMonitor monitor = createMonitor(testFolder.resolve("data.json"));
+        monitor.updateSizes(getTypicalMcScheduler());
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(McSchedulerMonitor.OBJECT_NAME);
+
+        monitor.register();
+        try {
+            assertEquals(monitor.getWorkerCount(), server.getAttribute(objectName, "WorkerCount"));
+            assertEquals(-1L, server.getAttribute(objectName, "DataFileSize"));
+        } finally {
+            monitor.unregister();
+        }
+        assertFalse(server.isRegistered(objectName));
+    }
+}
@@ -0,0 +1,65 @@
+package mcscheduler.model;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static mcscheduler.testutil.McSchedulerBuilder.getTypicalMcScheduler;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_A;
+import static mcscheduler.testutil.TypicalShifts.SHIFT_A;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.shift.RoleRequirement;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.testutil.ShiftBuilder;
+
+public class McSchedulerSnapshotTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> McSchedulerSnapshot.of(null));
+    }
+
+    @Test
+    public void of_typicalMcScheduler_sameData() {
+        McScheduler mcScheduler = getTypicalMcScheduler();
+        assertEquals(mcScheduler, new McScheduler(McSchedulerSnapshot.of(mcScheduler)));
+    }
+
+    @Test
+    public void of_quantityFilledUpdatedAfterwards_snapshotUnchanged() {
+        Shift shift = new ShiftBuilder().withRoleRequirements("cashier 2 0").build();
+        McScheduler mcScheduler = new McScheduler();
+        mcScheduler.addShift(shift);
+        McSchedulerSnapshot snapshot = McSchedulerSnapshot.of(mcScheduler);
+
+        shift.getRoleRequirements().forEach(roleRequirement -> roleRequirement.setQuantityFilled(1));
+
+        RoleRequirement snapshotRequirement = snapshot.getShiftList().get(0).getRoleRequirements().iterator().next();
+        assertEquals(0, snapshotRequirement.getQuantityFilled());
+    }
+
+    @Test
+    public void of_modifyList_throwsUnsupportedOperationException() {
+        McSchedulerSnapshot snapshot = McSchedulerSnapshot.of(getTypicalMcScheduler());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getWorkerList().remove(0));
+    }
+
+    @Test
+    public void copyOf_change_shiftsCopied() {
+        McSchedulerChange change = McSchedulerSnapshot.copyOf(McSchedulerChange.add(ASSIGNMENT_A));
+        assertEquals(McSchedulerChange.add(ASSIGNMENT_A), change);
+        Assignment copiedAssignment = (Assignment) change.getTarget();
+        assertFalse(ASSIGNMENT_A.getShift() == copiedAssignment.getShift());
+        assertTrue(ASSIGNMENT_A.getWorker() == copiedAssignment.getWorker());
+
+        McSchedulerChange edit = McSchedulerSnapshot.copyOf(McSchedulerChange.edit(SHIFT_A, SHIFT_A));
+        assertFalse(SHIFT_A == edit.getTarget());
+        assertFalse(SHIFT_A == edit.getEditedTarget());
+
+        McSchedulerChange reset = McSchedulerChange.reset();
+        assertTrue(reset == McSchedulerSnapshot.copyOf(reset));
+    }
+}
@@ -10,19 +10,30 @@ import static mcscheduler.testutil.TypicalWorkers.BENSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import mcscheduler.commons.core.GuiSettings;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
 import mcscheduler.model.shift.ShiftDayOrTimeContainsKeywordsPredicate;
 import mcscheduler.model.worker.NameContainsKeywordsPredicate;
+import mcscheduler.model.worker.Worker;
+import mcscheduler.testutil.AssignmentBuilder;
 import mcscheduler.testutil.McSchedulerBuilder;
+import mcscheduler.testutil.ShiftBuilder;
+import mcscheduler.testutil.WorkerBuilder;
 
 //@@author
 public class ModelManagerTest {
@@ -36,6 +47,20 @@ public class ModelManagerTest {
         assertEquals(new McScheduler(), new McScheduler(modelManager.getMcScheduler()));
     }
 
+    @Test
+    public void constructor_assignmentWithOutdatedWorkerAndShift_rebindsToListInstances() {
+        Worker editedAlice = new WorkerBuilder(ALICE).withPay("99").build();
+        Shift editedShift = new ShiftBuilder(SHIFT_A).withRoleRequirements("Cashier 2 0").build();
+        McScheduler mcScheduler = new McSchedulerBuilder().withWorker(editedAlice).withShift(editedShift).build();
+        mcScheduler.addAssignment(new AssignmentBuilder().withWorker(ALICE).withShift(SHIFT_A)
+                .withRole("cashier").build());
+
+        Assignment assignment = new ModelManager(mcScheduler, new UserPrefs()).getFullAssignmentList().get(0);
+        assertSame(editedAlice, assignment.getWorker());
+        assertSame(editedShift, assignment.getShift());
+        assertEquals(1, editedShift.getRoleRequirements().iterator().next().getQuantityFilled());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -121,6 +146,198 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredShiftList().remove(0));
     }
 
+    @Test
+    public void addAndDeleteAssignment_verificationEnabled_keepsRoleFillCountsConsistent() {
+        Shift shift = new ShiftBuilder().withRoleRequirements("Cashier 2 0").build();
+        Assignment assignment = new AssignmentBuilder().withShift(shift).withWorker(ALICE).withRole("cashier").build();
+        modelManager.setRoleFillVerificationEnabled(true);
+        modelManager.addWorker(ALICE);
+        modelManager.addShift(shift);
+
+        modelManager.addAssignment(assignment);
+        assertEquals(1, shift.getRoleRequirements().iterator().next().getQuantityFilled());
+
+        modelManager.deleteAssignment(assignment);
+        assertEquals(0, shift.getRoleRequirements().iterator().next().getQuantityFilled());
+    }
+
+    @Test
+    public void replaceAndDeleteAssignments_verificationEnabled_keepsRoleFillCountsConsistent() {
+        Shift shift = new ShiftBuilder().withRoleRequirements("Cashier 2 0", "Chef 2 0").build();
+        Assignment aliceAssignment = new AssignmentBuilder().withShift(shift).withWorker(ALICE).withRole("cashier")
+                .build();
+        Assignment bensonAssignment = new AssignmentBuilder().withShift(shift).withWorker(BENSON).withRole("cashier")
+                .build();
+        modelManager.setRoleFillVerificationEnabled(true);
+        modelManager.addShift(shift);
+        modelManager.addAssignment(aliceAssignment);
+        modelManager.addAssignment(bensonAssignment);
+
+        Assignment editedBensonAssignment = new AssignmentBuilder(bensonAssignment).withRole("chef").build();
+        modelManager.replaceAssignments(Map.of(bensonAssignment, editedBensonAssignment));
+        assertEquals(1, shift.findRoleRequirement(Role.createRole("cashier")).get().getQuantityFilled());
+        assertEquals(1, shift.findRoleRequirement(Role.createRole("chef")).get().getQuantityFilled());
+
+        modelManager.deleteAssignments(List.of(aliceAssignment, editedBensonAssignment));
+        assertEquals(0, shift.findRoleRequirement(Role.createRole("cashier")).get().getQuantityFilled());
+        assertEquals(0, shift.findRoleRequirement(Role.createRole("chef")).get().getQuantityFilled());
+        assertTrue(modelManager.getFullAssignmentList().isEmpty());
+    }
+
+    @Test
+    public void replaceWorkersAndShifts_rolesChanged_indexedByNewRoles() {
+        List<McSchedulerChange> changes = new ArrayList<>();
+        modelManager.addWorker(ALICE);
+        modelManager.addWorker(BENSON);
+        modelManager.addShift(SHIFT_A);
+        modelManager.addChangeListener(changes::add);
+        Role cashier = Role.createRole("cashier");
+        Role chef = Role.createRole("chef");
+
+        Worker editedAlice = new WorkerBuilder(ALICE).withRoles("chef").build();
+        Shift editedShift = new ShiftBuilder(SHIFT_A).withRoleRequirements("chef 1 0").build();
+        modelManager.replaceWorkers(Map.of(ALICE, editedAlice));
+        modelManager.replaceShifts(Map.of(SHIFT_A, editedShift));
+
+        assertEquals(List.of(BENSON), modelManager.getWorkersWithRole(cashier));
+        assertEquals(List.of(BENSON, editedAlice), modelManager.getWorkersWithRole(chef));
+        assertTrue(modelManager.getShiftsWithRole(cashier).isEmpty());
+        assertEquals(List.of(editedShift), modelManager.getShiftsWithRole(chef));
+        assertEquals(List.of(McSchedulerChange.edit(ALICE, editedAlice), McSchedulerChange.edit(SHIFT_A, editedShift)),
+                changes);
+    }
+
+    @Test
+    public void getMcSchedulerGeneration_afterModification_increases() {
+        long initialGeneration = modelManager.getMcSchedulerGeneration();
+        modelManager.updateFilteredWorkerList(PREDICATE_SHOW_ALL_WORKERS);
+        assertEquals(initialGeneration, modelManager.getMcSchedulerGeneration());
+
+        modelManager.addWorker(ALICE);
+        assertTrue(modelManager.getMcSchedulerGeneration() > initialGeneration);
+    }
+
+    @Test
+    public void addChangeListener_modifications_notifiedInOrder() {
+        List<McSchedulerChange> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+        Worker editedAlice = new WorkerBuilder(ALICE).withPhone("91234567").build();
+        modelManager.addWorker(ALICE);
+        modelManager.setWorker(ALICE, editedAlice);
+        modelManager.deleteWorker(editedAlice);
+        modelManager.setMcScheduler(new McScheduler());
+
+        assertEquals(List.of(McSchedulerChange.add(ALICE), McSchedulerChange.edit(ALICE, editedAlice),
+                McSchedulerChange.remove(editedAlice), McSchedulerChange.reset()), changes);
+    }
+
+    @Test
+    public void beginBatch_modifications_notifiedOnCommit() {
+        List<McSchedulerChange> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+        int[] workerListChangeCount = {0};
+        modelManager.getFullWorkerList().addListener((ListChangeListener<Worker>) change -> workerListChangeCount[0]++);
+        Worker editedAlice = new WorkerBuilder(ALICE).withPhone("91234567").build();
+
+        modelManager.beginBatch();
+        modelManager.addWorker(ALICE);
+        modelManager.setWorker(ALICE, editedAlice);
+        modelManager.addWorker(BENSON);
+
+        // The modifications are made, but not published
+        assertTrue(modelManager.hasWorker(editedAlice));
+        assertEquals(List.of(editedAlice, BENSON), modelManager.getFullWorkerList());
+        assertTrue(changes.isEmpty());
+        assertEquals(0, workerListChangeCount[0]);
+
+        modelManager.commit();
+        assertEquals(List.of(McSchedulerChange.add(ALICE), McSchedulerChange.edit(ALICE, editedAlice),
+                McSchedulerChange.add(BENSON)), changes);
+        assertEquals(1, workerListChangeCount[0]);
+        assertEquals(List.of(editedAlice, BENSON), modelManager.getFilteredWorkerList());
+    }
+
+    @Test
+    public void beginBatch_nested_notifiedOnOutermostCommit() {
+        List<McSchedulerChange> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+
+        modelManager.beginBatch();
+        modelManager.beginBatch();
+        modelManager.addWorker(ALICE);
+        modelManager.commit();
+        assertTrue(changes.isEmpty());
+
+        modelManager.commit();
+        assertEquals(List.of(McSchedulerChange.add(ALICE)), changes);
+    }
+
+    @Test
+    public void beginBatch_modifications_generationIncreasedImmediately() {
+        long initialGeneration = modelManager.getMcSchedulerGeneration();
+        modelManager.beginBatch();
+        modelManager.addWorker(ALICE);
+        assertTrue(modelManager.getMcSchedulerGeneration() > initialGeneration);
+        modelManager.commit();
+    }
+
+    @Test
+    public void beginBatch_updateFilteredWorkerList_appliedOnCommit() {
+        modelManager.addWorker(ALICE);
+        modelManager.beginBatch();
+        modelManager.addWorker(BENSON);
+        modelManager.updateFilteredWorkerList(worker -> worker.equals(BENSON));
+        modelManager.commit();
+        assertEquals(List.of(BENSON), modelManager.getFilteredWorkerList());
+    }
+
+    @Test
+    public void getFilteredWorkerList_inBatch_throwsIllegalStateException() {
+        modelManager.beginBatch();
+        modelManager.addWorker(ALICE);
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_FILTERED_LIST_IN_BATCH,
+                modelManager::getFilteredWorkerList);
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_FILTERED_LIST_IN_BATCH,
+                modelManager::getFilteredShiftList);
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_FILTERED_LIST_IN_BATCH,
+                modelManager::getFilteredRoleList);
+        modelManager.commit();
+        assertEquals(List.of(ALICE), modelManager.getFilteredWorkerList());
+    }
+
+    @Test
+    public void commit_noBatchStarted_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_NO_BATCH, modelManager::commit);
+    }
+
+    @Test
+    public void addChangeListener_replayedOnAnotherModel_sameMcScheduler() {
+        List<McSchedulerChange> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+        modelManager.addWorker(ALICE);
+        modelManager.addShift(SHIFT_A);
+        modelManager.setShift(SHIFT_A, SHIFT_B);
+        modelManager.addWorker(BENSON);
+
+        ModelManager replayedModelManager = new ModelManager();
+        changes.forEach(change -> change.applyTo(replayedModelManager));
+        assertEquals(modelManager.getMcScheduler(), replayedModelManager.getMcScheduler());
+    }
+
+    @Test
+    public void resynchronize_replayedAssignment_refersToModelWorkerAndShift() {
+        modelManager.addWorker(ALICE);
+        modelManager.addShift(SHIFT_A);
+        Worker aliceCopy = new WorkerBuilder(ALICE).build();
+        Shift shiftCopy = new ShiftBuilder(SHIFT_A).build();
+        McSchedulerChange.add(new Assignment(shiftCopy, aliceCopy, Role.createRole("cashier"))).applyTo(modelManager);
+
+        modelManager.resynchronize();
+        Assignment assignment = modelManager.getFullAssignmentList().get(0);
+        assertTrue(assignment.getWorker() == modelManager.getFullWorkerList().get(0));
+        assertTrue(assignment.getShift() == modelManager.getFullShiftList().get(0));
+    }
+
     @Test
     public void equals() {
         McScheduler mcScheduler = new McSchedulerBuilder()
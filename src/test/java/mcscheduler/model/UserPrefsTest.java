@@ -1,6 +1,9 @@
 package mcscheduler.model;
 
 import static mcscheduler.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,4 +21,33 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setMcSchedulerFilePath(null));
     }
 
+    @Test
+    public void setMcSchedulerFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setMcSchedulerFileFormat(null));
+    }
+
+    @Test
+    public void getMcSchedulerFileFormat_default_matchesDefaultFilePath() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(DataFileFormat.BINARY, userPrefs.getMcSchedulerFileFormat());
+        assertEquals(DataFileFormat.ofFilePath(userPrefs.getMcSchedulerFilePath()),
+                userPrefs.getMcSchedulerFileFormat());
+    }
+
+    @Test
+    public void getMcSchedulerFileFormat_jsonFilePathWithoutFormat_returnsJson() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMcSchedulerFilePath(Paths.get("data", "mcscheduler.json"));
+        assertEquals(DataFileFormat.JSON, userPrefs.getMcSchedulerFileFormat());
+    }
+
+    @Test
+    public void getMcSchedulerFileFormat_formatSet_returnsFormat() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMcSchedulerFilePath(Paths.get("data", "mcscheduler.json"));
+        userPrefs.setMcSchedulerFileFormat(DataFileFormat.BINARY);
+        assertEquals(DataFileFormat.BINARY, userPrefs.getMcSchedulerFileFormat());
+    }
+
 }
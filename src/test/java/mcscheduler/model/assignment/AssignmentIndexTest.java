@@ -0,0 +1,96 @@
+package mcscheduler.model.assignment;
+
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_A;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_B;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_C;
+import static mcscheduler.testutil.TypicalShifts.SHIFT_A;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.worker.Worker;
+import mcscheduler.testutil.Assert;
+import mcscheduler.testutil.AssignmentBuilder;
+import mcscheduler.testutil.ShiftBuilder;
+import mcscheduler.testutil.WorkerBuilder;
+
+public class AssignmentIndexTest {
+
+    private final AssignmentIndex assignmentIndex = new AssignmentIndex();
+
+    @Test
+    public void add_nullAssignment_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> assignmentIndex.add(null));
+    }
+
+    @Test
+    public void getAssignmentsOfWorker_workerWithSameIdentity_returnsAssignments() {
+        assignmentIndex.add(ASSIGNMENT_A);
+        assignmentIndex.add(ASSIGNMENT_B);
+        Worker editedAlice = new WorkerBuilder(ALICE).withPay("99").build();
+        assertEquals(Collections.singletonList(ASSIGNMENT_A), assignmentIndex.getAssignmentsOfWorker(editedAlice));
+    }
+
+    @Test
+    public void getAssignmentsOfShift_shiftWithSameIdentity_returnsAssignments() {
+        assignmentIndex.add(ASSIGNMENT_A);
+        assignmentIndex.add(ASSIGNMENT_B);
+        Shift editedShiftA = new ShiftBuilder(SHIFT_A).withRoleRequirements("Janitor 3 0").build();
+        assertEquals(Collections.singletonList(ASSIGNMENT_A), assignmentIndex.getAssignmentsOfShift(editedShiftA));
+    }
+
+    @Test
+    public void getAssignmentsWithRole_roleInIndex_returnsAssignments() {
+        assignmentIndex.reset(Arrays.asList(ASSIGNMENT_A, ASSIGNMENT_B, ASSIGNMENT_C));
+        assertEquals(Arrays.asList(ASSIGNMENT_A, ASSIGNMENT_C),
+                assignmentIndex.getAssignmentsWithRole(Role.createRole("cashier")));
+    }
+
+    @Test
+    public void getAssignmentsOfWorker_workerNotInIndex_returnsEmptyList() {
+        assignmentIndex.add(ASSIGNMENT_B);
+        assertTrue(assignmentIndex.getAssignmentsOfWorker(ALICE).isEmpty());
+    }
+
+    @Test
+    public void remove_existingAssignment_removesFromAllIndices() {
+        assignmentIndex.add(ASSIGNMENT_A);
+        assignmentIndex.remove(ASSIGNMENT_A);
+        assertTrue(assignmentIndex.getAssignmentsOfWorker(ALICE).isEmpty());
+        assertTrue(assignmentIndex.getAssignmentsOfShift(SHIFT_A).isEmpty());
+        assertTrue(assignmentIndex.getAssignmentsWithRole(ASSIGNMENT_A.getRole()).isEmpty());
+    }
+
+    @Test
+    public void remove_sameIdentityDifferentRole_removesRecordedAssignment() {
+        assignmentIndex.reset(Arrays.asList(ASSIGNMENT_A, ASSIGNMENT_B, ASSIGNMENT_C));
+        assignmentIndex.remove(new AssignmentBuilder(ASSIGNMENT_A).withRole("chef").build());
+        assertTrue(assignmentIndex.getAssignmentsOfWorker(ALICE).isEmpty());
+        assertEquals(Collections.singletonList(ASSIGNMENT_C),
+                assignmentIndex.getAssignmentsWithRole(Role.createRole("cashier")));
+    }
+
+    @Test
+    public void set_editedRole_movesAssignmentBetweenRoles() {
+        assignmentIndex.add(ASSIGNMENT_A);
+        Assignment editedAssignmentA = new AssignmentBuilder(ASSIGNMENT_A).withRole("chef").build();
+        assignmentIndex.set(ASSIGNMENT_A, editedAssignmentA);
+        assertTrue(assignmentIndex.getAssignmentsWithRole(ASSIGNMENT_A.getRole()).isEmpty());
+        assertEquals(Collections.singletonList(editedAssignmentA),
+                assignmentIndex.getAssignmentsWithRole(Role.createRole("chef")));
+    }
+
+    @Test
+    public void getAssignmentsOfShift_modifyReturnedList_indexUnchanged() {
+        assignmentIndex.add(ASSIGNMENT_A);
+        assignmentIndex.getAssignmentsOfShift(SHIFT_A).clear();
+        assertEquals(Collections.singletonList(ASSIGNMENT_A), assignmentIndex.getAssignmentsOfShift(SHIFT_A));
+    }
+}
@@ -7,15 +7,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import mcscheduler.logic.commands.CommandTestUtil;
 import mcscheduler.model.assignment.exceptions.AssignmentNotFoundException;
 import mcscheduler.model.assignment.exceptions.DuplicateAssignmentException;
+import mcscheduler.model.role.Role;
 import mcscheduler.testutil.Assert;
 import mcscheduler.testutil.AssignmentBuilder;
 import mcscheduler.testutil.TypicalAssignments;
+import mcscheduler.testutil.WorkerBuilder;
 
 public class UniqueAssignmentListTest {
 
@@ -45,6 +49,21 @@ public class UniqueAssignmentListTest {
         assertTrue(uniqueAssignmentList.contains(editedAssignmentA));
     }
 
+    @Test
+    public void getAssignment_assignmentWithSameIdentityFieldsInList_returnsAssignmentInList() {
+        uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_A);
+        Assignment editedAssignmentA = new AssignmentBuilder(TypicalAssignments.ASSIGNMENT_A).withRole(
+            CommandTestUtil.VALID_ROLE_CHEF).build();
+        assertEquals(Optional.of(TypicalAssignments.ASSIGNMENT_A),
+            uniqueAssignmentList.getAssignment(editedAssignmentA));
+    }
+
+    @Test
+    public void getAssignment_assignmentNotInList_returnsEmptyOptional() {
+        uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_A);
+        assertEquals(Optional.empty(), uniqueAssignmentList.getAssignment(TypicalAssignments.ASSIGNMENT_B));
+    }
+
     @Test
     public void add_nullAssignment_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueAssignmentList.add(null));
@@ -121,6 +140,80 @@ public class UniqueAssignmentListTest {
             uniqueAssignmentList.setAssignment(TypicalAssignments.ASSIGNMENT_A, TypicalAssignments.ASSIGNMENT_B));
     }
 
+    @Test
+    public void replaceAll_assignmentsInList_replacedInPlace() {
+        uniqueAssignmentList.setAssignments(TypicalAssignments.getTypicalAssignments());
+        Assignment editedAssignmentA = new AssignmentBuilder(TypicalAssignments.ASSIGNMENT_A)
+                .withRole(CommandTestUtil.VALID_ROLE_CHEF).build();
+        Assignment editedAssignmentC = new AssignmentBuilder(TypicalAssignments.ASSIGNMENT_C)
+                .withRole(CommandTestUtil.VALID_ROLE_CHEF).build();
+        uniqueAssignmentList.replaceAll(Map.of(TypicalAssignments.ASSIGNMENT_A, editedAssignmentA,
+                TypicalAssignments.ASSIGNMENT_C, editedAssignmentC));
+
+        assertEquals(Arrays.asList(editedAssignmentA, TypicalAssignments.ASSIGNMENT_B, editedAssignmentC),
+                uniqueAssignmentList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(editedAssignmentA), uniqueAssignmentList.getAssignment(editedAssignmentA));
+    }
+
+    @Test
+    public void replaceAll_targetWithDifferentRole_replaced() {
+        uniqueAssignmentList.setAssignments(TypicalAssignments.getTypicalAssignments());
+        Assignment targetWithOtherRole = new AssignmentBuilder(TypicalAssignments.ASSIGNMENT_A)
+                .withRole(CommandTestUtil.VALID_ROLE_CHEF).build();
+        Assignment editedAssignmentA = new AssignmentBuilder(TypicalAssignments.ASSIGNMENT_A)
+                .withRole(CommandTestUtil.VALID_ROLE_CHEF).build();
+        uniqueAssignmentList.replaceAll(Map.of(targetWithOtherRole, editedAssignmentA));
+
+        assertEquals(Arrays.asList(editedAssignmentA, TypicalAssignments.ASSIGNMENT_B, TypicalAssignments.ASSIGNMENT_C),
+                uniqueAssignmentList.asUnmodifiableObservableList());
+        assertEquals(Role.createRole(CommandTestUtil.VALID_ROLE_CHEF),
+                uniqueAssignmentList.asUnmodifiableObservableList().get(0).getRole());
+    }
+
+    @Test
+    public void replaceAll_identitiesSwapped_success() {
+        uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_A);
+        uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_B);
+        uniqueAssignmentList.replaceAll(Map.of(TypicalAssignments.ASSIGNMENT_A, TypicalAssignments.ASSIGNMENT_B,
+                TypicalAssignments.ASSIGNMENT_B, TypicalAssignments.ASSIGNMENT_A));
+
+        assertEquals(Arrays.asList(TypicalAssignments.ASSIGNMENT_B, TypicalAssignments.ASSIGNMENT_A),
+                uniqueAssignmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_editedAssignmentHasNonUniqueIdentity_throwsDuplicateAssignmentException() {
+        uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_A);
+        uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_B);
+        Assert.assertThrows(DuplicateAssignmentException.class, () -> uniqueAssignmentList.replaceAll(
+                Map.of(TypicalAssignments.ASSIGNMENT_A, TypicalAssignments.ASSIGNMENT_B)));
+        assertTrue(uniqueAssignmentList.contains(TypicalAssignments.ASSIGNMENT_A));
+    }
+
+    @Test
+    public void replaceAll_targetNotInList_throwsAssignmentNotFoundException() {
+        Assert.assertThrows(AssignmentNotFoundException.class, () -> uniqueAssignmentList.replaceAll(
+                Map.of(TypicalAssignments.ASSIGNMENT_A, TypicalAssignments.ASSIGNMENT_A)));
+    }
+
+    @Test
+    public void removeAll_assignmentsInList_removed() {
+        uniqueAssignmentList.setAssignments(TypicalAssignments.getTypicalAssignments());
+        uniqueAssignmentList.removeAll(Arrays.asList(TypicalAssignments.ASSIGNMENT_A, TypicalAssignments.ASSIGNMENT_C));
+
+        assertEquals(Collections.singletonList(TypicalAssignments.ASSIGNMENT_B),
+                uniqueAssignmentList.asUnmodifiableObservableList());
+        assertFalse(uniqueAssignmentList.contains(TypicalAssignments.ASSIGNMENT_A));
+    }
+
+    @Test
+    public void removeAll_assignmentNotInList_throwsAssignmentNotFoundException() {
+        uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_A);
+        Assert.assertThrows(AssignmentNotFoundException.class, () -> uniqueAssignmentList.removeAll(
+                Arrays.asList(TypicalAssignments.ASSIGNMENT_A, TypicalAssignments.ASSIGNMENT_B)));
+        assertTrue(uniqueAssignmentList.contains(TypicalAssignments.ASSIGNMENT_A));
+    }
+
     @Test
     public void remove_nullAssignment_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueAssignmentList.remove(null));
@@ -140,6 +233,22 @@ public class UniqueAssignmentListTest {
         assertEquals(expectedUniqueAssignmentList, uniqueAssignmentList);
     }
 
+    @Test
+    public void remove_assignmentWithSameIdentityButDifferentFields_throwsAssignmentNotFoundException() {
+        uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_A);
+        Assignment editedAssignmentA = new AssignmentBuilder(TypicalAssignments.ASSIGNMENT_A).withWorker(
+            new WorkerBuilder(TypicalAssignments.ASSIGNMENT_A.getWorker()).withPay("99").build()).build();
+        Assert.assertThrows(AssignmentNotFoundException.class, () -> uniqueAssignmentList.remove(editedAssignmentA));
+    }
+
+    @Test
+    public void setAssignment_editedAssignmentHasDifferentIdentity_targetNoLongerFound() {
+        uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_A);
+        uniqueAssignmentList.setAssignment(TypicalAssignments.ASSIGNMENT_A, TypicalAssignments.ASSIGNMENT_B);
+        assertFalse(uniqueAssignmentList.contains(TypicalAssignments.ASSIGNMENT_A));
+        assertTrue(uniqueAssignmentList.contains(TypicalAssignments.ASSIGNMENT_B));
+    }
+
     @Test
     public void setAssignments_nullUniqueAssignmentList_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () ->
@@ -169,6 +278,7 @@ public class UniqueAssignmentListTest {
         UniqueAssignmentList expectedUniqueAssignmentList = new UniqueAssignmentList();
         expectedUniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_B);
         assertEquals(expectedUniqueAssignmentList, uniqueAssignmentList);
+        assertFalse(uniqueAssignmentList.contains(TypicalAssignments.ASSIGNMENT_A));
     }
 
     @Test
@@ -0,0 +1,96 @@
+package mcscheduler.model.role;
+
+import static mcscheduler.testutil.TypicalShifts.SHIFT_A;
+import static mcscheduler.testutil.TypicalShifts.SHIFT_B;
+import static mcscheduler.testutil.TypicalShifts.SHIFT_C;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.BENSON;
+import static mcscheduler.testutil.TypicalWorkers.DANIEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.worker.Worker;
+import mcscheduler.testutil.ShiftBuilder;
+import mcscheduler.testutil.WorkerBuilder;
+
+public class RoleIndexTest {
+
+    private static final Role CASHIER = Role.createRole("cashier");
+    private static final Role CHEF = Role.createRole("chef");
+    private static final Role JANITOR = Role.createRole("janitor");
+
+    private final RoleIndex roleIndex = new RoleIndex();
+
+    @Test
+    public void addWorker_workersWithRoles_groupedByRole() {
+        roleIndex.addWorker(ALICE);
+        roleIndex.addWorker(BENSON);
+        roleIndex.addWorker(DANIEL);
+
+        assertEquals(List.of(ALICE, BENSON), roleIndex.getWorkersWithRole(CASHIER));
+        assertEquals(List.of(BENSON, DANIEL), roleIndex.getWorkersWithRole(CHEF));
+        assertTrue(roleIndex.getWorkersWithRole(JANITOR).isEmpty());
+    }
+
+    @Test
+    public void setWorker_roleRemoved_noLongerIndexedUnderRole() {
+        roleIndex.addWorker(BENSON);
+        Worker editedBenson = new WorkerBuilder(BENSON).withRoles("chef").build();
+        roleIndex.setWorker(BENSON, editedBenson);
+
+        assertTrue(roleIndex.getWorkersWithRole(CASHIER).isEmpty());
+        assertEquals(List.of(editedBenson), roleIndex.getWorkersWithRole(CHEF));
+    }
+
+    @Test
+    public void removeWorker_indexedWorker_removedFromEveryRole() {
+        roleIndex.addWorker(BENSON);
+        roleIndex.removeWorker(BENSON);
+
+        assertTrue(roleIndex.getWorkersWithRole(CASHIER).isEmpty());
+        assertTrue(roleIndex.getWorkersWithRole(CHEF).isEmpty());
+    }
+
+    @Test
+    public void addShift_shiftsWithRoleRequirements_groupedByRole() {
+        roleIndex.addShift(SHIFT_A);
+        roleIndex.addShift(SHIFT_B);
+        roleIndex.addShift(SHIFT_C);
+
+        assertEquals(List.of(SHIFT_A, SHIFT_B, SHIFT_C), roleIndex.getShiftsWithRole(CASHIER));
+        assertEquals(List.of(SHIFT_B), roleIndex.getShiftsWithRole(CHEF));
+        assertEquals(List.of(SHIFT_C), roleIndex.getShiftsWithRole(JANITOR));
+    }
+
+    @Test
+    public void setShift_roleRequirementReplaced_indexedUnderNewRole() {
+        roleIndex.addShift(SHIFT_A);
+        Shift editedShift = new ShiftBuilder(SHIFT_A).withRoleRequirements("janitor 1 0").build();
+        roleIndex.setShift(SHIFT_A, editedShift);
+
+        assertTrue(roleIndex.getShiftsWithRole(CASHIER).isEmpty());
+        assertEquals(List.of(editedShift), roleIndex.getShiftsWithRole(JANITOR));
+    }
+
+    @Test
+    public void resetShifts_replacesIndex() {
+        roleIndex.addShift(SHIFT_A);
+        roleIndex.resetShifts(List.of(SHIFT_B));
+
+        assertEquals(List.of(SHIFT_B), roleIndex.getShiftsWithRole(CASHIER));
+        roleIndex.resetWorkers(List.of(ALICE));
+        assertEquals(List.of(ALICE), roleIndex.getWorkersWithRole(CASHIER));
+    }
+
+    @Test
+    public void getWorkersWithRole_snapshotModified_indexUnchanged() {
+        roleIndex.addWorker(ALICE);
+        roleIndex.getWorkersWithRole(CASHIER).clear();
+        assertEquals(List.of(ALICE), roleIndex.getWorkersWithRole(CASHIER));
+    }
+}
@@ -0,0 +1,64 @@
+package mcscheduler.model.scheduling;
+
+import static mcscheduler.model.scheduling.BipartiteMatcher.UNMATCHED;
+import static mcscheduler.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class BipartiteMatcherTest {
+
+    @Test
+    public void constructor_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BipartiteMatcher(-1, 1));
+    }
+
+    @Test
+    public void addEdge_noSuchVertex_throwsIndexOutOfBoundsException() {
+        BipartiteMatcher matcher = new BipartiteMatcher(1, 1);
+        assertThrows(IndexOutOfBoundsException.class, () -> matcher.addEdge(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> matcher.addEdge(0, 1));
+    }
+
+    @Test
+    public void match_noEdges_nothingMatched() {
+        assertArrayEquals(new int[] {UNMATCHED, UNMATCHED}, new BipartiteMatcher(2, 2).match());
+    }
+
+    @Test
+    public void match_firstChoiceBlocksAnother_augmentsToMaximumMatching() {
+        // A greedy matching of 0 to 0 would leave 1 unmatched
+        BipartiteMatcher matcher = new BipartiteMatcher(2, 2);
+        matcher.addEdge(0, 0);
+        matcher.addEdge(0, 1);
+        matcher.addEdge(1, 0);
+        assertArrayEquals(new int[] {1, 0}, matcher.match());
+    }
+
+    @Test
+    public void match_longAugmentingPath_maximumMatching() {
+        // Each vertex on the left prefers the vertex on the right taken by the previous one
+        int size = 50;
+        BipartiteMatcher matcher = new BipartiteMatcher(size, size);
+        for (int left = 0; left < size; left++) {
+            matcher.addEdge(left, 0);
+            if (left > 0) {
+                matcher.addEdge(left, left);
+            }
+        }
+        int[] matches = matcher.match();
+        assertEquals(size, Arrays.stream(matches).filter(right -> right != UNMATCHED).distinct().count());
+    }
+
+    @Test
+    public void match_moreLeftThanRight_rightVerticesMatchedOnce() {
+        BipartiteMatcher matcher = new BipartiteMatcher(3, 1);
+        for (int left = 0; left < 3; left++) {
+            matcher.addEdge(left, 0);
+        }
+        assertArrayEquals(new int[] {0, UNMATCHED, UNMATCHED}, matcher.match());
+    }
+}
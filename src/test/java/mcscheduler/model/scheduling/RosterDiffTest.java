@@ -0,0 +1,83 @@
+package mcscheduler.model.scheduling;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.testutil.McSchedulerBuilder;
+import mcscheduler.testutil.ShiftBuilder;
+
+public class RosterDiffTest {
+
+    private static final Role CASHIER = Role.createRole("cashier");
+    private static final Role CHEF = Role.createRole("chef");
+    private static final Shift SHIFT = new ShiftBuilder().withShiftDay("MON").withShiftTime("PM")
+            .withRoleRequirements("cashier 1 0").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RosterDiff(null, List.of()));
+        assertThrows(NullPointerException.class, () -> new RosterDiff(List.of(), null));
+    }
+
+    @Test
+    public void isEmpty() {
+        Assignment assignment = new Assignment(SHIFT, ALICE, CASHIER);
+        assertTrue(new RosterDiff(List.of(), List.of()).isEmpty());
+        assertFalse(new RosterDiff(List.of(assignment), List.of()).isEmpty());
+        assertFalse(new RosterDiff(List.of(), List.of(assignment)).isEmpty());
+    }
+
+    @Test
+    public void applyTo_replacesAssignments() {
+        Model model = createModel();
+        model.addAssignment(new Assignment(SHIFT, CARL, CASHIER));
+        Model expectedModel = createModel();
+        expectedModel.addAssignment(new Assignment(SHIFT, ALICE, CASHIER));
+
+        new RosterDiff(List.of(new Assignment(SHIFT, CARL, CASHIER)), List.of(new Assignment(SHIFT, ALICE, CASHIER)))
+                .applyTo(model);
+
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        RosterDiff diff = new RosterDiff(List.of(new Assignment(SHIFT, CARL, CASHIER)), List.of());
+        assertEquals(diff, new RosterDiff(List.of(new Assignment(SHIFT, CARL, CASHIER)), List.of()));
+        assertNotEquals(diff, null);
+        assertNotEquals(diff, new RosterDiff(List.of(), List.of(new Assignment(SHIFT, CARL, CASHIER))));
+
+        // Same shift and worker, different role
+        RosterDiff otherRoleDiff = new RosterDiff(List.of(new Assignment(SHIFT, CARL, CHEF)), List.of());
+        assertNotEquals(diff, otherRoleDiff);
+        assertNotEquals(otherRoleDiff, diff);
+    }
+
+    @Test
+    public void hashCode_equalDiffs_sameHashCode() {
+        assertEquals(new RosterDiff(List.of(new Assignment(SHIFT, CARL, CASHIER)), List.of()).hashCode(),
+                new RosterDiff(List.of(new Assignment(SHIFT, CARL, CASHIER)), List.of()).hashCode());
+    }
+
+    private static Model createModel() {
+        McScheduler mcScheduler = new McSchedulerBuilder().withWorker(ALICE).withWorker(CARL).withShift(SHIFT).build();
+        mcScheduler.addRole(CASHIER);
+        return new ModelManager(mcScheduler, new UserPrefs());
+    }
+}
@@ -0,0 +1,169 @@
+package mcscheduler.model.scheduling;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.BENSON;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.worker.Worker;
+import mcscheduler.testutil.McSchedulerBuilder;
+import mcscheduler.testutil.ShiftBuilder;
+import mcscheduler.testutil.WorkerBuilder;
+
+public class RosterOptimizerTest {
+
+    private static final Duration TIME_BUDGET = Duration.ofMillis(100);
+    private static final long SEED = 0;
+    private static final Role CASHIER = Role.createRole("cashier");
+    private static final Role CHEF = Role.createRole("chef");
+
+    @Test
+    public void constructor_nullModel_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RosterOptimizer(null));
+    }
+
+    @Test
+    public void optimize_nothingToFill_noChanges() {
+        OptimizedRoster optimizedRoster = new RosterOptimizer(new ModelManager()).optimize(TIME_BUDGET, SEED);
+        assertTrue(optimizedRoster.getDiff().isEmpty());
+        assertEquals(new RosterStatistics(0, 0, 0, 0), optimizedRoster.getOptimizedStatistics());
+    }
+
+    @Test
+    public void optimize_cheaperWorkerAvailable_replacesWorker() {
+        Shift shift = createShift("MON", "cashier 1 0");
+        Model model = createModel(List.of(ALICE, CARL), shift);
+        model.addAssignment(new Assignment(shift, CARL, CASHIER));
+
+        OptimizedRoster optimizedRoster = new RosterOptimizer(model).optimize(TIME_BUDGET, SEED);
+
+        assertEquals(new RosterDiff(List.of(new Assignment(shift, CARL, CASHIER)),
+                List.of(new Assignment(shift, ALICE, CASHIER))), optimizedRoster.getDiff());
+        assertEquals(new RosterStatistics(120.08f, 0, 0, 1), optimizedRoster.getCurrentStatistics());
+        assertEquals(new RosterStatistics(78f, 0, 0, 1), optimizedRoster.getOptimizedStatistics());
+    }
+
+    @Test
+    public void optimize_bestRosterInPlace_noChanges() {
+        Shift shift = createShift("MON", "cashier 1 0");
+        Model model = createModel(List.of(ALICE, CARL), shift);
+        model.addAssignment(new Assignment(shift, ALICE, CASHIER));
+
+        assertTrue(new RosterOptimizer(model).optimize(TIME_BUDGET, SEED).getDiff().isEmpty());
+    }
+
+    @Test
+    public void optimize_unevenWorkloads_spreadsShifts() {
+        Worker ann = new WorkerBuilder().withName("Ann").withPhone("91111111").build();
+        Worker ben = new WorkerBuilder().withName("Ben").withPhone("92222222").build();
+        Shift monday = createShift("MON", "cashier 1 0");
+        Shift tuesday = createShift("TUE", "cashier 1 0");
+        Model model = createModel(List.of(ann, ben), monday, tuesday);
+        model.addAssignment(new Assignment(monday, ann, CASHIER));
+        model.addAssignment(new Assignment(tuesday, ann, CASHIER));
+
+        OptimizedRoster optimizedRoster = new RosterOptimizer(model).optimize(TIME_BUDGET, SEED);
+
+        RosterDiff diff = optimizedRoster.getDiff();
+        assertEquals(1, diff.getAssignmentsToRemove().size());
+        assertEquals(1, diff.getAssignmentsToAdd().size());
+        assertEquals(ben, diff.getAssignmentsToAdd().get(0).getWorker());
+        assertEquals(1, optimizedRoster.getOptimizedStatistics().getMinWorkload());
+        assertEquals(1, optimizedRoster.getOptimizedStatistics().getMaxWorkload());
+    }
+
+    @Test
+    public void optimize_workerFitForSeveralRoles_fillsEveryRole() {
+        // Benson is the only chef, so Benson has to give up the cashier role to Carl
+        Shift shift = createShift("MON", "cashier 1 0", "chef 1 0");
+        Model model = createModel(List.of(BENSON, CARL), shift);
+        model.addAssignment(new Assignment(shift, BENSON, CASHIER));
+
+        OptimizedRoster optimizedRoster = new RosterOptimizer(model).optimize(TIME_BUDGET, SEED);
+
+        RosterDiff diff = optimizedRoster.getDiff();
+        assertEquals(new RosterDiff(List.of(new Assignment(shift, BENSON, CASHIER)),
+                List.of(new Assignment(shift, CARL, CASHIER), new Assignment(shift, BENSON, CHEF))), diff);
+        assertEquals(CASHIER, diff.getAssignmentsToRemove().get(0).getRole());
+        assertEquals(CASHIER, diff.getAssignmentsToAdd().get(0).getRole());
+        assertEquals(CHEF, diff.getAssignmentsToAdd().get(1).getRole());
+        assertEquals(1, optimizedRoster.getCurrentStatistics().getUnfilledCount());
+        assertEquals(0, optimizedRoster.getOptimizedStatistics().getUnfilledCount());
+    }
+
+    @Test
+    public void optimize_cheaperWorkerOnLeaveOrUnavailable_notAssigned() {
+        // Alice is cheaper than Carl, but is on leave on Monday and cannot work on Tuesday mornings
+        Shift monday = createShift("MON", "cashier 1 0");
+        Shift tuesday = new ShiftBuilder().withShiftDay("TUE").withShiftTime("AM")
+                .withRoleRequirements("cashier 1 0").build();
+        Model model = createModel(List.of(ALICE, CARL), monday, tuesday);
+        model.addAssignment(new Assignment(monday, ALICE, new Leave()));
+
+        RosterDiff diff = new RosterOptimizer(model).optimize(TIME_BUDGET, SEED).getDiff();
+
+        assertTrue(diff.getAssignmentsToRemove().isEmpty());
+        assertEquals(List.of(new Assignment(monday, CARL, CASHIER), new Assignment(tuesday, CARL, CASHIER)),
+                diff.getAssignmentsToAdd());
+    }
+
+    @Test
+    public void optimize_assignmentFitsNoPosition_keptAsIs() {
+        Shift shift = createShift("MON", "cashier 1 0");
+        Model model = createModel(List.of(ALICE, BENSON), shift);
+        model.addAssignment(new Assignment(shift, BENSON, CHEF));
+
+        OptimizedRoster optimizedRoster = new RosterOptimizer(model).optimize(TIME_BUDGET, SEED);
+
+        assertEquals(new RosterDiff(List.of(), List.of(new Assignment(shift, ALICE, CASHIER))),
+                optimizedRoster.getDiff());
+        assertEquals(1, optimizedRoster.getOptimizedStatistics().getMinWorkload());
+    }
+
+    @Test
+    public void optimize_sameSeed_sameRoster() {
+        // Ann and Ben cost the same, so the seed decides which of them fills each shift
+        Worker ann = new WorkerBuilder().withName("Ann").withPhone("91111111").build();
+        Worker ben = new WorkerBuilder().withName("Ben").withPhone("92222222").build();
+        Model model = createModel(List.of(ann, ben), createShift("MON", "cashier 1 0"),
+                createShift("TUE", "cashier 1 0"), createShift("WED", "cashier 1 0"));
+
+        // the searches end early on a roster this small, so the deadline is never reached
+        OptimizedRoster optimizedRoster = new RosterOptimizer(model).optimize(Duration.ofMinutes(1), SEED);
+        for (int run = 0; run < 3; run++) {
+            assertEquals(optimizedRoster.getDiff(),
+                    new RosterOptimizer(model).optimize(Duration.ofMinutes(1), SEED).getDiff());
+        }
+    }
+
+    private static Shift createShift(String day, String... roleRequirements) {
+        return new ShiftBuilder().withShiftDay(day).withShiftTime("PM").withRoleRequirements(roleRequirements).build();
+    }
+
+    private static Model createModel(List<Worker> workers, Shift... shifts) {
+        McSchedulerBuilder builder = new McSchedulerBuilder();
+        workers.forEach(builder::withWorker);
+        for (Shift shift : shifts) {
+            builder.withShift(shift);
+        }
+        McScheduler mcScheduler = builder.build();
+        mcScheduler.addRole(CASHIER);
+        mcScheduler.addRole(CHEF);
+        return new ModelManager(mcScheduler, new UserPrefs());
+    }
+}
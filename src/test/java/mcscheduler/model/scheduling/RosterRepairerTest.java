@@ -0,0 +1,108 @@
+package mcscheduler.model.scheduling;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.BENSON;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
+import static mcscheduler.testutil.TypicalWorkers.DANIEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.Model;
+import mcscheduler.model.ModelManager;
+import mcscheduler.model.UserPrefs;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.model.worker.Worker;
+import mcscheduler.testutil.McSchedulerBuilder;
+import mcscheduler.testutil.ShiftBuilder;
+
+public class RosterRepairerTest {
+
+    private static final Role CASHIER = Role.createRole("cashier");
+    private static final Role CHEF = Role.createRole("chef");
+
+    @Test
+    public void repair_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RosterRepairer(new ModelManager()).repair(null));
+    }
+
+    @Test
+    public void repair_freeWorkers_lowestPaidWorkerProposed() {
+        // Alice is paid less than Benson, who can also be a cashier
+        Shift shift = createShift("cashier 1 0");
+        Model model = createModel(List.of(ALICE, BENSON, CARL), shift);
+        Assignment vacatedAssignment = new Assignment(shift, CARL, CASHIER);
+        model.addAssignment(vacatedAssignment);
+        takeLeave(model, vacatedAssignment);
+
+        RosterDiff diff = new RosterRepairer(model).repair(List.of(vacatedAssignment));
+
+        assertEquals(new RosterDiff(List.of(), List.of(new Assignment(shift, ALICE, CASHIER))), diff);
+    }
+
+    @Test
+    public void repair_noFreeWorkerFitForRole_workerOfShiftMoves() {
+        // Nobody free can be a chef, so Benson moves from cashier to chef and Carl takes over as cashier
+        Shift shift = createShift("cashier 1 0", "chef 1 0");
+        Model model = createModel(List.of(BENSON, CARL, DANIEL), shift);
+        model.addAssignment(new Assignment(shift, BENSON, CASHIER));
+        Assignment vacatedAssignment = new Assignment(shift, DANIEL, CHEF);
+        model.addAssignment(vacatedAssignment);
+        takeLeave(model, vacatedAssignment);
+
+        RosterDiff diff = new RosterRepairer(model).repair(List.of(vacatedAssignment));
+
+        assertEquals(new RosterDiff(List.of(new Assignment(shift, BENSON, CASHIER)),
+                List.of(new Assignment(shift, BENSON, CHEF), new Assignment(shift, CARL, CASHIER))), diff);
+    }
+
+    @Test
+    public void repair_noWorkerCanFillRole_noChanges() {
+        Shift shift = createShift("chef 1 0");
+        Model model = createModel(List.of(ALICE, DANIEL), shift);
+        Assignment vacatedAssignment = new Assignment(shift, DANIEL, CHEF);
+        model.addAssignment(vacatedAssignment);
+        takeLeave(model, vacatedAssignment);
+
+        assertTrue(new RosterRepairer(model).repair(List.of(vacatedAssignment)).isEmpty());
+    }
+
+    @Test
+    public void repair_roleNotShort_noChanges() {
+        Shift shift = createShift("cashier 1 0");
+        Model model = createModel(List.of(ALICE, BENSON, CARL), shift);
+        model.addAssignment(new Assignment(shift, ALICE, CASHIER));
+        Assignment vacatedAssignment = new Assignment(shift, CARL, CASHIER);
+        model.addAssignment(vacatedAssignment);
+        takeLeave(model, vacatedAssignment);
+
+        assertTrue(new RosterRepairer(model).repair(List.of(vacatedAssignment)).isEmpty());
+    }
+
+    private static void takeLeave(Model model, Assignment assignment) {
+        model.deleteAssignment(assignment);
+        model.addAssignment(new Assignment(assignment.getShift(), assignment.getWorker(), new Leave()));
+    }
+
+    private static Shift createShift(String... roleRequirements) {
+        return new ShiftBuilder().withShiftDay("MON").withShiftTime("PM").withRoleRequirements(roleRequirements)
+                .build();
+    }
+
+    private static Model createModel(List<Worker> workers, Shift shift) {
+        McSchedulerBuilder builder = new McSchedulerBuilder().withShift(shift);
+        workers.forEach(builder::withWorker);
+        McScheduler mcScheduler = builder.build();
+        mcScheduler.addRole(CASHIER);
+        mcScheduler.addRole(CHEF);
+        return new ModelManager(mcScheduler, new UserPrefs());
+    }
+}
@@ -0,0 +1,81 @@
+package mcscheduler.model.shift;
+
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_A;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_B;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_C;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
+import mcscheduler.testutil.Assert;
+import mcscheduler.testutil.AssignmentBuilder;
+import mcscheduler.testutil.ShiftBuilder;
+
+public class RoleFillCounterTest {
+
+    private static final Role CASHIER = Role.createRole("cashier");
+
+    private final RoleFillCounter roleFillCounter = new RoleFillCounter();
+
+    @Test
+    public void increment_nullAssignment_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> roleFillCounter.increment(null));
+    }
+
+    @Test
+    public void getQuantityFilled_nothingCounted_returnsZero() {
+        assertEquals(0, roleFillCounter.getQuantityFilled(ASSIGNMENT_A.getShift(), CASHIER));
+    }
+
+    @Test
+    public void getQuantityFilled_shiftWithSameIdentity_returnsCount() {
+        roleFillCounter.increment(ASSIGNMENT_A);
+        Shift editedShift = new ShiftBuilder(ASSIGNMENT_A.getShift()).withRoleRequirements("Janitor 3 0").build();
+        assertEquals(1, roleFillCounter.getQuantityFilled(editedShift, CASHIER));
+    }
+
+    @Test
+    public void decrement_countedAssignment_reducesCount() {
+        Assignment otherCashier = new AssignmentBuilder(ASSIGNMENT_A).withWorker(BOB).build();
+        roleFillCounter.increment(ASSIGNMENT_A);
+        roleFillCounter.increment(otherCashier);
+        roleFillCounter.decrement(ASSIGNMENT_A);
+        assertEquals(1, roleFillCounter.getQuantityFilled(ASSIGNMENT_A.getShift(), CASHIER));
+    }
+
+    @Test
+    public void applyTo_shiftWithRoleRequirements_updatesQuantityFilled() {
+        Shift shift = new ShiftBuilder().withRoleRequirements("Cashier 2 0", "Chef 1 1").build();
+        roleFillCounter.increment(new AssignmentBuilder().withShift(shift).withWorker(ALICE)
+                .withRole("cashier").build());
+        roleFillCounter.applyTo(shift);
+        for (RoleRequirement roleRequirement : shift.getRoleRequirements()) {
+            int expectedQuantityFilled = roleRequirement.getRole().equals(CASHIER) ? 1 : 0;
+            assertEquals(expectedQuantityFilled, roleRequirement.getQuantityFilled());
+        }
+    }
+
+    @Test
+    public void isConsistentWith_matchingAssignments_returnsTrue() {
+        roleFillCounter.increment(ASSIGNMENT_A);
+        roleFillCounter.increment(ASSIGNMENT_B);
+        roleFillCounter.increment(ASSIGNMENT_C);
+        roleFillCounter.decrement(ASSIGNMENT_B);
+        assertTrue(roleFillCounter.isConsistentWith(Arrays.asList(ASSIGNMENT_A, ASSIGNMENT_C)));
+    }
+
+    @Test
+    public void isConsistentWith_differentAssignments_returnsFalse() {
+        roleFillCounter.reset(Arrays.asList(ASSIGNMENT_A, ASSIGNMENT_B));
+        assertFalse(roleFillCounter.isConsistentWith(Collections.singletonList(ASSIGNMENT_A)));
+    }
+}
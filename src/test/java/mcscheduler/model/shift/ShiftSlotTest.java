@@ -0,0 +1,45 @@
+package mcscheduler.model.shift;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.testutil.Assert;
+
+public class ShiftSlotTest {
+
+    @Test
+    public void ordinal_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> ShiftSlot.ordinal(null, new ShiftTime("AM")));
+        Assert.assertThrows(NullPointerException.class, () -> ShiftSlot.ordinal(new ShiftDay("MON"), null));
+    }
+
+    @Test
+    public void ordinal_everySlot_distinctAndInRange() {
+        Set<Integer> ordinals = new HashSet<>();
+        for (ShiftDay day : ShiftDay.getAllDays()) {
+            for (ShiftTime time : ShiftTime.getAllTimes()) {
+                ordinals.add(ShiftSlot.ordinal(day, time));
+            }
+        }
+        assertEquals(ShiftSlot.SLOT_COUNT, ordinals.size());
+        assertEquals(0, ordinals.stream().mapToInt(Integer::intValue).min().getAsInt());
+        assertEquals(ShiftSlot.SLOT_COUNT - 1, ordinals.stream().mapToInt(Integer::intValue).max().getAsInt());
+    }
+
+    @Test
+    public void ordinal_orderedByDayThenTime() {
+        assertEquals(0, ShiftSlot.ordinal(new ShiftDay("MON"), new ShiftTime("AM")));
+        assertEquals(1, ShiftSlot.ordinal(new ShiftDay("MON"), new ShiftTime("PM")));
+        assertEquals(2, ShiftSlot.ordinal(new ShiftDay("TUE"), new ShiftTime("AM")));
+        assertEquals(13, ShiftSlot.ordinal(new ShiftDay("SUN"), new ShiftTime("PM")));
+    }
+
+    @Test
+    public void mask_slot_onlySlotBitSet() {
+        assertEquals(1 << 3, ShiftSlot.mask(new ShiftDay("TUE"), new ShiftTime("PM")));
+    }
+}
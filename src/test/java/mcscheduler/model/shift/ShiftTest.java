@@ -50,6 +50,23 @@ public class ShiftTest {
                 .build()));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // same day and time but different role requirements -> equal keys
+        Shift editedShift = new ShiftBuilder(TypicalShifts.SHIFT_A)
+                .withRoleRequirements(CommandTestUtil.VALID_ROLE_REQUIREMENT_CHEF).build();
+        assertEquals(TypicalShifts.SHIFT_A.getIdentityKey(), editedShift.getIdentityKey());
+        assertEquals(TypicalShifts.SHIFT_A.getIdentityKey().hashCode(), editedShift.getIdentityKey().hashCode());
+
+        // different day -> different keys
+        editedShift = new ShiftBuilder(TypicalShifts.SHIFT_A).withShiftDay(CommandTestUtil.VALID_DAY_TUE).build();
+        assertNotEquals(TypicalShifts.SHIFT_A.getIdentityKey(), editedShift.getIdentityKey());
+
+        // different time -> different keys
+        editedShift = new ShiftBuilder(TypicalShifts.SHIFT_A).withShiftTime(CommandTestUtil.VALID_TIME_PM).build();
+        assertNotEquals(TypicalShifts.SHIFT_A.getIdentityKey(), editedShift.getIdentityKey());
+    }
+
     @Test
     public void equals() {
         // null
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -98,6 +99,35 @@ public class UniqueShiftListTest {
         assertEquals(uniqueShiftList, expected);
     }
 
+    @Test
+    public void replaceAll() {
+        uniqueShiftList.add(TypicalShifts.SHIFT_A);
+        uniqueShiftList.add(TypicalShifts.SHIFT_B);
+
+        // target not in list
+        Assert.assertThrows(ShiftNotFoundException.class, () ->
+                uniqueShiftList.replaceAll(Map.of(TypicalShifts.SHIFT_C, TypicalShifts.SHIFT_C)));
+
+        // edited shift has the identity of another shift
+        Assert.assertThrows(DuplicateShiftException.class, () ->
+                uniqueShiftList.replaceAll(Map.of(TypicalShifts.SHIFT_A, TypicalShifts.SHIFT_B)));
+
+        // two edited shifts with the same identity
+        Shift otherShiftC = new ShiftBuilder(TypicalShifts.SHIFT_C)
+                .withRoleRequirements(CommandTestUtil.VALID_ROLE_REQUIREMENT_CHEF).build();
+        Assert.assertThrows(DuplicateShiftException.class, () -> uniqueShiftList.replaceAll(
+                Map.of(TypicalShifts.SHIFT_A, TypicalShifts.SHIFT_C, TypicalShifts.SHIFT_B, otherShiftC)));
+        assertEquals(Arrays.asList(TypicalShifts.SHIFT_A, TypicalShifts.SHIFT_B),
+                uniqueShiftList.asUnmodifiableObservableList());
+
+        // shifts replaced in place
+        Shift editedShiftB = new ShiftBuilder(TypicalShifts.SHIFT_B)
+                .withRoleRequirements(CommandTestUtil.VALID_ROLE_REQUIREMENT_CHEF).build();
+        uniqueShiftList.replaceAll(Map.of(TypicalShifts.SHIFT_B, editedShiftB));
+        assertEquals(Arrays.asList(TypicalShifts.SHIFT_A, editedShiftB),
+                uniqueShiftList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueShiftList.remove(null));
@@ -140,6 +170,13 @@ public class UniqueShiftListTest {
         Assert.assertThrows(DuplicateShiftException.class, () -> uniqueShiftList.setShifts(listWithDuplicates));
     }
 
+    @Test
+    public void setShifts_listWithSameIdentityShifts_throwsDuplicateShiftException() {
+        Shift editedShiftA = new ShiftBuilder(TypicalShifts.SHIFT_A).withRoleRequirements("janitor 1 0").build();
+        List<Shift> listWithDuplicates = Arrays.asList(TypicalShifts.SHIFT_A, TypicalShifts.SHIFT_B, editedShiftA);
+        Assert.assertThrows(DuplicateShiftException.class, () -> uniqueShiftList.setShifts(listWithDuplicates));
+    }
+
     @Test
     public void setShifts_list_success() {
         List<Shift> list = Arrays.asList(TypicalShifts.SHIFT_A, TypicalShifts.SHIFT_B);
@@ -0,0 +1,139 @@
+package mcscheduler.model.util;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchableListTest {
+
+    private final BatchableList<String> list = new BatchableList<>();
+    private final List<List<String>> publishedContents = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.asUnmodifiableObservableList().addListener(change ->
+                publishedContents.add(new ArrayList<>(list.asUnmodifiableObservableList())));
+    }
+
+    @Test
+    public void add_notInBatch_publishedImmediately() {
+        list.add("a");
+        list.add("b");
+        assertEquals(List.of(List.of("a"), List.of("a", "b")), publishedContents);
+    }
+
+    @Test
+    public void endBatch_modifiedInBatch_publishedOnce() {
+        list.add("a");
+        publishedContents.clear();
+
+        list.beginBatch();
+        assertTrue(list.isInBatch());
+        list.add("b");
+        list.set(0, "c");
+        list.remove("b");
+        list.add("d");
+
+        // Reads see the modifications before they are published
+        assertEquals(List.of("c", "d"), list);
+        assertEquals(List.of("c", "d"), list.asUnmodifiableObservableList());
+        assertTrue(publishedContents.isEmpty());
+
+        list.endBatch();
+        assertFalse(list.isInBatch());
+        assertEquals(List.of(List.of("c", "d")), publishedContents);
+        assertEquals(List.of("c", "d"), list);
+    }
+
+    @Test
+    public void endBatch_fewElementsModified_onlyThoseInChange() {
+        list.setAll(List.of("a", "b", "c", "d", "e", "f"));
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        list.asUnmodifiableObservableList().addListener(changes::add);
+
+        list.beginBatch();
+        list.set(2, "x");
+        list.add("y");
+        list.remove(0);
+        list.endBatch();
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        while (change.next()) {
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        Collections.sort(removed);
+        Collections.sort(added);
+        assertEquals(List.of("a", "c"), removed);
+        assertEquals(List.of("x", "y"), added);
+        assertEquals(List.of("b", "x", "d", "e", "f", "y"), list);
+    }
+
+    @Test
+    public void endBatch_nestedBatch_publishedByOutermostOnly() {
+        list.beginBatch();
+        list.add("a");
+        list.beginBatch();
+        list.add("b");
+        list.endBatch();
+        assertTrue(publishedContents.isEmpty());
+
+        list.endBatch();
+        assertEquals(List.of(List.of("a", "b")), publishedContents);
+    }
+
+    @Test
+    public void endBatch_notModifiedInBatch_nothingPublished() {
+        list.add("a");
+        publishedContents.clear();
+
+        list.beginBatch();
+        list.endBatch();
+        assertTrue(publishedContents.isEmpty());
+    }
+
+    @Test
+    public void setAll_inBatch_publishedOnEndBatch() {
+        list.add("a");
+        publishedContents.clear();
+
+        list.beginBatch();
+        list.setAll(List.of("b", "c"));
+        assertEquals(List.of("b", "c"), list);
+        assertTrue(publishedContents.isEmpty());
+
+        list.endBatch();
+        assertEquals(List.of(List.of("b", "c")), publishedContents);
+    }
+
+    @Test
+    public void setAll_viewOfItself_contentsKept() {
+        list.add("a");
+        list.add("b");
+        list.setAll(list.subList(0, 2));
+        assertEquals(List.of("a", "b"), list);
+    }
+
+    @Test
+    public void endBatch_noBatchStarted_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, list::endBatch);
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> list.asUnmodifiableObservableList().add("a"));
+    }
+}
@@ -0,0 +1,82 @@
+package mcscheduler.model.util;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.shift.RoleRequirement;
+import mcscheduler.model.shift.Shift;
+import mcscheduler.storage.JsonMcSchedulerStorage;
+
+public class RosterGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_negativeWorkerCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RosterGenerator(0).generate(-1));
+    }
+
+    @Test
+    public void generate_sameSeed_sameMcScheduler() {
+        assertEquals(new RosterGenerator(42).generate(500), new RosterGenerator(42).generate(500));
+        assertNotEquals(new RosterGenerator(42).generate(500), new RosterGenerator(43).generate(500));
+    }
+
+    @Test
+    public void generate_noWorkers_shiftsOnly() {
+        McScheduler mcScheduler = new RosterGenerator(0).generate(0);
+        assertTrue(mcScheduler.getWorkerList().isEmpty());
+        assertEquals(14, mcScheduler.getShiftList().size());
+        assertTrue(mcScheduler.getAssignmentList().isEmpty());
+    }
+
+    @Test
+    public void generate_assignmentsRespectConstraints() {
+        McScheduler mcScheduler = new RosterGenerator(7).generate(2000);
+        assertEquals(2000, mcScheduler.getWorkerList().size());
+        assertEquals(14, mcScheduler.getShiftList().size());
+        assertFalse(mcScheduler.getAssignmentList().isEmpty());
+
+        Map<List<Object>, Integer> quantitiesFilled = new HashMap<>();
+        for (Assignment assignment : mcScheduler.getAssignmentList()) {
+            assertTrue(mcScheduler.hasWorker(assignment.getWorker()));
+            assertTrue(mcScheduler.hasShift(assignment.getShift()));
+            if (assignment.getRole() instanceof Leave) {
+                continue;
+            }
+            assertTrue(assignment.getWorker().isFitForRole(assignment.getRole()));
+            assertFalse(assignment.getWorker().isUnavailable(assignment.getShift()));
+            quantitiesFilled.merge(List.of(assignment.getShift(), assignment.getRole()), 1, Integer::sum);
+        }
+
+        for (Shift shift : mcScheduler.getShiftList()) {
+            for (RoleRequirement requirement : shift.getRoleRequirements()) {
+                int quantityFilled = quantitiesFilled.getOrDefault(List.of(shift, requirement.getRole()), 0);
+                assertTrue(quantityFilled < requirement.getQuantityRequired());
+            }
+        }
+    }
+
+    @Test
+    public void generate_savedAndRead_sameMcScheduler() throws Exception {
+        McScheduler mcScheduler = new RosterGenerator(1).generate(300);
+        JsonMcSchedulerStorage storage = new JsonMcSchedulerStorage(testFolder.resolve("generated.json"));
+        storage.saveMcScheduler(mcScheduler);
+        assertEquals(mcScheduler, new McScheduler(storage.readMcScheduler().get()));
+    }
+}
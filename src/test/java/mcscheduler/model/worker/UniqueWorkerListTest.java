@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -113,6 +114,36 @@ public class UniqueWorkerListTest {
             uniqueWorkerList.setWorker(TypicalWorkers.ALICE, TypicalWorkers.BOB));
     }
 
+    @Test
+    public void replaceAll_workersInList_replacedInPlace() {
+        uniqueWorkerList.add(TypicalWorkers.ALICE);
+        uniqueWorkerList.add(TypicalWorkers.BENSON);
+        uniqueWorkerList.add(TypicalWorkers.CARL);
+        Worker editedAlice = new WorkerBuilder(TypicalWorkers.ALICE).withRoles(CommandTestUtil.VALID_ROLE_CHEF).build();
+        Worker editedCarl = new WorkerBuilder(TypicalWorkers.CARL).withRoles(CommandTestUtil.VALID_ROLE_CHEF).build();
+        uniqueWorkerList.replaceAll(Map.of(TypicalWorkers.ALICE, editedAlice, TypicalWorkers.CARL, editedCarl));
+
+        UniqueWorkerList expectedUniqueWorkerList = new UniqueWorkerList();
+        expectedUniqueWorkerList.setWorkers(Arrays.asList(editedAlice, TypicalWorkers.BENSON, editedCarl));
+        assertEquals(expectedUniqueWorkerList, uniqueWorkerList);
+    }
+
+    @Test
+    public void replaceAll_targetNotInList_throwsWorkerNotFoundException() {
+        uniqueWorkerList.add(TypicalWorkers.ALICE);
+        Assert.assertThrows(WorkerNotFoundException.class, () -> uniqueWorkerList.replaceAll(
+                Map.of(TypicalWorkers.ALICE, TypicalWorkers.ALICE, TypicalWorkers.BOB, TypicalWorkers.BOB)));
+        assertEquals(Collections.singletonList(TypicalWorkers.ALICE), uniqueWorkerList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_editedWorkerHasNonUniqueIdentity_throwsDuplicateWorkerException() {
+        uniqueWorkerList.add(TypicalWorkers.ALICE);
+        uniqueWorkerList.add(TypicalWorkers.BOB);
+        Assert.assertThrows(DuplicateWorkerException.class, () ->
+                uniqueWorkerList.replaceAll(Map.of(TypicalWorkers.ALICE, TypicalWorkers.BOB)));
+    }
+
     @Test
     public void remove_nullWorker_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueWorkerList.remove(null));
@@ -167,6 +198,15 @@ public class UniqueWorkerListTest {
             .assertThrows(DuplicateWorkerException.class, () -> uniqueWorkerList.setWorkers(listWithDuplicateWorkers));
     }
 
+    @Test
+    public void setWorkers_listWithSameIdentityWorkers_throwsDuplicateWorkerException() {
+        Worker editedAlice = new WorkerBuilder(TypicalWorkers.ALICE).withAddress(CommandTestUtil.VALID_ADDRESS_BOB)
+            .withRoles(CommandTestUtil.VALID_ROLE_CHEF).build();
+        List<Worker> listWithDuplicateWorkers = Arrays.asList(TypicalWorkers.ALICE, TypicalWorkers.BOB, editedAlice);
+        Assert
+            .assertThrows(DuplicateWorkerException.class, () -> uniqueWorkerList.setWorkers(listWithDuplicateWorkers));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,86 @@
+package mcscheduler.model.worker;
+
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.BENSON;
+import static mcscheduler.testutil.TypicalWorkers.CARL;
+import static mcscheduler.testutil.TypicalWorkers.DANIEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import mcscheduler.model.role.Leave;
+import mcscheduler.model.role.Role;
+import mcscheduler.model.shift.ShiftDay;
+import mcscheduler.model.shift.ShiftSlot;
+import mcscheduler.model.shift.ShiftTime;
+import mcscheduler.testutil.WorkerBuilder;
+
+public class WorkerAvailabilityIndexTest {
+
+    private static final Role CASHIER = Role.createRole("cashier");
+    private static final Role CHEF = Role.createRole("chef");
+    private static final Role JANITOR = Role.createRole("janitor");
+    private static final int MONDAY_MORNING = ShiftSlot.ordinal(new ShiftDay("MON"), new ShiftTime("AM"));
+    private static final int TUESDAY_MORNING = ShiftSlot.ordinal(new ShiftDay("TUE"), new ShiftTime("AM"));
+
+    private final WorkerAvailabilityIndex index = new WorkerAvailabilityIndex();
+
+    @Test
+    public void add_workers_indexedByRoleAndAvailableSlot() {
+        index.reset(List.of(ALICE, BENSON, CARL, DANIEL));
+
+        // Alice is unavailable on Tuesday mornings and Benson on Monday mornings
+        assertEquals(bits(0, 2), index.getAvailableWorkers(CASHIER, MONDAY_MORNING));
+        assertEquals(bits(1, 2), index.getAvailableWorkers(CASHIER, TUESDAY_MORNING));
+        assertEquals(bits(3), index.getAvailableWorkers(CHEF, MONDAY_MORNING));
+        assertTrue(index.getAvailableWorkers(JANITOR, MONDAY_MORNING).isEmpty());
+    }
+
+    @Test
+    public void getAvailableWorkers_leave_everyAvailableWorker() {
+        index.reset(List.of(ALICE, BENSON, CARL, DANIEL));
+        assertEquals(bits(0, 2, 3), index.getAvailableWorkers(new Leave(), MONDAY_MORNING));
+    }
+
+    @Test
+    public void set_editedWorker_reindexedAtSamePosition() {
+        index.reset(List.of(ALICE, BENSON, CARL));
+        Worker editedBenson = new WorkerBuilder(BENSON).withRoles("chef").withUnavailableTimings().build();
+        index.set(BENSON, editedBenson);
+
+        assertEquals(bits(0, 2), index.getAvailableWorkers(CASHIER, MONDAY_MORNING));
+        assertEquals(bits(1), index.getAvailableWorkers(CHEF, MONDAY_MORNING));
+        assertEquals(1, index.indexOf(editedBenson));
+    }
+
+    @Test
+    public void remove_worker_laterWorkersMovedForward() {
+        index.reset(List.of(ALICE, BENSON, CARL, DANIEL));
+        index.remove(BENSON);
+
+        assertEquals(bits(0, 1), index.getAvailableWorkers(CASHIER, MONDAY_MORNING));
+        assertEquals(bits(1), index.getAvailableWorkers(CASHIER, TUESDAY_MORNING));
+        assertEquals(bits(2), index.getAvailableWorkers(CHEF, TUESDAY_MORNING));
+        assertEquals(-1, index.indexOf(BENSON));
+        assertEquals(2, index.indexOf(DANIEL));
+    }
+
+    @Test
+    public void getAvailableWorkers_snapshotModified_indexUnchanged() {
+        index.add(CARL);
+        index.getAvailableWorkers(CASHIER, MONDAY_MORNING).clear();
+        assertEquals(bits(0), index.getAvailableWorkers(CASHIER, MONDAY_MORNING));
+    }
+
+    private static BitSet bits(int... positions) {
+        BitSet bitSet = new BitSet();
+        for (int position : positions) {
+            bitSet.set(position);
+        }
+        return bitSet;
+    }
+}
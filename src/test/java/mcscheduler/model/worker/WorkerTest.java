@@ -8,7 +8,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 import mcscheduler.logic.commands.CommandTestUtil;
+import mcscheduler.model.shift.Shift;
 import mcscheduler.testutil.Assert;
+import mcscheduler.testutil.ShiftBuilder;
 import mcscheduler.testutil.TypicalWorkers;
 import mcscheduler.testutil.WorkerBuilder;
 
@@ -45,6 +47,43 @@ public class WorkerTest {
         assertTrue(TypicalWorkers.ALICE.isSameWorker(editedAlice));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // same name, same phone, different attributes -> equal keys
+        Worker editedAlice = new WorkerBuilder(TypicalWorkers.ALICE).withPay(CommandTestUtil.VALID_PAY_BOB).build();
+        assertEquals(TypicalWorkers.ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+        assertEquals(TypicalWorkers.ALICE.getIdentityKey().hashCode(), editedAlice.getIdentityKey().hashCode());
+
+        // different phone -> different keys
+        editedAlice = new WorkerBuilder(TypicalWorkers.ALICE).withPhone(CommandTestUtil.VALID_PHONE_BOB).build();
+        assertNotEquals(TypicalWorkers.ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+
+        // different name -> different keys
+        editedAlice = new WorkerBuilder(TypicalWorkers.ALICE).withName(CommandTestUtil.VALID_NAME_BOB).build();
+        assertNotEquals(TypicalWorkers.ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+    }
+
+    @Test
+    public void isUnavailable() {
+        Shift tuesdayMorning = new ShiftBuilder().withShiftDay("TUE").withShiftTime("AM").build();
+        Shift tuesdayAfternoon = new ShiftBuilder().withShiftDay("TUE").withShiftTime("PM").build();
+
+        // unavailable for the slot -> returns true
+        assertTrue(TypicalWorkers.ALICE.isUnavailable(tuesdayMorning));
+
+        // unavailable for another slot on the same day -> returns false
+        assertFalse(TypicalWorkers.ALICE.isUnavailable(tuesdayAfternoon));
+
+        // no unavailabilities -> returns false
+        assertFalse(TypicalWorkers.CARL.isUnavailable(tuesdayMorning));
+
+        // several unavailabilities -> returns true for each
+        Worker editedAlice = new WorkerBuilder(TypicalWorkers.ALICE).withUnavailableTimings("TUE AM", "SUN PM").build();
+        assertTrue(editedAlice.isUnavailable(tuesdayMorning));
+        assertTrue(editedAlice.isUnavailable(new ShiftBuilder().withShiftDay("SUN").withShiftTime("PM").build()));
+        assertEquals(tuesdayMorning.getSlotMask() | (1 << 13), editedAlice.getUnavailableSlots());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -0,0 +1,141 @@
+package mcscheduler.storage;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static mcscheduler.testutil.McSchedulerBuilder.getTypicalMcScheduler;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_A;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_C;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mcscheduler.commons.exceptions.DataConversionException;
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.ReadOnlyMcScheduler;
+
+public class BinaryMcSchedulerStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonMcSchedulerStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMcScheduler_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryMcSchedulerStorage(null).readMcScheduler(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryMcSchedulerStorage(testFolder.resolve("NonExistentFile.bin")).readMcScheduler()
+                .isPresent());
+    }
+
+    @Test
+    public void getChecksum_afterSave_matchesDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempMcScheduler.bin");
+        BinaryMcSchedulerStorage storage = new BinaryMcSchedulerStorage(filePath);
+        assertFalse(storage.getChecksum(filePath).isPresent());
+
+        storage.saveMcScheduler(getTypicalMcScheduler());
+        assertEquals(JsonMcSchedulerJournal.computeChecksum(filePath), storage.getChecksum(filePath).getAsLong());
+    }
+
+    @Test
+    public void getChecksum_afterRead_matchesDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempMcScheduler.bin");
+        new BinaryMcSchedulerStorage(filePath).saveMcScheduler(getTypicalMcScheduler());
+
+        BinaryMcSchedulerStorage storage = new BinaryMcSchedulerStorage(filePath);
+        storage.readMcScheduler();
+        assertEquals(JsonMcSchedulerJournal.computeChecksum(filePath), storage.getChecksum(filePath).getAsLong());
+    }
+
+    @Test
+    public void readAndSaveMcScheduler_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempMcScheduler.bin");
+        McScheduler original = getTypicalMcScheduler();
+        original.addAssignment(ASSIGNMENT_A);
+        original.addAssignment(ASSIGNMENT_C);
+        BinaryMcSchedulerStorage binaryMcSchedulerStorage = new BinaryMcSchedulerStorage(filePath);
+
+        // Save in new file and read back
+        binaryMcSchedulerStorage.saveMcScheduler(original);
+        assertTrue(BinaryMcSchedulerSnapshot.isSnapshot(filePath));
+        assertEquals(original, new McScheduler(binaryMcSchedulerStorage.readMcScheduler().get()));
+        assertFalse(Files.exists(testFolder.resolve("TempMcScheduler.bin.tmp")));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addWorker(HOON);
+        original.removeAssignment(ASSIGNMENT_A);
+        original.removeWorker(ALICE);
+        binaryMcSchedulerStorage.saveMcScheduler(original);
+        assertEquals(original, new McScheduler(binaryMcSchedulerStorage.readMcScheduler().get()));
+    }
+
+    @Test
+    public void saveMcScheduler_afterReadingSameFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempMcScheduler.bin");
+        BinaryMcSchedulerStorage binaryMcSchedulerStorage = new BinaryMcSchedulerStorage(filePath);
+        binaryMcSchedulerStorage.saveMcScheduler(getTypicalMcScheduler());
+        McScheduler readBack = new McScheduler(binaryMcSchedulerStorage.readMcScheduler().get());
+
+        // The file just read is replaced by the next save
+        readBack.removeWorker(ALICE);
+        binaryMcSchedulerStorage.saveMcScheduler(readBack);
+        assertEquals(readBack, new McScheduler(binaryMcSchedulerStorage.readMcScheduler().get()));
+    }
+
+    @Test
+    public void readMcScheduler_jsonDataFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempMcScheduler.json");
+        McScheduler original = getTypicalMcScheduler();
+        new JsonMcSchedulerStorage(filePath).saveMcScheduler(original);
+        assertEquals(original, new McScheduler(new BinaryMcSchedulerStorage(filePath).readMcScheduler().get()));
+
+        // and the other way round
+        new BinaryMcSchedulerStorage(filePath).saveMcScheduler(original);
+        assertEquals(original, new McScheduler(new JsonMcSchedulerStorage(filePath).readMcScheduler().get()));
+    }
+
+    @Test
+    public void readMcScheduler_corruptedSnapshot_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempMcScheduler.bin");
+        BinaryMcSchedulerStorage binaryMcSchedulerStorage = new BinaryMcSchedulerStorage(filePath);
+        binaryMcSchedulerStorage.saveMcScheduler(getTypicalMcScheduler());
+
+        byte[] snapshot = Files.readAllBytes(filePath);
+        snapshot[snapshot.length / 2] ^= 1;
+        Files.write(filePath, snapshot);
+        assertThrows(DataConversionException.class, binaryMcSchedulerStorage::readMcScheduler);
+    }
+
+    @Test
+    public void readMcScheduler_invalidWorkerJsonDataFile_throwDataConversionException() {
+        BinaryMcSchedulerStorage binaryMcSchedulerStorage = new BinaryMcSchedulerStorage(
+                TEST_DATA_FOLDER.resolve("invalidWorkerMcScheduler.json"));
+        assertThrows(DataConversionException.class, binaryMcSchedulerStorage::readMcScheduler);
+    }
+
+    @Test
+    public void saveMcScheduler_assignmentWithUnknownWorker_throwsIoException() {
+        McScheduler mcScheduler = new McScheduler();
+        mcScheduler.addAssignment(ASSIGNMENT_A);
+        assertThrows(IOException.class, JsonAdaptedAssignment.MESSAGE_UNKNOWN_WORKER, () ->
+                new BinaryMcSchedulerStorage(testFolder.resolve("TempMcScheduler.bin")).saveMcScheduler(mcScheduler));
+    }
+
+    @Test
+    public void saveMcScheduler_nullMcScheduler_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryMcSchedulerStorage(testFolder.resolve("Some.bin"))
+                .saveMcScheduler((ReadOnlyMcScheduler) null));
+    }
+}
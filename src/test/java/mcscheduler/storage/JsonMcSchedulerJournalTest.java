@@ -0,0 +1,96 @@
+package mcscheduler.storage;
+
+import static mcscheduler.testutil.Assert.assertThrows;
+import static mcscheduler.testutil.McSchedulerBuilder.getTypicalMcScheduler;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_A;
+import static mcscheduler.testutil.TypicalShifts.SHIFT_A;
+import static mcscheduler.testutil.TypicalShifts.SHIFT_B;
+import static mcscheduler.testutil.TypicalWorkers.ALICE;
+import static mcscheduler.testutil.TypicalWorkers.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mcscheduler.model.McScheduler;
+import mcscheduler.model.McSchedulerChange;
+import mcscheduler.model.role.Role;
+import mcscheduler.testutil.WorkerBuilder;
+
+public class JsonMcSchedulerJournalTest {
+
+    private static final List<McSchedulerChange> CHANGES = List.of(
+            McSchedulerChange.add(HOON),
+            McSchedulerChange.edit(ALICE, new WorkerBuilder(ALICE).withPhone("91234567").build()),
+            McSchedulerChange.edit(SHIFT_A, SHIFT_B),
+            McSchedulerChange.remove(ASSIGNMENT_A),
+            McSchedulerChange.add(Role.createRole("janitor")));
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFilePath;
+    private JsonMcSchedulerJournal journal;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataFilePath = testFolder.resolve("mcScheduler.json");
+        journal = new JsonMcSchedulerJournal(JsonMcSchedulerJournal.getJournalFilePath(dataFilePath));
+        StreamingJsonMcScheduler.write(getTypicalMcScheduler(), dataFilePath);
+    }
+
+    @Test
+    public void read_noJournal_noChanges() throws Exception {
+        assertTrue(journal.read(dataFilePath).isEmpty());
+    }
+
+    @Test
+    public void append_neverReset_throwsIoException() {
+        assertThrows(IOException.class, () -> journal.append(CHANGES));
+    }
+
+    @Test
+    public void appendAndRead_allInOrder_success() throws Exception {
+        journal.reset(JsonMcSchedulerJournal.computeChecksum(dataFilePath));
+        journal.append(CHANGES.subList(0, 2));
+        journal.append(CHANGES.subList(2, CHANGES.size()));
+        assertEquals(CHANGES, journal.read(dataFilePath));
+
+        // reset empties the journal
+        journal.reset(JsonMcSchedulerJournal.computeChecksum(dataFilePath));
+        assertTrue(journal.read(dataFilePath).isEmpty());
+    }
+
+    @Test
+    public void read_dataFileReplacedAfterReset_noChanges() throws Exception {
+        journal.reset(JsonMcSchedulerJournal.computeChecksum(dataFilePath));
+        journal.append(CHANGES);
+        StreamingJsonMcScheduler.write(new McScheduler(), dataFilePath);
+        assertTrue(journal.read(dataFilePath).isEmpty());
+    }
+
+    @Test
+    public void read_knownChecksum_checkedAgainstHeader() throws Exception {
+        long checksum = JsonMcSchedulerJournal.computeChecksum(dataFilePath);
+        journal.reset(checksum);
+        journal.append(CHANGES);
+        assertEquals(CHANGES, journal.read(checksum));
+        assertTrue(journal.read(checksum + 1).isEmpty());
+    }
+
+    @Test
+    public void read_truncatedChange_returnsChangesBeforeIt() throws Exception {
+        journal.reset(JsonMcSchedulerJournal.computeChecksum(dataFilePath));
+        journal.append(CHANGES.subList(0, 2));
+        Files.writeString(journal.getJournalFilePath(), "{\"type\":\"ADD\",\"tar", StandardOpenOption.APPEND);
+        assertEquals(CHANGES.subList(0, 2), journal.read(dataFilePath));
+    }
+}
@@ -2,6 +2,9 @@ package mcscheduler.storage;
 
 import static mcscheduler.testutil.Assert.assertThrows;
 import static mcscheduler.testutil.McSchedulerBuilder.getTypicalMcScheduler;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_A;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_C;
+import static mcscheduler.testutil.TypicalShifts.SHIFT_A;
 import static mcscheduler.testutil.TypicalWorkers.ALICE;
 import static mcscheduler.testutil.TypicalWorkers.HOON;
 import static mcscheduler.testutil.TypicalWorkers.IDA;
@@ -9,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -18,6 +22,7 @@ import org.junit.jupiter.api.io.TempDir;
 import mcscheduler.commons.exceptions.DataConversionException;
 import mcscheduler.model.McScheduler;
 import mcscheduler.model.ReadOnlyMcScheduler;
+import mcscheduler.testutil.McSchedulerBuilder;
 
 public class JsonMcSchedulerStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonMcSchedulerStorageTest");
@@ -60,6 +65,30 @@ public class JsonMcSchedulerStorageTest {
         assertThrows(DataConversionException.class, () -> readMcScheduler("invalidAndValidWorkerMcScheduler.json"));
     }
 
+    @Test
+    public void readMcScheduler_nullWorkersMcScheduler_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readMcScheduler("nullWorkersMcScheduler.json"));
+    }
+
+    @Test
+    public void getChecksum_afterSave_matchesDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempMcScheduler.json");
+        JsonMcSchedulerStorage storage = new JsonMcSchedulerStorage(filePath);
+        assertFalse(storage.getChecksum(filePath).isPresent());
+
+        storage.saveMcScheduler(getTypicalMcScheduler());
+        assertEquals(JsonMcSchedulerJournal.computeChecksum(filePath), storage.getChecksum(filePath).getAsLong());
+    }
+
+    @Test
+    public void getChecksum_afterRead_matchesDataFile() throws Exception {
+        // the data file ends with a newline after the json data
+        Path filePath = TEST_DATA_FOLDER.resolve("assignmentsBeforeWorkersMcScheduler.json");
+        JsonMcSchedulerStorage storage = new JsonMcSchedulerStorage(filePath);
+        storage.readMcScheduler();
+        assertEquals(JsonMcSchedulerJournal.computeChecksum(filePath), storage.getChecksum(filePath).getAsLong());
+    }
+
     @Test
     public void readAndSaveMcScheduler_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempMcScheduler.json");
@@ -86,6 +115,26 @@ public class JsonMcSchedulerStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveMcScheduler_withAssignments_success() throws Exception {
+        Path filePath = testFolder.resolve("TempMcScheduler.json");
+        McScheduler original = getTypicalMcScheduler();
+        original.addAssignment(ASSIGNMENT_A);
+        original.addAssignment(ASSIGNMENT_C);
+        JsonMcSchedulerStorage jsonMcSchedulerStorage = new JsonMcSchedulerStorage(filePath);
+
+        jsonMcSchedulerStorage.saveMcScheduler(original);
+        assertEquals(original, new McScheduler(jsonMcSchedulerStorage.readMcScheduler().get()));
+        assertFalse(Files.exists(testFolder.resolve("TempMcScheduler.json.tmp")));
+    }
+
+    @Test
+    public void readMcScheduler_assignmentsBeforeWorkersAndShifts_success() throws Exception {
+        McScheduler expected = new McSchedulerBuilder().withWorker(ALICE).withShift(SHIFT_A).build();
+        expected.addAssignment(ASSIGNMENT_A);
+        assertEquals(expected, readMcScheduler("assignmentsBeforeWorkersMcScheduler.json").get());
+    }
+
     @Test
     public void saveMcScheduler_nullMcScheduler_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveMcScheduler(null, "SomeFile.json"));
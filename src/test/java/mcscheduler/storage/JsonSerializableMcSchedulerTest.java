@@ -1,16 +1,24 @@
 package mcscheduler.storage;
 
 import static mcscheduler.testutil.Assert.assertThrows;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_A;
+import static mcscheduler.testutil.TypicalAssignments.ASSIGNMENT_C;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import mcscheduler.commons.exceptions.IllegalValueException;
 import mcscheduler.commons.util.JsonUtil;
 import mcscheduler.model.McScheduler;
+import mcscheduler.model.assignment.Assignment;
+import mcscheduler.model.role.Role;
 import mcscheduler.testutil.McSchedulerBuilder;
 
 public class JsonSerializableMcSchedulerTest {
@@ -19,6 +27,9 @@ public class JsonSerializableMcSchedulerTest {
     private static final Path TYPICAL_WORKERS_FILE = TEST_DATA_FOLDER.resolve("typicalWorkersMcScheduler.json");
     private static final Path INVALID_WORKER_FILE = TEST_DATA_FOLDER.resolve("invalidWorkerMcScheduler.json");
     private static final Path DUPLICATE_WORKER_FILE = TEST_DATA_FOLDER.resolve("duplicateWorkerMcScheduler.json");
+    private static final Path LEGACY_ASSIGNMENT_FILE = TEST_DATA_FOLDER.resolve("legacyAssignmentMcScheduler.json");
+    private static final Path UNKNOWN_WORKER_ASSIGNMENT_FILE =
+            TEST_DATA_FOLDER.resolve("unknownWorkerAssignmentMcScheduler.json");
 
     @Test
     public void toModelType_typicalWorkersFile_success() throws Exception {
@@ -44,4 +55,72 @@ public class JsonSerializableMcSchedulerTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateShifts_throwsIllegalValueException() {
+        McScheduler source = McSchedulerBuilder.getTypicalMcScheduler();
+        JsonSerializableMcScheduler withDuplicateShift = new JsonSerializableMcScheduler(
+                JsonSerializableMcScheduler.CURRENT_SCHEMA_VERSION, List.of(),
+                List.of(new JsonAdaptedShift(source.getShiftList().get(0)),
+                        new JsonAdaptedShift(source.getShiftList().get(1)),
+                        new JsonAdaptedShift(source.getShiftList().get(0))),
+                List.of(), List.of());
+        assertThrows(IllegalValueException.class, JsonSerializableMcScheduler.MESSAGE_DUPLICATE_SHIFT,
+                withDuplicateShift::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateAssignments_throwsIllegalValueException() {
+        Assignment sameIdentityAssignment = new Assignment(ASSIGNMENT_A.getShift(), ASSIGNMENT_A.getWorker(),
+                Role.createRole("chef"));
+        JsonSerializableMcScheduler withDuplicateAssignment = new JsonSerializableMcScheduler(
+                JsonSerializableMcScheduler.CURRENT_SCHEMA_VERSION,
+                List.of(new JsonAdaptedWorker(ASSIGNMENT_A.getWorker())),
+                List.of(new JsonAdaptedShift(ASSIGNMENT_A.getShift())),
+                List.of(new JsonAdaptedAssignment(ASSIGNMENT_A), new JsonAdaptedAssignment(sameIdentityAssignment)),
+                List.of());
+        assertThrows(IllegalValueException.class, JsonSerializableMcScheduler.MESSAGE_DUPLICATE_ASSIGNMENT,
+                withDuplicateAssignment::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateRoles_throwsIllegalValueException() {
+        JsonSerializableMcScheduler withDuplicateRole = new JsonSerializableMcScheduler(
+                JsonSerializableMcScheduler.CURRENT_SCHEMA_VERSION, List.of(), List.of(), List.of(),
+                List.of(new JsonAdaptedRole("cashier"), new JsonAdaptedRole("chef"), new JsonAdaptedRole("Cashier")));
+        assertThrows(IllegalValueException.class, JsonSerializableMcScheduler.MESSAGE_DUPLICATE_ROLE,
+                withDuplicateRole::toModelType);
+    }
+
+    @Test
+    public void toModelType_legacyAssignmentFile_rebindsToListedWorkerAndShift() throws Exception {
+        JsonSerializableMcScheduler dataFromFile = JsonUtil.readJsonFile(LEGACY_ASSIGNMENT_FILE,
+                JsonSerializableMcScheduler.class).get();
+        assertTrue(dataFromFile.isLegacySchema());
+        McScheduler mcSchedulerFromFile = dataFromFile.toModelType();
+        McScheduler expectedMcScheduler = McSchedulerBuilder.getTypicalMcScheduler();
+        expectedMcScheduler.addAssignment(ASSIGNMENT_A);
+        assertEquals(expectedMcScheduler, mcSchedulerFromFile);
+        assertSame(mcSchedulerFromFile.getWorkerList().get(0),
+                mcSchedulerFromFile.getAssignmentList().get(0).getWorker());
+    }
+
+    @Test
+    public void toModelType_assignmentWithUnknownWorker_throwsIllegalValueException() throws Exception {
+        JsonSerializableMcScheduler dataFromFile = JsonUtil.readJsonFile(UNKNOWN_WORKER_ASSIGNMENT_FILE,
+                JsonSerializableMcScheduler.class).get();
+        assertThrows(IllegalValueException.class, JsonAdaptedAssignment.MESSAGE_UNKNOWN_WORKER,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_savedWithAssignments_roundTrips() throws Exception {
+        McScheduler original = McSchedulerBuilder.getTypicalMcScheduler();
+        original.addAssignment(ASSIGNMENT_A);
+        original.addAssignment(ASSIGNMENT_C);
+        JsonSerializableMcScheduler serialized = JsonUtil.fromJsonString(
+                JsonUtil.toJsonString(new JsonSerializableMcScheduler(original)), JsonSerializableMcScheduler.class);
+        assertFalse(serialized.isLegacySchema());
+        assertEquals(original, serialized.toModelType());
+    }
+
 }